@@ -0,0 +1,148 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A DBInstance-sized resource model matching {@code benchmark-db-instance.json}.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkModel {
+
+    @JsonProperty("AllocatedStorage")
+    private String allocatedStorage;
+
+    @JsonProperty("AutoMinorVersionUpgrade")
+    private Boolean autoMinorVersionUpgrade;
+
+    @JsonProperty("BackupRetentionPeriod")
+    private Integer backupRetentionPeriod;
+
+    @JsonProperty("CopyTagsToSnapshot")
+    private Boolean copyTagsToSnapshot;
+
+    @JsonProperty("DBInstanceClass")
+    private String dBInstanceClass;
+
+    @JsonProperty("DBInstanceIdentifier")
+    private String dBInstanceIdentifier;
+
+    @JsonProperty("DBParameterGroupName")
+    private String dBParameterGroupName;
+
+    @JsonProperty("DBSubnetGroupName")
+    private String dBSubnetGroupName;
+
+    @JsonProperty("DeletionProtection")
+    private Boolean deletionProtection;
+
+    @JsonProperty("EnableCloudwatchLogsExports")
+    private List<String> enableCloudwatchLogsExports;
+
+    @JsonProperty("EnablePerformanceInsights")
+    private Boolean enablePerformanceInsights;
+
+    @JsonProperty("Endpoint")
+    private Endpoint endpoint;
+
+    @JsonProperty("Engine")
+    private String engine;
+
+    @JsonProperty("EngineVersion")
+    private String engineVersion;
+
+    @JsonProperty("Iops")
+    private Integer iops;
+
+    @JsonProperty("KmsKeyId")
+    private String kmsKeyId;
+
+    @JsonProperty("MasterUserPassword")
+    private String masterUserPassword;
+
+    @JsonProperty("MasterUsername")
+    private String masterUsername;
+
+    @JsonProperty("MonitoringInterval")
+    private Integer monitoringInterval;
+
+    @JsonProperty("MultiAZ")
+    private Boolean multiAZ;
+
+    @JsonProperty("PerformanceInsightsRetentionPeriod")
+    private Integer performanceInsightsRetentionPeriod;
+
+    @JsonProperty("Port")
+    private String port;
+
+    @JsonProperty("PreferredBackupWindow")
+    private String preferredBackupWindow;
+
+    @JsonProperty("PreferredMaintenanceWindow")
+    private String preferredMaintenanceWindow;
+
+    @JsonProperty("ProcessorFeatures")
+    private List<ProcessorFeature> processorFeatures;
+
+    @JsonProperty("PubliclyAccessible")
+    private Boolean publiclyAccessible;
+
+    @JsonProperty("StorageEncrypted")
+    private Boolean storageEncrypted;
+
+    @JsonProperty("StorageType")
+    private String storageType;
+
+    @JsonProperty("Tags")
+    private List<Tag> tags;
+
+    @JsonProperty("VPCSecurityGroups")
+    private List<String> vPCSecurityGroups;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Endpoint {
+        @JsonProperty("Address")
+        private String address;
+
+        @JsonProperty("Port")
+        private String port;
+
+        @JsonProperty("HostedZoneId")
+        private String hostedZoneId;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProcessorFeature {
+        @JsonProperty("Name")
+        private String name;
+
+        @JsonProperty("Value")
+        private String value;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tag {
+        @JsonProperty("Key")
+        private String key;
+
+        @JsonProperty("Value")
+        private String value;
+    }
+}
@@ -0,0 +1,60 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.rds.common.util.DriftDetector;
+import software.amazon.rds.common.util.Mutation;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DriftDetectorBenchmark {
+
+    @Param({"10", "50"})
+    public int tagCount;
+
+    private DriftDetector driftDetector;
+    private BenchmarkModel desired;
+    private BenchmarkModel observed;
+    private BenchmarkModel drifted;
+
+    @Setup
+    public void setup() {
+        driftDetector = new DriftDetector(Fixtures.loadSchema());
+        desired = Fixtures.desiredModel(tagCount);
+        observed = Fixtures.observedModel(tagCount);
+        drifted = observed.toBuilder()
+                .dBInstanceClass("db.r6g.2xlarge")
+                .backupRetentionPeriod(14)
+                .build();
+    }
+
+    /**
+     * The common case: every difference is explained by a property transform or an unordered list.
+     */
+    @Benchmark
+    public Map<String, Mutation> noDrift() {
+        return driftDetector.detectDrift(desired, observed);
+    }
+
+    @Benchmark
+    public Map<String, Mutation> drift() {
+        return driftDetector.detectDrift(desired, drifted);
+    }
+}
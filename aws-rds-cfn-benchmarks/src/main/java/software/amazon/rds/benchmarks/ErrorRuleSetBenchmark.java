@@ -0,0 +1,106 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.rds.common.error.ErrorCode;
+import software.amazon.rds.common.error.ErrorRuleSet;
+import software.amazon.rds.common.error.ErrorStatus;
+import software.amazon.rds.common.handler.Commons;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorRuleSetBenchmark {
+
+    public enum RuleSet {
+        CHAINED,
+        COMPILED
+    }
+
+    public enum ErrorType {
+        /**
+         * Resolved by an error code of the default rule set, at the bottom of the chain.
+         */
+        ERROR_CODE,
+        /**
+         * Resolved by an error class of the handler rule set, in the middle of the chain.
+         */
+        ERROR_CLASS,
+        /**
+         * Not resolved by any rule, hence the whole chain is walked.
+         */
+        UNMATCHED
+    }
+
+    @Param
+    public RuleSet ruleSet;
+
+    @Param
+    public ErrorType error;
+
+    private ErrorRuleSet errorRuleSet;
+    private Exception exception;
+
+    @Setup
+    public void setup() {
+        // Mirrors the DBInstance handlers: the common defaults, extended by the resource defaults and by the
+        // operation-specific rules.
+        final ErrorRuleSet resourceRuleSet = ErrorRuleSet.extend(Commons.DEFAULT_ERROR_RULE_SET)
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.NotFound),
+                        DbInstanceNotFoundException.class,
+                        DbSubnetGroupNotFoundException.class)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.NotFound),
+                        ErrorCode.DBInstanceNotFound,
+                        ErrorCode.DBSubnetGroupNotFoundFault)
+                .build();
+        final ErrorRuleSet operationRuleSet = ErrorRuleSet.extend(resourceRuleSet)
+                .withErrorClasses(ErrorStatus.ignore(OperationStatus.IN_PROGRESS),
+                        InvalidDbInstanceStateException.class)
+                .withErrorCodes(ErrorStatus.ignore(OperationStatus.IN_PROGRESS),
+                        ErrorCode.InvalidDBInstanceState)
+                .build();
+        errorRuleSet = ruleSet == RuleSet.COMPILED ? operationRuleSet.compile() : operationRuleSet;
+
+        switch (error) {
+            case ERROR_CODE:
+                exception = AwsServiceException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder()
+                                .errorCode(ErrorCode.ThrottlingException.toString())
+                                .build())
+                        .build();
+                break;
+            case ERROR_CLASS:
+                exception = DbInstanceNotFoundException.builder().message("DBInstance not found").build();
+                break;
+            default:
+                exception = new IllegalStateException("unexpected");
+        }
+    }
+
+    @Benchmark
+    public ErrorStatus handle() {
+        return errorRuleSet.handle(exception);
+    }
+}
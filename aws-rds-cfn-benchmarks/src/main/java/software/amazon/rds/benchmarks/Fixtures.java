@@ -0,0 +1,123 @@
+package software.amazon.rds.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+
+/**
+ * Benchmark inputs sized after real DBInstance stacks.
+ */
+final class Fixtures {
+
+    static final String SCHEMA_RESOURCE = "/benchmark-db-instance.json";
+
+    private Fixtures() {
+    }
+
+    static ResourceTypeSchema loadSchema() {
+        try (InputStream in = Fixtures.class.getResourceAsStream(SCHEMA_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing benchmark schema: " + SCHEMA_RESOURCE);
+            }
+            return ResourceTypeSchema.load(new JSONObject(new JSONTokener(in)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The desired state of the resource as declared in a template.
+     */
+    static BenchmarkModel desiredModel(final int tagCount) {
+        return BenchmarkModel.builder()
+                .allocatedStorage("100")
+                .autoMinorVersionUpgrade(true)
+                .backupRetentionPeriod(7)
+                .copyTagsToSnapshot(true)
+                .dBInstanceClass("db.r6g.xlarge")
+                .dBInstanceIdentifier("MyStack-DBInstance-1A2B3C4D5E6F")
+                .dBParameterGroupName("MyStack-DBParameterGroup-9Z8Y7X6W")
+                .dBSubnetGroupName("MyStack-DBSubnetGroup-5V4U3T2S")
+                .deletionProtection(false)
+                .enableCloudwatchLogsExports(Arrays.asList("audit", "error", "general", "slowquery"))
+                .enablePerformanceInsights(true)
+                .engine("MySQL")
+                .engineVersion("8.0")
+                .iops(3000)
+                .kmsKeyId("0a1b2c3d-4e5f-6a7b-8c9d-0e1f2a3b4c5d")
+                .masterUserPassword("correct-horse-battery-staple")
+                .masterUsername("admin")
+                .monitoringInterval(60)
+                .multiAZ(true)
+                .performanceInsightsRetentionPeriod(7)
+                .port("3306")
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("Sun:05:00-Sun:06:00")
+                .processorFeatures(Arrays.asList(
+                        BenchmarkModel.ProcessorFeature.builder().name("coreCount").value("2").build(),
+                        BenchmarkModel.ProcessorFeature.builder().name("threadsPerCore").value("2").build()
+                ))
+                .publiclyAccessible(false)
+                .storageEncrypted(true)
+                .storageType("GP3")
+                .tags(modelTags(tagCount))
+                .vPCSecurityGroups(Arrays.asList("sg-0123456789abcdef0", "sg-0fedcba9876543210", "sg-00aa11bb22cc33dd4"))
+                .build();
+    }
+
+    /**
+     * The same resource as returned by a read handler: identifiers and enums normalized by the service, unordered
+     * lists shuffled, the write-only password dropped and the read-only endpoint populated.
+     */
+    static BenchmarkModel observedModel(final int tagCount) {
+        final List<BenchmarkModel.Tag> tags = new ArrayList<>(modelTags(tagCount));
+        Collections.reverse(tags);
+        return desiredModel(tagCount).toBuilder()
+                .dBInstanceIdentifier("mystack-dbinstance-1a2b3c4d5e6f")
+                .dBParameterGroupName("mystack-dbparametergroup-9z8y7x6w")
+                .dBSubnetGroupName("mystack-dbsubnetgroup-5v4u3t2s")
+                .enableCloudwatchLogsExports(Arrays.asList("slowquery", "general", "error", "audit"))
+                .endpoint(BenchmarkModel.Endpoint.builder()
+                        .address("mystack-dbinstance-1a2b3c4d5e6f.c0abcdefghij.us-east-1.rds.amazonaws.com")
+                        .port("3306")
+                        .hostedZoneId("Z2R2ITUGPM61AM")
+                        .build())
+                .engine("mysql")
+                .engineVersion("8.0.35")
+                .kmsKeyId("arn:aws:kms:us-east-1:123456789012:key/0a1b2c3d-4e5f-6a7b-8c9d-0e1f2a3b4c5d")
+                .masterUserPassword(null)
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .storageType("gp3")
+                .tags(tags)
+                .vPCSecurityGroups(Arrays.asList("sg-00aa11bb22cc33dd4", "sg-0123456789abcdef0", "sg-0fedcba9876543210"))
+                .build();
+    }
+
+    static List<BenchmarkModel.Tag> modelTags(final int count) {
+        final List<BenchmarkModel.Tag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tags.add(BenchmarkModel.Tag.builder().key("resource-tag-key-" + i).value("resource-tag-value-" + i).build());
+        }
+        return tags;
+    }
+
+    static Set<Tag> sdkTags(final String prefix, final int count) {
+        final Set<Tag> tags = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(Tag.builder().key(prefix + "-key-" + i).value(prefix + "-value-" + i).build());
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,40 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.rds.common.util.IdentifierFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdentifierFactoryBenchmark {
+
+    // The DBInstance identifier limits.
+    private static final IdentifierFactory IDENTIFIER_FACTORY = new IdentifierFactory("rds", "DBInstance", 63);
+
+    private static final String STACK_ID = "arn:aws:cloudformation:us-east-1:123456789012:stack/My-Production-Stack--With-A-Long-Name/0a1b2c3d-4e5f-6a7b-8c9d-0e1f2a3b4c5d";
+    private static final String RESOURCE_ID = "PrimaryDatabaseInstance";
+    private static final String REQUEST_TOKEN = "5f4dcc3b-5aa7-65d6-1d83-27de8d8d42cf";
+
+    @Benchmark
+    public String newIdentifier() {
+        return IDENTIFIER_FACTORY.newIdentifier()
+                .withStackId(STACK_ID)
+                .withResourceId(RESOURCE_ID)
+                .withRequestToken(REQUEST_TOKEN)
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package software.amazon.rds.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import software.amazon.rds.common.logging.JsonLogMessage;
+import software.amazon.rds.common.logging.StreamingJsonLogMessage;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.common.printer.JsonPrinter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonPrinterBenchmark {
+
+    private static final String STACK_ID = "arn:aws:cloudformation:us-east-1:123456789012:stack/MyStack/0a1b2c3d-4e5f-6a7b-8c9d-0e1f2a3b4c5d";
+
+    private JsonPrinter printer;
+    private BenchmarkModel model;
+
+    @Setup
+    public void setup() {
+        printer = new FilteredJsonPrinter("MasterUserPassword", "MasterUsername");
+        model = Fixtures.observedModel(20).toBuilder()
+                .masterUserPassword("correct-horse-battery-staple")
+                .build();
+    }
+
+    @Benchmark
+    public String print() throws JsonProcessingException {
+        return printer.print(model);
+    }
+
+    /**
+     * A request log line: the resource model followed by the request metadata.
+     */
+    @Benchmark
+    public String jsonLogMessage() throws IOException {
+        final JsonLogMessage message = JsonLogMessage.newLogMessage(printer);
+        message.append(model);
+        message.append("StackId", STACK_ID);
+        message.append("ClientRequestToken", "5f4dcc3b-5aa7-65d6-1d83-27de8d8d42cf");
+        return message.toString();
+    }
+
+    @Benchmark
+    public String streamingJsonLogMessage() {
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(printer);
+        message.append(model);
+        message.append("StackId", STACK_ID);
+        message.append("ClientRequestToken", "5f4dcc3b-5aa7-65d6-1d83-27de8d8d42cf");
+        return message.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.rds.model.ApplyMethod;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.rds.common.util.ParameterGrouper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParameterGrouperBenchmark {
+
+    // ModifyDBParameterGroup accepts at most 20 parameters per call.
+    private static final int PARTITION_SIZE = 20;
+    private static final int[] DEPENDENCY_GROUP_SIZES = {2, 3, 5, 7, 11, 4};
+
+    @Param({"40", "400"})
+    public int parameterCount;
+
+    @Param
+    public ParameterGrouper.Strategy strategy;
+
+    private Map<String, Parameter> parameters;
+    private List<Set<String>> dependencies;
+
+    @Setup
+    public void setup() {
+        parameters = new LinkedHashMap<>();
+        for (int i = 0; i < parameterCount; i++) {
+            final String name = "parameter_" + i;
+            parameters.put(name, Parameter.builder()
+                    .parameterName(name)
+                    .parameterValue(String.valueOf(i))
+                    .applyMethod(i % 2 == 0 ? ApplyMethod.IMMEDIATE : ApplyMethod.PENDING_REBOOT)
+                    .build());
+        }
+        // Dependant groups are spread across the parameter list, the way the ssl_* or the log_* groups are.
+        dependencies = new ArrayList<>();
+        final int stride = Math.max(1, parameterCount / 40);
+        int next = 0;
+        for (final int groupSize : DEPENDENCY_GROUP_SIZES) {
+            final Set<String> group = new LinkedHashSet<>();
+            for (int i = 0; i < groupSize && next < parameterCount; i++, next += stride) {
+                group.add("parameter_" + next);
+            }
+            dependencies.add(group);
+        }
+    }
+
+    @Benchmark
+    public List<List<Parameter>> partition() {
+        return ParameterGrouper.partition(parameters, dependencies, PARTITION_SIZE, strategy);
+    }
+}
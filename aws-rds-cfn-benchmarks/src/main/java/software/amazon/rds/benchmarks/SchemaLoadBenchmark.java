@@ -0,0 +1,63 @@
+package software.amazon.rds.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+import software.amazon.rds.common.util.CompiledSchema;
+
+/**
+ * The cold start cost of getting a schema into a handler: the full schema model versus the build-time digest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaLoadBenchmark {
+
+    private String schemaJson;
+    private byte[] compiledSchema;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream in = SchemaLoadBenchmark.class.getResourceAsStream(Fixtures.SCHEMA_RESOURCE)) {
+            schemaJson = new JSONObject(new JSONTokener(in)).toString();
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompiledSchema.compile(Fixtures.loadSchema()).write(out);
+        compiledSchema = out.toByteArray();
+    }
+
+    @Benchmark
+    public ResourceTypeSchema loadResourceTypeSchema() {
+        return ResourceTypeSchema.load(new JSONObject(schemaJson));
+    }
+
+    @Benchmark
+    public CompiledSchema readCompiledSchema() {
+        try {
+            return CompiledSchema.read(new ByteArrayInputStream(compiledSchema));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
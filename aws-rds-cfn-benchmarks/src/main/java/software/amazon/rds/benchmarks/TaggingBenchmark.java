@@ -0,0 +1,70 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.rds.common.handler.Tagging;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaggingBenchmark {
+
+    private Tagging.TagSet previousTags;
+    private Tagging.TagSet desiredTags;
+
+    @Setup
+    public void setup() {
+        final Set<Tag> systemTags = Fixtures.sdkTags("aws:cloudformation", 5);
+        final Set<Tag> stackTags = Fixtures.sdkTags("stack", 10);
+        previousTags = Tagging.TagSet.builder()
+                .systemTags(systemTags)
+                .stackTags(stackTags)
+                .resourceTags(Fixtures.sdkTags("resource", 20))
+                .build();
+
+        // A typical stack update: a few resource tags change their values, one is dropped and one is added.
+        final Set<Tag> resourceTags = new LinkedHashSet<>(Fixtures.sdkTags("resource", 19));
+        resourceTags.removeIf(tag -> tag.key().equals("resource-key-3") || tag.key().equals("resource-key-7"));
+        resourceTags.add(Tag.builder().key("resource-key-3").value("changed-value-3").build());
+        resourceTags.add(Tag.builder().key("resource-key-7").value("changed-value-7").build());
+        resourceTags.add(Tag.builder().key("resource-key-new").value("resource-value-new").build());
+        desiredTags = Tagging.TagSet.builder()
+                .systemTags(systemTags)
+                .stackTags(stackTags)
+                .resourceTags(resourceTags)
+                .build();
+    }
+
+    @Benchmark
+    public Collection<Tag> translateTagsToSdk() {
+        return Tagging.translateTagsToSdk(desiredTags);
+    }
+
+    @Benchmark
+    public Tagging.TagSet exclude() {
+        return Tagging.exclude(desiredTags, previousTags);
+    }
+
+    @Benchmark
+    public Tagging.TagDelta planTagDelta() {
+        return Tagging.planTagDelta(previousTags, desiredTags);
+    }
+}
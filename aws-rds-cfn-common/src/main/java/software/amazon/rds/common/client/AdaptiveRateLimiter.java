@@ -0,0 +1,165 @@
+package software.amazon.rds.common.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * A token bucket whose refill rate adapts to the observed throttling: every successful call increases the rate by
+ * {@code increaseStep} up to {@code maxRate} (additive increase), a throttled call multiplies it by
+ * {@code decreaseFactor} down to {@code minRate} (multiplicative decrease). A burst of throttles observed within
+ * {@code decreaseCooldown} counts as a single decrease, as they are the outcome of the same overload.
+ * A caller waits for its token for at most {@code maxWait}: the bucket debt is bounded so that a stalled bucket
+ * never blocks a handler invocation for longer than that.
+ */
+public class AdaptiveRateLimiter {
+
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    @Builder
+    @Getter
+    public static class Config {
+        @Builder.Default
+        final private double initialRate = 10.0;
+
+        @Builder.Default
+        final private double minRate = 1.0;
+
+        @Builder.Default
+        final private double maxRate = 50.0;
+
+        @Builder.Default
+        final private double burst = 20.0;
+
+        @Builder.Default
+        final private double increaseStep = 0.5;
+
+        @Builder.Default
+        final private double decreaseFactor = 0.5;
+
+        @Builder.Default
+        final private Duration decreaseCooldown = Duration.ofSeconds(1);
+
+        @Builder.Default
+        final private Duration maxWait = Duration.ofSeconds(5);
+    }
+
+    @Value
+    public static class State {
+        @JsonProperty("Rate")
+        double rate;
+        @JsonProperty("Tokens")
+        double tokens;
+        @JsonProperty("AcquiredCount")
+        long acquiredCount;
+        @JsonProperty("DelayedCount")
+        long delayedCount;
+        @JsonProperty("ThrottleCount")
+        long throttleCount;
+        @JsonProperty("TotalWaitMillis")
+        long totalWaitMillis;
+    }
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Config config;
+    private final LongSupplier nanoTicker;
+    private final Sleeper sleeper;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+    private long acquiredCount;
+    private long delayedCount;
+    private long throttleCount;
+    private long totalWaitNanos;
+
+    public AdaptiveRateLimiter(@NonNull final Config config) {
+        this(config, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    public AdaptiveRateLimiter(
+            @NonNull final Config config,
+            @NonNull final LongSupplier nanoTicker,
+            @NonNull final Sleeper sleeper
+    ) {
+        this.config = config;
+        this.nanoTicker = nanoTicker;
+        this.sleeper = sleeper;
+        this.rate = config.getInitialRate();
+        this.tokens = config.getBurst();
+        this.lastRefillNanos = nanoTicker.getAsLong();
+    }
+
+    /**
+     * Takes a token, waiting for the bucket to refill if it is empty.
+     */
+    public void acquire() {
+        final long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            sleeper.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized void onSuccess() {
+        rate = Math.min(config.getMaxRate(), rate + config.getIncreaseStep());
+    }
+
+    public synchronized void onThrottle() {
+        throttleCount++;
+        final long now = nanoTicker.getAsLong();
+        if (decreased && now - lastDecreaseNanos < config.getDecreaseCooldown().toNanos()) {
+            return;
+        }
+        refill(now);
+        rate = Math.max(config.getMinRate(), rate * config.getDecreaseFactor());
+        // The service is overloaded right now: no burst until the bucket refills at the decreased rate.
+        tokens = Math.min(tokens, 0);
+        lastDecreaseNanos = now;
+        decreased = true;
+    }
+
+    public synchronized State getState() {
+        refill(nanoTicker.getAsLong());
+        return new State(rate, tokens, acquiredCount, delayedCount, throttleCount, TimeUnit.NANOSECONDS.toMillis(totalWaitNanos));
+    }
+
+    private synchronized long reserve() {
+        refill(nanoTicker.getAsLong());
+        acquiredCount++;
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0;
+        }
+        final double maxDebt = rate * config.getMaxWait().toNanos() / NANOS_PER_SECOND;
+        tokens = Math.max(tokens, -maxDebt);
+        final long waitNanos = (long) (-tokens / rate * NANOS_PER_SECOND);
+        delayedCount++;
+        totalWaitNanos += waitNanos;
+        return waitNanos;
+    }
+
+    private void refill(final long now) {
+        final long elapsedNanos = now - lastRefillNanos;
+        if (elapsedNanos > 0) {
+            tokens = Math.min(config.getBurst(), tokens + rate * elapsedNanos / NANOS_PER_SECOND);
+            lastRefillNanos = now;
+        }
+    }
+}
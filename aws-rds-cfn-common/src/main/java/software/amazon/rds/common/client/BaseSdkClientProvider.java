@@ -3,8 +3,11 @@ package software.amazon.rds.common.client;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import lombok.Value;
 import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.core.SdkClient;
@@ -15,6 +18,13 @@ public abstract class BaseSdkClientProvider<B extends AwsClientBuilder<B, C> & A
 
     public static final Supplier<SdkHttpClient> LAMBDA_HTTP_CLIENT_SUPPLIER = () -> LambdaWrapper.HTTP_CLIENT;
 
+    /**
+     * SDK clients carry no credentials (those are injected per request by the CFN proxy), hence a client built once
+     * can be safely shared across warm invocations. The pool is keyed by everything that makes two clients different:
+     * the provider, the underlying http client, the region and the override configuration.
+     */
+    private static final Map<ClientPoolKey, SdkClient> CLIENT_POOL = new ConcurrentHashMap<>();
+
     protected final Supplier<SdkHttpClient> httpClientSupplier;
 
     protected BaseSdkClientProvider() {
@@ -37,5 +47,34 @@ public abstract class BaseSdkClientProvider<B extends AwsClientBuilder<B, C> & A
         });
     }
 
+    protected C getPooledClient(final Supplier<C> clientFactory) {
+        return getPooledClient(null, null, clientFactory);
+    }
+
+    /**
+     * Returns a client from the JVM-wide pool, building it with {@code clientFactory} on the first request.
+     * @param region A region the client is bound to, {@code null} stands for the default region provider chain.
+     * @param configuration A discriminator of the client override configuration (e.g. an API version), {@code null} stands for the default configuration.
+     * @param clientFactory Builds a new client if there is none pooled for the given key.
+     * @return A pooled client instance.
+     */
+    @SuppressWarnings("unchecked")
+    protected C getPooledClient(final String region, final String configuration, final Supplier<C> clientFactory) {
+        final ClientPoolKey key = new ClientPoolKey(getClass(), httpClientSupplier.get(), region, configuration);
+        return (C) CLIENT_POOL.computeIfAbsent(key, k -> clientFactory.get());
+    }
+
+    static void clearClientPool() {
+        CLIENT_POOL.clear();
+    }
+
     public abstract C getClient();
+
+    @Value
+    private static class ClientPoolKey {
+        Class<?> providerClass;
+        SdkHttpClient httpClient;
+        String region;
+        String configuration;
+    }
 }
@@ -0,0 +1,181 @@
+package software.amazon.rds.common.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * A {@code ProxyClient} decorator that memoizes read-only {@code Describe*} and {@code List*} responses for the
+ * lifetime of a single handler invocation. Any other call going through a client of the same {@link Scope} is
+ * considered mutating and drops the whole cache of the scope. Cached responses expire after {@code maxAge} so that stabilization loops polling within
+ * the same invocation still observe fresh resource state: {@code maxAge} must stay below the shortest polling delay
+ * (see {@code HandlerConfig.getMemoizationMaxAge}).
+ */
+public class MemoizingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofSeconds(3);
+
+    // The operations known not to change any state. Anything else is treated as a mutation.
+    static final List<String> READ_ONLY_REQUEST_PREFIXES = Collections.unmodifiableList(Arrays.asList("Describe", "List"));
+
+    private final ProxyClient<ClientT> proxyClient;
+    private final Scope scope;
+
+    public MemoizingProxyClient(final ProxyClient<ClientT> proxyClient) {
+        this(proxyClient, DEFAULT_MAX_AGE, Clock.systemUTC());
+    }
+
+    public MemoizingProxyClient(
+            final ProxyClient<ClientT> proxyClient,
+            final Duration maxAge,
+            final Clock clock
+    ) {
+        this(proxyClient, new Scope(maxAge, clock));
+    }
+
+    /**
+     * Memoizes the calls within the {@code scope}, which is shared by the clients of an invocation that talk to the
+     * same service (e.g. the clients of different API versions), so that a mutating call through any of them drops
+     * the responses memoized by all of them.
+     */
+    public MemoizingProxyClient(
+            @NonNull final ProxyClient<ClientT> proxyClient,
+            @NonNull final Scope scope
+    ) {
+        this.proxyClient = proxyClient;
+        this.scope = scope;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction
+    ) {
+        if (!isReadOnly(request)) {
+            invalidate();
+            return proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+        // The responses are memoized per client: the same request sent to another API version yields another response.
+        final CacheKey key = new CacheKey(this, request);
+        final Instant now = scope.clock.instant();
+        final CachedResponse cached = scope.cache.get(key);
+        if (cached != null && cached.isFresh(now, scope.maxAge)) {
+            return (ResponseT) cached.response;
+        }
+        final ResponseT response = proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+        scope.cache.put(key, new CachedResponse(response, now));
+        return response;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        invalidateIfMutating(request);
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction
+    ) {
+        invalidateIfMutating(request);
+        return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+    ) {
+        invalidateIfMutating(request);
+        return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+    ) {
+        invalidateIfMutating(request);
+        return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return proxyClient.client();
+    }
+
+    public void invalidate() {
+        scope.invalidate();
+    }
+
+    static boolean isReadOnly(final AwsRequest request) {
+        if (request == null) {
+            return false;
+        }
+        final String requestName = request.getClass().getSimpleName();
+        return READ_ONLY_REQUEST_PREFIXES.stream().anyMatch(requestName::startsWith);
+    }
+
+    private void invalidateIfMutating(final AwsRequest request) {
+        if (!isReadOnly(request)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * The memoized responses of the clients sharing it.
+     */
+    public static class Scope {
+        private final Duration maxAge;
+        private final Clock clock;
+        private final Map<CacheKey, CachedResponse> cache = new ConcurrentHashMap<>();
+
+        public Scope(@NonNull final Duration maxAge, @NonNull final Clock clock) {
+            this.maxAge = maxAge;
+            this.clock = clock;
+        }
+
+        public void invalidate() {
+            cache.clear();
+        }
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class CacheKey {
+        private final MemoizingProxyClient<?> client;
+        private final AwsRequest request;
+    }
+
+    @AllArgsConstructor
+    private static class CachedResponse {
+        private final AwsResponse response;
+        private final Instant cachedAt;
+
+        private boolean isFresh(final Instant now, final Duration maxAge) {
+            return cachedAt.plus(maxAge).isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package software.amazon.rds.common.client;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * A lazy {@code Iterable} over the items of a marker-paginated API called through a {@code ProxyClient}.
+ * A page is only fetched once the previous one has been consumed, so a caller that stops iterating early does not pay
+ * for the remaining pages. Prefetch is opt-in (see {@link #withPrefetch()}): page N+1 is then requested while page N is
+ * being consumed; the pages are still fetched one at a time and in order. Every iteration starts over from the first page.
+ * @param <ResponseT> The paginated response type.
+ * @param <T> The item type.
+ */
+public class Paginator<ResponseT, T> implements Iterable<T> {
+
+    private static final int DEFAULT_PREFETCH_THREADS = 2;
+    private static final int DEFAULT_PREFETCH_QUEUE_CAPACITY = 16;
+
+    // A saturated pool rejects the prefetch, the page is then fetched synchronously once it is needed.
+    private static final ThreadPoolExecutor DEFAULT_PREFETCH_EXECUTOR = new ThreadPoolExecutor(
+            DEFAULT_PREFETCH_THREADS,
+            DEFAULT_PREFETCH_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(DEFAULT_PREFETCH_QUEUE_CAPACITY),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "paginator-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            }
+    );
+
+    static {
+        DEFAULT_PREFETCH_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final Function<String, ResponseT> fetchPage;
+    private final Function<ResponseT, ? extends Collection<T>> items;
+    private final Function<ResponseT, String> nextMarker;
+
+    private int maxPages = Integer.MAX_VALUE;
+    private Supplier<? extends RuntimeException> pageLimitException;
+    private Executor prefetchExecutor;
+    private Set<?> searchKeys;
+    private Function<? super T, ?> searchKey;
+
+    private Paginator(
+            final Function<String, ResponseT> fetchPage,
+            final Function<ResponseT, ? extends Collection<T>> items,
+            final Function<ResponseT, String> nextMarker
+    ) {
+        this.fetchPage = fetchPage;
+        this.items = items;
+        this.nextMarker = nextMarker;
+    }
+
+    /**
+     * @param proxyClient The client to invoke the paginated API with.
+     * @param requestForMarker Builds the request for a page given its marker, which is {@code null} for the first page.
+     * @param requestFunction The paginated API, e.g. {@code proxyClient.client()::describeDBParameters}.
+     * @param items Extracts the page items from a response. A {@code null} result is treated as an empty page.
+     * @param nextMarker Extracts the marker of the next page from a response. {@code null} ends the pagination.
+     */
+    public static <ClientT, RequestT extends AwsRequest, ResponseT extends AwsResponse, T> Paginator<ResponseT, T> of(
+            @NonNull final ProxyClient<ClientT> proxyClient,
+            @NonNull final Function<String, RequestT> requestForMarker,
+            @NonNull final Function<RequestT, ResponseT> requestFunction,
+            @NonNull final Function<ResponseT, ? extends Collection<T>> items,
+            @NonNull final Function<ResponseT, String> nextMarker
+    ) {
+        return new Paginator<>(
+                marker -> proxyClient.injectCredentialsAndInvokeV2(requestForMarker.apply(marker), requestFunction),
+                items,
+                nextMarker
+        );
+    }
+
+    /**
+     * Fails the iteration with {@code "Max <operationName> page reached."} if more than {@code maxPages} pages are needed.
+     */
+    public Paginator<ResponseT, T> withMaxPages(final int maxPages, @NonNull final String operationName) {
+        return withMaxPages(maxPages, () -> new RuntimeException(String.format("Max %s page reached.", operationName)));
+    }
+
+    /**
+     * Fails the iteration with an exception supplied by {@code pageLimitException} if more than {@code maxPages} pages
+     * are needed.
+     */
+    public Paginator<ResponseT, T> withMaxPages(
+            final int maxPages,
+            @NonNull final Supplier<? extends RuntimeException> pageLimitException
+    ) {
+        this.maxPages = maxPages;
+        this.pageLimitException = pageLimitException;
+        return this;
+    }
+
+    /**
+     * Prefetches the next page on a small shared pool of daemon threads. Prefetch only pays off if consuming a page
+     * takes about as long as fetching one. A pending prefetch is cancelled once the iteration is abandoned: iterate
+     * with {@link #forEach(Consumer)} or close the {@link PageIterator}.
+     */
+    public Paginator<ResponseT, T> withPrefetch() {
+        return withPrefetch(DEFAULT_PREFETCH_EXECUTOR);
+    }
+
+    /**
+     * Prefetches the next page on {@code executor}. Exceptions thrown by a prefetch are rethrown by the iterator
+     * as is, once the caller gets to the prefetched page. A rejected prefetch falls back to a synchronous fetch.
+     */
+    public Paginator<ResponseT, T> withPrefetch(@NonNull final Executor executor) {
+        this.prefetchExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Stops fetching pages as soon as an item has been seen for every one of {@code keys}. The items of the last
+     * fetched page are still yielded in full. Neither the next page nor its prefetch is requested once all the keys
+     * are found.
+     */
+    public <K> Paginator<ResponseT, T> stopWhenFound(
+            @NonNull final Collection<K> keys,
+            @NonNull final Function<? super T, K> key
+    ) {
+        this.searchKeys = new HashSet<>(keys);
+        this.searchKey = key;
+        return this;
+    }
+
+    @Override
+    public PageIterator iterator() {
+        return new PageIterator();
+    }
+
+    /**
+     * Cancels the pending prefetch if {@code action} fails.
+     */
+    @Override
+    public void forEach(@NonNull final Consumer<? super T> action) {
+        try (PageIterator iterator = iterator()) {
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+            }
+        }
+    }
+
+    /**
+     * An iterator over the items, to be closed if the iteration is abandoned so that the pending prefetch is cancelled.
+     */
+    public class PageIterator implements Iterator<T>, AutoCloseable {
+
+        private final Set<Object> keysToFind = searchKeys != null ? new HashSet<>(searchKeys) : null;
+
+        private Iterator<T> page = Collections.emptyIterator();
+        private String marker;
+        private boolean exhausted;
+        private int pagesFetched;
+        private FutureTask<ResponseT> prefetched;
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext()) {
+                if (exhausted) {
+                    return false;
+                }
+                page = nextPage().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        /**
+         * Cancels the pending prefetch, if any. The iterator yields no more items afterwards.
+         */
+        @Override
+        public void close() {
+            exhausted = true;
+            page = Collections.emptyIterator();
+            if (prefetched != null) {
+                prefetched.cancel(true);
+                prefetched = null;
+            }
+        }
+
+        private Collection<T> nextPage() {
+            final ResponseT response = prefetched != null ? join(prefetched) : fetch(marker);
+            prefetched = null;
+
+            final Collection<T> pageItems = items.apply(response);
+            marker = nextMarker.apply(response);
+            exhausted = marker == null || found(pageItems);
+
+            if (!exhausted && prefetchExecutor != null && pagesFetched < maxPages) {
+                prefetch(marker);
+            }
+            return pageItems != null ? pageItems : Collections.emptyList();
+        }
+
+        private void prefetch(final String prefetchMarker) {
+            final FutureTask<ResponseT> task = new FutureTask<>(() -> fetchPage.apply(prefetchMarker));
+            try {
+                prefetchExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                return;
+            }
+            pagesFetched++;
+            prefetched = task;
+        }
+
+        private ResponseT fetch(final String marker) {
+            if (pagesFetched >= maxPages) {
+                throw pageLimitException.get();
+            }
+            pagesFetched++;
+            return fetchPage.apply(marker);
+        }
+
+        private boolean found(final Collection<T> pageItems) {
+            if (keysToFind == null) {
+                return false;
+            }
+            if (pageItems != null) {
+                for (final T item : pageItems) {
+                    keysToFind.remove(searchKey.apply(item));
+                }
+            }
+            return keysToFind.isEmpty();
+        }
+    }
+
+    private static <R> R join(final FutureTask<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package software.amazon.rds.common.client;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.awscore.AwsRequest;
+
+/**
+ * Holds an {@link AdaptiveRateLimiter} per account, region and call type. Describe calls and mutating calls are
+ * throttled by RDS independently, hence they get separate buckets.
+ * The least recently used limiters are evicted above {@code maxEntries}, so that a container serving many accounts
+ * keeps a bounded number of them. An evicted limiter starts over from its initial rate.
+ */
+public class RateLimiterRegistry {
+
+    public enum CallType {
+        DESCRIBE,
+        MUTATE;
+
+        public static CallType of(final AwsRequest request) {
+            return MemoizingProxyClient.isReadOnly(request) ? DESCRIBE : MUTATE;
+        }
+    }
+
+    public static final AdaptiveRateLimiter.Config DEFAULT_DESCRIBE_CONFIG = AdaptiveRateLimiter.Config.builder()
+            .initialRate(10.0)
+            .minRate(1.0)
+            .maxRate(50.0)
+            .burst(20.0)
+            .increaseStep(0.5)
+            .build();
+
+    public static final AdaptiveRateLimiter.Config DEFAULT_MUTATE_CONFIG = AdaptiveRateLimiter.Config.builder()
+            .initialRate(2.0)
+            .minRate(0.5)
+            .maxRate(10.0)
+            .burst(5.0)
+            .increaseStep(0.1)
+            .build();
+
+    public static final int DEFAULT_MAX_ENTRIES = 128;
+
+    /**
+     * The registry shared by all handler invocations served by the same container. A handler opts in by setting it
+     * in its {@code HandlerConfig}.
+     */
+    public static final RateLimiterRegistry SHARED = withDefaults();
+
+    private final Function<CallType, AdaptiveRateLimiter> limiterFactory;
+    private final int maxEntries;
+    private final Map<Key, AdaptiveRateLimiter> limiters;
+
+    public RateLimiterRegistry(@NonNull final Function<CallType, AdaptiveRateLimiter> limiterFactory) {
+        this(limiterFactory, DEFAULT_MAX_ENTRIES);
+    }
+
+    public RateLimiterRegistry(@NonNull final Function<CallType, AdaptiveRateLimiter> limiterFactory, final int maxEntries) {
+        this.limiterFactory = limiterFactory;
+        this.maxEntries = maxEntries;
+        // Access-ordered, so that the eldest entry is the least recently used one.
+        this.limiters = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @return A registry of limiters with the default describe and mutate configs.
+     */
+    public static RateLimiterRegistry withDefaults() {
+        return new RateLimiterRegistry(
+                callType -> new AdaptiveRateLimiter(callType == CallType.DESCRIBE ? DEFAULT_DESCRIBE_CONFIG : DEFAULT_MUTATE_CONFIG)
+        );
+    }
+
+    public synchronized AdaptiveRateLimiter get(final String accountId, final String region, @NonNull final CallType callType) {
+        final Key key = new Key(accountId, region, callType);
+        AdaptiveRateLimiter limiter = limiters.get(key);
+        if (limiter == null) {
+            limiter = limiterFactory.apply(callType);
+            limiters.put(key, limiter);
+            evict();
+        }
+        return limiter;
+    }
+
+    public synchronized int size() {
+        return limiters.size();
+    }
+
+    private void evict() {
+        final Iterator<Key> keys = limiters.keySet().iterator();
+        while (limiters.size() > maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /**
+     * @return The state of every limiter keyed by {@code <account>/<region>/<call type>}.
+     */
+    public synchronized Map<String, AdaptiveRateLimiter.State> getState() {
+        final Map<String, AdaptiveRateLimiter.State> state = new TreeMap<>();
+        limiters.forEach((key, limiter) -> state.put(
+                String.join("/", String.valueOf(key.getAccountId()), String.valueOf(key.getRegion()), key.getCallType().name()),
+                limiter.getState()
+        ));
+        return Collections.unmodifiableMap(state);
+    }
+
+    /**
+     * @return The state of the limiters of the account and region keyed by the call type, e.g. to publish it along
+     * with the metrics of a handler request without exposing the limiters of other accounts.
+     */
+    public synchronized Map<String, AdaptiveRateLimiter.State> getState(final String accountId, final String region) {
+        final Map<String, AdaptiveRateLimiter.State> state = new TreeMap<>();
+        limiters.forEach((key, limiter) -> {
+            if (Objects.equals(key.getAccountId(), accountId) && Objects.equals(key.getRegion(), region)) {
+                state.put(key.getCallType().name(), limiter.getState());
+            }
+        });
+        return Collections.unmodifiableMap(state);
+    }
+
+    @Value
+    private static class Key {
+        String accountId;
+        String region;
+        CallType callType;
+    }
+}
@@ -0,0 +1,133 @@
+package software.amazon.rds.common.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.error.ErrorCode;
+
+/**
+ * A {@code ProxyClient} decorator that paces the calls with the {@link AdaptiveRateLimiter} of the account, region
+ * and call type, and feeds the call outcomes back to it: the limiter backs off on throttles, so that concurrent
+ * handler invocations of a large stack converge to a rate the service accepts instead of failing on throttling.
+ */
+public class RateLimitingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    private final ProxyClient<ClientT> proxyClient;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final String accountId;
+    private final String region;
+
+    public RateLimitingProxyClient(
+            @NonNull final ProxyClient<ClientT> proxyClient,
+            @NonNull final RateLimiterRegistry rateLimiterRegistry,
+            final String accountId,
+            final String region
+    ) {
+        this.proxyClient = proxyClient;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.accountId = accountId;
+        this.region = region;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction
+    ) {
+        return limitAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        final AdaptiveRateLimiter limiter = limiterFor(request);
+        limiter.acquire();
+        final CompletableFuture<ResponseT> result;
+        try {
+            result = proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        } catch (RuntimeException e) {
+            onFailure(limiter, e);
+            throw e;
+        }
+        if (result != null) {
+            result.whenComplete((response, error) -> {
+                if (error == null) {
+                    limiter.onSuccess();
+                } else {
+                    onFailure(limiter, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                }
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction
+    ) {
+        // The pages are fetched lazily while iterating, only the first page request is paced.
+        return limitAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeIterableV2);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+    ) {
+        return limitAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2InputStream);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+    ) {
+        return limitAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2Bytes);
+    }
+
+    @Override
+    public ClientT client() {
+        return proxyClient.client();
+    }
+
+    private AdaptiveRateLimiter limiterFor(final AwsRequest request) {
+        return rateLimiterRegistry.get(accountId, region, RateLimiterRegistry.CallType.of(request));
+    }
+
+    private <RequestT extends AwsRequest, ResultT> ResultT limitAndDelegate(
+            final RequestT request,
+            final Function<RequestT, ResultT> requestFunction,
+            final BiFunction<RequestT, Function<RequestT, ResultT>, ResultT> injectCredentials
+    ) {
+        final AdaptiveRateLimiter limiter = limiterFor(request);
+        limiter.acquire();
+        final ResultT result;
+        try {
+            result = injectCredentials.apply(request, requestFunction);
+        } catch (RuntimeException e) {
+            onFailure(limiter, e);
+            throw e;
+        }
+        limiter.onSuccess();
+        return result;
+    }
+
+    private static void onFailure(final AdaptiveRateLimiter limiter, final Throwable error) {
+        // Any other failure (e.g. a missing resource) says nothing about the service capacity.
+        if (ErrorCode.isThrottling(error)) {
+            limiter.onThrottle();
+        }
+    }
+}
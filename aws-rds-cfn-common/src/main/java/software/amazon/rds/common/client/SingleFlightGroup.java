@@ -0,0 +1,81 @@
+package software.amazon.rds.common.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+
+/**
+ * Merges concurrent calls with an equal key into a single execution. The first caller (the leader) executes the call,
+ * the callers arriving while it is in flight wait for the leader and observe the same result or the same exception.
+ * The result is never retained: a key is released before its waiters are notified, so a call issued after
+ * the completion executes again.
+ */
+public class SingleFlightGroup {
+
+    /**
+     * The group shared by all handler invocations served by the same container.
+     */
+    public static final SingleFlightGroup SHARED = new SingleFlightGroup();
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(@NonNull final Object key, @NonNull final Supplier<T> call) {
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            waiters.incrementAndGet();
+            try {
+                return (T) await(leader);
+            } finally {
+                waiters.decrementAndGet();
+            }
+        }
+        final T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    /**
+     * @return The number of distinct calls in flight.
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return The number of callers waiting for a leader.
+     */
+    public int waiters() {
+        return waiters.get();
+    }
+
+    private static Object await(final CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package software.amazon.rds.common.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * A {@code ProxyClient} decorator that coalesces identical read-only {@code Describe*} and {@code List*} calls issued
+ * concurrently by the handler invocations of the same account and region into a single network call
+ * (see {@link SingleFlightGroup}). Requests are compared by value, hence the operation and all of its parameters take part in the match. The SDK request
+ * equality ignores the credentials, so the calls are coalesced once the proxy has injected the caller credentials, and
+ * only among the callers of the same credentials: a caller never observes a response it is not authorized to get.
+ * Responses are shared with the concurrent callers only and never cached, so polling loops still observe fresh resource
+ * state. Any other call is passed through.
+ */
+public class SingleFlightProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    private final ProxyClient<ClientT> proxyClient;
+    private final SingleFlightGroup singleFlightGroup;
+    private final String accountId;
+    private final String region;
+
+    public SingleFlightProxyClient(
+            @NonNull final ProxyClient<ClientT> proxyClient,
+            @NonNull final SingleFlightGroup singleFlightGroup,
+            final String accountId,
+            final String region
+    ) {
+        this.proxyClient = proxyClient;
+        this.singleFlightGroup = singleFlightGroup;
+        this.accountId = accountId;
+        this.region = region;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction
+    ) {
+        if (!MemoizingProxyClient.isReadOnly(request)) {
+            return proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+        return proxyClient.injectCredentialsAndInvokeV2(request, authorizedRequest -> singleFlightGroup.execute(
+                new Key(accountId, region, credentialIdentity(authorizedRequest), authorizedRequest),
+                () -> requestFunction.apply(authorizedRequest)
+        ));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction
+    ) {
+        return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+    ) {
+        return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+    ) {
+        return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return proxyClient.client();
+    }
+
+    // A digest of the access key and session token the proxy injected into the request, the secrets are not retained.
+    private static String credentialIdentity(final AwsRequest request) {
+        return request.overrideConfiguration()
+                .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
+                .map(provider -> digest(provider.resolveCredentials()))
+                .orElse(null);
+    }
+
+    private static String digest(final AwsCredentials credentials) {
+        final String sessionToken = credentials instanceof AwsSessionCredentials
+                ? ((AwsSessionCredentials) credentials).sessionToken()
+                : "";
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(credentials.accessKeyId().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(sessionToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Value
+    private static class Key {
+        String accountId;
+        String region;
+        String credentialIdentity;
+        AwsRequest request;
+    }
+}
@@ -1,5 +1,9 @@
 package software.amazon.rds.common.error;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.utils.StringUtils;
@@ -42,6 +46,16 @@ public enum ErrorCode {
     ThrottlingException("ThrottlingException"),
     UnauthorizedOperation("UnauthorizedOperation");
 
+    private static final Map<String, ErrorCode> ERROR_CODES_BY_CODE;
+
+    static {
+        final Map<String, ErrorCode> errorCodesByCode = new HashMap<>();
+        for (final ErrorCode errorCode : ErrorCode.values()) {
+            errorCodesByCode.put(errorCode.code, errorCode);
+        }
+        ERROR_CODES_BY_CODE = Collections.unmodifiableMap(errorCodesByCode);
+    }
+
     private final String code;
 
     ErrorCode(final String code) {
@@ -50,11 +64,7 @@ public enum ErrorCode {
 
     public static ErrorCode fromString(final String errorStr) {
         if (StringUtils.isNotBlank(errorStr)) {
-            for (final ErrorCode errorCode : ErrorCode.values()) {
-                if (errorCode.equals(errorStr)) {
-                    return errorCode;
-                }
-            }
+            return ERROR_CODES_BY_CODE.get(errorStr);
         }
         return null;
     }
@@ -67,6 +77,21 @@ public enum ErrorCode {
         return null;
     }
 
+    /**
+     * @return {@code true} if the throwable is a service exception signalling that the caller is throttled.
+     */
+    public static boolean isThrottling(final Throwable throwable) {
+        if (!(throwable instanceof AwsServiceException)) {
+            return false;
+        }
+        final AwsServiceException exception = (AwsServiceException) throwable;
+        if (exception.isThrottlingException()) {
+            return true;
+        }
+        final ErrorCode errorCode = fromException(exception);
+        return errorCode == ThrottlingException || errorCode == Throttling;
+    }
+
     @Override
     public String toString() {
         return code;
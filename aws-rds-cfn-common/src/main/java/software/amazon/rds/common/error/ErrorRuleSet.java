@@ -1,35 +1,54 @@
 package software.amazon.rds.common.error;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 
 public class ErrorRuleSet implements Cloneable {
 
-    public static ErrorRuleSet EMPTY_RULE_SET = new ErrorRuleSet(null, Collections.emptyMap(), Collections.emptyMap());
+    public static ErrorRuleSet EMPTY_RULE_SET = new ErrorRuleSet(null, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), null);
 
     final Map<ErrorCode, ErrorStatus> errorCodeMap;
 
     final Map<Class<?>, ErrorStatus> errorClassMap;
 
+    final Map<Class<?>, ErrorStatus> errorClassHierarchyMap;
+
+    final LookupTable lookupTable;
+
     ErrorRuleSet base;
 
     private ErrorRuleSet(
             final ErrorRuleSet base,
             final Map<Class<?>, ErrorStatus> errorClassMap,
-            final Map<ErrorCode, ErrorStatus> errorCodeMap
+            final Map<Class<?>, ErrorStatus> errorClassHierarchyMap,
+            final Map<ErrorCode, ErrorStatus> errorCodeMap,
+            final LookupTable lookupTable
     ) {
         this.base = base;
         this.errorCodeMap = errorCodeMap;
         this.errorClassMap = errorClassMap;
+        this.errorClassHierarchyMap = errorClassHierarchyMap;
+        this.lookupTable = lookupTable;
     }
 
     private ErrorRuleSet(final Builder builder) {
-        this(builder.base, new LinkedHashMap<>(builder.errorClassMap), new LinkedHashMap<>(builder.errorCodeMap));
+        this(
+                builder.base,
+                new LinkedHashMap<>(builder.errorClassMap),
+                new LinkedHashMap<>(builder.errorClassHierarchyMap),
+                new LinkedHashMap<>(builder.errorCodeMap),
+                null
+        );
     }
 
     public static Builder extend(final ErrorRuleSet base) {
@@ -38,31 +57,50 @@ public class ErrorRuleSet implements Cloneable {
 
     @NonNull
     public ErrorStatus handle(final Exception exception) {
-        if (errorClassMap.containsKey(exception.getClass())) {
-            return errorClassMap.get(exception.getClass()).interpret(exception);
-        } else if (exception instanceof AwsServiceException) {
-            final AwsServiceException awsServiceException = (AwsServiceException) exception;
-            final AwsErrorDetails errorDetails = awsServiceException.awsErrorDetails();
-            if (errorDetails != null) {
-                final String errorStr = errorDetails.errorCode();
-                final ErrorCode errorCode = ErrorCode.fromString(errorStr);
-                if (errorCode != null && errorCodeMap.containsKey(errorCode)) {
-                    return errorCodeMap.get(errorCode).interpret(exception);
-                }
-            }
+        return handle(exception, getErrorCode(exception));
+    }
+
+    private ErrorStatus handle(final Exception exception, final ErrorCode errorCode) {
+        final ErrorStatus errorStatus = lookupTable != null ?
+                lookupTable.lookup(exception.getClass(), errorCode) :
+                findErrorStatus(exception.getClass(), errorCode);
+        if (errorStatus != null) {
+            return errorStatus.interpret(exception);
         }
         if (base != null) {
-            return base.handle(exception);
+            return base.handle(exception, errorCode);
         }
         return new UnexpectedErrorStatus(exception);
     }
 
+    /**
+     * Flattens the rule set chain into a single immutable lookup table. The compiled rule set resolves an error code
+     * with a single map lookup and memoizes the resolution of every exception class it observes, including the
+     * superclass walk for the rules registered with {@code withErrorClassHierarchies}.
+     * The precedence of the rules is the same as in the original chain.
+     * Compile long-living rule sets (e.g. the default ones) once: compiling a short-living one costs more than it saves.
+     * @return A compiled rule set equivalent to this one.
+     */
+    public ErrorRuleSet compile() {
+        final List<ErrorRuleSet> rules = new ArrayList<>();
+        for (ErrorRuleSet ptr = this; ptr != null; ptr = ptr.base) {
+            if (ptr.lookupTable != null) {
+                rules.addAll(ptr.lookupTable.rules);
+            } else {
+                rules.add(ptr);
+            }
+        }
+        return new ErrorRuleSet(null, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), new LookupTable(rules));
+    }
+
     @Override
     public ErrorRuleSet clone() {
         return new ErrorRuleSet(
                 this.base,
                 new LinkedHashMap<>(this.errorClassMap),
-                new LinkedHashMap<>(this.errorCodeMap)
+                new LinkedHashMap<>(this.errorClassHierarchyMap),
+                new LinkedHashMap<>(this.errorCodeMap),
+                this.lookupTable
         );
     }
 
@@ -78,14 +116,93 @@ public class ErrorRuleSet implements Cloneable {
         return extended;
     }
 
+    private ErrorStatus findErrorStatus(final Class<?> errorClass, final ErrorCode errorCode) {
+        final ErrorStatus errorStatus = findErrorClassStatus(errorClass);
+        if (errorStatus != null) {
+            return errorStatus;
+        }
+        return errorCode != null ? errorCodeMap.get(errorCode) : null;
+    }
+
+    private ErrorStatus findErrorClassStatus(final Class<?> errorClass) {
+        final ErrorStatus errorStatus = errorClassMap.get(errorClass);
+        if (errorStatus != null || errorClassHierarchyMap.isEmpty()) {
+            return errorStatus;
+        }
+        for (Class<?> ptr = errorClass; ptr != null; ptr = ptr.getSuperclass()) {
+            final ErrorStatus hierarchyErrorStatus = errorClassHierarchyMap.get(ptr);
+            if (hierarchyErrorStatus != null) {
+                return hierarchyErrorStatus;
+            }
+        }
+        return null;
+    }
+
+    private static ErrorCode getErrorCode(final Exception exception) {
+        if (exception instanceof AwsServiceException) {
+            final AwsErrorDetails errorDetails = ((AwsServiceException) exception).awsErrorDetails();
+            if (errorDetails != null) {
+                return ErrorCode.fromString(errorDetails.errorCode());
+            }
+        }
+        return null;
+    }
+
+    private static class LookupTable {
+
+        private static final Match NO_MATCH = new Match(Integer.MAX_VALUE, null);
+
+        private final List<ErrorRuleSet> rules;
+        private final Map<ErrorCode, Match> errorCodeMatches;
+        private final Map<Class<?>, Match> errorClassMatches = new ConcurrentHashMap<>();
+
+        private LookupTable(final List<ErrorRuleSet> rules) {
+            this.rules = Collections.unmodifiableList(rules);
+            final Map<ErrorCode, Match> errorCodeMatches = new EnumMap<>(ErrorCode.class);
+            for (int precedence = 0; precedence < rules.size(); precedence++) {
+                for (final Map.Entry<ErrorCode, ErrorStatus> entry : rules.get(precedence).errorCodeMap.entrySet()) {
+                    errorCodeMatches.putIfAbsent(entry.getKey(), new Match(precedence, entry.getValue()));
+                }
+            }
+            this.errorCodeMatches = Collections.unmodifiableMap(errorCodeMatches);
+        }
+
+        private ErrorStatus lookup(final Class<?> errorClass, final ErrorCode errorCode) {
+            final Match errorClassMatch = errorClassMatches.computeIfAbsent(errorClass, this::matchErrorClass);
+            final Match errorCodeMatch = errorCode != null ? errorCodeMatches.getOrDefault(errorCode, NO_MATCH) : NO_MATCH;
+            // Within a single rule set an error class rule takes precedence over an error code one.
+            return errorClassMatch.precedence <= errorCodeMatch.precedence ?
+                    errorClassMatch.errorStatus :
+                    errorCodeMatch.errorStatus;
+        }
+
+        private Match matchErrorClass(final Class<?> errorClass) {
+            for (int precedence = 0; precedence < rules.size(); precedence++) {
+                final ErrorStatus errorStatus = rules.get(precedence).findErrorClassStatus(errorClass);
+                if (errorStatus != null) {
+                    return new Match(precedence, errorStatus);
+                }
+            }
+            return NO_MATCH;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Match {
+        private final int precedence;
+        private final ErrorStatus errorStatus;
+    }
+
     public static class Builder {
         final ErrorRuleSet base;
         final Map<Class<?>, ErrorStatus> errorClassMap;
+        final Map<Class<?>, ErrorStatus> errorClassHierarchyMap;
         final Map<ErrorCode, ErrorStatus> errorCodeMap;
 
         protected Builder(@NonNull final ErrorRuleSet base) {
             this.base = base;
             this.errorClassMap = new LinkedHashMap<>();
+            this.errorClassHierarchyMap = new LinkedHashMap<>();
             this.errorCodeMap = new LinkedHashMap<>();
         }
 
@@ -96,6 +213,17 @@ public class ErrorRuleSet implements Cloneable {
             return this;
         }
 
+        /**
+         * Unlike {@code withErrorClasses}, the rule also matches the subclasses of {@code errorClasses}.
+         * An exact class rule takes precedence, otherwise the closest superclass wins.
+         */
+        public Builder withErrorClassHierarchies(final ErrorStatus errorStatus, final Class<?>... errorClasses) {
+            for (final Class<?> errorClass : errorClasses) {
+                errorClassHierarchyMap.put(errorClass, errorStatus);
+            }
+            return this;
+        }
+
         public Builder withErrorCodes(final ErrorStatus errorStatus, final ErrorCode... errorCodes) {
             for (final ErrorCode errorCode : errorCodes) {
                 errorCodeMap.put(errorCode, errorStatus);
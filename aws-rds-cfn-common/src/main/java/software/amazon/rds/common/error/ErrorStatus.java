@@ -23,6 +23,10 @@ public interface ErrorStatus {
         return new RetryErrorStatus(OperationStatus.IN_PROGRESS, callbackDelay);
     }
 
+    static ErrorStatus retryOnThrottling(final ThrottlingRetryPolicy policy) {
+        return new ThrottlingRetryErrorStatus(policy);
+    }
+
     static ErrorStatus conditional(Function<Exception, ErrorStatus> condition) {
         return new ConditionalErrorStatus(condition);
     }
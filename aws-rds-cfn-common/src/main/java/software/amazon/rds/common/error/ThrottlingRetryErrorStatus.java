@@ -0,0 +1,18 @@
+package software.amazon.rds.common.error;
+
+import lombok.Getter;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+/**
+ * Retries a throttled request with a callback delay defined by the policy. A handler whose callback context does not
+ * keep track of the retries, or the one that ran out of attempts, fails with {@link HandlerErrorCode#Throttling}.
+ */
+public class ThrottlingRetryErrorStatus extends HandlerErrorStatus {
+    @Getter
+    private final ThrottlingRetryPolicy policy;
+
+    public ThrottlingRetryErrorStatus(final ThrottlingRetryPolicy policy) {
+        super(HandlerErrorCode.Throttling);
+        this.policy = policy;
+    }
+}
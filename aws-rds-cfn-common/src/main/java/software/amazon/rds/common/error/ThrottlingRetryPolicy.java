@@ -0,0 +1,55 @@
+package software.amazon.rds.common.error;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Defines how a throttled handler backs off: the callback delays follow the decorrelated jitter scheme
+ * ({@code delay = min(maxDelay, random(baseDelay, previousDelay * 3))}) and the number of attempts is capped, so that
+ * concurrent stack operations spread their retries out instead of failing on the first throttling error.
+ */
+@Builder
+@Getter
+public class ThrottlingRetryPolicy {
+
+    public static final ThrottlingRetryPolicy DEFAULT = ThrottlingRetryPolicy.builder().build();
+
+    @NonNull
+    @Builder.Default
+    private final Duration baseDelay = Duration.ofSeconds(5);
+
+    @NonNull
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(60);
+
+    @Builder.Default
+    private final int maxAttempts = 6;
+
+    /**
+     * The source of uniformly distributed values in {@code [0, 1)}.
+     */
+    @NonNull
+    @Builder.Default
+    private final DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+    public boolean canRetry(final int attempts) {
+        return attempts < maxAttempts;
+    }
+
+    /**
+     * @param previousDelaySeconds The delay of the previous retry, {@code 0} if there was none.
+     * @return The callback delay of the next retry, in seconds.
+     */
+    public int nextDelaySeconds(final int previousDelaySeconds) {
+        final long base = Math.max(1, baseDelay.getSeconds());
+        final long cap = Math.max(base, maxDelay.getSeconds());
+        final long previous = Math.max(base, previousDelaySeconds);
+        final long jittered = base + (long) (random.getAsDouble() * (previous * 3 - base));
+        return (int) Math.min(cap, jittered);
+    }
+}
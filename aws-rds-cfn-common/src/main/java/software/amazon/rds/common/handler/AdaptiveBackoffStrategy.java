@@ -0,0 +1,85 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Polls every {@code initialDelay} for the first {@code fastPollingPeriod} of a stabilization, then doubles the delay
+ * every {@code growthPeriod} up to {@code maxDelay}. Every delay is randomized by up to {@code jitter} of its value.
+ * The delay is driven by the total stabilization time rather than by the attempt number, which the CFN proxy resets
+ * on every handler invocation.
+ */
+@Builder
+public class AdaptiveBackoffStrategy implements BackoffStrategy {
+
+    @Getter
+    @Builder.Default
+    final private Duration initialDelay = Duration.ofSeconds(5);
+
+    @Getter
+    @Builder.Default
+    final private Duration fastPollingPeriod = Duration.ofMinutes(1);
+
+    @Getter
+    @Builder.Default
+    final private Duration growthPeriod = Duration.ofMinutes(5);
+
+    @Getter
+    @Builder.Default
+    final private Duration maxDelay = Duration.ofSeconds(60);
+
+    @Getter
+    @Builder.Default
+    final private double jitter = 0.2;
+
+    @Getter
+    @Builder.Default
+    final private Duration timeout = Duration.ofMinutes(90);
+
+    @Builder.Default
+    final private Clock clock = Clock.systemUTC();
+
+    @Builder.Default
+    final private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+    @Override
+    public Delay getBackoff(final Duration elapsed) {
+        final Instant startedAt = clock.instant();
+        return attempt -> {
+            final Duration totalElapsed = elapsed.plus(Duration.between(startedAt, clock.instant()));
+            if (totalElapsed.compareTo(timeout) >= 0) {
+                // The proxy reports a stabilization timeout on a zero delay.
+                return Duration.ZERO;
+            }
+            return nextDelay(totalElapsed);
+        };
+    }
+
+    @Override
+    public Duration getMinDelay() {
+        // The delay never goes below the initial one, save for the jitter.
+        return toCallbackDelay(initialDelay.toMillis() * (1 - jitter));
+    }
+
+    Duration nextDelay(final Duration elapsed) {
+        double delayMillis = initialDelay.toMillis();
+        if (elapsed.compareTo(fastPollingPeriod) > 0) {
+            final double growthPeriods = (double) elapsed.minus(fastPollingPeriod).toMillis() / growthPeriod.toMillis();
+            delayMillis = Math.min(maxDelay.toMillis(), delayMillis * Math.pow(2, growthPeriods));
+        }
+        delayMillis *= 1 + jitter * (2 * random.getAsDouble() - 1);
+        return toCallbackDelay(delayMillis);
+    }
+
+    private static Duration toCallbackDelay(final double delayMillis) {
+        // Callback delays are expressed in whole seconds.
+        return Duration.ofSeconds(Math.max(1, Math.round(delayMillis / 1000)));
+    }
+}
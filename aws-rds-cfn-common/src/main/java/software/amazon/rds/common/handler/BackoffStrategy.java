@@ -0,0 +1,23 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Duration;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+@FunctionalInterface
+public interface BackoffStrategy {
+
+    /**
+     * Builds a stabilization delay for a handler invocation.
+     * @param elapsed How long the stabilization has been running before the current invocation.
+     * @return A delay to be used in the stabilization call chain.
+     */
+    Delay getBackoff(Duration elapsed);
+
+    /**
+     * @return A lower bound of the delays the strategy builds. The default makes no promise.
+     */
+    default Duration getMinDelay() {
+        return Duration.ZERO;
+    }
+}
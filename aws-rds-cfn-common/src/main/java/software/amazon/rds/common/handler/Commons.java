@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableMap;
 import lombok.NonNull;
@@ -19,9 +20,12 @@ import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.IgnoreErrorStatus;
 import software.amazon.rds.common.error.RetryErrorStatus;
+import software.amazon.rds.common.error.ThrottlingRetryErrorStatus;
+import software.amazon.rds.common.error.ThrottlingRetryPolicy;
 import software.amazon.rds.common.error.UnexpectedErrorStatus;
 import software.amazon.rds.common.error.HandlerErrorStatus;
 import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.util.CompiledSchema;
 import software.amazon.rds.common.util.DriftDetector;
 import software.amazon.rds.common.util.DriftDetectorReport;
 import software.amazon.rds.common.util.Mutation;
@@ -40,7 +44,7 @@ public final class Commons {
                     ErrorCode.AccessDeniedException,
                     ErrorCode.NotAuthorized,
                     ErrorCode.UnauthorizedOperation)
-            .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling),
+            .withErrorCodes(ErrorStatus.retryOnThrottling(ThrottlingRetryPolicy.DEFAULT),
                     ErrorCode.ThrottlingException,
                     ErrorCode.Throttling)
             .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.InvalidRequest),
@@ -52,7 +56,8 @@ public final class Commons {
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ServiceInternalError),
                     SdkServiceException.class,
                     SdkClientException.class)
-            .build();
+            .build()
+            .compile();
 
     public static final ErrorRuleSet ACCESS_DENIED_RULE_SET =  ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
         .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.AccessDenied),
@@ -62,6 +67,13 @@ public final class Commons {
             ErrorCode.UnauthorizedOperation)
         .build();
 
+    // Read and list handlers must not return IN_PROGRESS: a throttled read fails, CloudFormation retries it as a whole.
+    public static final ErrorRuleSet FAIL_ON_THROTTLING_RULE_SET = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+            .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling),
+                    ErrorCode.ThrottlingException,
+                    ErrorCode.Throttling)
+            .build();
+
     private Commons() {
     }
 
@@ -84,6 +96,18 @@ public final class Commons {
         final String exceptionClass = exception.getClass().getCanonicalName();
         final StringBuilder messageBuilder = new StringBuilder();
 
+        if (errorStatus instanceof ThrottlingRetryErrorStatus && context instanceof RetryContext.Provider) {
+            final ProgressEvent<M, C> retry = retryOnThrottling(
+                    model,
+                    context,
+                    ((ThrottlingRetryErrorStatus) errorStatus).getPolicy(),
+                    ((RetryContext.Provider) context).getRetryContext()
+            );
+            if (retry != null) {
+                return retry;
+            }
+        }
+
         if (errorStatus instanceof IgnoreErrorStatus) {
             switch (((IgnoreErrorStatus) errorStatus).getStatus()) {
                 case IN_PROGRESS:
@@ -112,6 +136,25 @@ public final class Commons {
         return ProgressEvent.failed(model, context, HandlerErrorCode.InternalFailure, exception.getMessage());
     }
 
+    /**
+     * Schedules a callback with a jittered delay unless the retry attempts are exhausted.
+     * @return The in-progress event, {@code null} if the handler should fail instead.
+     */
+    private static <M, C> ProgressEvent<M, C> retryOnThrottling(
+            final M model,
+            final C context,
+            final ThrottlingRetryPolicy policy,
+            final RetryContext retryContext
+    ) {
+        if (retryContext == null || !policy.canRetry(retryContext.getThrottlingRetries())) {
+            return null;
+        }
+        final int callbackDelay = policy.nextDelaySeconds(retryContext.getLastThrottlingDelaySeconds());
+        retryContext.setThrottlingRetries(retryContext.getThrottlingRetries() + 1);
+        retryContext.setLastThrottlingDelaySeconds(callbackDelay);
+        return ProgressEvent.defaultInProgressHandler(context, callbackDelay, model);
+    }
+
     public static <M, C> ProgressEvent<M, C> execOnce(
             final ProgressEvent<M, C> progress,
             final ProgressEventLambda<M, C> func,
@@ -137,8 +180,29 @@ public final class Commons {
             final ResourceTypeSchema schema,
             final RequestLogger requestLogger,
             final String handlerAction) {
+        return reportDrift(inputModel, progress, () -> DriftDetector.forSchema(schema), requestLogger, handlerAction);
+    }
+
+    /**
+     * The schema is resolved within the report, hence a schema failing to load only skips the report.
+     */
+    public static <M, C> ProgressEvent<M, C> reportResourceDrift(
+            final M inputModel,
+            final ProgressEvent<M, C> progress,
+            final Supplier<CompiledSchema> schema,
+            final RequestLogger requestLogger,
+            final String handlerAction) {
+        return reportDrift(inputModel, progress, () -> DriftDetector.forSchema(schema.get()), requestLogger, handlerAction);
+    }
+
+    private static <M, C> ProgressEvent<M, C> reportDrift(
+            final M inputModel,
+            final ProgressEvent<M, C> progress,
+            final Supplier<DriftDetector> driftDetectorSupplier,
+            final RequestLogger requestLogger,
+            final String handlerAction) {
         try {
-            final DriftDetector driftDetector = new DriftDetector(schema);
+            final DriftDetector driftDetector = driftDetectorSupplier.get();
             final Map<String, Mutation> mutations = driftDetector.detectDrift(inputModel, progress.getResourceModel());
             if (!mutations.isEmpty()) {
                 requestLogger.log("Resource drift detected", ImmutableMap.of("HandlerAction", handlerAction, "Report", new DriftDetectorReport(mutations)));
@@ -0,0 +1,120 @@
+package software.amazon.rds.common.handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import lombok.NonNull;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkResponse;
+
+/**
+ * Compacts the callback context carried over between handler invocations. The boolean flags of a context are packed
+ * into a single {@code long} bitset, so that a context serializes as {@code "flags":5} instead of a named boolean
+ * per flag. A flag's bit is its registration order: flags may only be appended to a codec, otherwise a context
+ * serialized by the previous handler version would be decoded into the wrong flags.
+ * Responses stored by the call graphs are replayed on every re-invocation, {@code slim} drops the response members
+ * the handler never reads back.
+ */
+public final class CompactContextCodec<C> {
+
+    static final int MAX_FLAGS = Long.SIZE;
+
+    private final List<Flag<C>> flags;
+
+    private CompactContextCodec(final List<Flag<C>> flags) {
+        this.flags = Collections.unmodifiableList(flags);
+    }
+
+    public static <C> Builder<C> builder() {
+        return new Builder<>();
+    }
+
+    public List<String> getFlagNames() {
+        final List<String> names = new ArrayList<>(flags.size());
+        flags.forEach(flag -> names.add(flag.name));
+        return Collections.unmodifiableList(names);
+    }
+
+    public long encodeFlags(@NonNull final C context) {
+        long bits = 0L;
+        for (int i = 0; i < flags.size(); i++) {
+            if (flags.get(i).getter.test(context)) {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Sets every registered flag of the context from the bitset. Bits above the registered flags are ignored.
+     */
+    public void decodeFlags(@NonNull final C context, final long bits) {
+        for (int i = 0; i < flags.size(); i++) {
+            flags.get(i).setter.accept(context, (bits & (1L << i)) != 0);
+        }
+    }
+
+    /**
+     * Returns a copy of the response keeping only the members the handler reads back.
+     * @param retainedMembers The response member names as per the service model, e.g. {@code DBInstances}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends SdkResponse> T slim(final T response, final String... retainedMembers) {
+        if (response == null) {
+            return null;
+        }
+        final Set<String> retained = new HashSet<>(Arrays.asList(retainedMembers));
+        final SdkResponse.Builder builder = response.toBuilder();
+        for (final SdkField<?> field : response.sdkFields()) {
+            if (!retained.contains(field.memberName())) {
+                field.set(builder, null);
+            }
+        }
+        return (T) builder.build();
+    }
+
+    private static final class Flag<C> {
+        private final String name;
+        private final Predicate<C> getter;
+        private final BiConsumer<C, Boolean> setter;
+
+        private Flag(final String name, final Predicate<C> getter, final BiConsumer<C, Boolean> setter) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    public static final class Builder<C> {
+        private final List<Flag<C>> flags = new ArrayList<>();
+        private final Set<String> names = new HashSet<>();
+
+        private Builder() {
+        }
+
+        public Builder<C> flag(
+                @NonNull final String name,
+                @NonNull final Predicate<C> getter,
+                @NonNull final BiConsumer<C, Boolean> setter
+        ) {
+            if (!names.add(name)) {
+                throw new IllegalArgumentException("Duplicate context flag: " + name);
+            }
+            if (flags.size() == MAX_FLAGS) {
+                throw new IllegalArgumentException("A context codec supports at most " + MAX_FLAGS + " flags");
+            }
+            flags.add(new Flag<>(name, getter, setter));
+            return this;
+        }
+
+        public CompactContextCodec<C> build() {
+            return new CompactContextCodec<>(new ArrayList<>(flags));
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package software.amazon.rds.common.handler;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
-import com.amazonaws.util.CollectionUtils;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeEventsResponse;
@@ -27,6 +34,12 @@ public class Events {
     protected static final String EVENT_CATEGORY_NOTIFICATION = "notification";
     protected static final String EVENT_CATEGORY_MAINTENANCE = "maintenance";
 
+    // Limits the number of DescribeEvents pages read by a single check, the scan is resumed by the next check.
+    protected static final int MAX_PAGES_PER_CHECK = 10;
+
+    // The callback delay of a check suspended by the page limit.
+    protected static final int RESUME_CALLBACK_DELAY_SECONDS = 5;
+
     protected static final ErrorRuleSet DESCRIBE_EVENTS_ERROR_RULE_SET = ErrorRuleSet
             .extend(Commons.DEFAULT_ERROR_RULE_SET)
             .withErrorCodes(ErrorStatus.ignore(OperationStatus.IN_PROGRESS),
@@ -57,17 +70,75 @@ public class Events {
             final String[] eventCategories,
             final Instant startTime
     ) {
-        final DescribeEventsResponse response = rdsProxyClient.injectCredentialsAndInvokeV2(
+        return fetchEvents(rdsProxyClient, sourceIdentifier, sourceType, eventCategories, startTime, new EventsContext(), Clock.systemUTC());
+    }
+
+    /**
+     * Fetches at most {@link #MAX_PAGES_PER_CHECK} pages of events. If more pages are left, the marker is kept in
+     * {@code eventsContext} and the next call sharing it resumes the scan from the marker.
+     *
+     * @param clock The clock the end of a new scan window is read from.
+     */
+    public static List<Event> fetchEvents(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String sourceIdentifier,
+            final SourceType sourceType,
+            final String[] eventCategories,
+            final Instant startTime,
+            final EventsContext eventsContext,
+            final Clock clock
+    ) {
+        openWindow(eventsContext, startTime, clock);
+        final List<Event> events = new ArrayList<>();
+        for (int page = 0; page < MAX_PAGES_PER_CHECK; page++) {
+            final DescribeEventsResponse response = fetchEventsPage(
+                    rdsProxyClient, sourceIdentifier, sourceType, eventCategories, eventsContext);
+            for (final Event event : response.events()) {
+                events.add(event);
+                advanceLastEventTime(eventsContext, event);
+            }
+            eventsContext.setMarker(response.marker());
+            if (response.marker() == null) {
+                break;
+            }
+        }
+        return events;
+    }
+
+    private static DescribeEventsResponse fetchEventsPage(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String sourceIdentifier,
+            final SourceType sourceType,
+            final String[] eventCategories,
+            final EventsContext eventsContext
+    ) {
+        return rdsProxyClient.injectCredentialsAndInvokeV2(
                 DescribeEventsRequest.builder()
                         .sourceType(sourceType)
                         .sourceIdentifier(sourceIdentifier)
                         .eventCategories(eventCategories)
-                        .startTime(startTime)
-                        .endTime(Instant.now())
+                        .startTime(eventsContext.getWindowStartTime() == null ? null : Instant.ofEpochMilli(eventsContext.getWindowStartTime()))
+                        .endTime(Instant.ofEpochMilli(eventsContext.getWindowEndTime()))
+                        .marker(eventsContext.getMarker())
                         .build(),
                 rdsProxyClient.client()::describeEvents
         );
-        return response.events();
+    }
+
+    // Starts a new window at the last seen event time, unless a suspended scan is to be resumed from its marker.
+    private static void openWindow(final EventsContext eventsContext, final Instant startTime, final Clock clock) {
+        if (eventsContext.getMarker() != null) {
+            return;
+        }
+        Instant windowStartTime = startTime;
+        if (eventsContext.getLastEventTime() != null) {
+            final Instant lastEventTime = Instant.ofEpochMilli(eventsContext.getLastEventTime());
+            if (windowStartTime == null || lastEventTime.isAfter(windowStartTime)) {
+                windowStartTime = lastEventTime;
+            }
+        }
+        eventsContext.setWindowStartTime(windowStartTime == null ? null : windowStartTime.toEpochMilli());
+        eventsContext.setWindowEndTime(clock.millis());
     }
 
     public static <M, C> ProgressEvent<M, C> checkFailedEvents(
@@ -78,30 +149,181 @@ public class Events {
             final ProgressEvent<M, C> progress,
             final Predicate<Event> isFailureEvent,
             final RequestLogger logger
+    ) {
+        final EventsContext eventsContext = new EventsContext();
+        final ProgressEvent<M, C> result = checkFailedEvents(rdsProxyClient, sourceIdentifier, sourceType, startTime, progress,
+                isFailureEvent, logger, eventsContext, Clock.systemUTC());
+        // Without a context to resume from, the scan ends with the page limit.
+        return eventsContext.getMarker() != null && !result.isFailed() ? progress : result;
+    }
+
+    /**
+     * Checks the resource events for failures incrementally: the events already checked by the previous calls sharing
+     * the same {@code eventsContext} are skipped. Pages are fetched one by one and the scan stops on the first failure.
+     * The last seen event time is re-read on purpose, events sharing the same timestamp might span two scans.
+     * A check reads at most {@link #MAX_PAGES_PER_CHECK} pages: if more are left, it keeps the marker and returns
+     * an in-progress event with a callback delay, so that the next invocation resumes the scan. Callers guarding
+     * the check with a one-time flag should hence run it as a step of its own.
+     *
+     * @param clock The clock the end of a new scan window is read from.
+     */
+    public static <M, C> ProgressEvent<M, C> checkFailedEvents(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String sourceIdentifier,
+            final SourceType sourceType,
+            final Instant startTime,
+            final ProgressEvent<M, C> progress,
+            final Predicate<Event> isFailureEvent,
+            final RequestLogger logger,
+            final EventsContext eventsContext,
+            final Clock clock
     ) {
         try {
-            final List<Event> failures = fetchEvents(
-                    rdsProxyClient,
-                    sourceIdentifier,
-                    sourceType,
-                    new String[]{EVENT_CATEGORY_NOTIFICATION, EVENT_CATEGORY_MAINTENANCE},
-                    startTime
-            )
-                    .stream()
-                    .filter(isFailureEvent)
-                    .collect(Collectors.toList());
-            if (!CollectionUtils.isNullOrEmpty(failures)) {
-                return ProgressEvent.failed(
-                        progress.getResourceModel(),
-                        progress.getCallbackContext(),
-                        HandlerErrorCode.GeneralServiceException,
-                        failures.get(0).message()
+            openWindow(eventsContext, startTime, clock);
+            for (int page = 0; page < MAX_PAGES_PER_CHECK; page++) {
+                final DescribeEventsResponse response = fetchEventsPage(
+                        rdsProxyClient,
+                        sourceIdentifier,
+                        sourceType,
+                        new String[]{EVENT_CATEGORY_NOTIFICATION, EVENT_CATEGORY_MAINTENANCE},
+                        eventsContext
                 );
+                for (final Event event : response.events()) {
+                    if (isFailureEvent.test(event)) {
+                        return ProgressEvent.failed(
+                                progress.getResourceModel(),
+                                progress.getCallbackContext(),
+                                HandlerErrorCode.GeneralServiceException,
+                                event.message()
+                        );
+                    }
+                    advanceLastEventTime(eventsContext, event);
+                }
+                eventsContext.setMarker(response.marker());
+                if (response.marker() == null) {
+                    return progress;
+                }
             }
         } catch (Exception e) {
             logger.log(String.format("Failed to fetch events: %s", e.getMessage()));
             return Commons.handleException(progress, e, DESCRIBE_EVENTS_ERROR_RULE_SET, logger);
         }
-        return progress;
+        return ProgressEvent.defaultInProgressHandler(
+                progress.getCallbackContext(),
+                RESUME_CALLBACK_DELAY_SECONDS,
+                progress.getResourceModel()
+        );
+    }
+
+    private static void advanceLastEventTime(final EventsContext eventsContext, final Event event) {
+        if (event.date() != null) {
+            final long eventTime = event.date().toEpochMilli();
+            if (eventsContext.getLastEventTime() == null || eventsContext.getLastEventTime() < eventTime) {
+                eventsContext.setLastEventTime(eventTime);
+            }
+        }
+    }
+
+    /**
+     * Builds a case-insensitive matcher reporting which of {@code fragments} an event message contains.
+     * The matcher is an Aho-Corasick automaton: it is meant to be built once and scans every message once
+     * regardless of the number of fragments.
+     */
+    public static FailureEventMatcher failureEventMatcher(final String... fragments) {
+        return new FailureEventMatcher(Arrays.asList(fragments));
+    }
+
+    public static class FailureEventMatcher implements Predicate<Event> {
+
+        private final Node root = new Node();
+        private final List<String> fragments;
+
+        private FailureEventMatcher(final List<String> fragments) {
+            this.fragments = Collections.unmodifiableList(new ArrayList<>(fragments));
+            for (final String fragment : this.fragments) {
+                Node node = root;
+                for (int i = 0; i < fragment.length(); i++) {
+                    node = node.next.computeIfAbsent(fold(fragment.charAt(i)), c -> new Node());
+                }
+                if (node.fragment == null) {
+                    node.fragment = fragment;
+                }
+            }
+            // Breadth-first, so that the failure link of a node is complete by the time its children are linked.
+            final Queue<Node> queue = new ArrayDeque<>();
+            for (final Node child : root.next.values()) {
+                child.failure = root;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                final Node node = queue.remove();
+                if (node.fragment == null) {
+                    node.fragment = node.failure.fragment;
+                }
+                for (final Map.Entry<Character, Node> entry : node.next.entrySet()) {
+                    final Node child = entry.getValue();
+                    child.failure = transition(node.failure, entry.getKey());
+                    queue.add(child);
+                }
+            }
+        }
+
+        public List<String> getFragments() {
+            return fragments;
+        }
+
+        /**
+         * @return The fragment found in the event message, the one ending first wins.
+         */
+        public Optional<String> match(final Event event) {
+            if (event == null) {
+                return Optional.empty();
+            }
+            return match(event.message());
+        }
+
+        public Optional<String> match(final String message) {
+            if (message == null) {
+                return Optional.empty();
+            }
+            if (root.fragment != null) {
+                // An empty fragment matches any message.
+                return Optional.of(root.fragment);
+            }
+            Node node = root;
+            for (int i = 0; i < message.length(); i++) {
+                node = transition(node, fold(message.charAt(i)));
+                if (node.fragment != null) {
+                    return Optional.of(node.fragment);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean test(final Event event) {
+            return match(event).isPresent();
+        }
+
+        private Node transition(final Node from, final char c) {
+            for (Node node = from; node != null; node = node.failure) {
+                final Node next = node.next.get(c);
+                if (next != null) {
+                    return next;
+                }
+            }
+            return root;
+        }
+
+        private static char fold(final char c) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+
+        private static class Node {
+            private final Map<Character, Node> next = new HashMap<>();
+            private Node failure;
+            // The fragment ending at this node or at one of its failure link suffixes.
+            private String fragment;
+        }
     }
 }
@@ -0,0 +1,21 @@
+package software.amazon.rds.common.handler;
+
+/**
+ * A cursor over the resource events that were already checked for failures. Time values are epoch milliseconds.
+ * A non-null {@code marker} means that the scan of the {@code [windowStartTime, windowEndTime]} window was suspended
+ * and should be resumed from the marker.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class EventsContext {
+    private Long lastEventTime;
+    private Long windowStartTime;
+    private Long windowEndTime;
+    private String marker;
+
+    public interface Provider {
+        EventsContext getEventsContext();
+    }
+}
@@ -1,22 +1,123 @@
 package software.amazon.rds.common.handler;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 
 import lombok.Builder;
 import lombok.Getter;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.client.MemoizingProxyClient;
+import software.amazon.rds.common.client.RateLimiterRegistry;
+import software.amazon.rds.common.client.SingleFlightGroup;
+import software.amazon.rds.common.util.EngineDefaultsCache;
 
-@Builder
+@Builder(toBuilder = true)
 public class HandlerConfig {
 
+    public static final String STABILIZATION_STARTED_AT = "stabilization-started-at";
+
     @Getter
     @Builder.Default
     final private boolean probingEnabled = false;
 
+    @Getter
+    @Builder.Default
+    final private boolean asyncLoggingEnabled = false;
+
     @Getter
     @Builder.Default
     final private Constant backoff = Constant.of()
             .delay(Duration.ofSeconds(30))
             .timeout(Duration.ofMinutes(90))
             .build();
+
+    @Getter
+    @Builder.Default
+    final private BackoffStrategy backoffStrategy = null;
+
+    @Getter
+    @Builder.Default
+    final private EngineDefaultsCache engineDefaultsCache = null;
+
+    /**
+     * If set, identical concurrent {@code Describe*} and {@code List*} calls are coalesced within the group.
+     */
+    @Getter
+    @Builder.Default
+    final private SingleFlightGroup singleFlightGroup = null;
+
+    /**
+     * If set, the calls are paced by the adaptive rate limiters of the registry. Off by default: a call waiting for
+     * its token blocks the handler thread, for up to {@code AdaptiveRateLimiter.Config.maxWait}.
+     */
+    @Getter
+    @Builder.Default
+    final private RateLimiterRegistry rateLimiterRegistry = null;
+
+    /**
+     * The clock the handlers read the time from, e.g. for the stabilization timestamps. Tests replace it with a virtual
+     * clock to replay long-running flows without waiting.
+     */
+    @Getter
+    @Builder.Default
+    final private Clock clock = Clock.systemUTC();
+
+    /**
+     * Returns how long a {@code Describe*} or {@code List*} response may be memoized within an invocation: no longer than
+     * {@link MemoizingProxyClient#DEFAULT_MAX_AGE} and below the shortest stabilization delay, so that every
+     * stabilization poll observes a fresh resource state.
+     */
+    public Duration getMemoizationMaxAge() {
+        final Duration minDelay = backoffStrategy != null ? backoffStrategy.getMinDelay() : backoff.nextDelay(1);
+        if (minDelay.compareTo(MemoizingProxyClient.DEFAULT_MAX_AGE) > 0) {
+            return MemoizingProxyClient.DEFAULT_MAX_AGE;
+        }
+        return minDelay.dividedBy(2);
+    }
+
+    /**
+     * Returns the stabilization delay for the current invocation. If there is a {@code backoffStrategy} configured,
+     * the delay depends on the time passed since the start of the stabilization in progress, which
+     * {@link #trackStabilization} records in the context. Otherwise, the constant {@code backoff} is returned.
+     */
+    public Delay getBackoff(final TimestampContext.Provider context) {
+        if (backoffStrategy == null || context == null) {
+            return backoff;
+        }
+        // The proxy asks for a delay right after a failed stabilization check, so the start is read at that point.
+        return attempt -> {
+            final Instant startedAt = context.getTimestamp(STABILIZATION_STARTED_AT);
+            final Instant now = clock.instant();
+            final Duration elapsed = startedAt != null ? Duration.between(startedAt, now) : Duration.ZERO;
+            return backoffStrategy.getBackoff(elapsed).nextDelay(attempt);
+        };
+    }
+
+    /**
+     * Tracks a stabilization check for the {@code backoffStrategy}: the first failed check of a stabilization records
+     * its start under the stabilization key (e.g. the call graph), the successful one clears it. Hence every
+     * stabilization of a handler request, including a repeated one, backs off from its own start.
+     *
+     * @return The {@code stabilized} argument, so the call can wrap the stabilization predicate.
+     */
+    public boolean trackStabilization(
+            final String stabilization,
+            final TimestampContext.Provider context,
+            final boolean stabilized
+    ) {
+        if (backoffStrategy == null || context == null) {
+            return stabilized;
+        }
+        final String label = STABILIZATION_STARTED_AT + ":" + stabilization;
+        if (stabilized) {
+            context.clearTimestamp(label);
+            context.clearTimestamp(STABILIZATION_STARTED_AT);
+        } else {
+            context.timestampOnce(label, clock.instant());
+            context.timestamp(STABILIZATION_STARTED_AT, context.getTimestamp(label));
+        }
+        return stabilized;
+    }
 }
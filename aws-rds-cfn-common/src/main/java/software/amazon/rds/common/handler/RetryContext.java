@@ -0,0 +1,23 @@
+package software.amazon.rds.common.handler;
+
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class RetryContext {
+
+    public interface Provider {
+        RetryContext getRetryContext();
+    }
+
+    private int throttlingRetries;
+    private int lastThrottlingDelaySeconds;
+
+    /**
+     * Starts a fresh retry budget: the throttled call went through.
+     */
+    public void reset() {
+        this.throttlingRetries = 0;
+        this.lastThrottlingDelaySeconds = 0;
+    }
+}
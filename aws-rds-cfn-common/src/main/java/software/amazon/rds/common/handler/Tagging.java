@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@ import com.google.common.collect.Sets;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Value;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
@@ -130,21 +132,74 @@ public final class Tagging {
             final ErrorRuleSet errorRuleSet,
             final RequestLogger requestLogger
     ) {
-        final Set<Tag> desiredTagSet = new LinkedHashSet<>(translateTagsToSdk(desiredTags));
-        final Set<Tag> previousTagSet = new LinkedHashSet<>(translateTagsToSdk(previousTags));
-
-        final Set<Tag> tagsToAdd = Sets.difference(desiredTagSet, previousTagSet);
-        final Set<Tag> tagsToRemove = Sets.difference(previousTagSet, desiredTagSet);
+        final TagDelta tagDelta = planTagDelta(
+                TagSet.builder().resourceTags(translateTagsToSdk(previousTags)).build(),
+                TagSet.builder().resourceTags(translateTagsToSdk(desiredTags)).build()
+        );
 
         try {
-            removeTags(rdsProxyClient, resourceArn, tagsToRemove);
-            addTags(rdsProxyClient, resourceArn, tagsToAdd);
+            applyTagDelta(rdsProxyClient, resourceArn, tagDelta);
             return progress;
         } catch (Exception e) {
             return Commons.handleException(progress, e, errorRuleSet, requestLogger);
         }
     }
 
+    /**
+     * Plans the tagging calls turning {@code previousTags} into {@code desiredTags}. The effective tags (see
+     * {@code translateTagsToSdk}) are compared by key: AddTagsToResource overwrites the value of an existing key, so a
+     * changed value is a single add, and only the keys which are not desired anymore are removed. Every change is
+     * attributed to the tier of the effective tag it comes from, the tiers drive the error rule set selection.
+     */
+    public static TagDelta planTagDelta(final TagSet previousTags, final TagSet desiredTags) {
+        final Map<String, Tag> previousTagsByKey = effectiveTagsByKey(previousTags);
+        final Map<String, Tag> desiredTagsByKey = effectiveTagsByKey(desiredTags);
+
+        final TagSet tagsToAdd = TagSet.emptySet();
+        for (final Tag tag : desiredTagsByKey.values()) {
+            final Tag previousTag = previousTagsByKey.get(tag.key());
+            if (previousTag == null || !Objects.equals(previousTag.value(), tag.value())) {
+                addToTier(tagsToAdd, desiredTags, tag);
+            }
+        }
+
+        final TagSet tagsToRemove = TagSet.emptySet();
+        for (final Tag tag : previousTagsByKey.values()) {
+            if (!desiredTagsByKey.containsKey(tag.key())) {
+                addToTier(tagsToRemove, previousTags, tag);
+            }
+        }
+
+        return new TagDelta(tagsToAdd, tagsToRemove);
+    }
+
+    public static void applyTagDelta(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String arn,
+            final TagDelta tagDelta
+    ) {
+        removeTags(rdsProxyClient, arn, translateTagsToSdk(tagDelta.getTagsToRemove()));
+        addTags(rdsProxyClient, arn, translateTagsToSdk(tagDelta.getTagsToAdd()));
+    }
+
+    private static Map<String, Tag> effectiveTagsByKey(final TagSet tagSet) {
+        final Map<String, Tag> tagsByKey = new LinkedHashMap<>();
+        for (final Tag tag : translateTagsToSdk(tagSet)) {
+            tagsByKey.put(tag.key(), tag);
+        }
+        return tagsByKey;
+    }
+
+    private static void addToTier(final TagSet target, final TagSet source, final Tag tag) {
+        if (source.getResourceTags().contains(tag)) {
+            target.getResourceTags().add(tag);
+        } else if (source.getStackTags().contains(tag)) {
+            target.getStackTags().add(tag);
+        } else {
+            target.getSystemTags().add(tag);
+        }
+    }
+
     public static void addTags(
             final ProxyClient<RdsClient> rdsProxyClient,
             final String arn,
@@ -199,6 +254,10 @@ public final class Tagging {
                 .build();
     }
 
+    public static ErrorRuleSet getUpdateTagsAccessDeniedRuleSet(final TagDelta tagDelta) {
+        return getUpdateTagsAccessDeniedRuleSet(tagDelta.getTagsToAdd(), tagDelta.getTagsToRemove());
+    }
+
     public static ErrorRuleSet getUpdateTagsAccessDeniedRuleSet(
             final TagSet tagsToAdd,
             final TagSet tagsToRemove
@@ -274,4 +333,14 @@ public final class Tagging {
                     resourceTags.isEmpty();
         }
     }
+
+    @Value
+    public static class TagDelta {
+        TagSet tagsToAdd;
+        TagSet tagsToRemove;
+
+        public boolean isEmpty() {
+            return tagsToAdd.isEmpty() && tagsToRemove.isEmpty();
+        }
+    }
 }
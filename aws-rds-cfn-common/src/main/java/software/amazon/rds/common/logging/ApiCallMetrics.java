@@ -0,0 +1,168 @@
+package software.amazon.rds.common.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.rds.common.error.ErrorCode;
+
+/**
+ * Records the call count, the error count, the throttle count and the latency histogram of every API operation
+ * invoked within a handler request. The recorder is thread-safe: asynchronous calls complete on SDK threads.
+ */
+public class ApiCallMetrics {
+
+    /**
+     * Upper bounds (inclusive) of the latency histogram buckets, the last bucket is unbounded.
+     */
+    static final long[] LATENCY_BUCKET_BOUNDS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final LongSupplier nanoTicker;
+    private final Map<String, OperationRecorder> recorders = new ConcurrentHashMap<>();
+
+    public ApiCallMetrics() {
+        this(System::nanoTime);
+    }
+
+    public ApiCallMetrics(@NonNull final LongSupplier nanoTicker) {
+        this.nanoTicker = nanoTicker;
+    }
+
+    public long startTimer() {
+        return nanoTicker.getAsLong();
+    }
+
+    /**
+     * Records a call started at {@code startNanos} (as returned by {@code startTimer}) and completed just now.
+     * @param error The exception the call failed with, {@code null} for a successful call.
+     */
+    public void record(final AwsRequest request, final long startNanos, final Throwable error) {
+        record(operationName(request), nanoTicker.getAsLong() - startNanos, error);
+    }
+
+    public void record(@NonNull final String operation, final long latencyNanos, final Throwable error) {
+        recorders.computeIfAbsent(operation, key -> new OperationRecorder())
+                .record(TimeUnit.NANOSECONDS.toMillis(Math.max(0, latencyNanos)), error);
+    }
+
+    public boolean isEmpty() {
+        return recorders.isEmpty();
+    }
+
+    /**
+     * @return A point-in-time summary of every recorded operation, sorted by the operation name.
+     */
+    public Map<String, OperationSummary> summarize() {
+        final Map<String, OperationSummary> summary = new TreeMap<>();
+        recorders.forEach((operation, recorder) -> summary.put(operation, recorder.summarize()));
+        return Collections.unmodifiableMap(summary);
+    }
+
+    static String operationName(final AwsRequest request) {
+        if (request == null) {
+            return "Unknown";
+        }
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+    }
+
+    private static class OperationRecorder {
+        private final long[] bucketCounts = new long[LATENCY_BUCKET_BOUNDS_MILLIS.length + 1];
+        private final long[] bucketSums = new long[LATENCY_BUCKET_BOUNDS_MILLIS.length + 1];
+        private long callCount;
+        private long errorCount;
+        private long throttleCount;
+        private long totalLatencyMillis;
+        private long minLatencyMillis = Long.MAX_VALUE;
+        private long maxLatencyMillis;
+
+        synchronized void record(final long latencyMillis, final Throwable error) {
+            callCount++;
+            if (error != null) {
+                errorCount++;
+                if (ErrorCode.isThrottling(error)) {
+                    throttleCount++;
+                }
+            }
+            totalLatencyMillis += latencyMillis;
+            minLatencyMillis = Math.min(minLatencyMillis, latencyMillis);
+            maxLatencyMillis = Math.max(maxLatencyMillis, latencyMillis);
+            final int bucket = bucketOf(latencyMillis);
+            bucketCounts[bucket]++;
+            bucketSums[bucket] += latencyMillis;
+        }
+
+        synchronized OperationSummary summarize() {
+            final List<LatencyBucket> histogram = new ArrayList<>();
+            for (int i = 0; i < bucketCounts.length; i++) {
+                if (bucketCounts[i] > 0) {
+                    histogram.add(new LatencyBucket(
+                            i < LATENCY_BUCKET_BOUNDS_MILLIS.length ? LATENCY_BUCKET_BOUNDS_MILLIS[i] : null,
+                            bucketCounts[i],
+                            (double) bucketSums[i] / bucketCounts[i]
+                    ));
+                }
+            }
+            return new OperationSummary(
+                    callCount,
+                    errorCount,
+                    throttleCount,
+                    totalLatencyMillis,
+                    callCount > 0 ? minLatencyMillis : 0,
+                    maxLatencyMillis,
+                    Collections.unmodifiableList(histogram)
+            );
+        }
+
+        private static int bucketOf(final long latencyMillis) {
+            for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MILLIS.length; i++) {
+                if (latencyMillis <= LATENCY_BUCKET_BOUNDS_MILLIS[i]) {
+                    return i;
+                }
+            }
+            return LATENCY_BUCKET_BOUNDS_MILLIS.length;
+        }
+    }
+
+    @Value
+    public static class OperationSummary {
+        @JsonProperty("CallCount")
+        long callCount;
+        @JsonProperty("ErrorCount")
+        long errorCount;
+        @JsonProperty("ThrottleCount")
+        long throttleCount;
+        @JsonProperty("TotalLatencyMillis")
+        long totalLatencyMillis;
+        @JsonProperty("MinLatencyMillis")
+        long minLatencyMillis;
+        @JsonProperty("MaxLatencyMillis")
+        long maxLatencyMillis;
+        @JsonProperty("LatencyHistogram")
+        List<LatencyBucket> latencyHistogram;
+    }
+
+    @Value
+    public static class LatencyBucket {
+        /**
+         * The inclusive upper bound of the bucket, {@code null} for the unbounded one.
+         */
+        @JsonProperty("UpperBoundMillis")
+        Long upperBoundMillis;
+        @JsonProperty("Count")
+        long count;
+        @JsonProperty("MeanLatencyMillis")
+        double meanLatencyMillis;
+    }
+}
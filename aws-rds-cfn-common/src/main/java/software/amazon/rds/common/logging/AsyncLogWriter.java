@@ -0,0 +1,89 @@
+package software.amazon.rds.common.logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Runs log records on a background thread. Records are kept in a bounded buffer: once the buffer is full,
+ * the submitting thread blocks until the worker catches up, which preserves the record order.
+ * A single writer is shared by all the request loggers of the process (see {@link #shared()}), its daemon worker
+ * lives as long as the process does, so the loggers only flush it at the end of an invocation.
+ */
+class AsyncLogWriter {
+
+    static final int DEFAULT_BUFFER_CAPACITY = 1024;
+
+    private static final String WORKER_THREAD_NAME = "RequestLogger-AsyncLogWriter";
+
+    private final BlockingQueue<Runnable> buffer;
+
+    AsyncLogWriter(final int bufferCapacity) {
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        final Thread worker = new Thread(this::drain, WORKER_THREAD_NAME);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * @return The writer shared by the process. The worker is started on the first call, so that synchronous
+     * logging never starts it.
+     */
+    static AsyncLogWriter shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    void submit(final Runnable record) {
+        if (!enqueue(record)) {
+            record.run();
+        }
+    }
+
+    /**
+     * Blocks until all the records submitted so far are written.
+     */
+    void flush() {
+        final CountDownLatch flushed = new CountDownLatch(1);
+        if (!enqueue(flushed::countDown)) {
+            return;
+        }
+        try {
+            flushed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean enqueue(final Runnable record) {
+        try {
+            buffer.put(record);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                runQuietly(buffer.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runQuietly(final Runnable record) {
+        try {
+            record.run();
+        } catch (RuntimeException e) {
+            // Records handle rendering failures themselves. A failing logger has nowhere to report to,
+            // and it should not stop the worker from writing the remaining records.
+        }
+    }
+
+    private static class SharedHolder {
+        private static final AsyncLogWriter INSTANCE = new AsyncLogWriter(DEFAULT_BUFFER_CAPACITY);
+    }
+}
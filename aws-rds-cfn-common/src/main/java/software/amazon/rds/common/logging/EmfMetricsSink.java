@@ -0,0 +1,178 @@
+package software.amazon.rds.common.logging;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+import software.amazon.rds.common.client.AdaptiveRateLimiter;
+
+/**
+ * Writes the API call metrics as CloudWatch Embedded Metric Format records, one record per operation.
+ * The latency histogram is published as the EMF {@code Values}/{@code Counts} pair, with the mean latency of a bucket
+ * as its value, so that CloudWatch derives the percentiles from the full distribution.
+ * The rate limiter state is written as one record per call type.
+ */
+public class EmfMetricsSink implements MetricsSink {
+
+    public static final String OPERATION_DIMENSION = "Operation";
+    public static final String CALL_TYPE_DIMENSION = "CallType";
+
+    static final String LATENCY = "Latency";
+    static final String CALL_COUNT = "CallCount";
+    static final String ERROR_COUNT = "ErrorCount";
+    static final String THROTTLE_COUNT = "ThrottleCount";
+    static final String RATE_LIMITER_RATE = "RateLimiterRate";
+    static final String RATE_LIMITER_TOKENS = "RateLimiterTokens";
+    static final String RATE_LIMITER_DELAYED_COUNT = "RateLimiterDelayedCount";
+    static final String RATE_LIMITER_THROTTLE_COUNT = "RateLimiterThrottleCount";
+    static final String RATE_LIMITER_WAIT = "RateLimiterWait";
+
+    private static final String UNIT_MILLISECONDS = "Milliseconds";
+    private static final String UNIT_COUNT = "Count";
+    private static final String UNIT_COUNT_PER_SECOND = "Count/Second";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String namespace;
+    private final Map<String, String> dimensions;
+    private final Consumer<String> writer;
+    private final Clock clock;
+
+    /**
+     * @param namespace  The CloudWatch namespace, e.g. {@code RDS/CloudFormation}. The {@code AWS/} namespaces are
+     *                   reserved for the AWS services.
+     * @param dimensions Dimensions shared by every record, e.g. the resource type.
+     * @param writer     Receives the rendered records, e.g. the handler logger.
+     */
+    public EmfMetricsSink(
+            @NonNull final String namespace,
+            @NonNull final Map<String, String> dimensions,
+            @NonNull final Consumer<String> writer
+    ) {
+        this(namespace, dimensions, writer, Clock.systemUTC());
+    }
+
+    public EmfMetricsSink(
+            @NonNull final String namespace,
+            @NonNull final Map<String, String> dimensions,
+            @NonNull final Consumer<String> writer,
+            @NonNull final Clock clock
+    ) {
+        this.namespace = namespace;
+        this.dimensions = new LinkedHashMap<>(dimensions);
+        this.writer = writer;
+        this.clock = clock;
+    }
+
+    @Override
+    public void publish(final Map<String, ApiCallMetrics.OperationSummary> metrics) {
+        final long timestamp = clock.millis();
+        metrics.forEach((operation, summary) -> write(toRecord(timestamp, operation, summary)));
+    }
+
+    @Override
+    public void publishRateLimiterState(final Map<String, AdaptiveRateLimiter.State> state) {
+        final long timestamp = clock.millis();
+        state.forEach((callType, limiterState) -> write(toRecord(timestamp, callType, limiterState)));
+    }
+
+    private void write(final Map<String, Object> record) {
+        try {
+            writer.accept(OBJECT_MAPPER.writeValueAsString(record));
+        } catch (JsonProcessingException e) {
+            // Metrics are best effort, a record that can not be rendered is dropped.
+        }
+    }
+
+    private Map<String, Object> toRecord(
+            final long timestamp,
+            final String operation,
+            final ApiCallMetrics.OperationSummary summary
+    ) {
+        final List<Map<String, String>> metricDefinitions = new ArrayList<>();
+        metricDefinitions.add(metricDefinition(LATENCY, UNIT_MILLISECONDS));
+        metricDefinitions.add(metricDefinition(CALL_COUNT, UNIT_COUNT));
+        metricDefinitions.add(metricDefinition(ERROR_COUNT, UNIT_COUNT));
+        metricDefinitions.add(metricDefinition(THROTTLE_COUNT, UNIT_COUNT));
+
+        final Map<String, Object> record = newRecord(timestamp, OPERATION_DIMENSION, operation, metricDefinitions);
+        record.put(LATENCY, latencyDistribution(summary));
+        record.put(CALL_COUNT, summary.getCallCount());
+        record.put(ERROR_COUNT, summary.getErrorCount());
+        record.put(THROTTLE_COUNT, summary.getThrottleCount());
+        return record;
+    }
+
+    private Map<String, Object> toRecord(
+            final long timestamp,
+            final String callType,
+            final AdaptiveRateLimiter.State state
+    ) {
+        final List<Map<String, String>> metricDefinitions = new ArrayList<>();
+        metricDefinitions.add(metricDefinition(RATE_LIMITER_RATE, UNIT_COUNT_PER_SECOND));
+        metricDefinitions.add(metricDefinition(RATE_LIMITER_TOKENS, UNIT_COUNT));
+        metricDefinitions.add(metricDefinition(RATE_LIMITER_DELAYED_COUNT, UNIT_COUNT));
+        metricDefinitions.add(metricDefinition(RATE_LIMITER_THROTTLE_COUNT, UNIT_COUNT));
+        metricDefinitions.add(metricDefinition(RATE_LIMITER_WAIT, UNIT_MILLISECONDS));
+
+        final Map<String, Object> record = newRecord(timestamp, CALL_TYPE_DIMENSION, callType, metricDefinitions);
+        record.put(RATE_LIMITER_RATE, state.getRate());
+        record.put(RATE_LIMITER_TOKENS, state.getTokens());
+        record.put(RATE_LIMITER_DELAYED_COUNT, state.getDelayedCount());
+        record.put(RATE_LIMITER_THROTTLE_COUNT, state.getThrottleCount());
+        record.put(RATE_LIMITER_WAIT, state.getTotalWaitMillis());
+        return record;
+    }
+
+    private Map<String, Object> newRecord(
+            final long timestamp,
+            final String dimension,
+            final String dimensionValue,
+            final List<Map<String, String>> metricDefinitions
+    ) {
+        final List<String> dimensionSet = new ArrayList<>(dimensions.keySet());
+        dimensionSet.add(dimension);
+
+        final Map<String, Object> directive = new LinkedHashMap<>();
+        directive.put("Namespace", namespace);
+        directive.put("Dimensions", Collections.singletonList(dimensionSet));
+        directive.put("Metrics", metricDefinitions);
+
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("Timestamp", timestamp);
+        metadata.put("CloudWatchMetrics", Collections.singletonList(directive));
+
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put("_aws", metadata);
+        record.putAll(dimensions);
+        record.put(dimension, dimensionValue);
+        return record;
+    }
+
+    private static Map<String, String> metricDefinition(final String name, final String unit) {
+        final Map<String, String> definition = new LinkedHashMap<>();
+        definition.put("Name", name);
+        definition.put("Unit", unit);
+        return definition;
+    }
+
+    private static Map<String, Object> latencyDistribution(final ApiCallMetrics.OperationSummary summary) {
+        final List<Double> values = new ArrayList<>();
+        final List<Long> counts = new ArrayList<>();
+        for (final ApiCallMetrics.LatencyBucket bucket : summary.getLatencyHistogram()) {
+            values.add(bucket.getMeanLatencyMillis());
+            counts.add(bucket.getCount());
+        }
+        final Map<String, Object> distribution = new LinkedHashMap<>();
+        distribution.put("Values", values);
+        distribution.put("Counts", counts);
+        return distribution;
+    }
+}
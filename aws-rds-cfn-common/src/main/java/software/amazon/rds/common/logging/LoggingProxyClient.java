@@ -1,6 +1,7 @@
 package software.amazon.rds.common.logging;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -31,7 +32,13 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
             final RequestT request,
             final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
     ) {
-        return logRequestAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2Async);
+        final long startNanos = requestLogger.getApiCallMetrics().startTimer();
+        final CompletableFuture<ResponseT> result = logRequestAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2Async);
+        if (result != null) {
+            // The call is only accounted once the response arrives.
+            result.whenComplete((response, error) -> requestLogger.getApiCallMetrics().record(request, startNanos, unwrap(error)));
+        }
+        return result;
     }
 
     @Override
@@ -39,7 +46,7 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
             final RequestT request,
             final Function<RequestT, IterableT> requestFunction
     ) {
-        return logRequestAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeIterableV2);
+        return logRequestAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeIterableV2, true);
     }
 
     @Override
@@ -47,7 +54,7 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
             final RequestT request,
             final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
     ) {
-        return logRequestAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2InputStream);
+        return logRequestAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2InputStream, true);
     }
 
     @Override
@@ -55,7 +62,7 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
             final RequestT request,
             final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
     ) {
-        return logRequestAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2Bytes);
+        return logRequestAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2Bytes, true);
     }
 
     @Override
@@ -68,13 +75,16 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
             final Function<RequestT, ResultT> requestFunction,
             final BiFunction<RequestT, Function<RequestT, ResultT>, ResultT> injectCredentials
     ) {
+        final long startNanos = requestLogger.getApiCallMetrics().startTimer();
         ResultT result = null;
         try {
             requestLogger.log(request);
             result = injectCredentials.apply(request, requestFunction);
         } catch (Exception e) {
+            requestLogger.getApiCallMetrics().record(request, startNanos, e);
             requestLogger.logAndThrow(e);
         }
+        requestLogger.getApiCallMetrics().record(request, startNanos, null);
         requestLogger.log(result);
         return result;
     }
@@ -84,14 +94,36 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
             final Function<RequestT, ResultT> requestFunction,
             final BiFunction<RequestT, Function<RequestT, ResultT>, ResultT> injectCredentials
     ) {
+        return logRequestAndDelegate(request, requestFunction, injectCredentials, false);
+    }
+
+    /**
+     * @param recordMetrics If set, the call is accounted once the delegate returns. For a paginated iterable, only the
+     *                      first page request is accounted and its latency covers the iterable creation only.
+     */
+    private <RequestT extends AwsRequest, ResultT> ResultT logRequestAndDelegate(
+            final RequestT request,
+            final Function<RequestT, ResultT> requestFunction,
+            final BiFunction<RequestT, Function<RequestT, ResultT>, ResultT> injectCredentials,
+            final boolean recordMetrics
+    ) {
+        final long startNanos = requestLogger.getApiCallMetrics().startTimer();
         ResultT result = null;
         try {
             requestLogger.log(request);
             result = injectCredentials.apply(request, requestFunction);
         } catch (Exception e) {
+            requestLogger.getApiCallMetrics().record(request, startNanos, e);
             requestLogger.logAndThrow(e);
         }
+        if (recordMetrics) {
+            requestLogger.getApiCallMetrics().record(request, startNanos, null);
+        }
         requestLogger.log("[Result log omitted]");
         return result;
     }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
 }
@@ -0,0 +1,25 @@
+package software.amazon.rds.common.logging;
+
+import java.util.Map;
+
+import software.amazon.rds.common.client.AdaptiveRateLimiter;
+
+/**
+ * Receives the API call metrics of a handler request once the request completes.
+ */
+public interface MetricsSink {
+
+    MetricsSink NONE = metrics -> {
+    };
+
+    /**
+     * @param metrics The per-operation summaries, keyed by the operation name.
+     */
+    void publish(Map<String, ApiCallMetrics.OperationSummary> metrics);
+
+    /**
+     * @param state The state of the client-side rate limiters the handler request went through, keyed by the call type.
+     */
+    default void publishRateLimiterState(final Map<String, AdaptiveRateLimiter.State> state) {
+    }
+}
@@ -1,8 +1,12 @@
 package software.amazon.rds.common.logging;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -10,6 +14,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import com.google.common.collect.ImmutableMap;
+import lombok.AccessLevel;
 import lombok.NonNull;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
@@ -18,6 +23,8 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.client.AdaptiveRateLimiter;
+import software.amazon.rds.common.client.RateLimiterRegistry;
 import software.amazon.rds.common.printer.JsonPrinter;
 
 @lombok.Getter
@@ -30,9 +37,17 @@ public class RequestLogger {
     public static final String STACK_ID = "StackId";
     public static final String AWS_ACCOUNT_ID = "AwsAccountId";
     public static final String CLIENT_REQUEST_TOKEN = "ClientRequestToken";
+    public static final String API_CALL_METRICS = "ApiCallMetrics";
+    public static final String RATE_LIMITER_STATE = "RateLimiterState";
     private final Logger logger;
     private final Map<String, String> requestDataMap;
     private final JsonPrinter jsonPrinter;
+    @lombok.Getter(AccessLevel.NONE)
+    private final AsyncLogWriter asyncLogWriter;
+    @lombok.Getter(AccessLevel.NONE)
+    @lombok.Setter(AccessLevel.NONE)
+    private volatile boolean closed;
+    private final ApiCallMetrics apiCallMetrics = new ApiCallMetrics();
 
     private final LogRuleSet DEFAULT_LOG_RULE_SET = LogRuleSet.builder()
             .withLogClasses((Throwable t) -> log(t),
@@ -55,19 +70,64 @@ public class RequestLogger {
     public <T> RequestLogger(final Logger logger,
                              final @NonNull ResourceHandlerRequest<T> request,
                              final JsonPrinter jsonPrinter) {
+        this(logger, request, jsonPrinter, false);
+    }
+
+    /**
+     * @param asyncLogging If set, log messages are rendered and written on the background thread shared by the process. Immutable SDK
+     *                     requests and responses are rendered lazily, any other payload is rendered at the time of the call to capture
+     *                     its current state. Callers must invoke {@code close} to flush the buffered messages.
+     */
+    public <T> RequestLogger(final Logger logger,
+                             final @NonNull ResourceHandlerRequest<T> request,
+                             final JsonPrinter jsonPrinter,
+                             final boolean asyncLogging) {
         this.logger = logger;
         this.jsonPrinter = jsonPrinter;
         this.requestDataMap = new HashMap<>();
         requestDataMap.put(STACK_ID, request.getStackId());
         requestDataMap.put(AWS_ACCOUNT_ID, request.getAwsAccountId());
         requestDataMap.put(CLIENT_REQUEST_TOKEN, request.getClientRequestToken());
+        this.asyncLogWriter = asyncLogging ? AsyncLogWriter.shared() : null;
+    }
+
+    /**
+     * How a handler request is logged and measured.
+     */
+    @lombok.Builder
+    @lombok.Getter
+    public static class Options {
+
+        public static final Options DEFAULT = Options.builder().build();
+
+        /**
+         * If set, log messages are written on the background thread shared by the process (see the constructor).
+         */
+        @lombok.Builder.Default
+        final private boolean asyncLogging = false;
+
+        /**
+         * Receives the API call metrics of the request. The metrics summary is logged right after the handler response
+         * regardless of the sink.
+         */
+        @NonNull
+        @lombok.Builder.Default
+        final private MetricsSink metricsSink = MetricsSink.NONE;
+
+        /**
+         * The rate limiters throttling the handler calls, if any. The state of the limiters of the request account and
+         * region is logged and published to the sink after every request.
+         */
+        @lombok.Builder.Default
+        final private RateLimiterRegistry rateLimiterRegistry = null;
     }
 
     public static <M, C> ProgressEvent<M, C> handleRequest(final Logger logger,
                                                            final @NonNull ResourceHandlerRequest<M> request,
                                                            final JsonPrinter jsonPrinter,
+                                                           final @NonNull Options options,
                                                            final Function<RequestLogger, ProgressEvent<M, C>> requestHandler) {
-        RequestLogger requestLogger = new RequestLogger(logger, request, jsonPrinter);
+        RequestLogger requestLogger = new RequestLogger(logger, request, jsonPrinter, options.isAsyncLogging());
         requestLogger.log("HandlerRequest", request);
         ProgressEvent<M, C> progressEvent = null;
         try {
@@ -75,20 +135,21 @@ public class RequestLogger {
             requestLogger.log("HandlerResponse", progressEvent);
         } catch (Throwable throwable) {
             requestLogger.logAndThrow(throwable);
+        } finally {
+            requestLogger.publishApiCallMetrics(options.getMetricsSink());
+            if (options.getRateLimiterRegistry() != null) {
+                requestLogger.publishRateLimiterState(
+                        options.getRateLimiterRegistry().getState(request.getAwsAccountId(), request.getRegion()),
+                        options.getMetricsSink()
+                );
+            }
+            requestLogger.close();
         }
         return progressEvent;
     }
 
     public void log(Throwable throwable) {
-        try {
-            LogMessage message = JsonLogMessage.newLogMessage(jsonPrinter);
-            message.append(CONTENT, throwable.getClass().getCanonicalName());
-            message.append(throwable);
-            message.append(requestDataMap);
-            logMessage(message);
-        } catch (Throwable caughtThrowable) {
-            logMessage(caughtThrowable);
-        }
+        dispatch(sink -> writeThrowable(throwable, sink), true);
     }
 
     public void logAndThrow(Throwable throwable) {
@@ -100,7 +161,7 @@ public class RequestLogger {
         try {
             DEFAULT_LOG_RULE_SET.accept(object);
         } catch (Throwable throwable) {
-            logMessage(throwable);
+            dispatch(sink -> sink.accept(formatThrowable(throwable)), false);
         }
     }
 
@@ -113,21 +174,106 @@ public class RequestLogger {
     }
 
     public void log(String msg, Object object, Map<String, String> additionalFields) {
+        final Map<String, String> fields = additionalFields == null ? null : new LinkedHashMap<>(additionalFields);
+        dispatch(sink -> writeLogMessage(msg, object, fields, sink), isImmutable(object));
+    }
+
+    /**
+     * Blocks until all buffered log messages are written. No-op in the synchronous mode.
+     */
+    public void flush() {
+        if (asyncLogWriter != null && !closed) {
+            asyncLogWriter.flush();
+        }
+    }
+
+    /**
+     * Flushes buffered log messages. Messages logged afterwards are written synchronously.
+     */
+    public void close() {
+        if (asyncLogWriter != null && !closed) {
+            closed = true;
+            asyncLogWriter.flush();
+        }
+    }
+
+    private void publishApiCallMetrics(final MetricsSink metricsSink) {
+        if (apiCallMetrics.isEmpty()) {
+            return;
+        }
+        final Map<String, ApiCallMetrics.OperationSummary> summary = apiCallMetrics.summarize();
+        log(API_CALL_METRICS, summary);
         try {
-            LogMessage message = JsonLogMessage.newLogMessage(jsonPrinter);
-            message.append(CONTENT, msg);
-            message.append(object);
-            message.append(additionalFields);
+            metricsSink.publish(summary);
+        } catch (Exception e) {
+            // A failing sink must not fail the handler request.
+            log(e);
+        }
+    }
+
+    private void publishRateLimiterState(
+            final Map<String, AdaptiveRateLimiter.State> state,
+            final MetricsSink metricsSink
+    ) {
+        if (state.isEmpty()) {
+            return;
+        }
+        log(RATE_LIMITER_STATE, state);
+        try {
+            metricsSink.publishRateLimiterState(state);
+        } catch (Exception e) {
+            // A failing sink must not fail the handler request.
+            log(e);
+        }
+    }
+
+    private void dispatch(final Consumer<Consumer<String>> writer, final boolean deferRendering) {
+        if (asyncLogWriter == null || closed) {
+            writer.accept(this::logMessage);
+        } else if (deferRendering) {
+            asyncLogWriter.submit(() -> writer.accept(this::logMessage));
+        } else {
+            final List<String> rendered = new ArrayList<>();
+            writer.accept(rendered::add);
+            asyncLogWriter.submit(() -> rendered.forEach(this::logMessage));
+        }
+    }
+
+    private static boolean isImmutable(final Object object) {
+        return object == null ||
+                object instanceof String ||
+                object instanceof AwsRequest ||
+                object instanceof AwsResponse;
+    }
+
+    private void writeThrowable(final Throwable throwable, final Consumer<String> sink) {
+        try {
+            LogMessage message = StreamingJsonLogMessage.newLogMessage(jsonPrinter);
             message.append(requestDataMap);
-            logMessage(message);
-        } catch (Throwable throwable) {
-            logMessage(throwable);
-            logMessage(ObjectUtils.defaultIfNull(object, StringUtils.EMPTY).toString());
+            message.append(throwable);
+            message.append(CONTENT, throwable.getClass().getCanonicalName());
+            sink.accept(message.toString());
+        } catch (Throwable caughtThrowable) {
+            sink.accept(formatThrowable(caughtThrowable));
         }
     }
 
-    private void logMessage(final LogMessage message) {
-        logMessage(message.toString());
+    private void writeLogMessage(final String msg,
+                                 final Object object,
+                                 final Map<String, String> additionalFields,
+                                 final Consumer<String> sink) {
+        try {
+            // The first value of a key wins: the request metadata goes first, so that a payload cannot override it.
+            LogMessage message = StreamingJsonLogMessage.newLogMessage(jsonPrinter);
+            message.append(requestDataMap);
+            message.append(additionalFields);
+            message.append(object);
+            message.append(CONTENT, msg);
+            sink.accept(message.toString());
+        } catch (Throwable throwable) {
+            sink.accept(formatThrowable(throwable));
+            sink.accept(ObjectUtils.defaultIfNull(object, StringUtils.EMPTY).toString());
+        }
     }
 
     private void logMessage(final String message) {
@@ -136,11 +282,11 @@ public class RequestLogger {
         }
     }
 
-    private void logMessage(final Throwable throwable) {
+    private String formatThrowable(final Throwable throwable) {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append(requestDataMap);
         stringBuilder.append(StringUtils.LF);
         stringBuilder.append(ExceptionUtils.getStackTrace(throwable));
-        logMessage(stringBuilder.toString());
+        return stringBuilder.toString();
     }
 }
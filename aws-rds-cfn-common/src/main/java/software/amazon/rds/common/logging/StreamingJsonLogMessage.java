@@ -0,0 +1,232 @@
+package software.amazon.rds.common.logging;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.common.printer.JsonPrinter;
+
+/**
+ * A {@code LogMessage} that keeps references to the appended objects and renders them in a single pass into one
+ * {@code JsonGenerator} provided by the {@code JsonPrinter}, hence the printer filtering rules apply as is.
+ * The top-level keys are de-duplicated while rendering: a key appended twice keeps its first value, so the message
+ * stays a valid JSON object. Unlike {@link JsonLogMessage}, where the last value wins, the fields have to be appended
+ * in the decreasing order of precedence.
+ * Messages exceeding {@code maxMessageLength} characters are replaced with a short summary containing a message preview.
+ */
+@JsonSerialize(using = StreamingJsonLogMessage.Serializer.class)
+public class StreamingJsonLogMessage implements LogMessage {
+
+    public static final int DEFAULT_MAX_MESSAGE_LENGTH = 256 * 1024;
+
+    static final String TRUNCATED = "Truncated";
+    static final String MESSAGE_LENGTH_LIMIT = "MessageLengthLimit";
+    static final String MESSAGE_PREVIEW = "MessagePreview";
+    static final int MESSAGE_PREVIEW_LENGTH = 1024;
+
+    private final JsonPrinter jsonPrinter;
+    private final int maxMessageLength;
+    private final List<Field> fields = new ArrayList<>();
+
+    private StreamingJsonLogMessage(final JsonPrinter jsonPrinter, final int maxMessageLength) {
+        this.jsonPrinter = jsonPrinter;
+        this.maxMessageLength = maxMessageLength;
+    }
+
+    public static StreamingJsonLogMessage newLogMessage(@NonNull final JsonPrinter jsonPrinter) {
+        return newLogMessage(jsonPrinter, DEFAULT_MAX_MESSAGE_LENGTH);
+    }
+
+    public static StreamingJsonLogMessage newLogMessage(@NonNull final JsonPrinter jsonPrinter, final int maxMessageLength) {
+        return new StreamingJsonLogMessage(jsonPrinter, maxMessageLength);
+    }
+
+    @Override
+    public void append(final Object object) {
+        if (object != null) {
+            fields.add(new Field(null, object, true));
+        }
+    }
+
+    @Override
+    public void append(final Throwable throwable) {
+        fields.add(new Field(FilteredJsonPrinter.STACK_TRACE, Collections.singletonList(ExceptionUtils.getStackTrace(throwable)), false));
+    }
+
+    @Override
+    public void append(final String message, final Object object) {
+        fields.add(new Field(message, object, false));
+    }
+
+    @Override
+    public String toString() {
+        final BoundedStringWriter out = new BoundedStringWriter(maxMessageLength);
+        try {
+            jsonPrinter.print(this, out);
+            return out.toString();
+        } catch (IOException e) {
+            if (out.isLimitExceeded()) {
+                return truncated(out.toString());
+            }
+            return ExceptionUtils.rethrow(e);
+        }
+    }
+
+    private String truncated(final String rendered) {
+        final StreamingJsonLogMessage summary = new StreamingJsonLogMessage(jsonPrinter, Integer.MAX_VALUE);
+        for (final Field field : fields) {
+            if (field.isScalar()) {
+                summary.fields.add(field);
+            }
+        }
+        summary.append(TRUNCATED, true);
+        summary.append(MESSAGE_LENGTH_LIMIT, maxMessageLength);
+        summary.append(MESSAGE_PREVIEW, rendered.substring(0, Math.min(rendered.length(), MESSAGE_PREVIEW_LENGTH)));
+        return summary.toString();
+    }
+
+    @AllArgsConstructor
+    private static class Field {
+        private final String name;
+        private final Object value;
+        private final boolean unwrapped;
+
+        private boolean isScalar() {
+            if (unwrapped) {
+                return value instanceof Map && ((Map<?, ?>) value).values().stream().allMatch(Field::isScalarValue);
+            }
+            return isScalarValue(value);
+        }
+
+        private static boolean isScalarValue(final Object value) {
+            if (value instanceof String) {
+                return ((String) value).length() <= MESSAGE_PREVIEW_LENGTH;
+            }
+            return value == null || value instanceof Number || value instanceof Boolean;
+        }
+    }
+
+    public static class Serializer extends StdSerializer<StreamingJsonLogMessage> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(StreamingJsonLogMessage.class);
+        }
+
+        @Override
+        public void serialize(
+                final StreamingJsonLogMessage message,
+                final JsonGenerator generator,
+                final SerializerProvider provider
+        ) throws IOException {
+            // The keys of the unwrapped objects are only known once rendered, hence they are filtered while writing.
+            final JsonGenerator uniqueKeys = new FilteringGeneratorDelegate(
+                    generator,
+                    new FirstKeyOnlyFilter(),
+                    TokenFilter.Inclusion.INCLUDE_NON_NULL,
+                    true
+            );
+            uniqueKeys.writeStartObject();
+            for (final Field field : message.fields) {
+                if (field.unwrapped) {
+                    serializeUnwrapped(field.value, uniqueKeys, provider);
+                } else {
+                    uniqueKeys.writeFieldName(field.name);
+                    provider.defaultSerializeValue(field.value, uniqueKeys);
+                }
+            }
+            uniqueKeys.writeEndObject();
+        }
+
+        private static void serializeUnwrapped(
+                final Object value,
+                final JsonGenerator generator,
+                final SerializerProvider provider
+        ) throws IOException {
+            if (value instanceof Map) {
+                for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    generator.writeFieldName(String.valueOf(entry.getKey()));
+                    provider.defaultSerializeValue(entry.getValue(), generator);
+                }
+                return;
+            }
+            final JsonSerializer<Object> serializer = provider.findValueSerializer(value.getClass(), null)
+                    .unwrappingSerializer(NameTransformer.NOP);
+            if (serializer.isUnwrappingSerializer()) {
+                serializer.serialize(value, generator, provider);
+            } else {
+                // Scalars and collections have no fields to merge into the message.
+                generator.writeFieldName(value.getClass().getSimpleName());
+                provider.defaultSerializeValue(value, generator);
+            }
+        }
+    }
+
+    /**
+     * Excludes a top-level key, along with its value, if it has been written before.
+     */
+    private static class FirstKeyOnlyFilter extends TokenFilter {
+        private final Set<String> writtenKeys = new HashSet<>();
+
+        @Override
+        public TokenFilter includeProperty(final String name) {
+            return writtenKeys.add(name) ? TokenFilter.INCLUDE_ALL : null;
+        }
+    }
+
+    private static class BoundedStringWriter extends Writer {
+        private final StringBuilder buffer = new StringBuilder();
+        private final int limit;
+        private boolean limitExceeded;
+
+        private BoundedStringWriter(final int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(final char[] chars, final int offset, final int length) throws IOException {
+            if (length > limit - buffer.length()) {
+                buffer.append(chars, offset, limit - buffer.length());
+                limitExceeded = true;
+                throw new IOException("Log message exceeds " + limit + " characters");
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private boolean isLimitExceeded() {
+            return limitExceeded;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
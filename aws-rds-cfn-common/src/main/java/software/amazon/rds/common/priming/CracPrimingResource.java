@@ -0,0 +1,46 @@
+package software.amazon.rds.common.priming;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+/**
+ * Runs a {@link Primer} right before a CRaC checkpoint, so that the snapshot is taken with the warmed-up state.
+ * Lambda SnapStart runtime hooks use the same API: a handler registers the resource from a static initializer.
+ * On a JVM without CRaC support the registration is a no-op and the primer never runs.
+ */
+public class CracPrimingResource implements Resource {
+
+    // The CRaC global context only keeps weak references to the registered resources.
+    private static final List<CracPrimingResource> REGISTERED = new CopyOnWriteArrayList<>();
+
+    private final Primer primer;
+
+    @Getter
+    private volatile PrimingReport lastReport;
+
+    CracPrimingResource(@NonNull final Primer primer) {
+        this.primer = primer;
+    }
+
+    public static CracPrimingResource register(final Primer primer) {
+        final CracPrimingResource resource = new CracPrimingResource(primer);
+        REGISTERED.add(resource);
+        Core.getGlobalContext().register(resource);
+        return resource;
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        lastReport = primer.prime();
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+    }
+}
@@ -0,0 +1,137 @@
+package software.amazon.rds.common.priming;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.rds.common.error.ErrorCode;
+import software.amazon.rds.common.error.ErrorRuleSet;
+import software.amazon.rds.common.printer.JsonPrinter;
+
+/**
+ * Warms up the paths a handler's first invocation would otherwise pay for: JSON printing, SDK request marshalling
+ * and response unmarshalling, error rule matching, model translation and the like.
+ * Every step runs offline: SDK calls go to a {@link StubSdkHttpClient} returning a canned response.
+ * A primer is meant to run from a CRaC {@code beforeCheckpoint} hook, which is also how Lambda SnapStart runtime hooks
+ * are registered (see {@link CracPrimingResource}). Priming never throws: a failing step is recorded in the report and
+ * the remaining steps still run.
+ */
+@Builder
+public class Primer {
+
+    public static final String STUB_IDENTIFIER = "priming";
+
+    private static final URI STUB_ENDPOINT = URI.create("http://localhost");
+
+    public static final String DESCRIBE_DB_INSTANCES_RESPONSE = "<DescribeDBInstancesResponse xmlns=\"http://rds.amazonaws.com/doc/2014-10-31/\">" +
+            "<DescribeDBInstancesResult><DBInstances><DBInstance>" +
+            "<DBInstanceIdentifier>" + STUB_IDENTIFIER + "</DBInstanceIdentifier>" +
+            "<DBInstanceArn>arn:aws:rds:us-east-1:123456789012:db:" + STUB_IDENTIFIER + "</DBInstanceArn>" +
+            "<DBInstanceClass>db.t3.micro</DBInstanceClass>" +
+            "<DBInstanceStatus>available</DBInstanceStatus>" +
+            "<Engine>mysql</Engine>" +
+            "<EngineVersion>8.0.35</EngineVersion>" +
+            "<AllocatedStorage>20</AllocatedStorage>" +
+            "<Endpoint><Address>" + STUB_IDENTIFIER + ".localhost</Address><Port>3306</Port></Endpoint>" +
+            "<TagList><Tag><Key>priming</Key><Value>true</Value></Tag></TagList>" +
+            "</DBInstance></DBInstances></DescribeDBInstancesResult>" +
+            "<ResponseMetadata><RequestId>" + STUB_IDENTIFIER + "</RequestId></ResponseMetadata>" +
+            "</DescribeDBInstancesResponse>";
+
+    @Singular
+    private final Map<String, Runnable> steps;
+
+    public PrimingReport prime() {
+        final List<PrimingReport.Step> results = new ArrayList<>(steps.size());
+        steps.forEach((name, step) -> {
+            final long start = System.nanoTime();
+            Throwable error = null;
+            try {
+                step.run();
+            } catch (RuntimeException | LinkageError e) {
+                error = e;
+            }
+            results.add(new PrimingReport.Step(name, System.nanoTime() - start, error));
+        });
+        return new PrimingReport(Collections.unmodifiableList(results));
+    }
+
+    /**
+     * @return An RDS client sending all the requests to {@code httpClient}. The client carries fixed credentials,
+     * the caller is responsible for closing it.
+     */
+    public static RdsClient stubRdsClient(@NonNull final SdkHttpClient httpClient) {
+        return RdsClient.builder()
+                .httpClient(httpClient)
+                .region(Region.US_EAST_1)
+                .endpointOverride(STUB_ENDPOINT)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(STUB_IDENTIFIER, STUB_IDENTIFIER)))
+                .build();
+    }
+
+    public static class PrimerBuilder {
+
+        public PrimerBuilder jsonPrinter(@NonNull final JsonPrinter printer, @NonNull final Object sample) {
+            return step("JsonPrinter", () -> {
+                try {
+                    printer.print(sample);
+                } catch (JsonProcessingException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        /**
+         * Matches the rule set against a service error code, a modelled service exception, a client exception and
+         * an unexpected exception.
+         */
+        public PrimerBuilder errorRuleSet(@NonNull final String name, @NonNull final ErrorRuleSet errorRuleSet) {
+            return step(name, () -> {
+                final List<Exception> exceptions = Arrays.asList(
+                        AwsServiceException.builder()
+                                .awsErrorDetails(AwsErrorDetails.builder().errorCode(ErrorCode.ThrottlingException.toString()).build())
+                                .build(),
+                        DbInstanceNotFoundException.builder().message(STUB_IDENTIFIER).build(),
+                        SdkClientException.create(STUB_IDENTIFIER),
+                        new RuntimeException(STUB_IDENTIFIER)
+                );
+                exceptions.forEach(errorRuleSet::handle);
+            });
+        }
+
+        /**
+         * Describes a stub DB instance and hands it over to {@code translator}, e.g. the module's model translation.
+         */
+        public PrimerBuilder describeDBInstances(@NonNull final Consumer<DBInstance> translator) {
+            return step("DescribeDBInstances", () -> {
+                try (RdsClient rdsClient = stubRdsClient(new StubSdkHttpClient(DESCRIBE_DB_INSTANCES_RESPONSE))) {
+                    rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                                    .dbInstanceIdentifier(STUB_IDENTIFIER)
+                                    .build())
+                            .dbInstances()
+                            .forEach(translator);
+                }
+            });
+        }
+    }
+}
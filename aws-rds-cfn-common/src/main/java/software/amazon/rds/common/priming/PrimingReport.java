@@ -0,0 +1,28 @@
+package software.amazon.rds.common.priming;
+
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class PrimingReport {
+    List<Step> steps;
+
+    public boolean isSuccessful() {
+        return steps.stream().allMatch(step -> step.getError() == null);
+    }
+
+    public long getTotalNanos() {
+        return steps.stream().mapToLong(Step::getDurationNanos).sum();
+    }
+
+    @Value
+    public static class Step {
+        String name;
+        long durationNanos;
+        /**
+         * The error the step failed with, {@code null} for a successful step.
+         */
+        Throwable error;
+    }
+}
@@ -0,0 +1,72 @@
+package software.amazon.rds.common.priming;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.NonNull;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * A local stub endpoint: answers every request with the same canned response without touching the network.
+ * The request body is read through, so that the request is fully marshalled.
+ */
+public class StubSdkHttpClient implements SdkHttpClient {
+
+    private static final String CONTENT_TYPE = "text/xml";
+
+    private final int statusCode;
+    private final byte[] responseBody;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    public StubSdkHttpClient(final String responseBody) {
+        this(200, responseBody);
+    }
+
+    public StubSdkHttpClient(final int statusCode, @NonNull final String responseBody) {
+        this.statusCode = statusCode;
+        this.responseBody = responseBody.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() throws IOException {
+                requestCount.incrementAndGet();
+                if (request.contentStreamProvider().isPresent()) {
+                    try (InputStream in = request.contentStreamProvider().get().newStream()) {
+                        in.transferTo(OutputStream.nullOutputStream());
+                    }
+                }
+                return HttpExecuteResponse.builder()
+                        .response(SdkHttpResponse.builder()
+                                .statusCode(statusCode)
+                                .putHeader("Content-Type", CONTENT_TYPE)
+                                .build())
+                        .responseBody(AbortableInputStream.create(new ByteArrayInputStream(responseBody)))
+                        .build();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+    }
+}
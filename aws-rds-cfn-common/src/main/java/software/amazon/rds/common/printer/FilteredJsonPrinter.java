@@ -1,5 +1,8 @@
 package software.amazon.rds.common.printer;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.json.JSONObject;
 
@@ -47,6 +50,15 @@ public class FilteredJsonPrinter implements JsonPrinter {
         return obj == null ? EMPTY_JSON : writer.writeValueAsString(obj);
     }
 
+    @Override
+    public void print(final Object obj, final Writer out) throws IOException {
+        if (obj == null) {
+            out.write(EMPTY_JSON);
+        } else {
+            writer.writeValue(out, obj);
+        }
+    }
+
     @Override
     public String print(final Throwable throwable) {
         try {
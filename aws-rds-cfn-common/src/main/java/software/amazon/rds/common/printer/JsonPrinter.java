@@ -1,5 +1,8 @@
 package software.amazon.rds.common.printer;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 public interface JsonPrinter {
@@ -7,4 +10,8 @@ public interface JsonPrinter {
     String print(final Object obj) throws JsonProcessingException;
 
     String print(final Throwable throwable);
+
+    default void print(final Object obj, final Writer out) throws IOException {
+        out.write(print(obj));
+    }
 }
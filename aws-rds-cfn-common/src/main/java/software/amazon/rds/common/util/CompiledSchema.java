@@ -0,0 +1,260 @@
+package software.amazon.rds.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import org.everit.json.schema.ArraySchema;
+import org.everit.json.schema.BooleanSchema;
+import org.everit.json.schema.NumberSchema;
+import org.everit.json.schema.ObjectSchema;
+import org.everit.json.schema.ReferenceSchema;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.StringSchema;
+import org.json.JSONObject;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+
+/**
+ * A digest of a resource type schema holding only what the handlers need at runtime: the write-only property paths,
+ * the property transforms, the array insertion-order flags and the property types, all keyed by the property path
+ * (e.g. {@code /properties/Endpoint/Address}).
+ * The digest is generated from the JSON schema at build time by {@link CompiledSchemaGenerator} and shipped next to it
+ * on the class path. Reading it is a plain JSON parse, unlike {@link ResourceTypeSchema#load} which builds and validates
+ * the full schema model on every cold start.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class CompiledSchema {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final String COMPILED_SUFFIX = ".compiled.json";
+    private static final String JSON_SUFFIX = ".json";
+    private static final String INSERTION_ORDER = "insertionOrder";
+    private static final String PROPERTIES_ROOT = "/properties";
+    private static final String PROPERTY_PATH_SEPARATOR = "/";
+
+    private static final String VERSION_FIELD = "version";
+    private static final String TYPE_NAME_FIELD = "typeName";
+    private static final String WRITE_ONLY_PROPERTIES_FIELD = "writeOnlyProperties";
+    private static final String PROPERTY_TRANSFORM_FIELD = "propertyTransform";
+    private static final String PROPERTY_TYPES_FIELD = "propertyTypes";
+    private static final String UNORDERED_ARRAYS_FIELD = "unorderedArrays";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String typeName;
+    private final Set<String> writeOnlyProperties;
+    private final Map<String, String> propertyTransform;
+    private final Map<String, String> propertyTypes;
+    private final Set<String> unorderedArrays;
+
+    public CompiledSchema(
+            final String typeName,
+            @NonNull final Collection<String> writeOnlyProperties,
+            @NonNull final Map<String, String> propertyTransform,
+            @NonNull final Map<String, String> propertyTypes,
+            @NonNull final Collection<String> unorderedArrays
+    ) {
+        this.typeName = typeName;
+        this.writeOnlyProperties = Collections.unmodifiableSet(new TreeSet<>(writeOnlyProperties));
+        this.propertyTransform = Collections.unmodifiableMap(new TreeMap<>(propertyTransform));
+        this.propertyTypes = Collections.unmodifiableMap(new TreeMap<>(propertyTypes));
+        this.unorderedArrays = Collections.unmodifiableSet(new TreeSet<>(unorderedArrays));
+    }
+
+    public boolean isWriteOnly(final String path) {
+        return writeOnlyProperties.contains(path);
+    }
+
+    public boolean isTransformable(final String path) {
+        return propertyTransform.containsKey(path);
+    }
+
+    public String getPropertyTransform(final String path) {
+        return propertyTransform.get(path);
+    }
+
+    /**
+     * @return The JSON schema type of the property, e.g. {@code array}, {@code null} for an unknown path or a property
+     * with a combined ({@code oneOf}, {@code anyOf}) schema.
+     */
+    public String getPropertyType(final String path) {
+        return propertyTypes.get(path);
+    }
+
+    public boolean isUnorderedArray(final String path) {
+        return unorderedArrays.contains(path);
+    }
+
+    /**
+     * Digests a loaded schema. Nested object properties are walked through {@code $ref}s, a recursive definition is
+     * only walked once per branch.
+     */
+    public static CompiledSchema compile(@NonNull final ResourceTypeSchema schema) {
+        final Map<String, String> propertyTypes = new TreeMap<>();
+        final Set<String> unorderedArrays = new TreeSet<>();
+        final Schema root = resolve(schema.getSchema());
+        if (root instanceof ObjectSchema) {
+            collectProperties(
+                    (ObjectSchema) root,
+                    PROPERTIES_ROOT,
+                    propertyTypes,
+                    unorderedArrays,
+                    Collections.newSetFromMap(new IdentityHashMap<>())
+            );
+        }
+        return new CompiledSchema(
+                schema.getTypeName(),
+                Optional.ofNullable(schema.getWriteOnlyPropertiesAsStrings()).orElse(Collections.emptyList()),
+                Optional.ofNullable(schema.getPropertyTransform()).orElse(Collections.emptyMap()),
+                propertyTypes,
+                unorderedArrays
+        );
+    }
+
+    /**
+     * Loads the compiled form of {@code schemaFilename} from the class path. If the compiled resource is missing
+     * (e.g. the build step did not run) or can not be read, the JSON schema is compiled on the spot instead.
+     */
+    public static CompiledSchema load(
+            @NonNull final ClassLoader classLoader,
+            @NonNull final String schemaFilename,
+            @NonNull final Supplier<JSONObject> schemaJson
+    ) {
+        try (InputStream in = classLoader.getResourceAsStream(compiledFilename(schemaFilename))) {
+            if (in != null) {
+                return read(in);
+            }
+        } catch (IOException | RuntimeException e) {
+            // A stale or a corrupted digest is not fatal, the source schema is always there.
+        }
+        return compile(ResourceTypeSchema.load(schemaJson.get()));
+    }
+
+    /**
+     * @return The class path resource name of the compiled form, e.g. {@code aws-rds-dbinstance.compiled.json}
+     * for {@code aws-rds-dbinstance.json}.
+     */
+    public static String compiledFilename(@NonNull final String schemaFilename) {
+        final String baseName = schemaFilename.endsWith(JSON_SUFFIX)
+                ? schemaFilename.substring(0, schemaFilename.length() - JSON_SUFFIX.length())
+                : schemaFilename;
+        return baseName + COMPILED_SUFFIX;
+    }
+
+    public void write(@NonNull final OutputStream out) throws IOException {
+        final ObjectNode node = objectMapper.createObjectNode();
+        node.put(VERSION_FIELD, FORMAT_VERSION);
+        node.put(TYPE_NAME_FIELD, typeName);
+        writeOnlyProperties.forEach(node.putArray(WRITE_ONLY_PROPERTIES_FIELD)::add);
+        propertyTransform.forEach(node.putObject(PROPERTY_TRANSFORM_FIELD)::put);
+        propertyTypes.forEach(node.putObject(PROPERTY_TYPES_FIELD)::put);
+        unorderedArrays.forEach(node.putArray(UNORDERED_ARRAYS_FIELD)::add);
+        objectMapper.writeValue(out, node);
+    }
+
+    public static CompiledSchema read(@NonNull final InputStream in) throws IOException {
+        final JsonNode node = objectMapper.readTree(in);
+        if (node == null || node.path(VERSION_FIELD).asInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported compiled schema format");
+        }
+        return new CompiledSchema(
+                node.path(TYPE_NAME_FIELD).isTextual() ? node.path(TYPE_NAME_FIELD).asText() : null,
+                readStrings(node.path(WRITE_ONLY_PROPERTIES_FIELD)),
+                readStringMap(node.path(PROPERTY_TRANSFORM_FIELD)),
+                readStringMap(node.path(PROPERTY_TYPES_FIELD)),
+                readStrings(node.path(UNORDERED_ARRAYS_FIELD))
+        );
+    }
+
+    private static void collectProperties(
+            final ObjectSchema objectSchema,
+            final String path,
+            final Map<String, String> propertyTypes,
+            final Set<String> unorderedArrays,
+            final Set<Schema> visiting
+    ) {
+        if (!visiting.add(objectSchema)) {
+            return;
+        }
+        objectSchema.getPropertySchemas().forEach((name, propertySchema) -> {
+            final String propertyPath = path + PROPERTY_PATH_SEPARATOR + name;
+            final Schema resolved = resolve(propertySchema);
+            final String type = typeOf(resolved);
+            if (type != null) {
+                propertyTypes.put(propertyPath, type);
+            }
+            // InsertionOrder is not defined as a part of the common ArraySchema and would be located in the unprocessed properties
+            if (resolved instanceof ArraySchema && Boolean.FALSE.equals(resolved.getUnprocessedProperties().get(INSERTION_ORDER))) {
+                unorderedArrays.add(propertyPath);
+            }
+            if (resolved instanceof ObjectSchema) {
+                collectProperties((ObjectSchema) resolved, propertyPath, propertyTypes, unorderedArrays, visiting);
+            }
+        });
+        visiting.remove(objectSchema);
+    }
+
+    private static Schema resolve(Schema schema) {
+        while (schema instanceof ReferenceSchema) {
+            schema = ((ReferenceSchema) schema).getReferredSchema();
+        }
+        return schema;
+    }
+
+    private static String typeOf(final Schema schema) {
+        if (schema instanceof BooleanSchema) {
+            return "boolean";
+        } else if (schema instanceof NumberSchema) {
+            return ((NumberSchema) schema).requiresInteger() ? "integer" : "number";
+        } else if (schema instanceof StringSchema) {
+            return "string";
+        } else if (schema instanceof ArraySchema) {
+            return "array";
+        } else if (schema instanceof ObjectSchema) {
+            return "object";
+        }
+        return null;
+    }
+
+    private static Set<String> readStrings(final JsonNode node) {
+        final Set<String> values = new TreeSet<>();
+        if (node instanceof ArrayNode) {
+            node.forEach(value -> values.add(value.asText()));
+        }
+        return values;
+    }
+
+    private static Map<String, String> readStringMap(final JsonNode node) {
+        final Map<String, String> values = new TreeMap<>();
+        if (node instanceof ObjectNode) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                values.put(field.getKey(), field.getValue().asText());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,49 @@
+package software.amazon.rds.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+
+/**
+ * The build step producing a {@link CompiledSchema} out of a resource type JSON schema. Handler modules run it after
+ * the compilation so that the digest ends up on the class path of both the tests and the packaged handler:
+ * <pre>
+ *     CompiledSchemaGenerator &lt;schema file&gt; &lt;output directory&gt;
+ * </pre>
+ */
+public final class CompiledSchemaGenerator {
+
+    private CompiledSchemaGenerator() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: CompiledSchemaGenerator <schema file> <output directory>");
+        }
+        generate(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    /**
+     * @return The path of the generated file.
+     */
+    public static Path generate(final Path schemaPath, final Path outputDirectory) throws IOException {
+        final JSONObject schemaJson;
+        try (InputStream in = Files.newInputStream(schemaPath)) {
+            schemaJson = new JSONObject(new JSONTokener(in));
+        }
+        final CompiledSchema compiledSchema = CompiledSchema.compile(ResourceTypeSchema.load(schemaJson));
+        final Path output = outputDirectory.resolve(CompiledSchema.compiledFilename(schemaPath.getFileName().toString()));
+        Files.createDirectories(outputDirectory);
+        try (OutputStream out = Files.newOutputStream(output)) {
+            compiledSchema.write(out);
+        }
+        return output;
+    }
+}
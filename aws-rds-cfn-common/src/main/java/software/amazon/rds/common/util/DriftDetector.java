@@ -1,62 +1,78 @@
 package software.amazon.rds.common.util;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.BooleanUtils;
-import org.everit.json.schema.ArraySchema;
-import org.everit.json.schema.ObjectSchema;
-import org.everit.json.schema.Schema;
-
 import com.api.jsonata4java.expressions.EvaluateException;
 import com.api.jsonata4java.expressions.Expressions;
 import com.api.jsonata4java.expressions.ParseException;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Iterables;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
 import software.amazon.cloudformation.resource.ResourceTypeSchema;
 
 public class DriftDetector {
 
-    private static final String INSERTION_ORDER = "insertionOrder";
+    private static final String ARRAY_TYPE = "array";
     private static final String PROPERTIES_ROOT = "/properties";
     private static final String PROPERTY_OR_SPLIT_REGEX = "\\s+\\$OR\\s+";
     private static final String PROPERTY_PATH_SEPARATOR = "/";
+    private static final Pattern PROPERTY_OR_SPLIT_PATTERN = Pattern.compile(PROPERTY_OR_SPLIT_REGEX);
+    private static final Pattern SURROUNDING_QUOTES_PATTERN = Pattern.compile("^\"|\"$");
+    private static final int MAX_TRANSFORMATION_PATTERNS = 1024;
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
     private static final Map<String, Mutation> NO_DRIFT = Collections.emptyMap();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    // Resource type schemas are loaded once per handler class, hence the identity semantics.
+    private static final Map<ResourceTypeSchema, DriftDetector> DRIFT_DETECTORS = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Map<CompiledSchema, DriftDetector> COMPILED_DRIFT_DETECTORS = Collections.synchronizedMap(new IdentityHashMap<>());
 
-    private final ResourceTypeSchema schema;
-    private final Set<String> writeOnlyLookup;
+    private final CompiledSchema schema;
+    private final Map<ObjectPlanKey, List<PropertyPlan>> objectPlans = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> unorderedListLookup = new ConcurrentHashMap<>();
+    private final Map<String, List<Expressions>> transformExpressions = new ConcurrentHashMap<>();
+    private final Map<String, Pattern> transformationPatterns = new ConcurrentHashMap<>();
 
     public DriftDetector(final ResourceTypeSchema schema) {
+        this(CompiledSchema.compile(schema));
+    }
+
+    public DriftDetector(@NonNull final CompiledSchema schema) {
         this.schema = schema;
-        this.writeOnlyLookup = new HashSet<>(
-                Optional.ofNullable(schema.getWriteOnlyPropertiesAsStrings())
-                        .orElse(Collections.emptyList())
-        );
     }
 
-    private static boolean isTransformableProperty(
-            final ResourceTypeSchema schema,
-            final String propertyName
-    ) throws DriftDetectorRuntimeException {
-        return schema.getPropertyTransform().containsKey(propertyName);
+    /**
+     * Returns a detector shared by all the callers using the same schema instance. The detector caches a comparison
+     * plan per model class and property path, so the reflection cost is paid once per warm container.
+     */
+    public static DriftDetector forSchema(final ResourceTypeSchema schema) {
+        return DRIFT_DETECTORS.computeIfAbsent(schema, DriftDetector::new);
+    }
+
+    public static DriftDetector forSchema(final CompiledSchema schema) {
+        return COMPILED_DRIFT_DETECTORS.computeIfAbsent(schema, DriftDetector::new);
     }
 
     private static Object castToPrimitive(final JsonNode node, final Class<?> klass) {
@@ -74,33 +90,62 @@ public class DriftDetector {
     private List<Object> getTransformations(
             final Object in,
             final String path,
-            final JsonNode rootNode
+            final Supplier<JsonNode> rootNode
     ) {
         final List<Object> result = new ArrayList<>();
-        final String propTxs = schema.getPropertyTransform().get(path);
-        if (propTxs != null) {
-            for (final String tx : propTxs.split(PROPERTY_OR_SPLIT_REGEX)) {
-                try {
-                    final Expressions expr = Expressions.parse(tx);
-                    final JsonNode txNode = expr.evaluate(rootNode);
-                    result.add(castToPrimitive(txNode, in.getClass()));
-                } catch (ParseException | IOException | EvaluateException e) {
-                    throw new DriftDetectorRuntimeException("Failed to parse jsonata expression: " + tx, e);
-                }
+        for (final Expressions expr : getTransformExpressions(path)) {
+            try {
+                final JsonNode txNode = expr.evaluate(rootNode.get());
+                result.add(castToPrimitive(txNode, in.getClass()));
+            } catch (EvaluateException e) {
+                throw new DriftDetectorRuntimeException("Failed to parse jsonata expression: " + expr, e);
             }
         }
         return result;
     }
 
+    private List<Expressions> getTransformExpressions(final String path) {
+        return transformExpressions.computeIfAbsent(path, this::parseTransformExpressions);
+    }
+
+    private List<Expressions> parseTransformExpressions(final String path) {
+        final String propTxs = schema.getPropertyTransform(path);
+        if (propTxs == null) {
+            return Collections.emptyList();
+        }
+        final List<Expressions> result = new ArrayList<>();
+        for (final String tx : PROPERTY_OR_SPLIT_PATTERN.split(propTxs)) {
+            try {
+                result.add(Expressions.parse(tx));
+            } catch (ParseException | IOException e) {
+                throw new DriftDetectorRuntimeException("Failed to parse jsonata expression: " + tx, e);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private Pattern getTransformationPattern(final String transformed) {
+        if (transformationPatterns.size() >= MAX_TRANSFORMATION_PATTERNS) {
+            // Transformation results are derived from resource values, keep the cache bounded.
+            transformationPatterns.clear();
+        }
+        // Add regexp anchors to avoid loose comparisons.
+        return transformationPatterns.computeIfAbsent(transformed, tx -> Pattern.compile("^" + tx + "$"));
+    }
+
     private boolean isWriteOnly(final String path) {
-        return writeOnlyLookup.contains(path);
+        return schema.isWriteOnly(path);
     }
 
     public <T> Map<String, Mutation> detectDrift(final T prev, final T upd) {
+        // The root node is only needed to evaluate property transforms, most of the comparisons never reach one.
+        return detectDrift(prev, upd, PROPERTIES_ROOT, Suppliers.memoize(() -> readRootNode(prev)));
+    }
+
+    private static JsonNode readRootNode(final Object obj) {
         try {
-            final JsonNode rootNode = objectMapper.readTree(objectMapper.writeValueAsString(prev));
-            return detectDrift(prev, upd, PROPERTIES_ROOT, rootNode);
-        } catch (JsonProcessingException e) {
+            return objectMapper.valueToTree(obj);
+        } catch (IllegalArgumentException e) {
             throw new DriftDetectorRuntimeException("Failed to parse the root node", e);
         }
     }
@@ -109,7 +154,7 @@ public class DriftDetector {
             final T prev,
             final T upd,
             final String path,
-            final JsonNode rootNode
+            final Supplier<JsonNode> rootNode
     ) {
         final List<Object> transformations = getTransformations(prev, path, rootNode);
 
@@ -118,10 +163,8 @@ public class DriftDetector {
                 return true;
             }
             if (prev instanceof String) {
-                final String transformed = tx.toString().replaceAll("^\"|\"$", "");
-                // Add regexp anchors to avoid loose comparisons.
-                final Pattern pattern = Pattern.compile("^" + transformed + "$");
-                return transformed.equals(upd) || pattern.matcher((String) upd).matches();
+                final String transformed = SURROUNDING_QUOTES_PATTERN.matcher(tx.toString()).replaceAll("");
+                return transformed.equals(upd) || getTransformationPattern(transformed).matcher((String) upd).matches();
             }
             return false;
         })) {
@@ -152,38 +195,49 @@ public class DriftDetector {
             final T prev,
             final T upd,
             final String path,
-            final JsonNode rootNode
+            final Supplier<JsonNode> rootNode
     ) {
         final Map<String, Mutation> mutations = new HashMap<>();
-        final Field[] fields = prev.getClass().getDeclaredFields();
-        for (final Field field : fields) {
+        for (final PropertyPlan property : getObjectPlan(prev.getClass(), path)) {
+            final Object prevFieldVal = property.get(prev);
+            final Object updFieldVal = upd != null ? property.get(upd) : null;
+
+            if (prevFieldVal == null || property.writeOnly || Objects.equals(prevFieldVal, updFieldVal)) {
+                continue;
+            }
+
+            mutations.putAll(detectDrift(prevFieldVal, updFieldVal, property.path, property.transformable, rootNode));
+        }
+
+        return mutations;
+    }
+
+    private List<PropertyPlan> getObjectPlan(final Class<?> klass, final String path) {
+        return objectPlans.computeIfAbsent(new ObjectPlanKey(klass, path), this::compileObjectPlan);
+    }
+
+    private List<PropertyPlan> compileObjectPlan(final ObjectPlanKey key) {
+        final List<PropertyPlan> plan = new ArrayList<>();
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (final Field field : key.getKlass().getDeclaredFields()) {
             final JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
             if (jsonProperty == null) {
                 continue;
             }
-            final String fieldName = jsonProperty.value();
-            field.setAccessible(true);
-            Object prevFieldVal = null;
-            Object updFieldVal = null;
+            final String propertyName = key.getPath() + PROPERTY_PATH_SEPARATOR + jsonProperty.value();
             try {
-                prevFieldVal = field.get(prev);
-                if (upd != null) {
-                    updFieldVal = field.get(upd);
-                }
-            } catch (IllegalAccessException e) {
+                field.setAccessible(true);
+                plan.add(new PropertyPlan(
+                        propertyName,
+                        lookup.unreflectGetter(field).asType(GETTER_TYPE),
+                        isWriteOnly(propertyName),
+                        schema.isTransformable(propertyName)
+                ));
+            } catch (IllegalAccessException | RuntimeException e) {
                 throw new DriftDetectorRuntimeException(e);
             }
-
-            final String propertyName = path + PROPERTY_PATH_SEPARATOR + fieldName;
-
-            if (isEqual(prevFieldVal, updFieldVal, propertyName)) {
-                continue;
-            }
-
-            mutations.putAll(detectDrift(prevFieldVal, updFieldVal, propertyName, rootNode));
         }
-
-        return mutations;
+        return Collections.unmodifiableList(plan);
     }
 
     private <T extends List<?>> Map<String, Mutation> detectDriftList(
@@ -191,20 +245,21 @@ public class DriftDetector {
             final T upd,
             final String path
     ) {
-        final Schema propertySchema = getPropertySchema(path);
-        if (!(propertySchema instanceof ArraySchema)) {
-            throw new DriftDetectorRuntimeException(String.format("Malformed schema for path: %s", path));
-        }
-        final ArraySchema arraySchema = (ArraySchema) propertySchema;
-        // InsertionOrder is not defined as a part of the common ArraySchema and would be located in the unprocessed properties
-        final Boolean insertionOrder = (Boolean) arraySchema.getUnprocessedProperties().get(INSERTION_ORDER);
-        if (BooleanUtils.isFalse(insertionOrder)) {
+        if (unorderedListLookup.computeIfAbsent(path, this::isUnorderedList)) {
             // compare unordered lists
             return detectDriftCmp(freqAll(prev), freqAll(upd == null ? Collections.emptyList() : upd), path);
         }
         return detectDriftCmp(prev, upd == null ? Collections.emptyList() : upd, path);
     }
 
+    private boolean isUnorderedList(final String path) {
+        final String propertyPath = getPropertyPath(path);
+        if (!ARRAY_TYPE.equals(schema.getPropertyType(propertyPath))) {
+            throw new DriftDetectorRuntimeException(String.format("Malformed schema for path: %s", path));
+        }
+        return schema.isUnorderedArray(propertyPath);
+    }
+
     private <T extends List<?>> Map<?, Long> freqAll(final T list) {
         return list.stream().collect(Collectors.groupingBy(e -> e, Collectors.counting()));
     }
@@ -217,11 +272,12 @@ public class DriftDetector {
         return detectDriftCmp(prev, upd == null ? Collections.emptySet() : upd, path);
     }
 
-    private Schema getPropertySchema(String pathOrName) {
-        if (pathOrName.startsWith(PROPERTIES_ROOT)) {
-            pathOrName = Iterables.getLast(Arrays.asList(pathOrName.split("/")));
+    private String getPropertyPath(final String path) {
+        if (schema.getPropertyType(path) != null) {
+            return path;
         }
-        return ((ObjectSchema) schema.getSchema()).getPropertySchemas().get(pathOrName);
+        // Fall back to a top-level property of the same name, e.g. for a list nested in an untyped object.
+        return PROPERTIES_ROOT + PROPERTY_PATH_SEPARATOR + path.substring(path.lastIndexOf(PROPERTY_PATH_SEPARATOR) + 1);
     }
 
     private <T> boolean isEqual(final T prev, final T upd, final String path) {
@@ -232,13 +288,22 @@ public class DriftDetector {
             final T prev,
             final T upd,
             final String path,
-            final JsonNode rootNode
+            final Supplier<JsonNode> rootNode
     ) throws DriftDetectorRuntimeException {
         if (isEqual(prev, upd, path)) {
             return NO_DRIFT;
         }
+        return detectDrift(prev, upd, path, schema.isTransformable(path), rootNode);
+    }
 
-        if (upd != null && isTransformableProperty(schema, path)) {
+    private <T> Map<String, Mutation> detectDrift(
+            final T prev,
+            final T upd,
+            final String path,
+            final boolean transformable,
+            final Supplier<JsonNode> rootNode
+    ) throws DriftDetectorRuntimeException {
+        if (upd != null && transformable) {
             return detectDriftTransformable(prev, upd, path, rootNode);
         } else if (isPrimitive(prev)) {
             return detectDriftCmp(prev, upd, path);
@@ -249,4 +314,26 @@ public class DriftDetector {
         }
         return detectDriftObj(prev, upd, path, rootNode);
     }
+
+    @Value
+    private static class ObjectPlanKey {
+        Class<?> klass;
+        String path;
+    }
+
+    @AllArgsConstructor
+    private static class PropertyPlan {
+        private final String path;
+        private final MethodHandle getter;
+        private final boolean writeOnly;
+        private final boolean transformable;
+
+        private Object get(final Object obj) {
+            try {
+                return getter.invoke(obj);
+            } catch (Throwable e) {
+                throw new DriftDetectorRuntimeException(e);
+            }
+        }
+    }
 }
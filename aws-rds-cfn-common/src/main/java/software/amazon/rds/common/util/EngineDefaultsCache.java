@@ -0,0 +1,313 @@
+package software.amazon.rds.common.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * A cache of engine default parameters shared across the invocations served by the same container.
+ * Engine defaults only change with a new engine release, hence they are cached by the describe API, the parameter group
+ * family and the set of filtered parameter names. A handler container serves a single region, so the region is not
+ * a part of the key.
+ * Entries expire after {@code ttl}, the least recently used ones are evicted above {@code maxEntries}. If there is
+ * a {@code snapshotPath}, the cache is persisted to it on every update and restored from it on the first lookup, so that
+ * a re-used container (e.g. after a handler restart) skips the describe call as well. Snapshot I/O errors never fail
+ * a lookup: the cache falls back to the loader.
+ */
+public class EngineDefaultsCache {
+
+    public static final Duration DEFAULT_TTL = Duration.ofHours(6);
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+    public static final Path DEFAULT_SNAPSHOT_PATH = Paths.get("/tmp", "rds-engine-defaults.cache");
+
+    public static final EngineDefaultsCache SHARED = new EngineDefaultsCache(
+            DEFAULT_TTL,
+            DEFAULT_MAX_ENTRIES,
+            DEFAULT_SNAPSHOT_PATH,
+            Clock.systemUTC()
+    );
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Path snapshotPath;
+    private final Clock clock;
+    private final Map<Key, Entry> entries;
+    private boolean snapshotLoaded;
+
+    public EngineDefaultsCache(
+            @NonNull final Duration ttl,
+            final int maxEntries,
+            final Path snapshotPath,
+            @NonNull final Clock clock
+    ) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.snapshotPath = snapshotPath;
+        this.clock = clock;
+        // Access-ordered, so that the eldest entry is the least recently used one.
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached engine default parameters, loading them on a miss. A filtered lookup is also served from
+     * an unfiltered entry of the same family.
+     * @param api The describe API the parameters come from, e.g. {@code DescribeEngineDefaultParameters}.
+     * @param family The parameter group family.
+     * @param filterParameterNames The names the parameters are filtered by, {@code null} stands for no filter.
+     * @param loader Describes the engine default parameters on a cache miss.
+     * @return An immutable list of the engine default parameters.
+     */
+    public List<Parameter> get(
+            @NonNull final String api,
+            @NonNull final String family,
+            final Collection<String> filterParameterNames,
+            @NonNull final Supplier<? extends Iterable<Parameter>> loader
+    ) {
+        final Key key = new Key(api, family, filterParameterNames != null ? sorted(filterParameterNames) : null);
+        final List<Parameter> cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        final List<Parameter> parameters = new ArrayList<>();
+        for (final Parameter parameter : loader.get()) {
+            parameters.add(parameter);
+        }
+        return put(key, Collections.unmodifiableList(parameters));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private synchronized List<Parameter> lookup(final Key key) {
+        loadSnapshotOnce();
+        final List<Parameter> parameters = getFresh(key);
+        if (parameters != null || key.getFilter() == null) {
+            return parameters;
+        }
+        final List<Parameter> unfiltered = getFresh(new Key(key.getApi(), key.getFamily(), null));
+        if (unfiltered == null) {
+            return null;
+        }
+        final Set<String> filter = new HashSet<>(key.getFilter());
+        final List<Parameter> filtered = new ArrayList<>();
+        for (final Parameter parameter : unfiltered) {
+            if (filter.contains(parameter.parameterName())) {
+                filtered.add(parameter);
+            }
+        }
+        return Collections.unmodifiableList(filtered);
+    }
+
+    private List<Parameter> getFresh(final Key key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.getExpiresAt() <= clock.millis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.getParameters();
+    }
+
+    private synchronized List<Parameter> put(final Key key, final List<Parameter> parameters) {
+        entries.put(key, new Entry(clock.millis() + ttl.toMillis(), parameters));
+        evict();
+        saveSnapshot();
+        return parameters;
+    }
+
+    private void evict() {
+        final Iterator<Key> keys = entries.keySet().iterator();
+        while (entries.size() > maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private void loadSnapshotOnce() {
+        if (snapshotLoaded) {
+            return;
+        }
+        snapshotLoaded = true;
+        if (snapshotPath == null || !Files.isRegularFile(snapshotPath)) {
+            return;
+        }
+        final Map<Key, Entry> restored = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                return;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final Key key = new Key(in.readUTF(), in.readUTF(), readStrings(in));
+                final long expiresAt = in.readLong();
+                final int parameterCount = in.readInt();
+                final List<Parameter> parameters = new ArrayList<>(parameterCount);
+                for (int j = 0; j < parameterCount; j++) {
+                    parameters.add(readParameter(in));
+                }
+                restored.put(key, new Entry(expiresAt, Collections.unmodifiableList(parameters)));
+            }
+        } catch (IOException | RuntimeException e) {
+            // A corrupted or a partially written snapshot is discarded as a whole.
+            return;
+        }
+        final long now = clock.millis();
+        restored.forEach((key, entry) -> {
+            if (entry.getExpiresAt() > now) {
+                entries.put(key, entry);
+            }
+        });
+        evict();
+    }
+
+    private void saveSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(snapshotPath.toAbsolutePath().getParent(), "engine-defaults", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(entries.size());
+                for (final Map.Entry<Key, Entry> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey().getApi());
+                    out.writeUTF(entry.getKey().getFamily());
+                    writeStrings(out, entry.getKey().getFilter());
+                    out.writeLong(entry.getValue().getExpiresAt());
+                    out.writeInt(entry.getValue().getParameters().size());
+                    for (final Parameter parameter : entry.getValue().getParameters()) {
+                        writeParameter(out, parameter);
+                    }
+                }
+            }
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            // The snapshot is an optimization only, the in-memory cache stays valid.
+            deleteQuietly(tmp);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Nothing else to do about a leftover temporary file.
+        }
+    }
+
+    private static List<String> sorted(final Collection<String> names) {
+        final List<String> sorted = new ArrayList<>(new HashSet<>(names));
+        Collections.sort(sorted);
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private static void writeParameter(final DataOutputStream out, final Parameter parameter) throws IOException {
+        writeString(out, parameter.parameterName());
+        writeString(out, parameter.parameterValue());
+        writeString(out, parameter.description());
+        writeString(out, parameter.source());
+        writeString(out, parameter.applyType());
+        writeString(out, parameter.dataType());
+        writeString(out, parameter.allowedValues());
+        writeString(out, parameter.isModifiable() != null ? parameter.isModifiable().toString() : null);
+        writeString(out, parameter.minimumEngineVersion());
+        writeString(out, parameter.applyMethodAsString());
+        writeStrings(out, parameter.hasSupportedEngineModes() ? parameter.supportedEngineModes() : null);
+    }
+
+    private static Parameter readParameter(final DataInputStream in) throws IOException {
+        final Parameter.Builder builder = Parameter.builder()
+                .parameterName(readString(in))
+                .parameterValue(readString(in))
+                .description(readString(in))
+                .source(readString(in))
+                .applyType(readString(in))
+                .dataType(readString(in))
+                .allowedValues(readString(in));
+        final String isModifiable = readString(in);
+        builder.isModifiable(isModifiable != null ? Boolean.valueOf(isModifiable) : null)
+                .minimumEngineVersion(readString(in))
+                .applyMethod(readString(in));
+        final List<String> supportedEngineModes = readStrings(in);
+        if (supportedEngineModes != null) {
+            builder.supportedEngineModes(supportedEngineModes);
+        }
+        return builder.build();
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeStrings(final DataOutputStream out, final List<String> values) throws IOException {
+        out.writeInt(values != null ? values.size() : -1);
+        if (values != null) {
+            for (final String value : values) {
+                out.writeUTF(value);
+            }
+        }
+    }
+
+    private static List<String> readStrings(final DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        final List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readUTF());
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    @Value
+    private static class Key {
+        String api;
+        String family;
+        List<String> filter;
+    }
+
+    @Value
+    private static class Entry {
+        long expiresAt;
+        List<Parameter> parameters;
+    }
+}
@@ -1,12 +1,14 @@
 package software.amazon.rds.common.util;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
@@ -14,6 +16,23 @@ import lombok.NonNull;
 import software.amazon.awssdk.services.rds.model.Parameter;
 
 public class ParameterGrouper {
+
+    public enum Strategy {
+        /**
+         * Fills partitions with dependant parameter groups in their original order, then pads them with independent
+         * parameters.
+         */
+        GREEDY,
+        /**
+         * Packs dependant parameter groups first-fit in decreasing size order, then fills the gaps with independent
+         * parameters. As independent parameters fill every gap, the result has {@code max(k, ceil(n / partitionSize))}
+         * partitions, where k is the number of partitions holding the groups. The second term is a lower bound for any
+         * partitioning, so the result is minimal whenever the groups fit in it, which is the case for the small
+         * dependant groups of RDS parameters.
+         */
+        FIRST_FIT_DECREASING
+    }
+
     private static Map<String, Set<String>> buildDependencyIndex(final List<Set<String>> dependencies) {
         final Map<String, Set<String>> dependencyIndex = new HashMap<>();
         for (final Set<String> group : dependencies) {
@@ -70,8 +89,6 @@ public class ParameterGrouper {
             final List<Parameter> currentPartition = new ArrayList<>();
             while (paramGroupIterator.hasNext()) {
                 final int nextParamGroupSize = paramGroupIterator.peek().size();
-                // Ensure a dependant group fits in a single partition.
-                assert (nextParamGroupSize <= partitionSize);
                 if (partitionSize - currentPartition.size() >= nextParamGroupSize) {
                     currentPartition.addAll(paramGroupIterator.next());
                     paramsAdded += nextParamGroupSize;
@@ -89,10 +106,80 @@ public class ParameterGrouper {
         return partitioned;
     }
 
+    private static List<List<Parameter>> packParamGroups(
+            final List<List<Parameter>> paramGroups,
+            final int partitionSize
+    ) {
+        final List<List<Parameter>> dependantParamGroups = new ArrayList<>(paramGroups.subList(1, paramGroups.size()));
+        // The sort is stable: equally sized groups keep their original order.
+        dependantParamGroups.sort(Comparator.comparingInt((List<Parameter> group) -> group.size()).reversed());
+
+        final List<List<Parameter>> partitioned = new ArrayList<>();
+        for (final List<Parameter> group : dependantParamGroups) {
+            List<Parameter> partition = null;
+            for (final List<Parameter> candidate : partitioned) {
+                if (partitionSize - candidate.size() >= group.size()) {
+                    partition = candidate;
+                    break;
+                }
+            }
+            if (partition == null) {
+                partition = new ArrayList<>(partitionSize);
+                partitioned.add(partition);
+            }
+            partition.addAll(group);
+        }
+
+        final Iterator<Parameter> independentParamIterator = paramGroups.get(0).iterator();
+        for (final List<Parameter> partition : partitioned) {
+            while (partition.size() < partitionSize && independentParamIterator.hasNext()) {
+                partition.add(independentParamIterator.next());
+            }
+        }
+        while (independentParamIterator.hasNext()) {
+            final List<Parameter> partition = new ArrayList<>(partitionSize);
+            while (partition.size() < partitionSize && independentParamIterator.hasNext()) {
+                partition.add(independentParamIterator.next());
+            }
+            partitioned.add(partition);
+        }
+
+        return partitioned;
+    }
+
+    private static void validateParamGroups(
+            final List<List<Parameter>> paramGroups,
+            final int partitionSize
+    ) {
+        for (final List<Parameter> group : paramGroups.subList(1, paramGroups.size())) {
+            if (group.size() > partitionSize) {
+                throw new IllegalArgumentException(String.format(
+                        "Dependant parameters %s can not be modified in a single request of at most %d parameters",
+                        group.stream().map(Parameter::parameterName).collect(Collectors.toList()),
+                        partitionSize
+                ));
+            }
+        }
+    }
+
     public static List<List<Parameter>> partition(
             @NonNull final Map<String, Parameter> params,
             final List<Set<String>> dependencies,
             final int partitionSize
+    ) {
+        return partition(params, dependencies, partitionSize, Strategy.GREEDY);
+    }
+
+    /**
+     * Splits {@code params} into partitions of at most {@code partitionSize} parameters, keeping every dependant
+     * parameter group within a single partition.
+     * @throws IllegalArgumentException if a dependant parameter group does not fit in a partition.
+     */
+    public static List<List<Parameter>> partition(
+            @NonNull final Map<String, Parameter> params,
+            final List<Set<String>> dependencies,
+            final int partitionSize,
+            @NonNull final Strategy strategy
     ) {
         final Map<String, Set<String>> dependencyIndex = buildDependencyIndex(dependencies);
 
@@ -115,6 +202,11 @@ public class ParameterGrouper {
             }
         }
 
+        validateParamGroups(paramGroups, partitionSize);
+
+        if (strategy == Strategy.FIRST_FIT_DECREASING) {
+            return packParamGroups(paramGroups, partitionSize);
+        }
         return partitionParamGroups(paramGroups, partitionSize);
     }
 }
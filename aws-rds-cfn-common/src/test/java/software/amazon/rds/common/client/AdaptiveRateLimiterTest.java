@@ -0,0 +1,132 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+
+    private static final AdaptiveRateLimiter.Config CONFIG = AdaptiveRateLimiter.Config.builder()
+            .initialRate(10.0)
+            .minRate(1.0)
+            .maxRate(12.0)
+            .burst(2.0)
+            .increaseStep(1.0)
+            .decreaseFactor(0.5)
+            .decreaseCooldown(Duration.ofSeconds(1))
+            .maxWait(Duration.ofSeconds(1))
+            .build();
+
+    private AtomicLong now;
+    private List<Long> sleeps;
+    private AdaptiveRateLimiter limiter;
+
+    @BeforeEach
+    public void setup() {
+        now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        sleeps = new ArrayList<>();
+        // The sleeper advances the virtual clock, the way a real sleep would.
+        limiter = new AdaptiveRateLimiter(CONFIG, now::get, nanos -> {
+            sleeps.add(nanos);
+            now.addAndGet(nanos);
+        });
+    }
+
+    private void advance(final long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void test_acquire_burstDoesNotWait() {
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThat(sleeps).isEmpty();
+        assertThat(limiter.getState().getAcquiredCount()).isEqualTo(2);
+    }
+
+    @Test
+    void test_acquire_waitsForRefill() {
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThat(sleeps).containsExactly(TimeUnit.MILLISECONDS.toNanos(100));
+        final AdaptiveRateLimiter.State state = limiter.getState();
+        assertThat(state.getDelayedCount()).isEqualTo(1);
+        assertThat(state.getTotalWaitMillis()).isEqualTo(100);
+    }
+
+    @Test
+    void test_acquire_refillIsCappedByBurst() {
+        advance(10_000);
+        assertThat(limiter.getState().getTokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    void test_acquire_waitIsCappedByMaxWait() {
+        final AdaptiveRateLimiter slowLimiter = new AdaptiveRateLimiter(
+                AdaptiveRateLimiter.Config.builder().initialRate(1.0).burst(0.0).maxWait(Duration.ofSeconds(1)).build(),
+                now::get,
+                sleeps::add
+        );
+        for (int i = 0; i < 5; i++) {
+            slowLimiter.acquire();
+        }
+
+        assertThat(sleeps).hasSize(5).allMatch(nanos -> nanos <= TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void test_onSuccess_additiveIncreaseUpToMaxRate() {
+        limiter.onSuccess();
+        assertThat(limiter.getState().getRate()).isEqualTo(11.0);
+        limiter.onSuccess();
+        limiter.onSuccess();
+        assertThat(limiter.getState().getRate()).isEqualTo(12.0);
+    }
+
+    @Test
+    void test_onThrottle_multiplicativeDecreaseDownToMinRate() {
+        limiter.onThrottle();
+        final AdaptiveRateLimiter.State state = limiter.getState();
+        assertThat(state.getRate()).isEqualTo(5.0);
+        assertThat(state.getTokens()).isCloseTo(0.0, within(1e-9));
+        assertThat(state.getThrottleCount()).isEqualTo(1);
+
+        for (int i = 0; i < 5; i++) {
+            advance(1_000);
+            limiter.onThrottle();
+        }
+        assertThat(limiter.getState().getRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void test_onThrottle_burstWithinCooldownDecreasesOnce() {
+        limiter.onThrottle();
+        advance(100);
+        limiter.onThrottle();
+        limiter.onThrottle();
+
+        final AdaptiveRateLimiter.State state = limiter.getState();
+        assertThat(state.getRate()).isEqualTo(5.0);
+        assertThat(state.getThrottleCount()).isEqualTo(3);
+    }
+
+    @Test
+    void test_onThrottle_slowsDownAcquire() {
+        limiter.onThrottle();
+        limiter.acquire();
+
+        // 1 token at 5 tokens per second.
+        assertThat(sleeps).containsExactly(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+}
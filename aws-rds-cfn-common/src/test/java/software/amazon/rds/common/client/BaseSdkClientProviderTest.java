@@ -1,10 +1,12 @@
 package software.amazon.rds.common.client;
 
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -51,7 +53,52 @@ class BaseSdkClientProviderTest {
         Mockito.verify(builderMock).overrideConfiguration(Mockito.any(Consumer.class));
     }
 
+    @AfterEach
+    public void tearDown() {
+        BaseSdkClientProvider.clearClientPool();
+    }
+
+    @Test
+    public void test_BaseSdkClientProvider_getPooledClient_reusesClient() {
+        final AtomicInteger clientsBuilt = new AtomicInteger();
+        final TestBaseSdkClientProvider provider = new TestBaseSdkClientProvider();
+        final Supplier<RdsClient> clientFactory = () -> {
+            clientsBuilt.incrementAndGet();
+            return Mockito.mock(RdsClient.class);
+        };
+
+        final RdsClient client = provider.getPooledClient(clientFactory);
+
+        Assertions.assertThat(new TestBaseSdkClientProvider().getPooledClient(clientFactory)).isSameAs(client);
+        Assertions.assertThat(clientsBuilt.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_BaseSdkClientProvider_getPooledClient_distinctKeys() {
+        final TestBaseSdkClientProvider provider = new TestBaseSdkClientProvider();
+        final Supplier<RdsClient> clientFactory = () -> Mockito.mock(RdsClient.class);
+
+        final RdsClient defaultClient = provider.getPooledClient(clientFactory);
+        final RdsClient regionalClient = provider.getPooledClient("eu-west-1", null, clientFactory);
+        final RdsClient versionedClient = provider.getPooledClient(null, "2012-09-17", clientFactory);
+        final SdkHttpClient httpClient = Mockito.mock(SdkHttpClient.class);
+        final RdsClient customHttpClient = new TestBaseSdkClientProvider(() -> httpClient).getPooledClient(clientFactory);
+
+        Assertions.assertThat(regionalClient).isNotSameAs(defaultClient);
+        Assertions.assertThat(versionedClient).isNotSameAs(defaultClient).isNotSameAs(regionalClient);
+        Assertions.assertThat(customHttpClient).isNotSameAs(defaultClient);
+        Assertions.assertThat(provider.getPooledClient("eu-west-1", null, clientFactory)).isSameAs(regionalClient);
+    }
+
     static class TestBaseSdkClientProvider extends BaseSdkClientProvider<RdsClientBuilder, RdsClient> {
+        TestBaseSdkClientProvider() {
+            super();
+        }
+
+        TestBaseSdkClientProvider(final Supplier<SdkHttpClient> httpClientSupplier) {
+            super(httpClientSupplier);
+        }
+
         @Override
         public RdsClient getClient() {
             return RdsClient.builder().build();
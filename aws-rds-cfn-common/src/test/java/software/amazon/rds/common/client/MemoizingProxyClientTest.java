@@ -0,0 +1,170 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+class MemoizingProxyClientTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration MAX_AGE = Duration.ofSeconds(3);
+
+    @Mock
+    private ProxyClient<RdsClient> proxy;
+
+    @Mock
+    private ProxyClient<RdsClient> otherProxy;
+
+    @Mock
+    private Clock clock;
+
+    private DescribeDbInstancesRequest describeRequest;
+    private DescribeDbInstancesResponse describeResponse;
+
+    @BeforeEach
+    public void setup() {
+        describeRequest = DescribeDbInstancesRequest.builder().dbInstanceIdentifier("db-instance").build();
+        describeResponse = DescribeDbInstancesResponse.builder().build();
+    }
+
+    @Test
+    void test_describe_isMemoized() {
+        when(clock.instant()).thenReturn(NOW);
+        when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenReturn(describeResponse);
+        final ProxyClient<RdsClient> memoizing = new MemoizingProxyClient<>(proxy, MAX_AGE, clock);
+
+        final DescribeDbInstancesResponse first = memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+        final DescribeDbInstancesResponse second = memoizing.injectCredentialsAndInvokeV2(
+                DescribeDbInstancesRequest.builder().dbInstanceIdentifier("db-instance").build(),
+                r -> describeResponse
+        );
+
+        assertThat(first).isSameAs(describeResponse);
+        assertThat(second).isSameAs(describeResponse);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    void test_describe_differentRequestsAreNotShared() {
+        when(clock.instant()).thenReturn(NOW);
+        when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenReturn(describeResponse);
+        final ProxyClient<RdsClient> memoizing = new MemoizingProxyClient<>(proxy, MAX_AGE, clock);
+
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+        memoizing.injectCredentialsAndInvokeV2(
+                DescribeDbInstancesRequest.builder().dbInstanceIdentifier("other-db-instance").build(),
+                r -> describeResponse
+        );
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    void test_mutatingCall_invalidatesCache() {
+        when(clock.instant()).thenReturn(NOW);
+        final ModifyDbInstanceResponse modifyResponse = ModifyDbInstanceResponse.builder().build();
+        when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenReturn(describeResponse, modifyResponse, describeResponse);
+        final ProxyClient<RdsClient> memoizing = new MemoizingProxyClient<>(proxy, MAX_AGE, clock);
+
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+        memoizing.injectCredentialsAndInvokeV2(ModifyDbInstanceRequest.builder().build(), r -> modifyResponse);
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    void test_expiredEntry_isRefreshed() {
+        when(clock.instant()).thenReturn(NOW, NOW.plus(MAX_AGE));
+        when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenReturn(describeResponse);
+        final ProxyClient<RdsClient> memoizing = new MemoizingProxyClient<>(proxy, MAX_AGE, clock);
+
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    void test_sharedScope_mutatingCallInvalidatesAllClients() {
+        when(clock.instant()).thenReturn(NOW);
+        final ModifyDbInstanceResponse modifyResponse = ModifyDbInstanceResponse.builder().build();
+        when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenReturn(describeResponse, describeResponse, describeResponse);
+        when(otherProxy.injectCredentialsAndInvokeV2(any(), any())).thenReturn(modifyResponse);
+        final MemoizingProxyClient.Scope scope = new MemoizingProxyClient.Scope(MAX_AGE, clock);
+        final ProxyClient<RdsClient> memoizing = new MemoizingProxyClient<>(proxy, scope);
+        final ProxyClient<RdsClient> otherMemoizing = new MemoizingProxyClient<>(otherProxy, scope);
+
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+        otherMemoizing.injectCredentialsAndInvokeV2(ModifyDbInstanceRequest.builder().build(), r -> modifyResponse);
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(), any());
+        verify(otherProxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    void test_sharedScope_responsesAreNotSharedBetweenClients() {
+        when(clock.instant()).thenReturn(NOW);
+        when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenReturn(describeResponse);
+        when(otherProxy.injectCredentialsAndInvokeV2(any(), any())).thenReturn(describeResponse);
+        final MemoizingProxyClient.Scope scope = new MemoizingProxyClient.Scope(MAX_AGE, clock);
+
+        new MemoizingProxyClient<>(proxy, scope).injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+        new MemoizingProxyClient<>(otherProxy, scope).injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+        verify(otherProxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    void test_listTags_doesNotInvalidate() {
+        when(clock.instant()).thenReturn(NOW);
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any())).thenReturn(describeResponse);
+        when(proxy.injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any()))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        final ProxyClient<RdsClient> memoizing = new MemoizingProxyClient<>(proxy, MAX_AGE, clock);
+        final ListTagsForResourceRequest listTagsRequest = ListTagsForResourceRequest.builder().resourceName("arn").build();
+
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+        memoizing.injectCredentialsAndInvokeV2(listTagsRequest, r -> ListTagsForResourceResponse.builder().build());
+        memoizing.injectCredentialsAndInvokeV2(describeRequest, r -> describeResponse);
+        memoizing.injectCredentialsAndInvokeV2(listTagsRequest, r -> ListTagsForResourceResponse.builder().build());
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any());
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
+    }
+
+    @Test
+    void test_isReadOnly() {
+        assertThat(MemoizingProxyClient.isReadOnly(describeRequest)).isTrue();
+        assertThat(MemoizingProxyClient.isReadOnly(ListTagsForResourceRequest.builder().build())).isTrue();
+        assertThat(MemoizingProxyClient.isReadOnly(ModifyDbInstanceRequest.builder().build())).isFalse();
+        assertThat(MemoizingProxyClient.isReadOnly(AddTagsToResourceRequest.builder().build())).isFalse();
+        assertThat(MemoizingProxyClient.isReadOnly(null)).isFalse();
+    }
+}
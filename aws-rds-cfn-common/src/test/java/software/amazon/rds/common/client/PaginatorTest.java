@@ -0,0 +1,254 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+class PaginatorTest {
+
+    // Runs the prefetch in the calling thread, so that the prefetched calls are observable right away.
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    @Mock
+    private ProxyClient<RdsClient> proxy;
+
+    @Mock
+    private RdsClient rdsClient;
+
+    private Map<String, DescribeDbParametersResponse> pages;
+
+    @BeforeEach
+    public void setup() {
+        pages = new HashMap<>();
+        pages.put(null, page("marker-1", "param-1", "param-2"));
+        pages.put("marker-1", page("marker-2", "param-3", "param-4"));
+        pages.put("marker-2", page(null, "param-5"));
+    }
+
+    private static DescribeDbParametersResponse page(final String marker, final String... parameterNames) {
+        final List<Parameter> parameters = new ArrayList<>();
+        for (final String parameterName : parameterNames) {
+            parameters.add(Parameter.builder().parameterName(parameterName).build());
+        }
+        return DescribeDbParametersResponse.builder().marker(marker).parameters(parameters).build();
+    }
+
+    private void mockPages() {
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any()))
+                .thenAnswer(invocation -> pages.get(invocation.<DescribeDbParametersRequest>getArgument(0).marker()));
+    }
+
+    private Paginator<DescribeDbParametersResponse, Parameter> newPaginator() {
+        final DescribeDbParametersRequest request = DescribeDbParametersRequest.builder()
+                .dbParameterGroupName("db-parameter-group")
+                .build();
+        return Paginator.of(
+                proxy,
+                marker -> request.toBuilder().marker(marker).build(),
+                rdsClient::describeDBParameters,
+                DescribeDbParametersResponse::parameters,
+                DescribeDbParametersResponse::marker
+        );
+    }
+
+    private static List<String> parameterNames(final Iterable<Parameter> parameters) {
+        final List<String> parameterNames = new ArrayList<>();
+        for (final Parameter parameter : parameters) {
+            parameterNames.add(parameter.parameterName());
+        }
+        return parameterNames;
+    }
+
+    @Test
+    void test_iterate_yieldsAllPagesInOrder() {
+        mockPages();
+
+        assertThat(parameterNames(newPaginator())).containsExactly("param-1", "param-2", "param-3", "param-4", "param-5");
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_iterate_isLazy() {
+        mockPages();
+
+        final Iterator<Parameter> iterator = newPaginator().iterator();
+        assertThat(iterator.next().parameterName()).isEqualTo("param-1");
+        assertThat(iterator.next().parameterName()).isEqualTo("param-2");
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+
+        assertThat(iterator.next().parameterName()).isEqualTo("param-3");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_iterate_maxPages() {
+        mockPages();
+
+        final Iterator<Parameter> iterator = newPaginator().withMaxPages(2, "DescribeDBParameters").iterator();
+        for (int i = 0; i < 4; i++) {
+            iterator.next();
+        }
+
+        assertThatThrownBy(iterator::hasNext)
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Max DescribeDBParameters page reached.");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_iterate_stopWhenFound() {
+        mockPages();
+
+        final Paginator<DescribeDbParametersResponse, Parameter> paginator = newPaginator()
+                .withPrefetch(DIRECT_EXECUTOR)
+                .stopWhenFound(Arrays.asList("param-4", "param-1"), Parameter::parameterName);
+
+        assertThat(parameterNames(paginator)).containsExactly("param-1", "param-2", "param-3", "param-4");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_iterate_stopWhenFound_missingKey() {
+        mockPages();
+
+        final Paginator<DescribeDbParametersResponse, Parameter> paginator = newPaginator()
+                .stopWhenFound(Arrays.asList("param-1", "param-6"), Parameter::parameterName);
+
+        assertThat(parameterNames(paginator)).hasSize(5);
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_iterate_prefetchesNextPage() {
+        mockPages();
+
+        final Iterator<Parameter> iterator = newPaginator().withPrefetch(DIRECT_EXECUTOR).iterator();
+        assertThat(iterator.next().parameterName()).isEqualTo("param-1");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+
+        final List<String> parameterNames = new ArrayList<>();
+        iterator.forEachRemaining(parameter -> parameterNames.add(parameter.parameterName()));
+        assertThat(parameterNames).containsExactly("param-2", "param-3", "param-4", "param-5");
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_iterate_prefetchRespectsMaxPages() {
+        mockPages();
+
+        final Iterator<Parameter> iterator = newPaginator()
+                .withMaxPages(2, "DescribeDBParameters")
+                .withPrefetch(DIRECT_EXECUTOR)
+                .iterator();
+        for (int i = 0; i < 4; i++) {
+            iterator.next();
+        }
+
+        assertThatThrownBy(iterator::hasNext).hasMessage("Max DescribeDBParameters page reached.");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_iterate_prefetchExceptionIsRethrown() {
+        final DbParameterGroupNotFoundException exception = DbParameterGroupNotFoundException.builder()
+                .message("db-parameter-group not found")
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any()))
+                .thenReturn(pages.get(null))
+                .thenThrow(exception);
+
+        final Iterator<Parameter> iterator = newPaginator().withPrefetch(DIRECT_EXECUTOR).iterator();
+        iterator.next();
+        iterator.next();
+
+        assertThatThrownBy(iterator::hasNext).isSameAs(exception);
+    }
+
+    @Test
+    void test_close_cancelsPrefetch() {
+        mockPages();
+        final List<Runnable> scheduled = new ArrayList<>();
+
+        final Paginator<DescribeDbParametersResponse, Parameter>.PageIterator iterator = newPaginator()
+                .withPrefetch(scheduled::add)
+                .iterator();
+        iterator.next();
+        iterator.close();
+        scheduled.forEach(Runnable::run);
+
+        assertThat(scheduled).hasSize(1);
+        assertThat(iterator.hasNext()).isFalse();
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_forEach_failingConsumerCancelsPrefetch() {
+        mockPages();
+        final List<Runnable> scheduled = new ArrayList<>();
+        final IllegalStateException exception = new IllegalStateException("consumer failure");
+
+        assertThatThrownBy(() -> newPaginator().withPrefetch(scheduled::add).forEach(parameter -> {
+            throw exception;
+        })).isSameAs(exception);
+        scheduled.forEach(Runnable::run);
+
+        assertThat(scheduled).hasSize(1);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_iterate_rejectedPrefetchFetchesSynchronously() {
+        mockPages();
+
+        final Paginator<DescribeDbParametersResponse, Parameter> paginator = newPaginator()
+                .withMaxPages(3, "DescribeDBParameters")
+                .withPrefetch(runnable -> {
+                    throw new RejectedExecutionException();
+                });
+
+        assertThat(parameterNames(paginator)).containsExactly("param-1", "param-2", "param-3", "param-4", "param-5");
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(any(DescribeDbParametersRequest.class), any());
+    }
+
+    @Test
+    void test_iterate_nullItemsAreEmptyPage() {
+        pages.put("marker-1", DescribeDbParametersResponse.builder().marker("marker-2").build());
+        mockPages();
+
+        final Paginator<DescribeDbParametersResponse, Parameter> paginator = Paginator.of(
+                proxy,
+                marker -> DescribeDbParametersRequest.builder().marker(marker).build(),
+                rdsClient::describeDBParameters,
+                (DescribeDbParametersResponse response) -> response.hasParameters() ? response.parameters() : null,
+                DescribeDbParametersResponse::marker
+        );
+
+        assertThat(parameterNames(paginator)).containsExactly("param-1", "param-2", "param-5");
+    }
+}
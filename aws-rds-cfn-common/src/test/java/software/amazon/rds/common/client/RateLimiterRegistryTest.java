@@ -0,0 +1,53 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.rds.common.client.RateLimiterRegistry.CallType;
+
+class RateLimiterRegistryTest {
+
+    private static final String REGION = "us-east-1";
+
+    private static RateLimiterRegistry newRegistry(final int maxEntries) {
+        return new RateLimiterRegistry(callType -> new AdaptiveRateLimiter(AdaptiveRateLimiter.Config.builder().build()), maxEntries);
+    }
+
+    @Test
+    void test_get_returnsSameLimiterPerKey() {
+        final RateLimiterRegistry registry = newRegistry(RateLimiterRegistry.DEFAULT_MAX_ENTRIES);
+
+        final AdaptiveRateLimiter describe = registry.get("account", REGION, CallType.DESCRIBE);
+
+        assertThat(registry.get("account", REGION, CallType.DESCRIBE)).isSameAs(describe);
+        assertThat(registry.get("account", REGION, CallType.MUTATE)).isNotSameAs(describe);
+        assertThat(registry.get("other-account", REGION, CallType.DESCRIBE)).isNotSameAs(describe);
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    void test_get_evictsLeastRecentlyUsed() {
+        final RateLimiterRegistry registry = newRegistry(2);
+
+        final AdaptiveRateLimiter first = registry.get("account-1", REGION, CallType.DESCRIBE);
+        registry.get("account-2", REGION, CallType.DESCRIBE);
+        // Touch the first limiter, so that the second one is the least recently used.
+        registry.get("account-1", REGION, CallType.DESCRIBE);
+        registry.get("account-3", REGION, CallType.DESCRIBE);
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.getState()).containsOnlyKeys("account-1/us-east-1/DESCRIBE", "account-3/us-east-1/DESCRIBE");
+        assertThat(registry.get("account-1", REGION, CallType.DESCRIBE)).isSameAs(first);
+    }
+
+    @Test
+    void test_getState_ofAccountAndRegion() {
+        final RateLimiterRegistry registry = newRegistry(RateLimiterRegistry.DEFAULT_MAX_ENTRIES);
+        registry.get("account", REGION, CallType.DESCRIBE);
+        registry.get("account", "eu-west-1", CallType.MUTATE);
+        registry.get("other-account", REGION, CallType.MUTATE);
+
+        assertThat(registry.getState("account", REGION)).containsOnlyKeys(CallType.DESCRIBE.name());
+    }
+}
@@ -0,0 +1,149 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.error.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitingProxyClientTest {
+
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+    private static final String DESCRIBE_KEY = ACCOUNT_ID + "/" + REGION + "/DESCRIBE";
+    private static final String MUTATE_KEY = ACCOUNT_ID + "/" + REGION + "/MUTATE";
+
+    private static final AdaptiveRateLimiter.Config CONFIG = AdaptiveRateLimiter.Config.builder()
+            .initialRate(10.0)
+            .increaseStep(1.0)
+            .build();
+
+    @Mock
+    private ProxyClient<RdsClient> proxy;
+
+    @Mock
+    private RdsClient rdsClient;
+
+    private RateLimiterRegistry registry;
+    private ProxyClient<RdsClient> client;
+
+    @BeforeEach
+    public void setup() {
+        registry = new RateLimiterRegistry(callType -> new AdaptiveRateLimiter(CONFIG, System::nanoTime, nanos -> {
+        }));
+        client = new RateLimitingProxyClient<>(proxy, registry, ACCOUNT_ID, REGION);
+    }
+
+    private static AwsServiceException throttlingException() {
+        return AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(ErrorCode.Throttling.toString()).build())
+                .build();
+    }
+
+    @Test
+    void test_success_increasesRate() {
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any()))
+                .thenReturn(DescribeDbInstancesResponse.builder().build());
+
+        client.injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), rdsClient::describeDBInstances);
+
+        final AdaptiveRateLimiter.State state = registry.getState().get(DESCRIBE_KEY);
+        assertThat(state.getAcquiredCount()).isEqualTo(1);
+        assertThat(state.getRate()).isEqualTo(11.0);
+    }
+
+    @Test
+    void test_listCalls_takeDescribeTokens() {
+        when(proxy.injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any()))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        client.injectCredentialsAndInvokeV2(ListTagsForResourceRequest.builder().build(), rdsClient::listTagsForResource);
+
+        assertThat(registry.getState()).containsOnlyKeys(DESCRIBE_KEY);
+    }
+
+    @Test
+    void test_throttle_decreasesRateOfCallTypeOnly() {
+        final AwsServiceException exception = throttlingException();
+        when(proxy.injectCredentialsAndInvokeV2(any(ModifyDbInstanceRequest.class), any())).thenThrow(exception);
+
+        assertThatThrownBy(() -> client.injectCredentialsAndInvokeV2(ModifyDbInstanceRequest.builder().build(), rdsClient::modifyDBInstance))
+                .isSameAs(exception);
+
+        assertThat(registry.getState()).containsOnlyKeys(MUTATE_KEY);
+        assertThat(registry.getState().get(MUTATE_KEY).getRate()).isEqualTo(5.0);
+        assertThat(registry.getState().get(MUTATE_KEY).getThrottleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void test_otherFailure_keepsRate() {
+        final DbInstanceNotFoundException exception = DbInstanceNotFoundException.builder().build();
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any())).thenThrow(exception);
+
+        assertThatThrownBy(() -> client.injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), rdsClient::describeDBInstances))
+                .isSameAs(exception);
+
+        final AdaptiveRateLimiter.State state = registry.getState().get(DESCRIBE_KEY);
+        assertThat(state.getRate()).isEqualTo(10.0);
+        assertThat(state.getThrottleCount()).isZero();
+    }
+
+    @Test
+    void test_async_throttleOnCompletion() {
+        final CompletableFuture<ModifyDbInstanceResponse> future = new CompletableFuture<>();
+        when(proxy.injectCredentialsAndInvokeV2Async(any(ModifyDbInstanceRequest.class), any())).thenReturn(future);
+
+        client.injectCredentialsAndInvokeV2Async(ModifyDbInstanceRequest.builder().build(), request -> future);
+        assertThat(registry.getState().get(MUTATE_KEY).getRate()).isEqualTo(10.0);
+
+        future.completeExceptionally(throttlingException());
+        assertThat(registry.getState().get(MUTATE_KEY).getRate()).isEqualTo(5.0);
+    }
+
+    @Test
+    void test_registry_scopedByAccountAndRegion() {
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any()))
+                .thenReturn(DescribeDbInstancesResponse.builder().build());
+
+        new RateLimitingProxyClient<>(proxy, registry, ACCOUNT_ID, "eu-west-1")
+                .injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), rdsClient::describeDBInstances);
+        client.injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), rdsClient::describeDBInstances);
+
+        assertThat(registry.getState()).containsOnlyKeys(ACCOUNT_ID + "/eu-west-1/DESCRIBE", DESCRIBE_KEY);
+    }
+
+    @Test
+    void test_registry_getStateOfAccountAndRegion() {
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any()))
+                .thenReturn(DescribeDbInstancesResponse.builder().build());
+
+        new RateLimitingProxyClient<>(proxy, registry, ACCOUNT_ID, "eu-west-1")
+                .injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), rdsClient::describeDBInstances);
+        client.injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), rdsClient::describeDBInstances);
+
+        assertThat(registry.getState(ACCOUNT_ID, REGION)).containsOnlyKeys("DESCRIBE");
+        assertThat(registry.getState(ACCOUNT_ID, REGION).get("DESCRIBE").getAcquiredCount()).isEqualTo(1);
+        assertThat(registry.getState("210987654321", REGION)).isEmpty();
+    }
+}
@@ -0,0 +1,140 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightGroupTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private ExecutorService executor;
+    private SingleFlightGroup group;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+        group = new SingleFlightGroup();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts a leader call blocked until {@code release} is counted down.
+     */
+    private Future<String> startLeader(
+            final String key,
+            final AtomicInteger calls,
+            final CountDownLatch started,
+            final CountDownLatch release,
+            final RuntimeException failure
+    ) {
+        return executor.submit(() -> group.execute(key, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            if (failure != null) {
+                throw failure;
+            }
+            return "result-" + calls.get();
+        }));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitWaiters(final int waiters) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (group.waiters() < waiters) {
+            assertThat(System.nanoTime()).as("%d waiters joined", waiters).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+        assertThat(group.size()).isEqualTo(1);
+    }
+
+    @Test
+    void test_execute_coalescesConcurrentCalls() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Future<String> leader = startLeader("key", calls, started, release, null);
+        await(started);
+        final Future<String> waiter1 = executor.submit(() -> group.execute("key", () -> "unexpected-" + calls.incrementAndGet()));
+        final Future<String> waiter2 = executor.submit(() -> group.execute("key", () -> "unexpected-" + calls.incrementAndGet()));
+        awaitWaiters(2);
+        release.countDown();
+
+        assertThat(leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(waiter1.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(waiter2.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(group.size()).isZero();
+        assertThat(group.waiters()).isZero();
+    }
+
+    @Test
+    void test_execute_differentKeysAreNotCoalesced() {
+        final AtomicInteger calls = new AtomicInteger();
+        final String result = group.execute("key-1", () -> group.execute("key-2", () -> "nested-" + calls.incrementAndGet()));
+
+        assertThat(result).isEqualTo("nested-1");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void test_execute_resultIsNotRetained() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThat(group.execute("key", () -> "result-" + calls.incrementAndGet())).isEqualTo("result-1");
+        assertThat(group.execute("key", () -> "result-" + calls.incrementAndGet())).isEqualTo("result-2");
+        assertThat(group.size()).isZero();
+    }
+
+    @Test
+    void test_execute_exceptionIsShared() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IllegalStateException failure = new IllegalStateException("describe failed");
+
+        startLeader("key", calls, started, release, failure);
+        await(started);
+        final Future<String> waiter = executor.submit(() -> group.execute("key", () -> "unexpected"));
+        awaitWaiters(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> waiter.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(group.size()).isZero();
+        assertThat(group.execute("key", () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    void test_execute_leaderException() {
+        final IllegalStateException failure = new IllegalStateException("describe failed");
+
+        assertThatThrownBy(() -> group.execute("key", () -> {
+            throw failure;
+        })).isSameAs(failure);
+        assertThat(group.size()).isZero();
+    }
+}
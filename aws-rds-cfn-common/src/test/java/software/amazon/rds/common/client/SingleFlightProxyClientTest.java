@@ -0,0 +1,196 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightProxyClientTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+    private static final String ACCESS_KEY_ID = "access-key-1";
+
+    @Mock
+    private ProxyClient<RdsClient> proxy;
+
+    @Mock
+    private RdsClient rdsClient;
+
+    private ExecutorService executor;
+    private SingleFlightGroup group;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+        group = new SingleFlightGroup();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static DescribeDbClustersRequest describeDbClusters(final String identifier) {
+        return DescribeDbClustersRequest.builder().dbClusterIdentifier(identifier).build();
+    }
+
+    /**
+     * A proxy injecting the credentials of {@code accessKeyId} into the requests, as the CloudFormation proxy does.
+     */
+    @SuppressWarnings("unchecked")
+    private static ProxyClient<RdsClient> proxyWithCredentials(final String accessKeyId) {
+        final AwsCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(
+                AwsSessionCredentials.create(accessKeyId, "secret-key", "session-token"));
+        final ProxyClient<RdsClient> proxyClient = mock(ProxyClient.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeDbClustersRequest.class), any())).thenAnswer(invocation -> {
+            final DescribeDbClustersRequest request = invocation.getArgument(0);
+            final Function<DescribeDbClustersRequest, DescribeDbClustersResponse> requestFunction = invocation.getArgument(1);
+            return requestFunction.apply(request.toBuilder()
+                    .overrideConfiguration(configuration -> configuration.credentialsProvider(credentialsProvider))
+                    .build());
+        });
+        return proxyClient;
+    }
+
+    private Future<DescribeDbClustersResponse> describeAsync(
+            final ProxyClient<RdsClient> client,
+            final DescribeDbClustersRequest request
+    ) {
+        return executor.submit(() -> client.injectCredentialsAndInvokeV2(request, rdsClient::describeDBClusters));
+    }
+
+    private void awaitInFlight(final int size, final int waiters) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (group.size() < size || group.waiters() < waiters) {
+            assertThat(System.nanoTime()).as("%d calls and %d waiters in flight", size, waiters).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void test_identicalConcurrentDescribesAreCoalesced() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final DescribeDbClustersResponse response = DescribeDbClustersResponse.builder().build();
+        when(rdsClient.describeDBClusters(any(DescribeDbClustersRequest.class))).thenAnswer(invocation -> {
+            assertThat(release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            return response;
+        });
+
+        // Two invocations of the same account, region and principal, e.g. two members of the same cluster.
+        final ProxyClient<RdsClient> client1 = new SingleFlightProxyClient<>(proxyWithCredentials(ACCESS_KEY_ID), group, ACCOUNT_ID, REGION);
+        final ProxyClient<RdsClient> client2 = new SingleFlightProxyClient<>(proxyWithCredentials(ACCESS_KEY_ID), group, ACCOUNT_ID, REGION);
+
+        final Future<DescribeDbClustersResponse> leader = describeAsync(client1, describeDbClusters("db-cluster"));
+        awaitInFlight(1, 0);
+        final Future<DescribeDbClustersResponse> waiter = describeAsync(client2, describeDbClusters("db-cluster"));
+        awaitInFlight(1, 1);
+        release.countDown();
+
+        assertThat(leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(waiter.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isSameAs(response);
+        verify(rdsClient, times(1)).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
+    @Test
+    void test_differentParametersAccountsAndRegionsAreNotCoalesced() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        when(rdsClient.describeDBClusters(any(DescribeDbClustersRequest.class))).thenAnswer(invocation -> {
+            assertThat(release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            return DescribeDbClustersResponse.builder().build();
+        });
+        final ProxyClient<RdsClient> proxyClient = proxyWithCredentials(ACCESS_KEY_ID);
+
+        final Future<DescribeDbClustersResponse> call1 = describeAsync(new SingleFlightProxyClient<>(proxyClient, group, ACCOUNT_ID, REGION), describeDbClusters("db-cluster-1"));
+        final Future<DescribeDbClustersResponse> call2 = describeAsync(new SingleFlightProxyClient<>(proxyClient, group, ACCOUNT_ID, REGION), describeDbClusters("db-cluster-2"));
+        final Future<DescribeDbClustersResponse> call3 = describeAsync(new SingleFlightProxyClient<>(proxyClient, group, "210987654321", REGION), describeDbClusters("db-cluster-1"));
+        final Future<DescribeDbClustersResponse> call4 = describeAsync(new SingleFlightProxyClient<>(proxyClient, group, ACCOUNT_ID, "eu-west-1"), describeDbClusters("db-cluster-1"));
+        awaitInFlight(4, 0);
+        release.countDown();
+
+        for (final Future<DescribeDbClustersResponse> call : Arrays.asList(call1, call2, call3, call4)) {
+            call.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        verify(rdsClient, times(4)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        assertThat(group.waiters()).isZero();
+    }
+
+    @Test
+    void test_differentCredentialsAreNotCoalesced() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        when(rdsClient.describeDBClusters(any(DescribeDbClustersRequest.class))).thenAnswer(invocation -> {
+            assertThat(release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            return DescribeDbClustersResponse.builder().build();
+        });
+
+        // Two principals of the same account: one of them may not be authorized to describe the cluster.
+        final Future<DescribeDbClustersResponse> call1 = describeAsync(
+                new SingleFlightProxyClient<>(proxyWithCredentials(ACCESS_KEY_ID), group, ACCOUNT_ID, REGION),
+                describeDbClusters("db-cluster"));
+        final Future<DescribeDbClustersResponse> call2 = describeAsync(
+                new SingleFlightProxyClient<>(proxyWithCredentials("access-key-2"), group, ACCOUNT_ID, REGION),
+                describeDbClusters("db-cluster"));
+        awaitInFlight(2, 0);
+        release.countDown();
+
+        call1.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        call2.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        verify(rdsClient, times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        assertThat(group.waiters()).isZero();
+    }
+
+    @Test
+    void test_sequentialDescribesAreNotCached() {
+        when(rdsClient.describeDBClusters(any(DescribeDbClustersRequest.class)))
+                .thenReturn(DescribeDbClustersResponse.builder().build());
+        final ProxyClient<RdsClient> client = new SingleFlightProxyClient<>(proxyWithCredentials(ACCESS_KEY_ID), group, ACCOUNT_ID, REGION);
+
+        client.injectCredentialsAndInvokeV2(describeDbClusters("db-cluster"), rdsClient::describeDBClusters);
+        client.injectCredentialsAndInvokeV2(describeDbClusters("db-cluster"), rdsClient::describeDBClusters);
+
+        verify(rdsClient, times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
+    @Test
+    void test_mutatingCallsArePassedThrough() {
+        final SingleFlightGroup mockGroup = mock(SingleFlightGroup.class);
+        final ModifyDbClusterRequest request = ModifyDbClusterRequest.builder().dbClusterIdentifier("db-cluster").build();
+        final ModifyDbClusterResponse response = ModifyDbClusterResponse.builder().build();
+        when(proxy.injectCredentialsAndInvokeV2(any(ModifyDbClusterRequest.class), any())).thenReturn(response);
+
+        final ProxyClient<RdsClient> client = new SingleFlightProxyClient<>(proxy, mockGroup, ACCOUNT_ID, REGION);
+
+        assertThat(client.injectCredentialsAndInvokeV2(request, rdsClient::modifyDBCluster)).isSameAs(response);
+        verify(mockGroup, never()).execute(any(), any());
+    }
+}
@@ -75,4 +75,19 @@ class ErrorCodeTest {
         final ErrorCode errorCode = ErrorCode.fromException(exception);
         assertThat(errorCode).isNull();
     }
+
+    @Test
+    void isThrottling() {
+        final AwsServiceException throttling = AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(ErrorCode.ThrottlingException.toString()).build())
+                .build();
+        final AwsServiceException notFound = AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(ErrorCode.DBInstanceNotFound.toString()).build())
+                .build();
+        assertThat(ErrorCode.isThrottling(throttling)).isTrue();
+        assertThat(ErrorCode.isThrottling(notFound)).isFalse();
+        assertThat(ErrorCode.isThrottling(AwsServiceException.builder().statusCode(429).build())).isTrue();
+        assertThat(ErrorCode.isThrottling(new RuntimeException("Throttling"))).isFalse();
+        assertThat(ErrorCode.isThrottling(null)).isFalse();
+    }
 }
@@ -106,6 +106,80 @@ class ErrorRuleSetTest {
         }
     }
 
+    @Test
+    void builder_withErrorClassHierarchies() {
+        final ErrorRuleSet ruleSet = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorClassHierarchies(ErrorStatus.failWith(HandlerErrorCode.InternalFailure), RuntimeException.class)
+                .withErrorClassHierarchies(ErrorStatus.ignore(), IllegalArgumentException.class)
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.NotFound), NumberFormatException.class)
+                .build();
+
+        final Map<Exception, ErrorStatus> expected = ImmutableMap.of(
+                new IllegalStateException(), new HandlerErrorStatus(HandlerErrorCode.InternalFailure),
+                new IllegalArgumentException(), new IgnoreErrorStatus(OperationStatus.SUCCESS),
+                new NumberFormatException(), new HandlerErrorStatus(HandlerErrorCode.NotFound),
+                new Exception(), new UnexpectedErrorStatus(new Exception())
+        );
+
+        for (final Map.Entry<Exception, ErrorStatus> entry : expected.entrySet()) {
+            assertEquivalentErrorStatuses(entry.getValue(), ruleSet.handle(entry.getKey()));
+            assertEquivalentErrorStatuses(entry.getValue(), ruleSet.compile().handle(entry.getKey()));
+        }
+    }
+
+    @Test
+    void compile_preservesPrecedence() {
+        final ErrorRuleSet base = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling), ErrorCode.Throttling)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.AccessDenied), ErrorCode.AccessDenied)
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.InternalFailure), AwsServiceException.class)
+                .build();
+        final ErrorRuleSet ruleSet = ErrorRuleSet.extend(base)
+                .withErrorCodes(ErrorStatus.ignore(), ErrorCode.Throttling)
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.NotFound), IllegalStateException.class)
+                .build();
+        final ErrorRuleSet compiled = ruleSet.compile();
+
+        final Map<Exception, ErrorStatus> expected = ImmutableMap.of(
+                newAwsServiceException(ErrorCode.Throttling), new IgnoreErrorStatus(OperationStatus.SUCCESS),
+                newAwsServiceException(ErrorCode.AccessDenied), new HandlerErrorStatus(HandlerErrorCode.InternalFailure),
+                new IllegalStateException(), new HandlerErrorStatus(HandlerErrorCode.NotFound),
+                new RuntimeException(), new UnexpectedErrorStatus(new RuntimeException())
+        );
+
+        for (int i = 0; i < 2; i++) {
+            // The second round hits the memoized class lookups.
+            for (final Map.Entry<Exception, ErrorStatus> entry : expected.entrySet()) {
+                assertEquivalentErrorStatuses(ruleSet.handle(entry.getKey()), compiled.handle(entry.getKey()));
+                assertEquivalentErrorStatuses(entry.getValue(), compiled.handle(entry.getKey()));
+            }
+        }
+    }
+
+    @Test
+    void compile_extendedCompiledRuleSet() {
+        final ErrorRuleSet base = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling), ErrorCode.Throttling)
+                .build()
+                .compile();
+        final ErrorRuleSet extension = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.ignore(), ErrorCode.AccessDenied)
+                .build()
+                .compile();
+        final ErrorRuleSet extended = base.extendWith(extension);
+
+        final Map<Exception, ErrorStatus> expected = ImmutableMap.of(
+                newAwsServiceException(ErrorCode.Throttling), new HandlerErrorStatus(HandlerErrorCode.Throttling),
+                newAwsServiceException(ErrorCode.AccessDenied), new IgnoreErrorStatus(OperationStatus.SUCCESS),
+                newAwsServiceException(ErrorCode.InternalFailure), new UnexpectedErrorStatus(new Exception())
+        );
+
+        for (final Map.Entry<Exception, ErrorStatus> entry : expected.entrySet()) {
+            assertEquivalentErrorStatuses(entry.getValue(), extended.handle(entry.getKey()));
+            assertEquivalentErrorStatuses(entry.getValue(), extended.compile().handle(entry.getKey()));
+        }
+    }
+
     private void assertEquivalentErrorStatuses(final ErrorStatus expected, final ErrorStatus observed) {
         assertThat(observed).hasSameClassAs(expected);
         if (expected instanceof UnexpectedErrorStatus) {
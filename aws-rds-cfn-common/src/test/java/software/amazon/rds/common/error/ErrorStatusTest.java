@@ -32,6 +32,13 @@ class ErrorStatusTest {
         assertThat(((RetryErrorStatus)errorStatus).getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
     }
 
+    @Test
+    void retryOnThrottling() {
+        final ErrorStatus errorStatus = ErrorStatus.retryOnThrottling(ThrottlingRetryPolicy.DEFAULT);
+        assertThat(errorStatus).isInstanceOf(ThrottlingRetryErrorStatus.class);
+        assertThat(((ThrottlingRetryErrorStatus) errorStatus).getPolicy()).isSameAs(ThrottlingRetryPolicy.DEFAULT);
+        assertThat(((ThrottlingRetryErrorStatus) errorStatus).getHandlerErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
 
     @Test
     void conditional() {
@@ -0,0 +1,53 @@
+package software.amazon.rds.common.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class ThrottlingRetryPolicyTest {
+
+    private static ThrottlingRetryPolicy policy(final double random) {
+        return ThrottlingRetryPolicy.builder()
+                .baseDelay(Duration.ofSeconds(5))
+                .maxDelay(Duration.ofSeconds(60))
+                .maxAttempts(3)
+                .random(() -> random)
+                .build();
+    }
+
+    @Test
+    void canRetry() {
+        final ThrottlingRetryPolicy policy = policy(0.0);
+        assertThat(policy.canRetry(0)).isTrue();
+        assertThat(policy.canRetry(2)).isTrue();
+        assertThat(policy.canRetry(3)).isFalse();
+    }
+
+    @Test
+    void nextDelaySeconds_lowerBoundIsBaseDelay() {
+        assertThat(policy(0.0).nextDelaySeconds(0)).isEqualTo(5);
+        assertThat(policy(0.0).nextDelaySeconds(40)).isEqualTo(5);
+    }
+
+    @Test
+    void nextDelaySeconds_upperBoundIsThreeTimesPreviousDelay() {
+        assertThat(policy(0.999).nextDelaySeconds(0)).isEqualTo(14);
+        assertThat(policy(0.5).nextDelaySeconds(10)).isEqualTo(17);
+    }
+
+    @Test
+    void nextDelaySeconds_cappedByMaxDelay() {
+        assertThat(policy(0.999).nextDelaySeconds(40)).isEqualTo(60);
+    }
+
+    @Test
+    void nextDelaySeconds_defaultPolicyStaysWithinBounds() {
+        int delay = 0;
+        for (int i = 0; i < 100; i++) {
+            delay = ThrottlingRetryPolicy.DEFAULT.nextDelaySeconds(delay);
+            assertThat(delay).isBetween(5, 60);
+        }
+    }
+}
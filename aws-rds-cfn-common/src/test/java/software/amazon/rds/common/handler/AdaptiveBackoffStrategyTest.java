@@ -0,0 +1,86 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveBackoffStrategyTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private Clock clock;
+
+    private AdaptiveBackoffStrategy newStrategy(final double random) {
+        return AdaptiveBackoffStrategy.builder()
+                .initialDelay(Duration.ofSeconds(5))
+                .fastPollingPeriod(Duration.ofMinutes(1))
+                .growthPeriod(Duration.ofMinutes(5))
+                .maxDelay(Duration.ofSeconds(60))
+                .timeout(Duration.ofMinutes(90))
+                .clock(clock)
+                .random(() -> random)
+                .build();
+    }
+
+    @Test
+    void test_nextDelay_fastPollingPeriod() {
+        final AdaptiveBackoffStrategy strategy = newStrategy(0.5);
+        assertThat(strategy.nextDelay(Duration.ZERO)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(strategy.nextDelay(Duration.ofMinutes(1))).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void test_nextDelay_exponentialGrowth() {
+        final AdaptiveBackoffStrategy strategy = newStrategy(0.5);
+        assertThat(strategy.nextDelay(Duration.ofMinutes(6))).isEqualTo(Duration.ofSeconds(10));
+        assertThat(strategy.nextDelay(Duration.ofMinutes(11))).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void test_nextDelay_maxDelay() {
+        final AdaptiveBackoffStrategy strategy = newStrategy(0.5);
+        assertThat(strategy.nextDelay(Duration.ofMinutes(60))).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void test_getMinDelay() {
+        assertThat(newStrategy(0.0).getMinDelay()).isEqualTo(newStrategy(0.0).nextDelay(Duration.ZERO));
+        assertThat(AdaptiveBackoffStrategy.builder().build().getMinDelay()).isEqualTo(Duration.ofSeconds(4));
+    }
+
+    @Test
+    void test_nextDelay_jitter() {
+        assertThat(newStrategy(0.0).nextDelay(Duration.ofMinutes(60))).isEqualTo(Duration.ofSeconds(48));
+        assertThat(newStrategy(1.0).nextDelay(Duration.ofMinutes(60))).isEqualTo(Duration.ofSeconds(72));
+        assertThat(newStrategy(0.0).nextDelay(Duration.ZERO)).isEqualTo(Duration.ofSeconds(4));
+    }
+
+    @Test
+    void test_getBackoff_accountsForElapsedTime() {
+        when(clock.instant()).thenReturn(NOW, NOW, NOW.plus(Duration.ofMinutes(5)));
+        final Delay delay = newStrategy(0.5).getBackoff(Duration.ofMinutes(1));
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void test_getBackoff_timeout() {
+        when(clock.instant()).thenReturn(NOW);
+        final Delay delay = newStrategy(0.5).getBackoff(Duration.ofMinutes(90));
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+}
@@ -2,8 +2,11 @@ package software.amazon.rds.common.handler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.ResourceTypeSchema;
@@ -24,8 +28,11 @@ import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.error.HandlerErrorStatus;
+import software.amazon.rds.common.error.ThrottlingRetryErrorStatus;
+import software.amazon.rds.common.error.ThrottlingRetryPolicy;
 import software.amazon.rds.common.logging.RequestLogger;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.common.util.CompiledSchema;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -74,7 +81,15 @@ class CommonsTest {
     @Test
     void test_handle_ThrottlingException() {
         final ErrorStatus status = Commons.DEFAULT_ERROR_RULE_SET.handle(newAwsServiceException(ErrorCode.ThrottlingException));
-        assertThat(status).isInstanceOf(HandlerErrorStatus.class);
+        assertThat(status).isInstanceOf(ThrottlingRetryErrorStatus.class);
+        assertThat(((HandlerErrorStatus) status).getHandlerErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
+
+    @Test
+    void test_handle_ThrottlingException_failOnThrottling() {
+        final ErrorRuleSet ruleSet = Commons.DEFAULT_ERROR_RULE_SET.extendWith(Commons.FAIL_ON_THROTTLING_RULE_SET);
+        final ErrorStatus status = ruleSet.handle(newAwsServiceException(ErrorCode.ThrottlingException));
+        assertThat(status).isNotInstanceOf(ThrottlingRetryErrorStatus.class);
         assertThat(((HandlerErrorStatus) status).getHandlerErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
     }
 
@@ -140,6 +155,45 @@ class CommonsTest {
         assertThat(resultEvent.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
     }
 
+    @Test
+    void test_handleException_ThrottlingRetry() {
+        final RetryCallbackContext context = new RetryCallbackContext();
+        final ProgressEvent<Void, RetryCallbackContext> event = ProgressEvent.progress(null, context);
+        final ErrorRuleSet ruleSet = throttlingRuleSet(2);
+
+        final ProgressEvent<Void, RetryCallbackContext> first = Commons.handleException(event, newAwsServiceException(ErrorCode.Throttling), ruleSet, requestLogger);
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(first.getCallbackDelaySeconds()).isEqualTo(10);
+        assertThat(context.getRetryContext().getThrottlingRetries()).isEqualTo(1);
+
+        final ProgressEvent<Void, RetryCallbackContext> second = Commons.handleException(event, newAwsServiceException(ErrorCode.Throttling), ruleSet, requestLogger);
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(second.getCallbackDelaySeconds()).isEqualTo(17);
+        assertThat(context.getRetryContext().getThrottlingRetries()).isEqualTo(2);
+        assertThat(context.getRetryContext().getLastThrottlingDelaySeconds()).isEqualTo(17);
+    }
+
+    @Test
+    void test_handleException_ThrottlingRetryExhausted() {
+        final RetryCallbackContext context = new RetryCallbackContext();
+        context.getRetryContext().setThrottlingRetries(2);
+        final ProgressEvent<Void, RetryCallbackContext> event = ProgressEvent.progress(null, context);
+
+        final ProgressEvent<Void, RetryCallbackContext> resultEvent = Commons.handleException(event, newAwsServiceException(ErrorCode.Throttling), throttlingRuleSet(2), requestLogger);
+        assertThat(resultEvent.isFailed()).isTrue();
+        assertThat(resultEvent.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(context.getRetryContext().getThrottlingRetries()).isEqualTo(2);
+    }
+
+    @Test
+    void test_handleException_ThrottlingWithoutRetryContext() {
+        final ProgressEvent<Void, Void> event = new ProgressEvent<>();
+
+        final ProgressEvent<Void, Void> resultEvent = Commons.handleException(event, newAwsServiceException(ErrorCode.Throttling), throttlingRuleSet(2), requestLogger);
+        assertThat(resultEvent.isFailed()).isTrue();
+        assertThat(resultEvent.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
+
     @Test
     void test_handleException_UnknownError() {
         final ProgressEvent<Void, Void> event = new ProgressEvent<>();
@@ -360,6 +414,41 @@ class CommonsTest {
         verifyNoInteractions(logger);
     }
 
+    @Test
+    void test_detectDrift_compiledSchema_shouldLogDriftedModel() {
+        final TestResourceModel input = new TestResourceModel();
+        input.testProperty = "test-property-init";
+
+        final TestResourceModel output = new TestResourceModel();
+        output.testProperty = "test-property-output";
+
+        Logger logger = Mockito.mock(Logger.class);
+        Mockito.doNothing().when(logger).log(any(String.class));
+
+        Commons.reportResourceDrift(input, ProgressEvent.<TestResourceModel, Void>progress(output, null), () -> CompiledSchema.compile(TEST_RESOURCE_TYPE_SCHEMA), new RequestLogger(logger, new ResourceHandlerRequest<>(), new FilteredJsonPrinter()), "test-property");
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(logger).log(captor.capture());
+
+        assertThat(captor.getValue()).contains("Resource drift detected");
+    }
+
+    @Test
+    void test_detectDrift_schemaLoadFailure_shouldReturnProgress() {
+        final TestResourceModel input = new TestResourceModel();
+        input.testProperty = "test-property";
+
+        final TestResourceModel output = new TestResourceModel();
+        output.testProperty = "test-property-1";
+
+        final ProgressEvent<TestResourceModel, Void> progress = ProgressEvent.progress(output, null);
+        final Supplier<CompiledSchema> schema = () -> {
+            throw new IllegalStateException("schema not found");
+        };
+
+        assertThat(Commons.reportResourceDrift(input, progress, schema, requestLogger, "test-property")).isSameAs(progress);
+        verify(requestLogger).log(eq("Drift detector internal error"), any(IllegalStateException.class));
+    }
+
     @Test
     void test_detectDrift_shouldFailIfSchemaIsNull(){
 
@@ -371,7 +460,7 @@ class CommonsTest {
 
         final String handlerOperation = null;
 
-        Commons.reportResourceDrift(input, ProgressEvent.<TestResourceModel, Void>progress(output, null), null, requestLogger, handlerOperation);
+        Commons.reportResourceDrift(input, ProgressEvent.<TestResourceModel, Void>progress(output, null), (ResourceTypeSchema) null, requestLogger, handlerOperation);
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Exception> exCaptor = ArgumentCaptor.forClass(Exception.class);
@@ -385,6 +474,28 @@ class CommonsTest {
                         .build()).build();
     }
 
+    private ErrorRuleSet throttlingRuleSet(final int maxAttempts) {
+        final ThrottlingRetryPolicy policy = ThrottlingRetryPolicy.builder()
+                .baseDelay(Duration.ofSeconds(5))
+                .maxDelay(Duration.ofSeconds(60))
+                .maxAttempts(maxAttempts)
+                .random(() -> 0.5)
+                .build();
+        return ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.retryOnThrottling(policy), ErrorCode.Throttling)
+                .build();
+    }
+
+    static class RetryCallbackContext implements RetryContext.Provider {
+
+        private final RetryContext retryContext = new RetryContext();
+
+        @Override
+        public RetryContext getRetryContext() {
+            return this.retryContext;
+        }
+    }
+
     static class TaggingCallbackContext implements TaggingContext.Provider {
 
         private final TaggingContext taggingContext;
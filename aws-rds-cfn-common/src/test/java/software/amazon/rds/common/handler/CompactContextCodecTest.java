@@ -0,0 +1,112 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+
+class CompactContextCodecTest {
+
+    @lombok.Getter
+    @lombok.Setter
+    private static class TestContext {
+        private boolean described;
+        private boolean created;
+        private boolean updated;
+    }
+
+    private static final CompactContextCodec<TestContext> CODEC = CompactContextCodec.<TestContext>builder()
+            .flag("described", TestContext::isDescribed, TestContext::setDescribed)
+            .flag("created", TestContext::isCreated, TestContext::setCreated)
+            .flag("updated", TestContext::isUpdated, TestContext::setUpdated)
+            .build();
+
+    @Test
+    void encodeFlags_bitPerRegistrationOrder() {
+        final TestContext context = new TestContext();
+        assertThat(CODEC.encodeFlags(context)).isZero();
+
+        context.setDescribed(true);
+        context.setUpdated(true);
+        assertThat(CODEC.encodeFlags(context)).isEqualTo(0b101L);
+        assertThat(CODEC.getFlagNames()).containsExactly("described", "created", "updated");
+    }
+
+    @Test
+    void decodeFlags_roundTrip() {
+        final TestContext context = new TestContext();
+        context.setCreated(true);
+        context.setUpdated(true);
+
+        final TestContext decoded = new TestContext();
+        decoded.setDescribed(true);
+        CODEC.decodeFlags(decoded, CODEC.encodeFlags(context));
+
+        assertThat(decoded.isDescribed()).isFalse();
+        assertThat(decoded.isCreated()).isTrue();
+        assertThat(decoded.isUpdated()).isTrue();
+    }
+
+    @Test
+    void decodeFlags_ignoresUnknownBits() {
+        final TestContext context = new TestContext();
+        CODEC.decodeFlags(context, 0b1001L);
+
+        assertThat(context.isDescribed()).isTrue();
+        assertThat(context.isCreated()).isFalse();
+        assertThat(context.isUpdated()).isFalse();
+    }
+
+    @Test
+    void builder_rejectsDuplicateFlag() {
+        assertThatThrownBy(() -> CompactContextCodec.<TestContext>builder()
+                .flag("described", TestContext::isDescribed, TestContext::setDescribed)
+                .flag("described", TestContext::isCreated, TestContext::setCreated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void builder_rejectsTooManyFlags() {
+        final CompactContextCodec.Builder<TestContext> builder = CompactContextCodec.builder();
+        for (int i = 0; i < CompactContextCodec.MAX_FLAGS; i++) {
+            builder.flag("flag-" + i, TestContext::isDescribed, TestContext::setDescribed);
+        }
+        assertThatThrownBy(() -> builder.flag("overflow", TestContext::isDescribed, TestContext::setDescribed))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void slim_keepsRetainedMembersOnly() {
+        final DBInstance dbInstance = DBInstance.builder().dbInstanceIdentifier("db-instance").build();
+        final DescribeDbInstancesResponse response = DescribeDbInstancesResponse.builder()
+                .dbInstances(dbInstance)
+                .marker("marker")
+                .build();
+
+        final DescribeDbInstancesResponse slim = CompactContextCodec.slim(response, "DBInstances");
+
+        assertThat(slim.dbInstances()).containsExactly(dbInstance);
+        assertThat(slim.marker()).isNull();
+    }
+
+    @Test
+    void slim_dropsEverythingByDefault() {
+        final CreateDbInstanceResponse response = CreateDbInstanceResponse.builder()
+                .dbInstance(DBInstance.builder().dbInstanceIdentifier("db-instance").build())
+                .build();
+
+        final CreateDbInstanceResponse slim = CompactContextCodec.slim(response);
+
+        assertThat(slim.dbInstance()).isNull();
+        assertThat(slim.toString().length()).isLessThan(response.toString().length());
+    }
+
+    @Test
+    void slim_null() {
+        assertThat(CompactContextCodec.<CreateDbInstanceResponse>slim(null)).isNull();
+    }
+}
@@ -8,8 +8,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +39,7 @@ import software.amazon.rds.common.printer.FilteredJsonPrinter;
 class EventsTest extends ProxyClientTestBase {
     public static final String FAILED_TO_CREATE_MESSAGE = "failed to create";
     public static final String SERVICE_INTERNAL_FAILURE_MESSAGE = "Service Internal Failure";
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2023-02-15T20:00:00Z"), ZoneOffset.UTC);
 
     @Mock
     RdsClient rds;
@@ -139,4 +143,214 @@ class EventsTest extends ProxyClientTestBase {
 
         assertThat(captor.getValue().eventCategories()).isEqualTo(ImmutableList.of("category1", "category2", "category3"));
     }
+
+    @Test
+    void test_checkFailedEvents_followsMarker() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("ok").build()).marker("page-2").build())
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message(FAILED_TO_CREATE_MESSAGE).build()).build());
+
+        final ProgressEvent<Void, Void> resultEvent = Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE,
+                Instant.parse("2023-02-15T19:34:50Z"), progressEvent, event -> Events.isEventMessageContains(event, FAILED_TO_CREATE_MESSAGE),
+                new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter()), new EventsContext(), CLOCK);
+
+        assertThat(resultEvent.isFailed()).isTrue();
+        assertThat(resultEvent.getMessage()).isEqualTo(FAILED_TO_CREATE_MESSAGE);
+
+        final ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        verify(proxyRdsClient.client(), times(2)).describeEvents(captor.capture());
+        assertThat(captor.getAllValues().get(0).marker()).isNull();
+        assertThat(captor.getAllValues().get(1).marker()).isEqualTo("page-2");
+        assertThat(captor.getAllValues().get(1).endTime()).isEqualTo(captor.getAllValues().get(0).endTime());
+    }
+
+    @Test
+    void test_checkFailedEvents_stopsOnFirstFailure() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message(FAILED_TO_CREATE_MESSAGE).build()).marker("page-2").build());
+
+        final ProgressEvent<Void, Void> resultEvent = Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE,
+                Instant.parse("2023-02-15T19:34:50Z"), progressEvent, event -> true,
+                new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter()), new EventsContext(), CLOCK);
+
+        assertThat(resultEvent.isFailed()).isTrue();
+        verify(proxyRdsClient.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
+    }
+
+    @Test
+    void test_checkFailedEvents_resumesFromLastEventTime() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+        final Instant start = Instant.parse("2023-02-15T19:34:50Z");
+        final Instant eventTime = Instant.parse("2023-02-15T19:40:00Z");
+        final EventsContext eventsContext = new EventsContext();
+        final RequestLogger requestLogger = new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter());
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("ok").date(eventTime).build()).build());
+
+        Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE, start, progressEvent, event -> false, requestLogger, eventsContext, CLOCK);
+        Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE, start, progressEvent, event -> false, requestLogger, eventsContext, CLOCK);
+
+        final ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        verify(proxyRdsClient.client(), times(2)).describeEvents(captor.capture());
+        assertThat(captor.getAllValues().get(0).startTime()).isEqualTo(start);
+        assertThat(captor.getAllValues().get(1).startTime()).isEqualTo(eventTime);
+        assertThat(eventsContext.getLastEventTime()).isEqualTo(eventTime.toEpochMilli());
+        assertThat(eventsContext.getMarker()).isNull();
+    }
+
+    @Test
+    void test_checkFailedEvents_pageBudget() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+        final EventsContext eventsContext = new EventsContext();
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("ok").build()).marker("next-page").build());
+
+        final ProgressEvent<Void, Void> resultEvent = Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE,
+                Instant.parse("2023-02-15T19:34:50Z"), progressEvent, event -> false,
+                new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter()), eventsContext, CLOCK);
+
+        assertThat(resultEvent.isInProgress()).isTrue();
+        assertThat(resultEvent.getCallbackDelaySeconds()).isEqualTo(Events.RESUME_CALLBACK_DELAY_SECONDS);
+        verify(proxyRdsClient.client(), times(Events.MAX_PAGES_PER_CHECK)).describeEvents(any(DescribeEventsRequest.class));
+        assertThat(eventsContext.getMarker()).isEqualTo("next-page");
+        assertThat(eventsContext.getWindowEndTime()).isEqualTo(CLOCK.millis());
+    }
+
+    @Test
+    void test_checkFailedEvents_resumesFromMarker() {
+        final ProgressEvent<Void, Void> progressEvent = ProgressEvent.progress(null, null);
+        final EventsContext eventsContext = new EventsContext();
+        final RequestLogger requestLogger = new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter());
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("ok").build()).marker("next-page").build());
+        Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE,
+                Instant.parse("2023-02-15T19:34:50Z"), progressEvent, event -> false, requestLogger, eventsContext, CLOCK);
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message(FAILED_TO_CREATE_MESSAGE).build()).build());
+        final ProgressEvent<Void, Void> resultEvent = Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE,
+                Instant.parse("2023-02-15T19:34:50Z"), progressEvent, event -> Events.isEventMessageContains(event, FAILED_TO_CREATE_MESSAGE),
+                requestLogger, eventsContext, CLOCK);
+
+        assertThat(resultEvent.isFailed()).isTrue();
+        final ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        verify(proxyRdsClient.client(), times(Events.MAX_PAGES_PER_CHECK + 1)).describeEvents(captor.capture());
+        assertThat(captor.getAllValues().get(Events.MAX_PAGES_PER_CHECK).marker()).isEqualTo("next-page");
+        assertThat(captor.getAllValues().get(Events.MAX_PAGES_PER_CHECK).endTime()).isEqualTo(CLOCK.instant());
+    }
+
+    @Test
+    void test_checkFailedEvents_withoutContext_pageBudget() {
+        final ProgressEvent<Void, Void> progressEvent = ProgressEvent.progress(null, null);
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("ok").build()).marker("next-page").build());
+
+        final ProgressEvent<Void, Void> resultEvent = Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE,
+                Instant.parse("2023-02-15T19:34:50Z"), progressEvent, event -> false,
+                new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter()));
+
+        assertThat(resultEvent).isSameAs(progressEvent);
+        verify(proxyRdsClient.client(), times(Events.MAX_PAGES_PER_CHECK)).describeEvents(any(DescribeEventsRequest.class));
+    }
+
+    @Test
+    void test_fetchEvents_pageBudget() {
+        final EventsContext eventsContext = new EventsContext();
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("ok").build()).marker("next-page").build());
+
+        final List<Event> events = Events.fetchEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE,
+                new String[]{"category"}, Instant.parse("2023-02-15T19:34:50Z"), eventsContext, CLOCK);
+
+        assertThat(events).hasSize(Events.MAX_PAGES_PER_CHECK);
+        verify(proxyRdsClient.client(), times(Events.MAX_PAGES_PER_CHECK)).describeEvents(any(DescribeEventsRequest.class));
+        assertThat(eventsContext.getMarker()).isEqualTo("next-page");
+    }
+
+    @Test
+    void test_fetchEvents_resumesFromMarker() {
+        final EventsContext eventsContext = new EventsContext();
+        final Instant start = Instant.parse("2023-02-15T19:34:50Z");
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("ok").build()).marker("next-page").build());
+        Events.fetchEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE, new String[]{"category"}, start, eventsContext, CLOCK);
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("last").build()).build());
+        final List<Event> events = Events.fetchEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE,
+                new String[]{"category"}, start, eventsContext, CLOCK);
+
+        assertThat(events).extracting(Event::message).containsExactly("last");
+        final ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        verify(proxyRdsClient.client(), times(Events.MAX_PAGES_PER_CHECK + 1)).describeEvents(captor.capture());
+        final DescribeEventsRequest resumed = captor.getAllValues().get(Events.MAX_PAGES_PER_CHECK);
+        assertThat(resumed.marker()).isEqualTo("next-page");
+        assertThat(resumed.startTime()).isEqualTo(start);
+        assertThat(resumed.endTime()).isEqualTo(captor.getAllValues().get(0).endTime());
+        assertThat(eventsContext.getMarker()).isNull();
+    }
+
+    @Test
+    void test_failureEventMatcher_caseInsensitive() {
+        final Events.FailureEventMatcher matcher = Events.failureEventMatcher("Cluster reboot failed", "insufficient instance capacity");
+
+        assertThat(matcher.match("CLUSTER REBOOT FAILED: unknown reason")).contains("Cluster reboot failed");
+        assertThat(matcher.match("There is Insufficient Instance Capacity in the AZ")).contains("insufficient instance capacity");
+        assertThat(matcher.match("Cluster reboot succeeded")).isEmpty();
+    }
+
+    @Test
+    void test_failureEventMatcher_overlappingFragments() {
+        final Events.FailureEventMatcher matcher = Events.failureEventMatcher("unable to modify the db instance class", "db instance", "instance class");
+
+        assertThat(matcher.match("Unable to modify the DB instance class")).contains("db instance");
+        assertThat(matcher.match("Wrong instance class")).contains("instance class");
+        assertThat(matcher.match("db instanc")).isEmpty();
+    }
+
+    @Test
+    void test_failureEventMatcher_suffixFragment() {
+        final Events.FailureEventMatcher matcher = Events.failureEventMatcher("abcd", "bc");
+
+        assertThat(matcher.match("xabcx")).contains("bc");
+        assertThat(matcher.match("xabdx")).isEmpty();
+    }
+
+    @Test
+    void test_failureEventMatcher_event() {
+        final Events.FailureEventMatcher matcher = Events.failureEventMatcher("failed to join a host to a domain");
+
+        assertThat(matcher.test(Event.builder().message("Failed to join a host to a domain").build())).isTrue();
+        assertThat(matcher.test(Event.builder().message("Joined a host to a domain").build())).isFalse();
+        assertThat(matcher.test(Event.builder().build())).isFalse();
+        assertThat(matcher.test(null)).isFalse();
+    }
+
+    @Test
+    void test_failureEventMatcher_sameAsIsEventMessageContains() {
+        final String[] fragments = {"failed to join cluster instance", "the instance could not be upgraded", "instance is in a state that cannot be upgraded"};
+        final Events.FailureEventMatcher matcher = Events.failureEventMatcher(fragments);
+        final String[] messages = {
+                "The instance could not be upgraded because of an incompatible parameter",
+                "DB instance is in a state that cannot be upgraded",
+                "Failed to join cluster instance my-instance",
+                "Finished DB instance backup",
+                ""
+        };
+        for (final String message : messages) {
+            final Event event = Event.builder().message(message).build();
+            final boolean expected = ImmutableList.copyOf(fragments).stream().anyMatch(f -> Events.isEventMessageContains(event, f));
+            assertThat(matcher.test(event)).isEqualTo(expected);
+        }
+    }
 }
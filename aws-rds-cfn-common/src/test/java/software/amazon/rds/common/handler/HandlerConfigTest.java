@@ -2,11 +2,21 @@ package software.amazon.rds.common.handler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.client.MemoizingProxyClient;
+import software.amazon.rds.test.common.fake.FakeClock;
 
 public class HandlerConfigTest {
 
@@ -31,7 +41,143 @@ public class HandlerConfigTest {
     public void test_HandlerConfigBuilder_Defaults() {
         final HandlerConfig config = HandlerConfig.builder().build();
         assertThat(config.isProbingEnabled()).isNotNull();
+        assertThat(config.isAsyncLoggingEnabled()).isFalse();
         assertThat(config.getBackoff()).isNotNull();
+        assertThat(config.getBackoffStrategy()).isNull();
+        assertThat(config.getClock()).isEqualTo(Clock.systemUTC());
+    }
+
+    @Test
+    public void test_getMemoizationMaxAge() {
+        assertThat(HandlerConfig.builder().build().getMemoizationMaxAge()).isEqualTo(MemoizingProxyClient.DEFAULT_MAX_AGE);
+        assertThat(HandlerConfig.builder()
+                .backoffStrategy(AdaptiveBackoffStrategy.builder().build())
+                .build()
+                .getMemoizationMaxAge()).isEqualTo(MemoizingProxyClient.DEFAULT_MAX_AGE);
+        assertThat(HandlerConfig.builder()
+                .backoff(Constant.of().delay(Duration.ofSeconds(2)).timeout(Duration.ofMinutes(1)).build())
+                .build()
+                .getMemoizationMaxAge()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(HandlerConfig.builder()
+                .backoffStrategy(elapsed -> attempt -> Duration.ofSeconds(1))
+                .build()
+                .getMemoizationMaxAge()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void test_getBackoff_withoutBackoffStrategy() {
+        final HandlerConfig config = HandlerConfig.builder().build();
+        final TestTimestampContext context = new TestTimestampContext();
+        assertThat(config.getBackoff(context)).isSameAs(config.getBackoff());
+        assertThat(context.getTimestamp(HandlerConfig.STABILIZATION_STARTED_AT)).isNull();
+    }
+
+    @Test
+    public void test_getBackoff_withBackoffStrategy() {
+        final Delay delay = attempt -> Duration.ofSeconds(1);
+        final Map<Duration, Delay> delays = new HashMap<>();
+        final HandlerConfig config = HandlerConfig.builder()
+                .backoffStrategy(elapsed -> {
+                    delays.put(elapsed, delay);
+                    return delay;
+                })
+                .build();
+        final TestTimestampContext context = new TestTimestampContext();
+        context.timestamp(HandlerConfig.STABILIZATION_STARTED_AT, Instant.now().minus(Duration.ofMinutes(10)));
+
+        assertThat(config.getBackoff(context).nextDelay(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(delays).hasSize(1);
+        assertThat(delays.keySet().iterator().next()).isGreaterThanOrEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void test_getBackoff_withClock() {
+        final Instant now = Instant.parse("2024-01-01T12:00:00Z");
+        final Delay delay = attempt -> Duration.ofSeconds(1);
+        final Map<Duration, Delay> delays = new HashMap<>();
+        final HandlerConfig config = HandlerConfig.builder()
+                .clock(Clock.fixed(now, ZoneOffset.UTC))
+                .backoffStrategy(elapsed -> {
+                    delays.put(elapsed, delay);
+                    return delay;
+                })
+                .build();
+        final TestTimestampContext context = new TestTimestampContext();
+        final Delay backoff = config.getBackoff(context);
+
+        backoff.nextDelay(1);
+        context.timestamp(HandlerConfig.STABILIZATION_STARTED_AT, now.minus(Duration.ofHours(36)));
+        backoff.nextDelay(2);
+
+        assertThat(delays).containsOnlyKeys(Duration.ZERO, Duration.ofHours(36));
+    }
+
+    @Test
+    public void test_trackStabilization_withoutBackoffStrategy() {
+        final HandlerConfig config = HandlerConfig.builder().build();
+        final TestTimestampContext context = new TestTimestampContext();
+
+        assertThat(config.trackStabilization("rds::describe-db-instance", context, false)).isFalse();
+        assertThat(config.trackStabilization("rds::describe-db-instance", context, true)).isTrue();
+        assertThat(context.timestamps).isEmpty();
+    }
+
+    @Test
+    public void test_trackStabilization() {
+        final FakeClock clock = new FakeClock(Instant.parse("2024-01-01T12:00:00Z"));
+        final Delay delay = attempt -> Duration.ofSeconds(1);
+        final List<Duration> elapsedTimes = new ArrayList<>();
+        final HandlerConfig config = HandlerConfig.builder()
+                .clock(clock)
+                .backoffStrategy(elapsed -> {
+                    elapsedTimes.add(elapsed);
+                    return delay;
+                })
+                .build();
+        final TestTimestampContext context = new TestTimestampContext();
+        final Delay backoff = config.getBackoff(context);
+
+        assertThat(config.trackStabilization("rds::create-db-instance", context, false)).isFalse();
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(config.trackStabilization("rds::create-db-instance", context, false)).isFalse();
+        backoff.nextDelay(1);
+        assertThat(config.trackStabilization("rds::create-db-instance", context, true)).isTrue();
+        assertThat(context.timestamps).isEmpty();
+
+        // The next stabilization backs off from its own start, not from the start of the previous one.
+        clock.advance(Duration.ofMinutes(1));
+        config.trackStabilization("rds::modify-db-instance", context, false);
+        backoff.nextDelay(1);
+
+        assertThat(elapsedTimes).containsExactly(Duration.ofMinutes(10), Duration.ZERO);
+    }
+
+    private static class TestTimestampContext implements TimestampContext.Provider {
+        private final Map<String, Instant> timestamps = new HashMap<>();
+
+        @Override
+        public void timestamp(final String label, final Instant instant) {
+            timestamps.put(label, instant);
+        }
+
+        @Override
+        public void timestampOnce(final String label, final Instant instant) {
+            timestamps.putIfAbsent(label, instant);
+        }
+
+        @Override
+        public void clearTimestamp(final String label) {
+            timestamps.remove(label);
+        }
+
+        @Override
+        public Instant getTimestamp(final String label) {
+            return timestamps.get(label);
+        }
+
+        @Override
+        public void calculateTimeDeltaInMinutes(final String label, final Instant currentTime, final Instant startTime) {
+        }
     }
 
 }
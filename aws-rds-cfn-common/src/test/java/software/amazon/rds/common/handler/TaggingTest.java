@@ -18,6 +18,7 @@ import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
@@ -426,4 +427,88 @@ public class TaggingTest extends ProxyClientTestBase {
         Mockito.verify(handlerMethod, Mockito.times(1))
                 .invoke(Mockito.any(), Mockito.any(), Mockito.any(ProgressEvent.class), Mockito.any(Tagging.TagSet.class));
     }
+
+    @Test
+    void test_planTagDelta_changedValueIsSingleAdd() {
+        final TagSet previousTags = TagSet.builder()
+                .resourceTags(Collections.singleton(Tag.builder().key("key").value("value").build()))
+                .build();
+        final TagSet desiredTags = TagSet.builder()
+                .resourceTags(Collections.singleton(Tag.builder().key("key").value("value-alter").build()))
+                .build();
+
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+
+        assertThat(tagDelta.getTagsToAdd().getResourceTags()).containsExactly(Tag.builder().key("key").value("value-alter").build());
+        assertThat(tagDelta.getTagsToRemove().isEmpty()).isTrue();
+    }
+
+    @Test
+    void test_planTagDelta_noOp() {
+        final TagSet previousTags = TagSet.builder()
+                .systemTags(SYSTEM_TAGS)
+                .resourceTags(Collections.singleton(Tag.builder().key("key").value("value").build()))
+                .build();
+        final TagSet desiredTags = TagSet.builder()
+                .systemTags(SYSTEM_TAGS)
+                .stackTags(Collections.singleton(Tag.builder().key("key").value("value").build()))
+                .build();
+
+        assertThat(Tagging.planTagDelta(previousTags, desiredTags).isEmpty()).isTrue();
+    }
+
+    @Test
+    void test_planTagDelta_tiers() {
+        final TagSet previousTags = TagSet.builder()
+                .systemTags(SYSTEM_TAGS)
+                .stackTags(STACK_TAGS)
+                .resourceTags(RESOURCE_TAGS)
+                .build();
+        final Tag stackTag = Tag.builder().key("stack-tag-key-3").value("stack-tag-value-3").build();
+        final Tag resourceTag = Tag.builder().key("resource-tag-key-1").value("resource-tag-value-alter").build();
+        final TagSet desiredTags = TagSet.builder()
+                .systemTags(SYSTEM_TAGS)
+                .stackTags(Collections.singleton(stackTag))
+                .resourceTags(Collections.singleton(resourceTag))
+                .build();
+
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+
+        assertThat(tagDelta.getTagsToAdd().getSystemTags()).isEmpty();
+        assertThat(tagDelta.getTagsToAdd().getStackTags()).containsExactly(stackTag);
+        assertThat(tagDelta.getTagsToAdd().getResourceTags()).containsExactly(resourceTag);
+        assertThat(tagDelta.getTagsToRemove().getSystemTags()).isEmpty();
+        assertThat(tagDelta.getTagsToRemove().getStackTags()).containsExactlyInAnyOrderElementsOf(STACK_TAGS);
+        assertThat(tagDelta.getTagsToRemove().getResourceTags()).containsExactly(Tag.builder().key("resource-tag-key-2").value("resource-tag-value-2").build());
+        assertThat(Tagging.getUpdateTagsAccessDeniedRuleSet(tagDelta)).isEqualTo(Tagging.RESOURCE_TAG_ERROR_RULE_SET);
+    }
+
+    @Test
+    void test_planTagDelta_stackTagsOnly() {
+        final TagSet previousTags = TagSet.builder().stackTags(STACK_TAGS).resourceTags(RESOURCE_TAGS).build();
+        final TagSet desiredTags = TagSet.builder().resourceTags(RESOURCE_TAGS).build();
+
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+
+        assertThat(tagDelta.getTagsToAdd().isEmpty()).isTrue();
+        assertThat(tagDelta.getTagsToRemove().getStackTags()).containsExactlyInAnyOrderElementsOf(STACK_TAGS);
+        assertThat(Tagging.getUpdateTagsAccessDeniedRuleSet(tagDelta)).isEqualTo(Tagging.STACK_TAGS_ERROR_RULE_SET);
+    }
+
+    @Test
+    void updateTags_changedValue_skipsRemove() {
+        final ProgressEvent<Void, Void> event = new ProgressEvent<>();
+        final Map<String, String> previousTags = ImmutableMap.of("key1", "value1", "key2", "value2");
+        final Map<String, String> desiredTags = ImmutableMap.of("key1", "value1", "key2", "value2-alter");
+
+        when(proxyRdsClient.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(AddTagsToResourceResponse.builder().build());
+
+        final ProgressEvent<Void, Void> resultEvent = Tagging.updateTags(proxyRdsClient, event, "test-arn", previousTags, desiredTags, Commons.DEFAULT_ERROR_RULE_SET, requestLogger);
+        assertThat(resultEvent.isFailed()).isFalse();
+
+        final ArgumentCaptor<AddTagsToResourceRequest> captor = ArgumentCaptor.forClass(AddTagsToResourceRequest.class);
+        Mockito.verify(proxyRdsClient.client()).addTagsToResource(captor.capture());
+        assertThat(captor.getValue().tags()).containsExactly(Tag.builder().key("key2").value("value2-alter").build());
+        Mockito.verify(proxyRdsClient.client(), Mockito.never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+    }
 }
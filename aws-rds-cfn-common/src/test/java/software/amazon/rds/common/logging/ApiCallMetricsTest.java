@@ -0,0 +1,90 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.rds.common.error.ErrorCode;
+
+class ApiCallMetricsTest {
+
+    private static long millis(final long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+
+    @Test
+    void test_operationName() {
+        assertThat(ApiCallMetrics.operationName(DescribeDbInstancesRequest.builder().build())).isEqualTo("DescribeDbInstances");
+        assertThat(ApiCallMetrics.operationName(null)).isEqualTo("Unknown");
+    }
+
+    @Test
+    void test_record_countsCallsErrorsAndThrottles() {
+        final ApiCallMetrics metrics = new ApiCallMetrics();
+        final AwsServiceException throttling = AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(ErrorCode.Throttling.toString()).build())
+                .build();
+
+        metrics.record("DescribeDbInstances", millis(20), null);
+        metrics.record("DescribeDbInstances", millis(30), DbInstanceNotFoundException.builder().build());
+        metrics.record("DescribeDbInstances", millis(40), throttling);
+        metrics.record("ModifyDbInstance", millis(300), null);
+
+        final Map<String, ApiCallMetrics.OperationSummary> summary = metrics.summarize();
+        assertThat(summary).containsOnlyKeys("DescribeDbInstances", "ModifyDbInstance");
+
+        final ApiCallMetrics.OperationSummary describe = summary.get("DescribeDbInstances");
+        assertThat(describe.getCallCount()).isEqualTo(3);
+        assertThat(describe.getErrorCount()).isEqualTo(2);
+        assertThat(describe.getThrottleCount()).isEqualTo(1);
+        assertThat(describe.getTotalLatencyMillis()).isEqualTo(90);
+        assertThat(describe.getMinLatencyMillis()).isEqualTo(20);
+        assertThat(describe.getMaxLatencyMillis()).isEqualTo(40);
+        assertThat(summary.get("ModifyDbInstance").getErrorCount()).isZero();
+    }
+
+    @Test
+    void test_record_latencyHistogram() {
+        final ApiCallMetrics metrics = new ApiCallMetrics();
+        metrics.record("DescribeDbInstances", millis(20), null);
+        metrics.record("DescribeDbInstances", millis(24), null);
+        metrics.record("DescribeDbInstances", millis(90), null);
+        metrics.record("DescribeDbInstances", millis(60_000), null);
+
+        assertThat(metrics.summarize().get("DescribeDbInstances").getLatencyHistogram()).containsExactly(
+                new ApiCallMetrics.LatencyBucket(25L, 2, 22.0),
+                new ApiCallMetrics.LatencyBucket(100L, 1, 90.0),
+                new ApiCallMetrics.LatencyBucket(null, 1, 60_000.0)
+        );
+    }
+
+    @Test
+    void test_record_usesTicker() {
+        final AtomicLong now = new AtomicLong(millis(1_000));
+        final ApiCallMetrics metrics = new ApiCallMetrics(now::get);
+
+        final long start = metrics.startTimer();
+        now.addAndGet(millis(75));
+        metrics.record(DescribeDbInstancesRequest.builder().build(), start, null);
+
+        assertThat(metrics.summarize().get("DescribeDbInstances").getTotalLatencyMillis()).isEqualTo(75);
+    }
+
+    @Test
+    void test_isEmpty() {
+        final ApiCallMetrics metrics = new ApiCallMetrics();
+        assertThat(metrics.isEmpty()).isTrue();
+        assertThat(metrics.summarize()).isEmpty();
+
+        metrics.record("DescribeDbInstances", 0, null);
+        assertThat(metrics.isEmpty()).isFalse();
+    }
+}
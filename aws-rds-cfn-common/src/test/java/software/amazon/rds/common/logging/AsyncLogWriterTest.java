@@ -0,0 +1,41 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncLogWriterTest {
+
+    @Test
+    void test_shared_isSingleton() {
+        assertThat(AsyncLogWriter.shared()).isSameAs(AsyncLogWriter.shared());
+    }
+
+    @Test
+    void test_flush_writesInOrder() {
+        final AsyncLogWriter writer = AsyncLogWriter.shared();
+        final List<Integer> written = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3 * AsyncLogWriter.DEFAULT_BUFFER_CAPACITY; i++) {
+            final int record = i;
+            writer.submit(() -> written.add(record));
+        }
+        writer.flush();
+        assertThat(written).hasSize(3 * AsyncLogWriter.DEFAULT_BUFFER_CAPACITY);
+        assertThat(written).isSorted();
+    }
+
+    @Test
+    void test_failingRecord_doesNotStopTheWorker() {
+        final AsyncLogWriter writer = AsyncLogWriter.shared();
+        final List<String> written = new CopyOnWriteArrayList<>();
+        writer.submit(() -> {
+            throw new IllegalStateException("failing record");
+        });
+        writer.submit(() -> written.add("record"));
+        writer.flush();
+        assertThat(written).containsExactly("record");
+    }
+}
@@ -0,0 +1,95 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.rds.common.client.AdaptiveRateLimiter;
+
+class EmfMetricsSinkTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC);
+
+    @Test
+    void test_publish_emfRecordPerOperation() {
+        final ApiCallMetrics metrics = new ApiCallMetrics();
+        metrics.record("DescribeDbInstances", TimeUnit.MILLISECONDS.toNanos(20), null);
+        metrics.record("DescribeDbInstances", TimeUnit.MILLISECONDS.toNanos(90), DbInstanceNotFoundException.builder().build());
+        metrics.record("ModifyDbInstance", TimeUnit.MILLISECONDS.toNanos(300), null);
+
+        final List<String> records = new ArrayList<>();
+        new EmfMetricsSink("RDS/CloudFormation", ImmutableMap.of("ResourceType", "AWS::RDS::DBInstance"), records::add, CLOCK)
+                .publish(metrics.summarize());
+
+        assertThat(records).hasSize(2);
+        final JSONObject record = new JSONObject(records.get(0));
+
+        final JSONObject metadata = record.getJSONObject("_aws");
+        assertThat(metadata.getLong("Timestamp")).isEqualTo(CLOCK.millis());
+        final JSONObject directive = metadata.getJSONArray("CloudWatchMetrics").getJSONObject(0);
+        assertThat(directive.getString("Namespace")).isEqualTo("RDS/CloudFormation");
+        assertThat(directive.getJSONArray("Dimensions").getJSONArray(0).toList()).containsExactly("ResourceType", "Operation");
+        assertThat(directive.getJSONArray("Metrics")).hasSize(4);
+
+        assertThat(record.getString("ResourceType")).isEqualTo("AWS::RDS::DBInstance");
+        assertThat(record.getString("Operation")).isEqualTo("DescribeDbInstances");
+        assertThat(record.getLong("CallCount")).isEqualTo(2);
+        assertThat(record.getLong("ErrorCount")).isEqualTo(1);
+        assertThat(record.getLong("ThrottleCount")).isZero();
+
+        final JSONObject latency = record.getJSONObject("Latency");
+        final JSONArray values = latency.getJSONArray("Values");
+        assertThat(values.getDouble(0)).isEqualTo(20.0);
+        assertThat(values.getDouble(1)).isEqualTo(90.0);
+        assertThat(latency.getJSONArray("Counts").toList()).containsExactly(1, 1);
+
+        assertThat(new JSONObject(records.get(1)).getString("Operation")).isEqualTo("ModifyDbInstance");
+    }
+
+    @Test
+    void test_publishRateLimiterState_emfRecordPerCallType() {
+        final List<String> records = new ArrayList<>();
+        new EmfMetricsSink("RDS/CloudFormation", ImmutableMap.of("ResourceType", "AWS::RDS::DBInstance"), records::add, CLOCK)
+                .publishRateLimiterState(ImmutableMap.of(
+                        "DESCRIBE", new AdaptiveRateLimiter.State(5.0, 2.5, 10, 3, 1, 1200),
+                        "MUTATE", new AdaptiveRateLimiter.State(2.0, 5.0, 1, 0, 0, 0)
+                ));
+
+        assertThat(records).hasSize(2);
+        final JSONObject record = new JSONObject(records.get(0));
+
+        final JSONObject directive = record.getJSONObject("_aws").getJSONArray("CloudWatchMetrics").getJSONObject(0);
+        assertThat(directive.getJSONArray("Dimensions").getJSONArray(0).toList()).containsExactly("ResourceType", "CallType");
+        assertThat(directive.getJSONArray("Metrics")).hasSize(5);
+
+        assertThat(record.getString("ResourceType")).isEqualTo("AWS::RDS::DBInstance");
+        assertThat(record.getString("CallType")).isEqualTo("DESCRIBE");
+        assertThat(record.getDouble("RateLimiterRate")).isEqualTo(5.0);
+        assertThat(record.getDouble("RateLimiterTokens")).isEqualTo(2.5);
+        assertThat(record.getLong("RateLimiterDelayedCount")).isEqualTo(3);
+        assertThat(record.getLong("RateLimiterThrottleCount")).isEqualTo(1);
+        assertThat(record.getLong("RateLimiterWait")).isEqualTo(1200);
+
+        assertThat(new JSONObject(records.get(1)).getString("CallType")).isEqualTo("MUTATE");
+    }
+
+    @Test
+    void test_publish_noMetrics() {
+        final List<String> records = new ArrayList<>();
+        new EmfMetricsSink("RDS/CloudFormation", ImmutableMap.of(), records::add, CLOCK)
+                .publish(new ApiCallMetrics().summarize());
+
+        assertThat(records).isEmpty();
+    }
+}
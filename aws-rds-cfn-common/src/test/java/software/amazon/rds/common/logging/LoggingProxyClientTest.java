@@ -1,6 +1,7 @@
 package software.amazon.rds.common.logging;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,6 +22,7 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
 import software.amazon.awssdk.services.rds.paginators.DescribeDBInstancesIterable;
@@ -67,6 +69,37 @@ class LoggingProxyClientTest extends ProxyClientTestBase {
         return new LoggingProxyClient<>(new RequestLogger(logger, request, new FilteredJsonPrinter()), proxy);
     }
 
+    @Test
+    void test_injectCredentialsAndInvokeV2_recordsMetrics() {
+        final RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter());
+        final ProxyClient<RdsClient> proxyRdsClient = new LoggingProxyClient<>(requestLogger, proxy);
+        final DbInstanceNotFoundException exception = DbInstanceNotFoundException.builder().build();
+        when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(awsResponse)
+                .thenThrow(exception);
+
+        proxyRdsClient.injectCredentialsAndInvokeV2(awsRequest, request -> awsResponse);
+        assertThatThrownBy(() -> proxyRdsClient.injectCredentialsAndInvokeV2(awsRequest, request -> awsResponse)).isSameAs(exception);
+
+        final ApiCallMetrics.OperationSummary summary = requestLogger.getApiCallMetrics().summarize().get("DescribeDbInstances");
+        assertThat(summary.getCallCount()).isEqualTo(2);
+        assertThat(summary.getErrorCount()).isEqualTo(1);
+        assertThat(summary.getThrottleCount()).isZero();
+    }
+
+    @Test
+    void test_injectCredentialsAndInvokeV2Async_recordsMetricsOnCompletion() {
+        final RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter());
+        final ProxyClient<RdsClient> proxyRdsClient = new LoggingProxyClient<>(requestLogger, proxy);
+        when(proxy.injectCredentialsAndInvokeV2Async(any(), any())).thenReturn(awsResponseCompletableFuture);
+
+        proxyRdsClient.injectCredentialsAndInvokeV2Async(awsRequest, request -> awsResponseCompletableFuture);
+        assertThat(requestLogger.getApiCallMetrics().isEmpty()).isTrue();
+
+        awsResponseCompletableFuture.complete(awsResponse);
+        assertThat(requestLogger.getApiCallMetrics().summarize().get("DescribeDbInstances").getCallCount()).isEqualTo(1);
+    }
+
     @Test
     void test_injectCredentialsAndInvokeV2() {
         ProxyClient<RdsClient> proxyRdsClient = getProxyRdsClient(logger);
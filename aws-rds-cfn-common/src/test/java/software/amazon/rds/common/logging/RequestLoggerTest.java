@@ -4,8 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -13,8 +21,11 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.client.AdaptiveRateLimiter;
+import software.amazon.rds.common.client.RateLimiterRegistry;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +41,7 @@ public class RequestLoggerTest {
     public static final String TOKEN = "token";
     public static final String STACK_ID = "stackId";
     public static final String SIMPLE_LOG = "simple log ";
+    private static final RequestLogger.Options ASYNC_LOGGING = RequestLogger.Options.builder().asyncLogging(true).build();
 
     @Test
     void test_if_customer_data_is_added() {
@@ -61,6 +73,45 @@ public class RequestLoggerTest {
         assertThat(resultLogMessage.contains(detailedLogMessage)).isTrue();
     }
 
+    @Test
+    void test_request_data_keys_written_once() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setAwsAccountId(AWS_ACCOUNT_ID);
+        request.setClientRequestToken(TOKEN);
+        request.setStackId(STACK_ID);
+        RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter());
+        requestLogger.log("Request", request);
+        verify(logger, atLeast(1)).log(captor.capture());
+        final String resultLogMessage = captor.getValue();
+        // The parser rejects duplicate keys.
+        final JSONObject json = new JSONObject(resultLogMessage);
+        for (final String key : new String[]{RequestLogger.STACK_ID, RequestLogger.AWS_ACCOUNT_ID, RequestLogger.CLIENT_REQUEST_TOKEN}) {
+            assertThat(json.has(key)).isTrue();
+            assertThat(resultLogMessage.split("\"" + key + "\"", -1)).hasSize(2);
+        }
+    }
+
+    @Test
+    void test_request_data_keys_not_overridden_by_payload() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setAwsAccountId(AWS_ACCOUNT_ID);
+        request.setClientRequestToken(TOKEN);
+        request.setStackId(STACK_ID);
+        RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter());
+        final Map<String, String> payload = new HashMap<>();
+        payload.put(RequestLogger.STACK_ID, "payloadStackId");
+        payload.put(RequestLogger.AWS_ACCOUNT_ID, "payloadAccountId");
+        payload.put("Payload", "value");
+        requestLogger.log("Collision", payload, Collections.singletonMap(RequestLogger.CLIENT_REQUEST_TOKEN, "fieldToken"));
+        verify(logger, atLeast(1)).log(captor.capture());
+        final JSONObject json = new JSONObject(captor.getValue());
+        assertThat(json.getString(RequestLogger.STACK_ID)).isEqualTo(STACK_ID);
+        assertThat(json.getString(RequestLogger.AWS_ACCOUNT_ID)).isEqualTo(AWS_ACCOUNT_ID);
+        assertThat(json.getString(RequestLogger.CLIENT_REQUEST_TOKEN)).isEqualTo(TOKEN);
+        assertThat(json.getString("Payload")).isEqualTo("value");
+        assertThat(json.getString(RequestLogger.CONTENT)).isEqualTo("Collision");
+    }
+
     @Test
     void test_fail_if_request_null() {
         assertThatThrownBy(() -> new RequestLogger(s -> {
@@ -116,8 +167,143 @@ public class RequestLoggerTest {
         request.setAwsAccountId(AWS_ACCOUNT_ID);
         request.setClientRequestToken(TOKEN);
         request.setStackId(STACK_ID);
-        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), requestLogger -> null);
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), RequestLogger.Options.DEFAULT, requestLogger -> null);
         verify(logger, atLeast(1)).log(captor.capture());
         assertThat(captor.getValue().contains(AWS_ACCOUNT_ID)).isTrue();
     }
+
+    @Test
+    void test_handle_request_async_flushes_in_order() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setAwsAccountId(AWS_ACCOUNT_ID);
+        request.setClientRequestToken(TOKEN);
+        request.setStackId(STACK_ID);
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), ASYNC_LOGGING, requestLogger -> {
+            requestLogger.log(SIMPLE_LOG, "detail");
+            requestLogger.log(DescribeDbInstancesRequest.builder().dbInstanceIdentifier("db-instance").build());
+            return null;
+        });
+        verify(logger, times(4)).log(captor.capture());
+        final List<String> messages = captor.getAllValues();
+        assertThat(messages.get(0).contains("HandlerRequest")).isTrue();
+        assertThat(messages.get(1).contains(SIMPLE_LOG)).isTrue();
+        assertThat(messages.get(2).contains("db-instance")).isTrue();
+        assertThat(messages.get(3).contains("HandlerResponse")).isTrue();
+    }
+
+    @Test
+    void test_async_log_captures_mutable_state_at_call_time() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter(), true);
+        requestLogger.log(SIMPLE_LOG, request);
+        request.setStackId("mutated");
+        requestLogger.flush();
+        verify(logger, times(1)).log(captor.capture());
+        assertThat(captor.getValue().contains(STACK_ID)).isTrue();
+        assertThat(captor.getValue().contains("mutated")).isFalse();
+        requestLogger.close();
+    }
+
+    @Test
+    void test_async_log_after_close_is_synchronous() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter(), true);
+        requestLogger.close();
+        requestLogger.log(SIMPLE_LOG, "detail");
+        verify(logger, times(1)).log(captor.capture());
+        assertThat(captor.getValue().contains(STACK_ID)).isTrue();
+    }
+
+    @Test
+    void test_async_loggers_share_one_writer() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        for (int i = 0; i < 10; i++) {
+            RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), ASYNC_LOGGING, requestLogger -> {
+                new RequestLogger(logger, request, new FilteredJsonPrinter(), true).log(SIMPLE_LOG, "nested");
+                return null;
+            });
+        }
+        final long workers = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> "RequestLogger-AsyncLogWriter".equals(thread.getName()))
+                .count();
+        assertThat(workers).isEqualTo(1);
+        // Every invocation is flushed by the time it returns, the nested logger included.
+        verify(logger, times(30)).log(captor.capture());
+    }
+
+    @Test
+    void test_handle_request_publishes_api_call_metrics() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        final List<Map<String, ApiCallMetrics.OperationSummary>> published = new ArrayList<>();
+        final RequestLogger.Options options = RequestLogger.Options.builder().metricsSink(published::add).build();
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), options, requestLogger -> {
+            requestLogger.getApiCallMetrics().record("DescribeDbInstances", 0, null);
+            return null;
+        });
+        verify(logger, times(3)).log(captor.capture());
+        final List<String> messages = captor.getAllValues();
+        assertThat(messages.get(1).contains("HandlerResponse")).isTrue();
+        assertThat(messages.get(2).contains(RequestLogger.API_CALL_METRICS)).isTrue();
+        assertThat(messages.get(2).contains("DescribeDbInstances")).isTrue();
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).get("DescribeDbInstances").getCallCount()).isEqualTo(1);
+    }
+
+    @Test
+    void test_handle_request_publishes_rate_limiter_state() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        request.setAwsAccountId(AWS_ACCOUNT_ID);
+        request.setRegion("us-east-1");
+        final RateLimiterRegistry registry = RateLimiterRegistry.withDefaults();
+        registry.get("210987654321", "us-east-1", RateLimiterRegistry.CallType.MUTATE).acquire();
+        final List<Map<String, AdaptiveRateLimiter.State>> published = new ArrayList<>();
+        final MetricsSink metricsSink = new MetricsSink() {
+            @Override
+            public void publish(final Map<String, ApiCallMetrics.OperationSummary> metrics) {
+            }
+
+            @Override
+            public void publishRateLimiterState(final Map<String, AdaptiveRateLimiter.State> state) {
+                published.add(state);
+            }
+        };
+        final RequestLogger.Options options = RequestLogger.Options.builder()
+                .metricsSink(metricsSink)
+                .rateLimiterRegistry(registry)
+                .build();
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), options, requestLogger -> {
+            registry.get(AWS_ACCOUNT_ID, "us-east-1", RateLimiterRegistry.CallType.DESCRIBE).acquire();
+            return null;
+        });
+        verify(logger, times(3)).log(captor.capture());
+        final List<String> messages = captor.getAllValues();
+        assertThat(messages.get(2).contains(RequestLogger.RATE_LIMITER_STATE)).isTrue();
+        assertThat(messages.get(2).contains("DESCRIBE")).isTrue();
+        assertThat(messages.get(2).contains("MUTATE")).isFalse();
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0)).containsOnlyKeys("DESCRIBE");
+        assertThat(published.get(0).get("DESCRIBE").getAcquiredCount()).isEqualTo(1);
+    }
+
+    @Test
+    void test_handle_request_failing_metrics_sink() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        final RequestLogger.Options options = RequestLogger.Options.builder()
+                .metricsSink(metrics -> {
+                    throw new IllegalStateException("sink failure");
+                })
+                .build();
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), options, requestLogger -> {
+            requestLogger.getApiCallMetrics().record("DescribeDbInstances", 0, null);
+            return null;
+        });
+        verify(logger, times(4)).log(captor.capture());
+        assertThat(captor.getValue().contains("sink failure")).isTrue();
+    }
 }
@@ -0,0 +1,95 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.common.printer.JsonPrinter;
+
+class StreamingJsonLogMessageTest {
+
+    private final JsonPrinter jsonPrinter = new FilteredJsonPrinter("awsAccountId");
+
+    @Test
+    void test_appendObject_fieldsAreMerged() {
+        final ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setAwsAccountId("AWS_ACCOUNT_ID");
+        request.setStackId("STACK_ID");
+
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(jsonPrinter);
+        message.append(request);
+        message.append(Collections.singletonMap("Tag", "value"));
+        message.append("Resource", DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder().dbInstanceIdentifier("db-instance").build())
+                .build());
+
+        final JSONObject json = new JSONObject(message.toString());
+        assertThat(json.getString("StackId")).isEqualTo("STACK_ID");
+        assertThat(json.has("AwsAccountId")).isFalse();
+        assertThat(json.getString("Tag")).isEqualTo("value");
+        assertThat(message.toString()).contains("db-instance");
+    }
+
+    @Test
+    void test_appendDuplicateKeys_firstValueWins() {
+        final ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId("STACK_ID");
+        request.setClientRequestToken("CLIENT_REQUEST_TOKEN");
+
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(jsonPrinter);
+        message.append("Content", "first");
+        message.append(request);
+        message.append(Collections.singletonMap("StackId", "OTHER_STACK_ID"));
+        message.append("Content", "second");
+        message.append(request);
+
+        final String rendered = message.toString();
+        // The parser rejects duplicate keys.
+        final JSONObject json = new JSONObject(rendered);
+        assertThat(json.getString("Content")).isEqualTo("first");
+        assertThat(json.getString("StackId")).isEqualTo("STACK_ID");
+        assertThat(json.getString("ClientRequestToken")).isEqualTo("CLIENT_REQUEST_TOKEN");
+        assertThat(rendered.split("\"StackId\"", -1)).hasSize(2);
+        assertThat(rendered.split("\"ClientRequestToken\"", -1)).hasSize(2);
+    }
+
+    @Test
+    void test_appendThrowable_rendersStackTrace() {
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(jsonPrinter);
+        message.append(new RuntimeException("test exception"));
+
+        final JSONObject json = new JSONObject(message.toString());
+        assertThat(json.getJSONArray(FilteredJsonPrinter.STACK_TRACE).getString(0)).contains("test exception");
+    }
+
+    @Test
+    void test_appendScalar_isKeyedByClassName() {
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(jsonPrinter);
+        message.append("some text");
+
+        final JSONObject json = new JSONObject(message.toString());
+        assertThat(json.getString("String")).isEqualTo("some text");
+    }
+
+    @Test
+    void test_maxMessageLength_exceeded_rendersSummary() {
+        final int maxMessageLength = 128;
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(jsonPrinter, maxMessageLength);
+        message.append("Handler", "CreateHandler");
+        message.append("Payload", String.join("", Collections.nCopies(StreamingJsonLogMessage.MESSAGE_PREVIEW_LENGTH + 1, "x")));
+
+        final JSONObject json = new JSONObject(message.toString());
+        assertThat(json.getString("Handler")).isEqualTo("CreateHandler");
+        assertThat(json.has("Payload")).isFalse();
+        assertThat(json.getBoolean(StreamingJsonLogMessage.TRUNCATED)).isTrue();
+        assertThat(json.getInt(StreamingJsonLogMessage.MESSAGE_LENGTH_LIMIT)).isEqualTo(maxMessageLength);
+        assertThat(json.getString(StreamingJsonLogMessage.MESSAGE_PREVIEW)).hasSize(maxMessageLength);
+    }
+}
@@ -0,0 +1,25 @@
+package software.amazon.rds.common.priming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class CracPrimingResourceTest {
+
+    @Test
+    void beforeCheckpoint_runsPrimer() {
+        final AtomicInteger primed = new AtomicInteger();
+        final CracPrimingResource resource = CracPrimingResource.register(Primer.builder()
+                .step("count", primed::incrementAndGet)
+                .build());
+        assertThat(resource.getLastReport()).isNull();
+
+        resource.beforeCheckpoint(null);
+        resource.afterRestore(null);
+
+        assertThat(primed.get()).isEqualTo(1);
+        assertThat(resource.getLastReport().isSuccessful()).isTrue();
+    }
+}
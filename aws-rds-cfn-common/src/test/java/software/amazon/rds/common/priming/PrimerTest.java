@@ -0,0 +1,103 @@
+package software.amazon.rds.common.priming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+
+class PrimerTest {
+
+    @Test
+    void prime_runsStepsInOrder() {
+        final List<String> invoked = new ArrayList<>();
+        final Primer primer = Primer.builder()
+                .step("first", () -> invoked.add("first"))
+                .step("second", () -> invoked.add("second"))
+                .build();
+
+        final PrimingReport report = primer.prime();
+
+        assertThat(invoked).containsExactly("first", "second");
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(report.getSteps()).extracting(PrimingReport.Step::getName).containsExactly("first", "second");
+    }
+
+    @Test
+    void prime_failingStepDoesNotStopPriming() {
+        final List<String> invoked = new ArrayList<>();
+        final RuntimeException error = new RuntimeException("test exception");
+        final Primer primer = Primer.builder()
+                .step("failing", () -> {
+                    throw error;
+                })
+                .step("succeeding", () -> invoked.add("succeeding"))
+                .build();
+
+        final PrimingReport report = primer.prime();
+
+        assertThat(invoked).containsExactly("succeeding");
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(report.getSteps().get(0).getError()).isSameAs(error);
+        assertThat(report.getSteps().get(1).getError()).isNull();
+    }
+
+    @Test
+    void prime_describeDBInstancesAgainstStub() {
+        final List<DBInstance> described = new ArrayList<>();
+        final Primer primer = Primer.builder()
+                .describeDBInstances(described::add)
+                .build();
+
+        final PrimingReport report = primer.prime();
+
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(described).hasSize(1);
+        assertThat(described.get(0).dbInstanceIdentifier()).isEqualTo(Primer.STUB_IDENTIFIER);
+        assertThat(described.get(0).allocatedStorage()).isEqualTo(20);
+        assertThat(described.get(0).endpoint().port()).isEqualTo(3306);
+    }
+
+    @Test
+    void prime_commonSteps() {
+        final Primer primer = Primer.builder()
+                .jsonPrinter(new FilteredJsonPrinter("MasterUserPassword"), new DBInstanceSample("priming", "secret"))
+                .errorRuleSet("DefaultErrorRuleSet", Commons.DEFAULT_ERROR_RULE_SET)
+                .build();
+
+        final PrimingReport report = primer.prime();
+
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(report.getSteps()).extracting(PrimingReport.Step::getName).containsExactly("JsonPrinter", "DefaultErrorRuleSet");
+        assertThat(report.getTotalNanos()).isPositive();
+    }
+
+    @Test
+    void stubSdkHttpClient_countsRequests() {
+        final StubSdkHttpClient httpClient = new StubSdkHttpClient(Primer.DESCRIBE_DB_INSTANCES_RESPONSE);
+        try (RdsClient rdsClient = Primer.stubRdsClient(httpClient)) {
+            rdsClient.describeDBInstances();
+            rdsClient.describeDBInstances();
+        }
+        assertThat(httpClient.getRequestCount()).isEqualTo(2);
+    }
+
+    static class DBInstanceSample {
+        @JsonProperty("DBInstanceIdentifier")
+        final String dbInstanceIdentifier;
+        @JsonProperty("MasterUserPassword")
+        final String masterUserPassword;
+
+        DBInstanceSample(final String dbInstanceIdentifier, final String masterUserPassword) {
+            this.dbInstanceIdentifier = dbInstanceIdentifier;
+            this.masterUserPassword = masterUserPassword;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package software.amazon.rds.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+
+class CompiledSchemaTest {
+
+    private static final String SCHEMA_FILENAME = "aws-test-type.json";
+
+    private static final String SCHEMA_JSON = "{" +
+            "\"typeName\":\"AWS::Test::Type\"," +
+            "\"description\":\"Test schema\"," +
+            "\"definitions\":{" +
+            "\"Endpoint\":{\"type\":\"object\",\"additionalProperties\":false,\"properties\":{" +
+            "\"Address\":{\"type\":\"string\"}," +
+            "\"Ports\":{\"type\":\"array\",\"insertionOrder\":false,\"items\":{\"type\":\"integer\"}}" +
+            "}}" +
+            "}," +
+            "\"properties\":{" +
+            "\"BoolProperty\":{\"type\":\"boolean\"}," +
+            "\"IntegerProperty\":{\"type\":\"integer\"}," +
+            "\"NumberProperty\":{\"type\":\"number\"}," +
+            "\"StringProperty\":{\"type\":\"string\"}," +
+            "\"OrderedList\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}}," +
+            "\"UnorderedList\":{\"type\":\"array\",\"insertionOrder\":false,\"items\":{\"type\":\"string\"}}," +
+            "\"Endpoint\":{\"$ref\":\"#/definitions/Endpoint\"}" +
+            "}," +
+            "\"primaryIdentifier\":[\"/properties/StringProperty\"]," +
+            "\"additionalProperties\":false," +
+            "\"propertyTransform\":{\"/properties/StringProperty\":\"$lowercase(StringProperty)\"}," +
+            "\"writeOnlyProperties\":[\"/properties/IntegerProperty\"]" +
+            "}";
+
+    private static final ResourceTypeSchema RESOURCE_SCHEMA = ResourceTypeSchema.load(new JSONObject(SCHEMA_JSON));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void test_compile() {
+        final CompiledSchema schema = CompiledSchema.compile(RESOURCE_SCHEMA);
+
+        assertThat(schema.getTypeName()).isEqualTo("AWS::Test::Type");
+        assertThat(schema.isWriteOnly("/properties/IntegerProperty")).isTrue();
+        assertThat(schema.isWriteOnly("/properties/StringProperty")).isFalse();
+        assertThat(schema.isTransformable("/properties/StringProperty")).isTrue();
+        assertThat(schema.getPropertyTransform("/properties/StringProperty")).isEqualTo("$lowercase(StringProperty)");
+        assertThat(schema.getPropertyType("/properties/BoolProperty")).isEqualTo("boolean");
+        assertThat(schema.getPropertyType("/properties/IntegerProperty")).isEqualTo("integer");
+        assertThat(schema.getPropertyType("/properties/NumberProperty")).isEqualTo("number");
+        assertThat(schema.getPropertyType("/properties/StringProperty")).isEqualTo("string");
+        assertThat(schema.getPropertyType("/properties/OrderedList")).isEqualTo("array");
+        assertThat(schema.getPropertyType("/properties/Unknown")).isNull();
+        assertThat(schema.isUnorderedArray("/properties/OrderedList")).isFalse();
+        assertThat(schema.isUnorderedArray("/properties/UnorderedList")).isTrue();
+    }
+
+    @Test
+    void test_compile_resolvesNestedReferences() {
+        final CompiledSchema schema = CompiledSchema.compile(RESOURCE_SCHEMA);
+
+        assertThat(schema.getPropertyType("/properties/Endpoint")).isEqualTo("object");
+        assertThat(schema.getPropertyType("/properties/Endpoint/Address")).isEqualTo("string");
+        assertThat(schema.getPropertyType("/properties/Endpoint/Ports")).isEqualTo("array");
+        assertThat(schema.isUnorderedArray("/properties/Endpoint/Ports")).isTrue();
+    }
+
+    @Test
+    void test_writeRead_roundTrip() throws IOException {
+        final CompiledSchema schema = CompiledSchema.compile(RESOURCE_SCHEMA);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        schema.write(out);
+
+        assertThat(CompiledSchema.read(new ByteArrayInputStream(out.toByteArray()))).isEqualTo(schema);
+    }
+
+    @Test
+    void test_read_unsupportedVersion() {
+        final byte[] compiled = "{\"version\":0}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> CompiledSchema.read(new ByteArrayInputStream(compiled)))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void test_compiledFilename() {
+        assertThat(CompiledSchema.compiledFilename("aws-rds-dbinstance.json")).isEqualTo("aws-rds-dbinstance.compiled.json");
+        assertThat(CompiledSchema.compiledFilename("schema")).isEqualTo("schema.compiled.json");
+    }
+
+    @Test
+    void test_load_fromClassPath() throws IOException {
+        final CompiledSchema schema = CompiledSchema.compile(RESOURCE_SCHEMA);
+        try (OutputStream out = Files.newOutputStream(tempDir.resolve(CompiledSchema.compiledFilename(SCHEMA_FILENAME)))) {
+            schema.write(out);
+        }
+        final AtomicInteger fallbacks = new AtomicInteger();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, null)) {
+            final CompiledSchema loaded = CompiledSchema.load(classLoader, SCHEMA_FILENAME, () -> {
+                fallbacks.incrementAndGet();
+                return new JSONObject(SCHEMA_JSON);
+            });
+            assertThat(loaded).isEqualTo(schema);
+        }
+        assertThat(fallbacks.get()).isZero();
+    }
+
+    @Test
+    void test_load_fallsBackToSourceSchema() throws IOException {
+        Files.write(tempDir.resolve(CompiledSchema.compiledFilename(SCHEMA_FILENAME)), "corrupted".getBytes(StandardCharsets.UTF_8));
+        final AtomicInteger fallbacks = new AtomicInteger();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, null)) {
+            final CompiledSchema loaded = CompiledSchema.load(classLoader, SCHEMA_FILENAME, () -> {
+                fallbacks.incrementAndGet();
+                return new JSONObject(SCHEMA_JSON);
+            });
+            assertThat(loaded).isEqualTo(CompiledSchema.compile(RESOURCE_SCHEMA));
+        }
+        assertThat(fallbacks.get()).isEqualTo(1);
+    }
+
+    @Test
+    void test_generate() throws IOException {
+        final Path schemaPath = tempDir.resolve(SCHEMA_FILENAME);
+        Files.write(schemaPath, SCHEMA_JSON.getBytes(StandardCharsets.UTF_8));
+
+        final Path output = CompiledSchemaGenerator.generate(schemaPath, tempDir.resolve("classes"));
+
+        assertThat(output.getFileName().toString()).isEqualTo("aws-test-type.compiled.json");
+        try (InputStream in = Files.newInputStream(output)) {
+            assertThat(CompiledSchema.read(in)).isEqualTo(CompiledSchema.compile(RESOURCE_SCHEMA));
+        }
+    }
+}
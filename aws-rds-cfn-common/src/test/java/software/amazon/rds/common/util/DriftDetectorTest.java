@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableList;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import software.amazon.cloudformation.resource.ResourceTypeSchema;
 
@@ -314,6 +315,73 @@ class DriftDetectorTest {
         assertResourceNotDrifted(input, output, RESOURCE_SCHEMA);
     }
 
+    @Test
+    void test_forSchema_returnsSharedDetector() {
+        assertThat(DriftDetector.forSchema(RESOURCE_SCHEMA)).isSameAs(DriftDetector.forSchema(RESOURCE_SCHEMA));
+    }
+
+    @Test
+    void test_forCompiledSchema_returnsSharedDetector() {
+        final CompiledSchema compiledSchema = CompiledSchema.compile(RESOURCE_SCHEMA);
+        assertThat(DriftDetector.forSchema(compiledSchema)).isSameAs(DriftDetector.forSchema(compiledSchema));
+    }
+
+    @Test
+    void test_detectDrift_compiledSchema() {
+        final DriftDetector compiledDriftDetector = new DriftDetector(CompiledSchema.compile(RESOURCE_SCHEMA));
+        final TestDataClass input = TestDataClass.builder()
+                .stringProperty("TEST-STRING")
+                .writeOnlyStringProperty("write-only")
+                .unorderedStringPropertyList(ImmutableList.of("element1", "element2"))
+                .stringPropertyList(ImmutableList.of("element1", "element2"))
+                .build();
+        final TestDataClass output = TestDataClass.builder()
+                .stringProperty("test-string")
+                .unorderedStringPropertyList(ImmutableList.of("element2", "element1"))
+                .stringPropertyList(ImmutableList.of("element2", "element1"))
+                .build();
+
+        assertThat(compiledDriftDetector.detectDrift(input, output)).containsOnlyKeys("/properties/StringPropertyList");
+    }
+
+    @Test
+    void test_detectDrift_nestedObjectPropertyPathsAreResolvedPerLevel() {
+        final TestDataClass input = TestDataClass.builder()
+                .integerProperty(1)
+                .nestedObject(TestDataClass.builder().integerProperty(1).build())
+                .build();
+        final TestDataClass output = TestDataClass.builder()
+                .integerProperty(1)
+                .nestedObject(TestDataClass.builder().integerProperty(2).build())
+                .build();
+        // The second pass runs on the cached property plans.
+        for (int i = 0; i < 2; i++) {
+            final Map<String, Mutation> drift = driftDetector.detectDrift(input, output);
+            assertThat(drift).containsOnlyKeys("/properties/NestedObject/IntegerProperty");
+        }
+    }
+
+    @Test
+    void test_detectDrift_CompareStringProperty_EvalPropertyTransform_Repeated() {
+        final TestDataClass input = TestDataClass.builder()
+                .stringProperty("TestString")
+                .build();
+        // The second pass runs on the cached expressions and patterns.
+        for (int i = 0; i < 2; i++) {
+            assertResourceNotDrifted(input, TestDataClass.builder().stringProperty("teststring").build(), RESOURCE_SCHEMA);
+            assertThat(driftDetector.detectDrift(input, TestDataClass.builder().stringProperty("teststring123").build()))
+                    .containsOnlyKeys("/properties/StringProperty");
+        }
+    }
+
+    @Test
+    void test_detectDrift_rootNodeIsNotSerializedWithoutTransforms() {
+        // A plain Object can not be serialized by Jackson: the comparison would fail if the root node was materialized.
+        final TestUnserializableDataClass input = new TestUnserializableDataClass(ImmutableList.of(new Object()));
+        final TestUnserializableDataClass output = new TestUnserializableDataClass(Collections.emptyList());
+        assertThat(driftDetector.detectDrift(input, output)).containsOnlyKeys("/properties/StringPropertyList");
+    }
+
     @Builder
     static class TestDataClass {
         @JsonProperty(value = "BoolProperty")
@@ -340,4 +408,10 @@ class DriftDetectorTest {
         @JsonProperty(value = "UnorderedStringPropertyList")
         private final List<String> unorderedStringPropertyList;
     }
+
+    @AllArgsConstructor
+    static class TestUnserializableDataClass {
+        @JsonProperty(value = "StringPropertyList")
+        private final List<Object> stringPropertyList;
+    }
 }
@@ -0,0 +1,180 @@
+package software.amazon.rds.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.rds.model.ApplyMethod;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+@ExtendWith(MockitoExtension.class)
+class EngineDefaultsCacheTest {
+
+    private static final String API = "DescribeEngineDefaultParameters";
+    private static final String FAMILY = "mysql8.0";
+    private static final long NOW = 1_700_000_000_000L;
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private static final Parameter PARAMETER_1 = Parameter.builder()
+            .parameterName("param-1")
+            .parameterValue("value-1")
+            .applyType("static")
+            .applyMethod(ApplyMethod.PENDING_REBOOT)
+            .isModifiable(true)
+            .supportedEngineModes("provisioned")
+            .build();
+    private static final Parameter PARAMETER_2 = Parameter.builder()
+            .parameterName("param-2")
+            .applyType("dynamic")
+            .isModifiable(false)
+            .build();
+
+    @Mock
+    private Clock clock;
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Supplier<List<Parameter>> loader(final Parameter... parameters) {
+        return () -> {
+            loads.incrementAndGet();
+            return Arrays.asList(parameters);
+        };
+    }
+
+    private EngineDefaultsCache newCache(final int maxEntries, final Path snapshotPath) {
+        return new EngineDefaultsCache(TTL, maxEntries, snapshotPath, clock);
+    }
+
+    @Test
+    void test_get_hitSkipsLoader() {
+        when(clock.millis()).thenReturn(NOW);
+        final EngineDefaultsCache cache = newCache(8, null);
+
+        assertThat(cache.get(API, FAMILY, null, loader(PARAMETER_1, PARAMETER_2))).containsExactly(PARAMETER_1, PARAMETER_2);
+        assertThat(cache.get(API, FAMILY, null, loader())).containsExactly(PARAMETER_1, PARAMETER_2);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void test_get_keyedByApiAndFamily() {
+        when(clock.millis()).thenReturn(NOW);
+        final EngineDefaultsCache cache = newCache(8, null);
+
+        cache.get(API, FAMILY, null, loader(PARAMETER_1));
+        assertThat(cache.get("DescribeEngineDefaultClusterParameters", FAMILY, null, loader(PARAMETER_2))).containsExactly(PARAMETER_2);
+        assertThat(cache.get(API, "postgres15", null, loader(PARAMETER_2))).containsExactly(PARAMETER_2);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void test_get_expiresAfterTtl() {
+        when(clock.millis()).thenReturn(NOW, NOW + TTL.toMillis());
+        final EngineDefaultsCache cache = newCache(8, null);
+
+        cache.get(API, FAMILY, null, loader(PARAMETER_1));
+        assertThat(cache.get(API, FAMILY, null, loader(PARAMETER_2))).containsExactly(PARAMETER_2);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void test_get_evictsLeastRecentlyUsed() {
+        when(clock.millis()).thenReturn(NOW);
+        final EngineDefaultsCache cache = newCache(2, null);
+
+        cache.get(API, "family-a", null, loader(PARAMETER_1));
+        cache.get(API, "family-b", null, loader(PARAMETER_1));
+        cache.get(API, "family-a", null, loader(PARAMETER_1));
+        cache.get(API, "family-c", null, loader(PARAMETER_1));
+        assertThat(loads.get()).isEqualTo(3);
+
+        cache.get(API, "family-a", null, loader(PARAMETER_1));
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(API, "family-b", null, loader(PARAMETER_1));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void test_get_filterIsOrderInsensitive() {
+        when(clock.millis()).thenReturn(NOW);
+        final EngineDefaultsCache cache = newCache(8, null);
+
+        cache.get(API, FAMILY, Arrays.asList("param-1", "param-2"), loader(PARAMETER_1, PARAMETER_2));
+        assertThat(cache.get(API, FAMILY, Arrays.asList("param-2", "param-1"), loader())).containsExactly(PARAMETER_1, PARAMETER_2);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void test_get_filteredFromUnfiltered() {
+        when(clock.millis()).thenReturn(NOW);
+        final EngineDefaultsCache cache = newCache(8, null);
+
+        cache.get(API, FAMILY, null, loader(PARAMETER_1, PARAMETER_2));
+        assertThat(cache.get(API, FAMILY, Arrays.asList("param-2", "param-3"), loader())).containsExactly(PARAMETER_2);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void test_get_loaderFailureIsNotCached() {
+        when(clock.millis()).thenReturn(NOW);
+        final EngineDefaultsCache cache = newCache(8, null);
+
+        assertThatThrownBy(() -> cache.get(API, FAMILY, null, () -> {
+            throw new RuntimeException("Max DescribeEngineDefaultParameters page reached.");
+        })).hasMessage("Max DescribeEngineDefaultParameters page reached.");
+        assertThat(cache.get(API, FAMILY, null, loader(PARAMETER_1))).containsExactly(PARAMETER_1);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void test_snapshot_restoredByNewCache() {
+        when(clock.millis()).thenReturn(NOW);
+        final Path snapshot = tempDir.resolve("engine-defaults.cache");
+
+        newCache(8, snapshot).get(API, FAMILY, Arrays.asList("param-1", "param-2"), loader(PARAMETER_1, PARAMETER_2));
+        assertThat(snapshot).exists();
+
+        final EngineDefaultsCache restored = newCache(8, snapshot);
+        assertThat(restored.get(API, FAMILY, Arrays.asList("param-1", "param-2"), loader())).containsExactly(PARAMETER_1, PARAMETER_2);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void test_snapshot_expiredEntriesAreSkipped() {
+        when(clock.millis()).thenReturn(NOW, NOW + TTL.toMillis());
+        final Path snapshot = tempDir.resolve("engine-defaults.cache");
+
+        newCache(8, snapshot).get(API, FAMILY, null, loader(PARAMETER_1));
+        assertThat(newCache(8, snapshot).get(API, FAMILY, null, loader(PARAMETER_2))).containsExactly(PARAMETER_2);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void test_snapshot_corruptedIsIgnored() throws IOException {
+        when(clock.millis()).thenReturn(NOW);
+        final Path snapshot = tempDir.resolve("engine-defaults.cache");
+        Files.write(snapshot, new byte[]{0, 0, 0, 1, 0, 0, 0, 5, 1});
+
+        assertThat(newCache(8, snapshot).get(API, FAMILY, null, loader(PARAMETER_1))).containsExactly(PARAMETER_1);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(newCache(8, snapshot).get(API, FAMILY, null, loader())).containsExactly(PARAMETER_1);
+    }
+}
@@ -1,6 +1,7 @@
 package software.amazon.rds.common.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -8,6 +9,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -150,4 +152,123 @@ class ParameterGrouperTest {
                 ), ImmutableList.of(3)
         );
     }
+
+    private List<Set<String>> generateRandomDependencies(final Random random, final List<String> parameterNames, final int groupCount, final int maxGroupSize) {
+        final List<Set<String>> dependencies = new ArrayList<>();
+        int next = 0;
+        for (int i = 0; i < groupCount; i++) {
+            final Set<String> group = new LinkedHashSet<>();
+            final int groupSize = 2 + random.nextInt(maxGroupSize - 1);
+            for (int j = 0; j < groupSize && next < parameterNames.size(); j++) {
+                // Some dependant parameters are not part of the modification.
+                group.add(random.nextInt(10) == 0 ? NON_PRESENT_DEPENDANT_PARAMETER + i : parameterNames.get(random.nextInt(parameterNames.size())));
+            }
+            dependencies.add(group);
+            next += groupSize;
+        }
+        // A parameter can only belong to a single dependency group.
+        final Set<String> seen = new LinkedHashSet<>();
+        for (final Set<String> group : dependencies) {
+            group.removeIf(name -> !seen.add(name));
+        }
+        return dependencies;
+    }
+
+    private void assertValidPartitioning(
+            final Map<String, Parameter> parametersToUpdate,
+            final List<Set<String>> dependencies,
+            final int partitionSize,
+            final List<List<Parameter>> partitions
+    ) {
+        final List<String> partitionedNames = partitions.stream()
+                .flatMap(List::stream)
+                .map(Parameter::parameterName)
+                .collect(Collectors.toList());
+        assertThat(partitionedNames).containsExactlyInAnyOrderElementsOf(parametersToUpdate.keySet());
+        assertThat(partitions).allSatisfy(partition -> assertThat(partition).isNotEmpty().hasSizeLessThanOrEqualTo(partitionSize));
+        for (final Set<String> group : dependencies) {
+            final long partitionsWithGroup = partitions.stream()
+                    .filter(partition -> partition.stream().anyMatch(parameter -> group.contains(parameter.parameterName())))
+                    .count();
+            assertThat(partitionsWithGroup).isLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    public void test_firstFitDecreasing_properties() {
+        final int partitionSize = 20;
+        for (int seed = 0; seed < 200; seed++) {
+            final Random random = new Random(seed);
+            final int listLen = 1 + random.nextInt(400);
+            final List<String> randomParameterKeys = generateRandomStringList(listLen, PARAMETER_NAME_LEN, TestUtils.ALPHA);
+            final Map<String, Parameter> parametersToUpdate = setUpParametersToUpdate(randomParameterKeys);
+            final List<Set<String>> dependencies = generateRandomDependencies(random, randomParameterKeys, random.nextInt(8), 4);
+
+            final List<List<Parameter>> packed = ParameterGrouper.partition(parametersToUpdate, dependencies, partitionSize, ParameterGrouper.Strategy.FIRST_FIT_DECREASING);
+            final List<List<Parameter>> greedy = ParameterGrouper.partition(parametersToUpdate, dependencies, partitionSize, ParameterGrouper.Strategy.GREEDY);
+
+            assertValidPartitioning(parametersToUpdate, dependencies, partitionSize, packed);
+            // Few small dependency groups always fit in the lower bound.
+            assertThat(packed).hasSize((parametersToUpdate.size() + partitionSize - 1) / partitionSize);
+            assertThat(packed.size()).isLessThanOrEqualTo(greedy.size());
+        }
+    }
+
+    @Test
+    public void test_firstFitDecreasing_onlyDependent() {
+        final int partitionSize = 20;
+        final List<String> randomParameterKeys = generateRandomStringList(120, PARAMETER_NAME_LEN, TestUtils.ALPHA);
+        final Map<String, Parameter> parametersToUpdate = setUpParametersToUpdate(randomParameterKeys);
+        final List<Set<String>> dependencies = new ArrayList<>();
+        for (int i = 0; i < randomParameterKeys.size(); i += 3) {
+            dependencies.add(new LinkedHashSet<>(randomParameterKeys.subList(i, i + 3)));
+        }
+
+        final List<List<Parameter>> packed = ParameterGrouper.partition(parametersToUpdate, dependencies, partitionSize, ParameterGrouper.Strategy.FIRST_FIT_DECREASING);
+
+        assertValidPartitioning(parametersToUpdate, dependencies, partitionSize, packed);
+        // 6 groups of 3 parameters per partition at most.
+        assertThat(packed).hasSize(7);
+    }
+
+    @Test
+    public void test_firstFitDecreasing_unevenGroups() {
+        final int partitionSize = 3;
+        final List<String> randomParameterKeys = generateRandomStringList(6, PARAMETER_NAME_LEN, TestUtils.ALPHA);
+        final Map<String, Parameter> parametersToUpdate = setUpParametersToUpdate(randomParameterKeys);
+        final List<Set<String>> dependencies = buildMockDependencies(randomParameterKeys, ImmutableList.of(
+                ImmutableList.of(0, 1),
+                ImmutableList.of(2, 3),
+                ImmutableList.of(4, -1),
+                ImmutableList.of(5, -1)
+        ));
+
+        final List<List<Parameter>> greedy = ParameterGrouper.partition(parametersToUpdate, dependencies, partitionSize, ParameterGrouper.Strategy.GREEDY);
+        final List<List<Parameter>> packed = ParameterGrouper.partition(parametersToUpdate, dependencies, partitionSize, ParameterGrouper.Strategy.FIRST_FIT_DECREASING);
+
+        assertThat(greedy).hasSize(3);
+        assertValidPartitioning(parametersToUpdate, dependencies, partitionSize, packed);
+        assertThat(packed).isEqualTo(setUpExpectedPartition(
+                buildMockExceptionArrayFromExceptionOrder(randomParameterKeys, ImmutableList.of(0, 1, 4, 2, 3, 5)),
+                ImmutableList.of(3)
+        ));
+    }
+
+    @Test
+    public void test_firstFitDecreasing_empty() {
+        assertThat(ParameterGrouper.partition(new LinkedHashMap<>(), ImmutableList.of(), 20, ParameterGrouper.Strategy.FIRST_FIT_DECREASING)).isEmpty();
+    }
+
+    @Test
+    public void test_oversizedGroup() {
+        final List<String> randomParameterKeys = generateRandomStringList(4, PARAMETER_NAME_LEN, TestUtils.ALPHA);
+        final Map<String, Parameter> parametersToUpdate = setUpParametersToUpdate(randomParameterKeys);
+        final List<Set<String>> dependencies = buildMockDependencies(randomParameterKeys, ImmutableList.of(ImmutableList.of(0, 1, 2)));
+
+        for (final ParameterGrouper.Strategy strategy : ParameterGrouper.Strategy.values()) {
+            assertThatThrownBy(() -> ParameterGrouper.partition(parametersToUpdate, dependencies, 2, strategy))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(randomParameterKeys.get(0));
+        }
+    }
 }
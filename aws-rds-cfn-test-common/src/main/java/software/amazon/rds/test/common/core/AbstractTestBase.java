@@ -13,11 +13,14 @@ import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.test.common.annotations.ExcludeFromJacocoGeneratedReport;
 
 public abstract class AbstractTestBase<ResourceT, ModelT, ContextT> {
 
+    private final ApiCallRecorder apiCallRecorder = new ApiCallRecorder();
+
     protected abstract String getLogicalResourceIdentifier();
 
     protected abstract void expectResourceSupply(final Supplier<ResourceT> supplier);
@@ -32,6 +35,24 @@ public abstract class AbstractTestBase<ResourceT, ModelT, ContextT> {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * Wraps the proxy client handed to the handler, so that its calls count towards {@link #expectApiCallBudget}.
+     */
+    protected <ClientT> ProxyClient<ClientT> recordApiCalls(final ProxyClient<ClientT> proxyClient) {
+        return apiCallRecorder.wrap(proxyClient);
+    }
+
+    protected ApiCallRecorder getApiCallRecorder() {
+        return apiCallRecorder;
+    }
+
+    /**
+     * Fails if the calls recorded since the test started exceed the budget.
+     */
+    protected void expectApiCallBudget(final ApiCallBudget budget) {
+        budget.verify(apiCallRecorder);
+    }
+
     protected Consumer<ProgressEvent<ModelT, ContextT>> expectInProgress(int pause) {
         return (response) -> {
             Assertions.assertThat(response).isNotNull();
@@ -0,0 +1,124 @@
+package software.amazon.rds.test.common.core;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.assertj.core.api.Assertions;
+
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+
+/**
+ * The maximum number of API calls a handler flow may make per operation, e.g.
+ * <pre>
+ * ApiCallBudget.builder()
+ *         .max(DescribeDbInstancesRequest.class, 3)
+ *         .max(ModifyDbInstanceRequest.class, 1)
+ *         .build()
+ *         .verify(recorder);
+ * </pre>
+ * Operation names are matched case-insensitively, so {@code DescribeDBInstances} and {@code DescribeDbInstances} are
+ * the same operation. Operations without a limit are not constrained, unless the budget is strict.
+ */
+public final class ApiCallBudget {
+
+    private static final String NO_LIMIT = "-";
+
+    private final Map<String, Integer> limits;
+    private final boolean strict;
+
+    private ApiCallBudget(final Map<String, Integer> limits, final boolean strict) {
+        this.limits = limits;
+        this.strict = strict;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public void verify(@NonNull final ApiCallRecorder recorder) {
+        verify(recorder.getCallCounts());
+    }
+
+    /**
+     * Fails with a per-operation diff of the budget and the actual call counts if any operation exceeds its limit.
+     */
+    public void verify(@NonNull final Map<String, Integer> callCounts) {
+        final Map<String, Integer> actual = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        actual.putAll(callCounts);
+        if (actual.entrySet().stream().anyMatch(entry -> isExceeded(entry.getKey(), entry.getValue()))) {
+            Assertions.fail(diff(actual));
+        }
+    }
+
+    /**
+     * @return The limit of the operation, {@code null} if it is not constrained.
+     */
+    private Integer limit(final String operation) {
+        final Integer limit = limits.get(operation);
+        return limit == null && strict ? Integer.valueOf(0) : limit;
+    }
+
+    private boolean isExceeded(final String operation, final int calls) {
+        final Integer limit = limit(operation);
+        return limit != null && calls > limit;
+    }
+
+    String diff(final Map<String, Integer> actual) {
+        final Set<String> operations = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        operations.addAll(actual.keySet());
+        operations.addAll(limits.keySet());
+
+        final int width = operations.stream().mapToInt(String::length).max().orElse(0);
+        final String format = "%n%s %-" + width + "s %6s %6s%s";
+        final StringBuilder diff = new StringBuilder("API call budget exceeded:");
+        diff.append(String.format(format, " ", "Operation", "Budget", "Actual", ""));
+        for (final String operation : operations) {
+            final int calls = actual.getOrDefault(operation, 0);
+            final Integer limit = limit(operation);
+            final boolean exceeded = isExceeded(operation, calls);
+            diff.append(String.format(format,
+                    exceeded ? "!" : " ",
+                    operation,
+                    limit != null ? limit.toString() : NO_LIMIT,
+                    calls,
+                    exceeded ? String.format("  (+%d)", calls - limit) : ""
+            ));
+        }
+        return diff.toString();
+    }
+
+    public static class Builder {
+
+        private final Map<String, Integer> limits = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private boolean strict;
+
+        public Builder max(@NonNull final String operation, final int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException(String.format("A call limit cannot be negative: %s %d", operation, limit));
+            }
+            limits.put(operation, limit);
+            return this;
+        }
+
+        public Builder max(@NonNull final Class<? extends AwsRequest> requestClass, final int limit) {
+            return max(ApiCallRecorder.operationName(requestClass), limit);
+        }
+
+        /**
+         * Limits the operations without an explicit limit to zero calls.
+         */
+        public Builder strict() {
+            this.strict = true;
+            return this;
+        }
+
+        public ApiCallBudget build() {
+            final Map<String, Integer> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            copy.putAll(limits);
+            return new ApiCallBudget(copy, strict);
+        }
+    }
+}
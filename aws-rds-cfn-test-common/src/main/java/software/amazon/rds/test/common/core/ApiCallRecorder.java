@@ -0,0 +1,123 @@
+package software.amazon.rds.test.common.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Counts the AWS API calls made through the {@link ProxyClient}s it wraps, per operation, e.g. {@code DescribeDbInstances}.
+ * The counts are checked against an {@link ApiCallBudget}.
+ */
+public class ApiCallRecorder {
+
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final Map<String, Integer> callCounts = new TreeMap<>();
+
+    /**
+     * @return The operation name of the request class, e.g. {@code DescribeDbInstances} for {@code DescribeDbInstancesRequest}.
+     */
+    public static String operationName(@NonNull final Class<?> requestClass) {
+        final String name = requestClass.getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+    }
+
+    public static String operationName(@NonNull final AwsRequest request) {
+        return operationName(request.getClass());
+    }
+
+    /**
+     * @return A proxy client that delegates to {@code proxyClient} and records every invocation.
+     */
+    public <ClientT> ProxyClient<ClientT> wrap(@NonNull final ProxyClient<ClientT> proxyClient) {
+        return new RecordingProxyClient<>(proxyClient);
+    }
+
+    public synchronized void recordCall(@NonNull final AwsRequest request) {
+        callCounts.merge(operationName(request), 1, Integer::sum);
+    }
+
+    public synchronized int getCallCount(@NonNull final String operation) {
+        return callCounts.getOrDefault(operation, 0);
+    }
+
+    /**
+     * @return The number of calls per operation, sorted by the operation name.
+     */
+    public synchronized Map<String, Integer> getCallCounts() {
+        return Collections.unmodifiableMap(new TreeMap<>(callCounts));
+    }
+
+    public synchronized void reset() {
+        callCounts.clear();
+    }
+
+    private class RecordingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+        private final ProxyClient<ClientT> delegate;
+
+        RecordingProxyClient(final ProxyClient<ClientT> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                final RequestT request,
+                final Function<RequestT, ResponseT> requestFunction
+        ) {
+            recordCall(request);
+            return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+                final RequestT request,
+                final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+        ) {
+            recordCall(request);
+            return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+                final RequestT request,
+                final Function<RequestT, IterableT> requestFunction
+        ) {
+            recordCall(request);
+            return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+                final RequestT request,
+                final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+        ) {
+            recordCall(request);
+            return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+                final RequestT request,
+                final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+        ) {
+            recordCall(request);
+            return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+        }
+
+        @Override
+        public ClientT client() {
+            return delegate.client();
+        }
+    }
+}
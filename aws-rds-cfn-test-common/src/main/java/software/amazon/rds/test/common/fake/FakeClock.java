@@ -0,0 +1,53 @@
+package software.amazon.rds.test.common.fake;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import lombok.NonNull;
+
+/**
+ * A clock that only moves when told to. The fake services read the time from it, so that a test decides when
+ * a pending resource transition completes.
+ */
+public class FakeClock extends Clock {
+
+    private final ZoneId zone;
+    private Instant instant;
+
+    public FakeClock(@NonNull final Instant instant) {
+        this(instant, ZoneOffset.UTC);
+    }
+
+    private FakeClock(final Instant instant, final ZoneId zone) {
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    public synchronized void advance(@NonNull final Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("A clock cannot go backwards: " + duration);
+        }
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public synchronized Instant instant() {
+        return instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * @return A snapshot of this clock in the zone, it does not follow further {@code advance} calls.
+     */
+    @Override
+    public Clock withZone(@NonNull final ZoneId zone) {
+        return new FakeClock(instant(), zone);
+    }
+}
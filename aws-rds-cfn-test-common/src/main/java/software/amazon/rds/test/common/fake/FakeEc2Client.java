@@ -0,0 +1,71 @@
+package software.amazon.rds.test.common.fake;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.Ec2ServiceClientConfiguration;
+import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsResponse;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.SecurityGroup;
+
+/**
+ * The {@link Ec2Client} surface of a {@link FakeRdsService}: the security groups added to the service.
+ */
+class FakeEc2Client implements Ec2Client {
+
+    private final FakeRdsService service;
+
+    FakeEc2Client(final FakeRdsService service) {
+        this.service = service;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public Ec2ServiceClientConfiguration serviceClientConfiguration() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Supports the {@code group-id}, {@code group-name} and {@code vpc-id} filters, the other filters match nothing.
+     */
+    @Override
+    public DescribeSecurityGroupsResponse describeSecurityGroups(final DescribeSecurityGroupsRequest request) {
+        return service.invoke(request, () -> {
+            final List<SecurityGroup> securityGroups = service.securityGroups.stream()
+                    .filter(group -> !request.hasGroupIds() || request.groupIds().contains(group.groupId()))
+                    .filter(group -> !request.hasGroupNames() || request.groupNames().contains(group.groupName()))
+                    .filter(group -> request.filters().stream().allMatch(filter -> matches(filter, group)))
+                    .collect(Collectors.toList());
+            return DescribeSecurityGroupsResponse.builder().securityGroups(securityGroups).build();
+        });
+    }
+
+    private static boolean matches(final Filter filter, final SecurityGroup group) {
+        final Function<SecurityGroup, String> attribute;
+        switch (filter.name()) {
+            case "group-id":
+                attribute = SecurityGroup::groupId;
+                break;
+            case "group-name":
+                attribute = SecurityGroup::groupName;
+                break;
+            case "vpc-id":
+                attribute = SecurityGroup::vpcId;
+                break;
+            default:
+                return false;
+        }
+        return filter.values().contains(attribute.apply(group));
+    }
+}
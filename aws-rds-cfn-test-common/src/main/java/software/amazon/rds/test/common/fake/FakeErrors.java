@@ -0,0 +1,105 @@
+package software.amazon.rds.test.common.fake;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.rds.model.DbClusterAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbInstanceAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbShardGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbShardGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.OptionGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.OptionGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.RdsException;
+
+/**
+ * Builds the service exceptions the fakes throw, with the same exception classes and error codes as the real service.
+ */
+final class FakeErrors {
+
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+
+    private FakeErrors() {
+    }
+
+    static AwsServiceException notFound(final FakeResourceType type, final String identifier) {
+        final String message = String.format("%s %s not found.", type, identifier);
+        switch (type) {
+            case DB_INSTANCE:
+                return build(DbInstanceNotFoundException.builder(), STATUS_NOT_FOUND, "DBInstanceNotFound", message);
+            case DB_CLUSTER:
+                return build(DbClusterNotFoundException.builder(), STATUS_NOT_FOUND, "DBClusterNotFoundFault", message);
+            case DB_PARAMETER_GROUP:
+                return build(DbParameterGroupNotFoundException.builder(), STATUS_NOT_FOUND, "DBParameterGroupNotFound", message);
+            case OPTION_GROUP:
+                return build(OptionGroupNotFoundException.builder(), STATUS_NOT_FOUND, "OptionGroupNotFoundFault", message);
+            case DB_SUBNET_GROUP:
+                return build(DbSubnetGroupNotFoundException.builder(), STATUS_NOT_FOUND, "DBSubnetGroupNotFoundFault", message);
+            default:
+                return build(DbShardGroupNotFoundException.builder(), STATUS_NOT_FOUND, "DBShardGroupNotFound", message);
+        }
+    }
+
+    static AwsServiceException alreadyExists(final FakeResourceType type, final String identifier) {
+        final String message = String.format("%s %s already exists.", type, identifier);
+        switch (type) {
+            case DB_INSTANCE:
+                return build(DbInstanceAlreadyExistsException.builder(), STATUS_BAD_REQUEST, "DBInstanceAlreadyExists", message);
+            case DB_CLUSTER:
+                return build(DbClusterAlreadyExistsException.builder(), STATUS_BAD_REQUEST, "DBClusterAlreadyExistsFault", message);
+            case DB_PARAMETER_GROUP:
+                return build(DbParameterGroupAlreadyExistsException.builder(), STATUS_BAD_REQUEST, "DBParameterGroupAlreadyExists", message);
+            case OPTION_GROUP:
+                return build(OptionGroupAlreadyExistsException.builder(), STATUS_BAD_REQUEST, "OptionGroupAlreadyExistsFault", message);
+            case DB_SUBNET_GROUP:
+                return build(DbSubnetGroupAlreadyExistsException.builder(), STATUS_BAD_REQUEST, "DBSubnetGroupAlreadyExists", message);
+            default:
+                return build(DbShardGroupAlreadyExistsException.builder(), STATUS_BAD_REQUEST, "DBShardGroupAlreadyExists", message);
+        }
+    }
+
+    static AwsServiceException invalidState(final FakeResourceType type, final String identifier, final String status) {
+        final String message = String.format("%s %s is not available, its status is %s.", type, identifier, status);
+        switch (type) {
+            case DB_INSTANCE:
+                return build(InvalidDbInstanceStateException.builder(), STATUS_BAD_REQUEST, "InvalidDBInstanceState", message);
+            case DB_CLUSTER:
+                return build(InvalidDbClusterStateException.builder(), STATUS_BAD_REQUEST, "InvalidDBClusterStateFault", message);
+            default:
+                return build(RdsException.builder(), STATUS_BAD_REQUEST, "InvalidDBShardGroupState", message);
+        }
+    }
+
+    static AwsServiceException invalidParameterCombination(final String message) {
+        return build(RdsException.builder(), STATUS_BAD_REQUEST, "InvalidParameterCombination", message);
+    }
+
+    static AwsServiceException throttling() {
+        return build(AwsServiceException.builder(), STATUS_BAD_REQUEST, "Throttling", "Rate exceeded");
+    }
+
+    private static AwsServiceException build(
+            final AwsServiceException.Builder builder,
+            final int statusCode,
+            final String errorCode,
+            final String message
+    ) {
+        return builder
+                .message(message)
+                .statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode(errorCode)
+                        .errorMessage(message)
+                        .sdkHttpResponse(SdkHttpResponse.builder().statusCode(statusCode).build())
+                        .build())
+                .build();
+    }
+}
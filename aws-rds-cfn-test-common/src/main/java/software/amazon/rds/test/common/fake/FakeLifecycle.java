@@ -0,0 +1,38 @@
+package software.amazon.rds.test.common.fake;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * How long a fake resource stays in a transitional status (e.g. {@code creating}) before it settles.
+ * With a zero duration the resource is settled by the next call.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class FakeLifecycle {
+
+    public static final FakeLifecycle DEFAULT = FakeLifecycle.builder().build();
+
+    public static final FakeLifecycle IMMEDIATE = FakeLifecycle.builder()
+            .creating(Duration.ZERO)
+            .modifying(Duration.ZERO)
+            .rebooting(Duration.ZERO)
+            .deleting(Duration.ZERO)
+            .build();
+
+    @NonNull
+    @Builder.Default
+    private final Duration creating = Duration.ofMinutes(5);
+    @NonNull
+    @Builder.Default
+    private final Duration modifying = Duration.ofMinutes(2);
+    @NonNull
+    @Builder.Default
+    private final Duration rebooting = Duration.ofMinutes(1);
+    @NonNull
+    @Builder.Default
+    private final Duration deleting = Duration.ofMinutes(3);
+}
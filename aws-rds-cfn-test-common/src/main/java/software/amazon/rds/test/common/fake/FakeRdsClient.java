@@ -0,0 +1,707 @@
+package software.amazon.rds.test.common.fake;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.RdsServiceClientConfiguration;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbShardGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbShardGroupResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.CreateOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterMember;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroup;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.DBShardGroup;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.DeleteDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbShardGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbShardGroupResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.DeleteOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbShardGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbShardGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsResponse;
+import software.amazon.awssdk.services.rds.model.Endpoint;
+import software.amazon.awssdk.services.rds.model.Event;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbShardGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbShardGroupResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.ModifyOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.Option;
+import software.amazon.awssdk.services.rds.model.OptionGroup;
+import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.Subnet;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+
+/**
+ * The {@link RdsClient} surface of a {@link FakeRdsService}. Operations the fake does not model keep the SDK default
+ * behaviour and throw {@link UnsupportedOperationException}.
+ */
+class FakeRdsClient implements RdsClient {
+
+    private static final int DEFAULT_PORT = 3306;
+    private static final String STATUS_IN_SYNC = "in-sync";
+    private static final String STATUS_ACTIVE = "active";
+    private static final String SUBNET_GROUP_STATUS_COMPLETE = "Complete";
+    private static final String PARAMETER_SOURCE_USER = "user";
+
+    private final FakeRdsService service;
+
+    FakeRdsClient(final FakeRdsService service) {
+        this.service = service;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public RdsServiceClientConfiguration serviceClientConfiguration() {
+        throw new UnsupportedOperationException();
+    }
+
+    // DB instances
+
+    @Override
+    public CreateDbInstanceResponse createDBInstance(final CreateDbInstanceRequest request) {
+        return service.invoke(request, () -> {
+            if (request.dbClusterIdentifier() != null) {
+                service.getOrThrow(service.dbClusters, FakeResourceType.DB_CLUSTER, request.dbClusterIdentifier());
+            }
+            final DBInstance.Builder builder = DBInstance.builder()
+                    .dbInstanceIdentifier(FakeRdsService.normalize(request.dbInstanceIdentifier()))
+                    .dbInstanceClass(request.dbInstanceClass())
+                    .engine(request.engine())
+                    .engineVersion(request.engineVersion())
+                    .allocatedStorage(request.allocatedStorage())
+                    .storageType(request.storageType())
+                    .masterUsername(request.masterUsername())
+                    .multiAZ(request.multiAZ())
+                    .deletionProtection(request.deletionProtection())
+                    .backupRetentionPeriod(request.backupRetentionPeriod())
+                    .dbClusterIdentifier(request.dbClusterIdentifier() != null ? FakeRdsService.normalize(request.dbClusterIdentifier()) : null)
+                    .endpoint(Endpoint.builder()
+                            .address(endpointAddress(request.dbInstanceIdentifier()))
+                            .port(request.port() != null ? request.port() : DEFAULT_PORT)
+                            .build());
+            applyDbInstanceGroups(builder, request.dbParameterGroupName(), request.dbSubnetGroupName(), request.optionGroupName());
+            if (request.hasVpcSecurityGroupIds()) {
+                builder.vpcSecurityGroups(vpcSecurityGroups(request.vpcSecurityGroupIds()));
+            }
+            final FakeResource<DBInstance> resource = service.create(
+                    service.dbInstances,
+                    FakeResourceType.DB_INSTANCE,
+                    request.dbInstanceIdentifier(),
+                    builder.build(),
+                    request.hasTags() ? request.tags() : null
+            );
+            service.transition(resource, FakeRdsService.STATUS_CREATING, service.lifecycle(FakeResourceType.DB_INSTANCE).getCreating(), FakeRdsService.STATUS_AVAILABLE);
+            return CreateDbInstanceResponse.builder().dbInstance(dbInstance(resource)).build();
+        });
+    }
+
+    @Override
+    public DescribeDbInstancesResponse describeDBInstances(final DescribeDbInstancesRequest request) {
+        return service.invoke(request, () -> {
+            final List<FakeResource<DBInstance>> resources = request.dbInstanceIdentifier() != null
+                    ? Collections.singletonList(service.getOrThrow(service.dbInstances, FakeResourceType.DB_INSTANCE, request.dbInstanceIdentifier()))
+                    : service.refreshAll(service.dbInstances);
+            return DescribeDbInstancesResponse.builder()
+                    .dbInstances(resources.stream().map(this::dbInstance).collect(Collectors.toList()))
+                    .build();
+        });
+    }
+
+    @Override
+    public ModifyDbInstanceResponse modifyDBInstance(final ModifyDbInstanceRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBInstance> resource = service.getAvailableOrThrow(service.dbInstances, FakeResourceType.DB_INSTANCE, request.dbInstanceIdentifier());
+            final DBInstance current = resource.getModel();
+            final DBInstance.Builder builder = current.toBuilder()
+                    .dbInstanceClass(orElse(request.dbInstanceClass(), current.dbInstanceClass()))
+                    .engineVersion(orElse(request.engineVersion(), current.engineVersion()))
+                    .allocatedStorage(orElse(request.allocatedStorage(), current.allocatedStorage()))
+                    .storageType(orElse(request.storageType(), current.storageType()))
+                    .multiAZ(orElse(request.multiAZ(), current.multiAZ()))
+                    .deletionProtection(orElse(request.deletionProtection(), current.deletionProtection()))
+                    .backupRetentionPeriod(orElse(request.backupRetentionPeriod(), current.backupRetentionPeriod()));
+            applyDbInstanceGroups(builder, request.dbParameterGroupName(), null, request.optionGroupName());
+            if (request.hasVpcSecurityGroupIds()) {
+                builder.vpcSecurityGroups(vpcSecurityGroups(request.vpcSecurityGroupIds()));
+            }
+            resource.setModel(builder.build());
+            service.transition(resource, FakeRdsService.STATUS_MODIFYING, service.lifecycle(FakeResourceType.DB_INSTANCE).getModifying(), FakeRdsService.STATUS_AVAILABLE);
+            return ModifyDbInstanceResponse.builder().dbInstance(dbInstance(resource)).build();
+        });
+    }
+
+    @Override
+    public RebootDbInstanceResponse rebootDBInstance(final RebootDbInstanceRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBInstance> resource = service.getAvailableOrThrow(service.dbInstances, FakeResourceType.DB_INSTANCE, request.dbInstanceIdentifier());
+            service.transition(resource, FakeRdsService.STATUS_REBOOTING, service.lifecycle(FakeResourceType.DB_INSTANCE).getRebooting(), FakeRdsService.STATUS_AVAILABLE);
+            return RebootDbInstanceResponse.builder().dbInstance(dbInstance(resource)).build();
+        });
+    }
+
+    @Override
+    public DeleteDbInstanceResponse deleteDBInstance(final DeleteDbInstanceRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBInstance> resource = service.getOrThrow(service.dbInstances, FakeResourceType.DB_INSTANCE, request.dbInstanceIdentifier());
+            if (FakeRdsService.STATUS_DELETING.equals(resource.getStatus())) {
+                throw FakeErrors.invalidState(FakeResourceType.DB_INSTANCE, resource.getIdentifier(), resource.getStatus());
+            }
+            if (Boolean.TRUE.equals(resource.getModel().deletionProtection())) {
+                throw FakeErrors.invalidParameterCombination("Cannot delete protected DB Instance, please disable deletion protection and try again.");
+            }
+            final DBInstance deleting = dbInstance(resource);
+            service.remove(service.dbInstances, resource, service.lifecycle(FakeResourceType.DB_INSTANCE).getDeleting());
+            return DeleteDbInstanceResponse.builder().dbInstance(deleting.toBuilder().dbInstanceStatus(FakeRdsService.STATUS_DELETING).build()).build();
+        });
+    }
+
+    // DB clusters
+
+    @Override
+    public CreateDbClusterResponse createDBCluster(final CreateDbClusterRequest request) {
+        return service.invoke(request, () -> {
+            final String identifier = FakeRdsService.normalize(request.dbClusterIdentifier());
+            if (request.dbSubnetGroupName() != null) {
+                service.getOrThrow(service.dbSubnetGroups, FakeResourceType.DB_SUBNET_GROUP, request.dbSubnetGroupName());
+            }
+            final DBCluster.Builder builder = DBCluster.builder()
+                    .dbClusterIdentifier(identifier)
+                    .engine(request.engine())
+                    .engineVersion(request.engineVersion())
+                    .masterUsername(request.masterUsername())
+                    .port(request.port() != null ? request.port() : DEFAULT_PORT)
+                    .dbSubnetGroup(request.dbSubnetGroupName())
+                    .dbClusterParameterGroup(request.dbClusterParameterGroupName())
+                    .deletionProtection(request.deletionProtection())
+                    .storageEncrypted(request.storageEncrypted())
+                    .backupRetentionPeriod(request.backupRetentionPeriod())
+                    .endpoint(endpointAddress(identifier));
+            if (request.hasVpcSecurityGroupIds()) {
+                builder.vpcSecurityGroups(vpcSecurityGroups(request.vpcSecurityGroupIds()));
+            }
+            final FakeResource<DBCluster> resource = service.create(
+                    service.dbClusters,
+                    FakeResourceType.DB_CLUSTER,
+                    identifier,
+                    builder.build(),
+                    request.hasTags() ? request.tags() : null
+            );
+            service.transition(resource, FakeRdsService.STATUS_CREATING, service.lifecycle(FakeResourceType.DB_CLUSTER).getCreating(), FakeRdsService.STATUS_AVAILABLE);
+            return CreateDbClusterResponse.builder().dbCluster(dbCluster(resource)).build();
+        });
+    }
+
+    @Override
+    public DescribeDbClustersResponse describeDBClusters(final DescribeDbClustersRequest request) {
+        return service.invoke(request, () -> {
+            final List<FakeResource<DBCluster>> resources = request.dbClusterIdentifier() != null
+                    ? Collections.singletonList(service.getOrThrow(service.dbClusters, FakeResourceType.DB_CLUSTER, request.dbClusterIdentifier()))
+                    : service.refreshAll(service.dbClusters);
+            return DescribeDbClustersResponse.builder()
+                    .dbClusters(resources.stream().map(this::dbCluster).collect(Collectors.toList()))
+                    .build();
+        });
+    }
+
+    @Override
+    public ModifyDbClusterResponse modifyDBCluster(final ModifyDbClusterRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBCluster> resource = service.getAvailableOrThrow(service.dbClusters, FakeResourceType.DB_CLUSTER, request.dbClusterIdentifier());
+            final DBCluster current = resource.getModel();
+            final DBCluster.Builder builder = current.toBuilder()
+                    .engineVersion(orElse(request.engineVersion(), current.engineVersion()))
+                    .port(orElse(request.port(), current.port()))
+                    .dbClusterParameterGroup(orElse(request.dbClusterParameterGroupName(), current.dbClusterParameterGroup()))
+                    .deletionProtection(orElse(request.deletionProtection(), current.deletionProtection()))
+                    .backupRetentionPeriod(orElse(request.backupRetentionPeriod(), current.backupRetentionPeriod()));
+            if (request.hasVpcSecurityGroupIds()) {
+                builder.vpcSecurityGroups(vpcSecurityGroups(request.vpcSecurityGroupIds()));
+            }
+            resource.setModel(builder.build());
+            service.transition(resource, FakeRdsService.STATUS_MODIFYING, service.lifecycle(FakeResourceType.DB_CLUSTER).getModifying(), FakeRdsService.STATUS_AVAILABLE);
+            return ModifyDbClusterResponse.builder().dbCluster(dbCluster(resource)).build();
+        });
+    }
+
+    @Override
+    public DeleteDbClusterResponse deleteDBCluster(final DeleteDbClusterRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBCluster> resource = service.getOrThrow(service.dbClusters, FakeResourceType.DB_CLUSTER, request.dbClusterIdentifier());
+            if (FakeRdsService.STATUS_DELETING.equals(resource.getStatus()) || !clusterMembers(resource).isEmpty()) {
+                throw FakeErrors.invalidState(FakeResourceType.DB_CLUSTER, resource.getIdentifier(), resource.getStatus());
+            }
+            if (Boolean.TRUE.equals(resource.getModel().deletionProtection())) {
+                throw FakeErrors.invalidParameterCombination("Cannot delete protected Cluster, please disable deletion protection and try again.");
+            }
+            final DBCluster deleting = dbCluster(resource);
+            service.remove(service.dbClusters, resource, service.lifecycle(FakeResourceType.DB_CLUSTER).getDeleting());
+            return DeleteDbClusterResponse.builder().dbCluster(deleting.toBuilder().status(FakeRdsService.STATUS_DELETING).build()).build();
+        });
+    }
+
+    // DB parameter groups
+
+    @Override
+    public CreateDbParameterGroupResponse createDBParameterGroup(final CreateDbParameterGroupRequest request) {
+        return service.invoke(request, () -> {
+            final String name = FakeRdsService.normalize(request.dbParameterGroupName());
+            final FakeResource<DBParameterGroup> resource = service.create(
+                    service.dbParameterGroups,
+                    FakeResourceType.DB_PARAMETER_GROUP,
+                    name,
+                    DBParameterGroup.builder()
+                            .dbParameterGroupName(name)
+                            .dbParameterGroupFamily(request.dbParameterGroupFamily())
+                            .description(request.description())
+                            .dbParameterGroupArn(service.arn(FakeResourceType.DB_PARAMETER_GROUP, name))
+                            .build(),
+                    request.hasTags() ? request.tags() : null
+            );
+            service.dbParameters.put(name, new LinkedHashMap<>());
+            return CreateDbParameterGroupResponse.builder().dbParameterGroup(resource.getModel()).build();
+        });
+    }
+
+    @Override
+    public DescribeDbParameterGroupsResponse describeDBParameterGroups(final DescribeDbParameterGroupsRequest request) {
+        return service.invoke(request, () -> DescribeDbParameterGroupsResponse.builder()
+                .dbParameterGroups(models(service.dbParameterGroups, FakeResourceType.DB_PARAMETER_GROUP, request.dbParameterGroupName()))
+                .build());
+    }
+
+    @Override
+    public ModifyDbParameterGroupResponse modifyDBParameterGroup(final ModifyDbParameterGroupRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBParameterGroup> resource = service.getOrThrow(service.dbParameterGroups, FakeResourceType.DB_PARAMETER_GROUP, request.dbParameterGroupName());
+            final Map<String, Parameter> parameters = service.dbParameters.get(resource.getIdentifier());
+            if (request.hasParameters()) {
+                request.parameters().forEach(parameter -> parameters.put(
+                        parameter.parameterName(),
+                        parameter.toBuilder().source(PARAMETER_SOURCE_USER).build()
+                ));
+            }
+            return ModifyDbParameterGroupResponse.builder().dbParameterGroupName(resource.getIdentifier()).build();
+        });
+    }
+
+    /**
+     * Describes the parameters modified so far, the fake does not model the engine defaults.
+     */
+    @Override
+    public DescribeDbParametersResponse describeDBParameters(final DescribeDbParametersRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBParameterGroup> resource = service.getOrThrow(service.dbParameterGroups, FakeResourceType.DB_PARAMETER_GROUP, request.dbParameterGroupName());
+            return DescribeDbParametersResponse.builder()
+                    .parameters(new ArrayList<>(service.dbParameters.get(resource.getIdentifier()).values()))
+                    .build();
+        });
+    }
+
+    @Override
+    public DeleteDbParameterGroupResponse deleteDBParameterGroup(final DeleteDbParameterGroupRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBParameterGroup> resource = service.getOrThrow(service.dbParameterGroups, FakeResourceType.DB_PARAMETER_GROUP, request.dbParameterGroupName());
+            service.removeNow(service.dbParameterGroups, resource);
+            service.dbParameters.remove(resource.getIdentifier());
+            return DeleteDbParameterGroupResponse.builder().build();
+        });
+    }
+
+    // Option groups
+
+    @Override
+    public CreateOptionGroupResponse createOptionGroup(final CreateOptionGroupRequest request) {
+        return service.invoke(request, () -> {
+            final String name = FakeRdsService.normalize(request.optionGroupName());
+            final FakeResource<OptionGroup> resource = service.create(
+                    service.optionGroups,
+                    FakeResourceType.OPTION_GROUP,
+                    name,
+                    OptionGroup.builder()
+                            .optionGroupName(name)
+                            .engineName(request.engineName())
+                            .majorEngineVersion(request.majorEngineVersion())
+                            .optionGroupDescription(request.optionGroupDescription())
+                            .optionGroupArn(service.arn(FakeResourceType.OPTION_GROUP, name))
+                            .options(Collections.emptyList())
+                            .build(),
+                    request.hasTags() ? request.tags() : null
+            );
+            return CreateOptionGroupResponse.builder().optionGroup(resource.getModel()).build();
+        });
+    }
+
+    @Override
+    public DescribeOptionGroupsResponse describeOptionGroups(final DescribeOptionGroupsRequest request) {
+        return service.invoke(request, () -> DescribeOptionGroupsResponse.builder()
+                .optionGroupsList(models(service.optionGroups, FakeResourceType.OPTION_GROUP, request.optionGroupName()))
+                .build());
+    }
+
+    @Override
+    public ModifyOptionGroupResponse modifyOptionGroup(final ModifyOptionGroupRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<OptionGroup> resource = service.getOrThrow(service.optionGroups, FakeResourceType.OPTION_GROUP, request.optionGroupName());
+            final Map<String, Option> options = new LinkedHashMap<>();
+            resource.getModel().options().forEach(option -> options.put(option.optionName(), option));
+            if (request.hasOptionsToRemove()) {
+                request.optionsToRemove().forEach(options::remove);
+            }
+            if (request.hasOptionsToInclude()) {
+                request.optionsToInclude().forEach(configuration -> options.put(configuration.optionName(), Option.builder()
+                        .optionName(configuration.optionName())
+                        .optionVersion(configuration.optionVersion())
+                        .port(configuration.port())
+                        .build()));
+            }
+            resource.setModel(resource.getModel().toBuilder().options(new ArrayList<>(options.values())).build());
+            return ModifyOptionGroupResponse.builder().optionGroup(resource.getModel()).build();
+        });
+    }
+
+    @Override
+    public DeleteOptionGroupResponse deleteOptionGroup(final DeleteOptionGroupRequest request) {
+        return service.invoke(request, () -> {
+            service.removeNow(service.optionGroups, service.getOrThrow(service.optionGroups, FakeResourceType.OPTION_GROUP, request.optionGroupName()));
+            return DeleteOptionGroupResponse.builder().build();
+        });
+    }
+
+    // DB subnet groups
+
+    @Override
+    public CreateDbSubnetGroupResponse createDBSubnetGroup(final CreateDbSubnetGroupRequest request) {
+        return service.invoke(request, () -> {
+            final String name = FakeRdsService.normalize(request.dbSubnetGroupName());
+            final FakeResource<DBSubnetGroup> resource = service.create(
+                    service.dbSubnetGroups,
+                    FakeResourceType.DB_SUBNET_GROUP,
+                    name,
+                    DBSubnetGroup.builder()
+                            .dbSubnetGroupName(name)
+                            .dbSubnetGroupDescription(request.dbSubnetGroupDescription())
+                            .subnetGroupStatus(SUBNET_GROUP_STATUS_COMPLETE)
+                            .subnets(subnets(request.subnetIds()))
+                            .dbSubnetGroupArn(service.arn(FakeResourceType.DB_SUBNET_GROUP, name))
+                            .build(),
+                    request.hasTags() ? request.tags() : null
+            );
+            return CreateDbSubnetGroupResponse.builder().dbSubnetGroup(resource.getModel()).build();
+        });
+    }
+
+    @Override
+    public DescribeDbSubnetGroupsResponse describeDBSubnetGroups(final DescribeDbSubnetGroupsRequest request) {
+        return service.invoke(request, () -> DescribeDbSubnetGroupsResponse.builder()
+                .dbSubnetGroups(models(service.dbSubnetGroups, FakeResourceType.DB_SUBNET_GROUP, request.dbSubnetGroupName()))
+                .build());
+    }
+
+    @Override
+    public ModifyDbSubnetGroupResponse modifyDBSubnetGroup(final ModifyDbSubnetGroupRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBSubnetGroup> resource = service.getOrThrow(service.dbSubnetGroups, FakeResourceType.DB_SUBNET_GROUP, request.dbSubnetGroupName());
+            resource.setModel(resource.getModel().toBuilder()
+                    .dbSubnetGroupDescription(orElse(request.dbSubnetGroupDescription(), resource.getModel().dbSubnetGroupDescription()))
+                    .subnets(subnets(request.subnetIds()))
+                    .build());
+            return ModifyDbSubnetGroupResponse.builder().dbSubnetGroup(resource.getModel()).build();
+        });
+    }
+
+    @Override
+    public DeleteDbSubnetGroupResponse deleteDBSubnetGroup(final DeleteDbSubnetGroupRequest request) {
+        return service.invoke(request, () -> {
+            service.removeNow(service.dbSubnetGroups, service.getOrThrow(service.dbSubnetGroups, FakeResourceType.DB_SUBNET_GROUP, request.dbSubnetGroupName()));
+            return DeleteDbSubnetGroupResponse.builder().build();
+        });
+    }
+
+    // DB shard groups
+
+    @Override
+    public CreateDbShardGroupResponse createDBShardGroup(final CreateDbShardGroupRequest request) {
+        return service.invoke(request, () -> {
+            final String identifier = FakeRdsService.normalize(request.dbShardGroupIdentifier());
+            service.getOrThrow(service.dbClusters, FakeResourceType.DB_CLUSTER, request.dbClusterIdentifier());
+            final FakeResource<DBShardGroup> resource = service.create(
+                    service.dbShardGroups,
+                    FakeResourceType.DB_SHARD_GROUP,
+                    identifier,
+                    DBShardGroup.builder()
+                            .dbShardGroupIdentifier(identifier)
+                            .dbShardGroupResourceId("shardgroup-" + Integer.toHexString(identifier.hashCode()))
+                            .dbClusterIdentifier(FakeRdsService.normalize(request.dbClusterIdentifier()))
+                            .maxACU(request.maxACU())
+                            .computeRedundancy(request.computeRedundancy())
+                            .publiclyAccessible(request.publiclyAccessible())
+                            .endpoint(endpointAddress(identifier))
+                            .build(),
+                    request.hasTags() ? request.tags() : null
+            );
+            service.transition(resource, FakeRdsService.STATUS_CREATING, service.lifecycle(FakeResourceType.DB_SHARD_GROUP).getCreating(), FakeRdsService.STATUS_AVAILABLE);
+            final DBShardGroup shardGroup = dbShardGroup(resource);
+            return CreateDbShardGroupResponse.builder()
+                    .dbShardGroupIdentifier(shardGroup.dbShardGroupIdentifier())
+                    .dbShardGroupResourceId(shardGroup.dbShardGroupResourceId())
+                    .dbClusterIdentifier(shardGroup.dbClusterIdentifier())
+                    .maxACU(shardGroup.maxACU())
+                    .computeRedundancy(shardGroup.computeRedundancy())
+                    .publiclyAccessible(shardGroup.publiclyAccessible())
+                    .endpoint(shardGroup.endpoint())
+                    .status(shardGroup.status())
+                    .build();
+        });
+    }
+
+    @Override
+    public DescribeDbShardGroupsResponse describeDBShardGroups(final DescribeDbShardGroupsRequest request) {
+        return service.invoke(request, () -> {
+            final List<FakeResource<DBShardGroup>> resources = request.dbShardGroupIdentifier() != null
+                    ? Collections.singletonList(service.getOrThrow(service.dbShardGroups, FakeResourceType.DB_SHARD_GROUP, request.dbShardGroupIdentifier()))
+                    : service.refreshAll(service.dbShardGroups);
+            return DescribeDbShardGroupsResponse.builder()
+                    .dbShardGroups(resources.stream().map(this::dbShardGroup).collect(Collectors.toList()))
+                    .build();
+        });
+    }
+
+    @Override
+    public ModifyDbShardGroupResponse modifyDBShardGroup(final ModifyDbShardGroupRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBShardGroup> resource = service.getAvailableOrThrow(service.dbShardGroups, FakeResourceType.DB_SHARD_GROUP, request.dbShardGroupIdentifier());
+            final DBShardGroup current = resource.getModel();
+            resource.setModel(current.toBuilder()
+                    .maxACU(orElse(request.maxACU(), current.maxACU()))
+                    .computeRedundancy(orElse(request.computeRedundancy(), current.computeRedundancy()))
+                    .build());
+            service.transition(resource, FakeRdsService.STATUS_MODIFYING, service.lifecycle(FakeResourceType.DB_SHARD_GROUP).getModifying(), FakeRdsService.STATUS_AVAILABLE);
+            return ModifyDbShardGroupResponse.builder()
+                    .dbShardGroupIdentifier(resource.getIdentifier())
+                    .status(resource.getStatus())
+                    .build();
+        });
+    }
+
+    @Override
+    public DeleteDbShardGroupResponse deleteDBShardGroup(final DeleteDbShardGroupRequest request) {
+        return service.invoke(request, () -> {
+            final FakeResource<DBShardGroup> resource = service.getOrThrow(service.dbShardGroups, FakeResourceType.DB_SHARD_GROUP, request.dbShardGroupIdentifier());
+            if (FakeRdsService.STATUS_DELETING.equals(resource.getStatus())) {
+                throw FakeErrors.invalidState(FakeResourceType.DB_SHARD_GROUP, resource.getIdentifier(), resource.getStatus());
+            }
+            final String identifier = resource.getIdentifier();
+            service.remove(service.dbShardGroups, resource, service.lifecycle(FakeResourceType.DB_SHARD_GROUP).getDeleting());
+            return DeleteDbShardGroupResponse.builder()
+                    .dbShardGroupIdentifier(identifier)
+                    .status(FakeRdsService.STATUS_DELETING)
+                    .build();
+        });
+    }
+
+    // Tags and events
+
+    @Override
+    public AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        return service.invoke(request, () -> {
+            service.addTags(taggedArn(request.resourceName()), request.tags());
+            return AddTagsToResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        return service.invoke(request, () -> {
+            service.removeTags(taggedArn(request.resourceName()), request.tagKeys());
+            return RemoveTagsFromResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return service.invoke(request, () -> ListTagsForResourceResponse.builder()
+                .tagList(service.getTags(taggedArn(request.resourceName())))
+                .build());
+    }
+
+    /**
+     * Describes the events between {@code startTime} and {@code endTime}. The handlers read the end time from the
+     * handler clock, so it has to be the fake clock for the events to be visible.
+     */
+    @Override
+    public DescribeEventsResponse describeEvents(final DescribeEventsRequest request) {
+        return service.invoke(request, () -> {
+            final List<Event> events = service.events().stream()
+                    .filter(event -> request.sourceType() == null || request.sourceType() == event.sourceType())
+                    .filter(event -> request.sourceIdentifier() == null
+                            || FakeRdsService.normalize(request.sourceIdentifier()).equals(event.sourceIdentifier()))
+                    .filter(event -> request.startTime() == null || !event.date().isBefore(request.startTime()))
+                    .filter(event -> request.endTime() == null || !event.date().isAfter(request.endTime()))
+                    .filter(event -> !request.hasEventCategories()
+                            || event.eventCategories().stream().anyMatch(request.eventCategories()::contains))
+                    .collect(Collectors.toList());
+            return DescribeEventsResponse.builder().events(events).build();
+        });
+    }
+
+    private String taggedArn(final String arn) {
+        final FakeResource<?> resource = service.findByArn(arn);
+        if (resource == null) {
+            throw FakeErrors.notFound(FakeResourceType.DB_INSTANCE, arn);
+        }
+        return resource.getArn();
+    }
+
+    private DBInstance dbInstance(final FakeResource<DBInstance> resource) {
+        return resource.getModel().toBuilder()
+                .dbInstanceStatus(resource.getStatus())
+                .dbInstanceArn(resource.getArn())
+                .instanceCreateTime(resource.getCreateTime())
+                .tagList(service.getTags(resource.getArn()))
+                .build();
+    }
+
+    private DBCluster dbCluster(final FakeResource<DBCluster> resource) {
+        return resource.getModel().toBuilder()
+                .status(resource.getStatus())
+                .dbClusterArn(resource.getArn())
+                .clusterCreateTime(resource.getCreateTime())
+                .dbClusterMembers(clusterMembers(resource))
+                .tagList(service.getTags(resource.getArn()))
+                .build();
+    }
+
+    private DBShardGroup dbShardGroup(final FakeResource<DBShardGroup> resource) {
+        return resource.getModel().toBuilder()
+                .status(resource.getStatus())
+                .build();
+    }
+
+    private List<DBClusterMember> clusterMembers(final FakeResource<DBCluster> cluster) {
+        final List<DBClusterMember> members = new ArrayList<>();
+        for (final FakeResource<DBInstance> instance : service.refreshAll(service.dbInstances)) {
+            if (cluster.getIdentifier().equals(instance.getModel().dbClusterIdentifier())) {
+                members.add(DBClusterMember.builder()
+                        .dbInstanceIdentifier(instance.getIdentifier())
+                        .isClusterWriter(members.isEmpty())
+                        .build());
+            }
+        }
+        return members;
+    }
+
+    private <T> List<T> models(final Map<String, FakeResource<T>> store, final FakeResourceType type, final String name) {
+        final List<FakeResource<T>> resources = name != null
+                ? Collections.singletonList(service.getOrThrow(store, type, name))
+                : service.refreshAll(store);
+        return resources.stream().map(FakeResource::getModel).collect(Collectors.toList());
+    }
+
+    private void applyDbInstanceGroups(
+            final DBInstance.Builder builder,
+            final String dbParameterGroupName,
+            final String dbSubnetGroupName,
+            final String optionGroupName
+    ) {
+        if (dbParameterGroupName != null) {
+            final FakeResource<DBParameterGroup> parameterGroup = service.getOrThrow(service.dbParameterGroups, FakeResourceType.DB_PARAMETER_GROUP, dbParameterGroupName);
+            builder.dbParameterGroups(DBParameterGroupStatus.builder()
+                    .dbParameterGroupName(parameterGroup.getIdentifier())
+                    .parameterApplyStatus(STATUS_IN_SYNC)
+                    .build());
+        }
+        if (dbSubnetGroupName != null) {
+            builder.dbSubnetGroup(service.getOrThrow(service.dbSubnetGroups, FakeResourceType.DB_SUBNET_GROUP, dbSubnetGroupName).getModel());
+        }
+        if (optionGroupName != null) {
+            final FakeResource<OptionGroup> optionGroup = service.getOrThrow(service.optionGroups, FakeResourceType.OPTION_GROUP, optionGroupName);
+            builder.optionGroupMemberships(OptionGroupMembership.builder()
+                    .optionGroupName(optionGroup.getIdentifier())
+                    .status(STATUS_IN_SYNC)
+                    .build());
+        }
+    }
+
+    private String endpointAddress(final String identifier) {
+        return String.format("%s.fake.%s.rds.amazonaws.com", FakeRdsService.normalize(identifier), service.getRegion());
+    }
+
+    private static List<VpcSecurityGroupMembership> vpcSecurityGroups(final Collection<String> ids) {
+        return ids.stream()
+                .map(id -> VpcSecurityGroupMembership.builder().vpcSecurityGroupId(id).status(STATUS_ACTIVE).build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<Subnet> subnets(final Collection<String> ids) {
+        return ids.stream()
+                .map(id -> Subnet.builder().subnetIdentifier(id).subnetStatus("Active").build())
+                .collect(Collectors.toList());
+    }
+
+    private static <T> T orElse(final T value, final T other) {
+        return value != null ? value : other;
+    }
+}
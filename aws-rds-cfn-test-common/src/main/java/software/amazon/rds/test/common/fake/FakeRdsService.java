@@ -0,0 +1,402 @@
+package software.amazon.rds.test.common.fake;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.SecurityGroup;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroup;
+import software.amazon.awssdk.services.rds.model.DBShardGroup;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.Event;
+import software.amazon.awssdk.services.rds.model.OptionGroup;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.rds.test.common.core.ApiCallRecorder;
+
+/**
+ * An in-process fake of the RDS and EC2 APIs the handlers call. It keeps the state of DB instances, clusters,
+ * parameter groups, option groups, subnet groups and shard groups, moves them through their transitional statuses
+ * (e.g. {@code creating -> available}) as per a {@link FakeLifecycle}, and emits the matching RDS events.
+ * Time comes from a {@link FakeClock}: every {@code Describe*} call advances it by {@code pollInterval}, so that
+ * a stabilization loop polling the fake sees the resource settle after {@code duration / pollInterval} polls.
+ * Every call is counted per operation, and faults (e.g. throttling) can be injected for the next calls of an operation.
+ * The service is thread-safe: all the calls are serialized.
+ */
+public class FakeRdsService {
+
+    public static final String DEFAULT_REGION = "us-east-1";
+    public static final String DEFAULT_ACCOUNT_ID = "123456789012";
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+
+    static final String STATUS_AVAILABLE = "available";
+    static final String STATUS_CREATING = "creating";
+    static final String STATUS_MODIFYING = "modifying";
+    static final String STATUS_REBOOTING = "rebooting";
+    static final String STATUS_DELETING = "deleting";
+
+    static final String CATEGORY_CREATION = "creation";
+    static final String CATEGORY_CONFIGURATION_CHANGE = "configuration change";
+    static final String CATEGORY_AVAILABILITY = "availability";
+    static final String CATEGORY_DELETION = "deletion";
+
+    private static final String DESCRIBE_PREFIX = "Describe";
+
+    @Getter
+    private final FakeClock clock;
+    @Getter
+    private final String region;
+    @Getter
+    private final String accountId;
+    private final Duration pollInterval;
+    private final Map<FakeResourceType, FakeLifecycle> lifecycles;
+
+    final Map<String, FakeResource<DBInstance>> dbInstances = new LinkedHashMap<>();
+    final Map<String, FakeResource<DBCluster>> dbClusters = new LinkedHashMap<>();
+    final Map<String, FakeResource<DBParameterGroup>> dbParameterGroups = new LinkedHashMap<>();
+    final Map<String, Map<String, Parameter>> dbParameters = new HashMap<>();
+    final Map<String, FakeResource<OptionGroup>> optionGroups = new LinkedHashMap<>();
+    final Map<String, FakeResource<DBSubnetGroup>> dbSubnetGroups = new LinkedHashMap<>();
+    final Map<String, FakeResource<DBShardGroup>> dbShardGroups = new LinkedHashMap<>();
+    final List<SecurityGroup> securityGroups = new ArrayList<>();
+
+    private final Map<String, Map<String, Tag>> tags = new HashMap<>();
+    private final List<Event> events = new ArrayList<>();
+    private final Map<String, Integer> callCounts = new TreeMap<>();
+    private final Map<String, Deque<Supplier<? extends RuntimeException>>> faults = new HashMap<>();
+
+    private final FakeRdsClient rdsClient;
+    private final FakeEc2Client ec2Client;
+
+    @Builder
+    private FakeRdsService(
+            final FakeClock clock,
+            final String region,
+            final String accountId,
+            final Duration pollInterval,
+            @Singular final Map<FakeResourceType, FakeLifecycle> lifecycles
+    ) {
+        this.clock = clock != null ? clock : new FakeClock(Instant.now());
+        this.region = region != null ? region : DEFAULT_REGION;
+        this.accountId = accountId != null ? accountId : DEFAULT_ACCOUNT_ID;
+        this.pollInterval = pollInterval != null ? pollInterval : DEFAULT_POLL_INTERVAL;
+        this.lifecycles = new EnumMap<>(FakeResourceType.class);
+        this.lifecycles.putAll(lifecycles);
+        this.rdsClient = new FakeRdsClient(this);
+        this.ec2Client = new FakeEc2Client(this);
+    }
+
+    public RdsClient rdsClient() {
+        return rdsClient;
+    }
+
+    public Ec2Client ec2Client() {
+        return ec2Client;
+    }
+
+    public synchronized int getCallCount(@NonNull final String operation) {
+        return callCounts.getOrDefault(operation, 0);
+    }
+
+    /**
+     * @return The number of calls per operation, e.g. {@code DescribeDbInstances}, sorted by the operation name.
+     * The counts can be checked against an {@link software.amazon.rds.test.common.core.ApiCallBudget}.
+     */
+    public synchronized Map<String, Integer> getCallCounts() {
+        return Collections.unmodifiableMap(new TreeMap<>(callCounts));
+    }
+
+    public synchronized int getTotalCallCount() {
+        return callCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public synchronized void resetCallCounts() {
+        callCounts.clear();
+    }
+
+    /**
+     * Fails the next {@code times} calls of the operation with the exceptions supplied by {@code fault}.
+     */
+    public synchronized void injectFault(
+            @NonNull final String operation,
+            final int times,
+            @NonNull final Supplier<? extends RuntimeException> fault
+    ) {
+        final Deque<Supplier<? extends RuntimeException>> queue = faults.computeIfAbsent(operation, key -> new ArrayDeque<>());
+        for (int i = 0; i < times; i++) {
+            queue.add(fault);
+        }
+    }
+
+    public void injectThrottling(@NonNull final String operation, final int times) {
+        injectFault(operation, times, FakeErrors::throttling);
+    }
+
+    /**
+     * Emits an event for the resource, e.g. a failure event a handler is expected to react to.
+     */
+    public synchronized void emitEvent(
+            @NonNull final FakeResourceType type,
+            @NonNull final String identifier,
+            @NonNull final String message,
+            final String... categories
+    ) {
+        events.add(Event.builder()
+                .sourceType(type.getSourceType())
+                .sourceIdentifier(normalize(identifier))
+                .sourceArn(arn(type, identifier))
+                .message(message)
+                .eventCategories(categories)
+                .date(clock.instant())
+                .build());
+    }
+
+    public synchronized void addSecurityGroup(@NonNull final SecurityGroup securityGroup) {
+        securityGroups.add(securityGroup);
+    }
+
+    /**
+     * @return The current status of the resource, {@code null} if there is no such resource.
+     */
+    public synchronized String getStatus(@NonNull final FakeResourceType type, @NonNull final String identifier) {
+        final FakeResource<?> resource = refreshAny(store(type), identifier);
+        return resource != null ? resource.getStatus() : null;
+    }
+
+    /**
+     * Runs a call of the client surface: counts it, fails it with the next injected fault, if any, and advances
+     * the clock by the poll interval for a describe call.
+     */
+    synchronized <T> T invoke(final AwsRequest request, final Supplier<T> call) {
+        final String operation = ApiCallRecorder.operationName(request);
+        callCounts.merge(operation, 1, Integer::sum);
+        final Deque<Supplier<? extends RuntimeException>> queue = faults.get(operation);
+        if (queue != null && !queue.isEmpty()) {
+            throw queue.poll().get();
+        }
+        if (operation.startsWith(DESCRIBE_PREFIX)) {
+            clock.advance(pollInterval);
+        }
+        return call.get();
+    }
+
+    FakeLifecycle lifecycle(final FakeResourceType type) {
+        return lifecycles.getOrDefault(type, FakeLifecycle.DEFAULT);
+    }
+
+    String arn(final FakeResourceType type, final String identifier) {
+        return String.format("arn:aws:rds:%s:%s:%s:%s", region, accountId, type.getArnResourceType(), normalize(identifier));
+    }
+
+    /**
+     * Resource identifiers are case-insensitive and stored lower-cased, as RDS does.
+     */
+    static String normalize(final String identifier) {
+        return identifier.toLowerCase(Locale.ROOT);
+    }
+
+    <T> FakeResource<T> create(
+            final Map<String, FakeResource<T>> store,
+            final FakeResourceType type,
+            final String identifier,
+            final T model,
+            final Collection<Tag> resourceTags
+    ) {
+        final String key = normalize(identifier);
+        if (refresh(store, key) != null) {
+            throw FakeErrors.alreadyExists(type, key);
+        }
+        final FakeResource<T> resource = new FakeResource<>(type, key, arn(type, key), clock.instant(), model);
+        store.put(key, resource);
+        if (resourceTags != null) {
+            addTags(resource.getArn(), resourceTags);
+        }
+        return resource;
+    }
+
+    /**
+     * @return The resource with its pending transition applied, if due, or {@code null} if there is no such resource.
+     */
+    <T> FakeResource<T> refresh(final Map<String, FakeResource<T>> store, final String identifier) {
+        final String key = normalize(identifier);
+        final FakeResource<T> resource = store.get(key);
+        if (resource == null || !resource.hasPendingTransition() || clock.instant().isBefore(resource.getTransitionAt())) {
+            return resource;
+        }
+        final Instant settledAt = resource.getTransitionAt();
+        if (resource.isRemoving()) {
+            store.remove(key);
+            tags.remove(resource.getArn());
+            emit(resource, settledAt, resource.getType() + " deleted", CATEGORY_DELETION);
+            return null;
+        }
+        final String transitionalStatus = resource.getStatus();
+        resource.setStatus(resource.getTargetStatus());
+        resource.clearTransition();
+        emit(resource, settledAt, settledMessage(resource.getType(), transitionalStatus), settledCategory(transitionalStatus));
+        return resource;
+    }
+
+    <T> List<FakeResource<T>> refreshAll(final Map<String, FakeResource<T>> store) {
+        final List<FakeResource<T>> resources = new ArrayList<>();
+        for (final String key : new ArrayList<>(store.keySet())) {
+            final FakeResource<T> resource = refresh(store, key);
+            if (resource != null) {
+                resources.add(resource);
+            }
+        }
+        return resources;
+    }
+
+    <T> FakeResource<T> getOrThrow(final Map<String, FakeResource<T>> store, final FakeResourceType type, final String identifier) {
+        final FakeResource<T> resource = identifier != null ? refresh(store, identifier) : null;
+        if (resource == null) {
+            throw FakeErrors.notFound(type, identifier);
+        }
+        return resource;
+    }
+
+    <T> FakeResource<T> getAvailableOrThrow(final Map<String, FakeResource<T>> store, final FakeResourceType type, final String identifier) {
+        final FakeResource<T> resource = getOrThrow(store, type, identifier);
+        if (!STATUS_AVAILABLE.equals(resource.getStatus())) {
+            throw FakeErrors.invalidState(type, resource.getIdentifier(), resource.getStatus());
+        }
+        return resource;
+    }
+
+    /**
+     * Puts the resource into the transitional status, it settles into {@code settledStatus} after {@code duration}.
+     */
+    void transition(final FakeResource<?> resource, final String transitionalStatus, final Duration duration, final String settledStatus) {
+        resource.setStatus(transitionalStatus);
+        resource.setTargetStatus(settledStatus);
+        resource.setTransitionAt(clock.instant().plus(duration));
+    }
+
+    <T> void remove(final Map<String, FakeResource<T>> store, final FakeResource<T> resource, final Duration duration) {
+        resource.setStatus(STATUS_DELETING);
+        resource.setRemoving(true);
+        resource.setTransitionAt(clock.instant().plus(duration));
+        refresh(store, resource.getIdentifier());
+    }
+
+    /**
+     * Groups without a lifecycle of their own are removed right away.
+     */
+    <T> void removeNow(final Map<String, FakeResource<T>> store, final FakeResource<T> resource) {
+        store.remove(resource.getIdentifier());
+        tags.remove(resource.getArn());
+    }
+
+    synchronized List<Event> events() {
+        return new ArrayList<>(events);
+    }
+
+    List<Tag> getTags(final String arn) {
+        return new ArrayList<>(tags.getOrDefault(arn, Collections.emptyMap()).values());
+    }
+
+    void addTags(final String arn, final Collection<Tag> resourceTags) {
+        final Map<String, Tag> current = tags.computeIfAbsent(arn, key -> new LinkedHashMap<>());
+        resourceTags.forEach(tag -> current.put(tag.key(), tag));
+    }
+
+    void removeTags(final String arn, final Collection<String> tagKeys) {
+        final Map<String, Tag> current = tags.get(arn);
+        if (current != null) {
+            tagKeys.forEach(current::remove);
+        }
+    }
+
+    /**
+     * @return The resource the ARN points to, or {@code null} if the ARN is not a resource ARN of this fake.
+     */
+    FakeResource<?> findByArn(final String arn) {
+        for (final FakeResourceType type : FakeResourceType.values()) {
+            final String prefix = arn(type, "");
+            if (arn.startsWith(prefix)) {
+                return refreshAny(store(type), arn.substring(prefix.length()));
+            }
+        }
+        return null;
+    }
+
+    Map<String, ? extends FakeResource<?>> store(final FakeResourceType type) {
+        switch (type) {
+            case DB_INSTANCE:
+                return dbInstances;
+            case DB_CLUSTER:
+                return dbClusters;
+            case DB_PARAMETER_GROUP:
+                return dbParameterGroups;
+            case OPTION_GROUP:
+                return optionGroups;
+            case DB_SUBNET_GROUP:
+                return dbSubnetGroups;
+            default:
+                return dbShardGroups;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> FakeResource<T> refreshAny(final Map<String, ? extends FakeResource<?>> store, final String identifier) {
+        return refresh((Map<String, FakeResource<T>>) store, identifier);
+    }
+
+    private void emit(final FakeResource<?> resource, final Instant date, final String message, final String category) {
+        if (resource.getType().getSourceType() == null) {
+            return;
+        }
+        events.add(Event.builder()
+                .sourceType(resource.getType().getSourceType())
+                .sourceIdentifier(resource.getIdentifier())
+                .sourceArn(resource.getArn())
+                .message(message)
+                .eventCategories(category)
+                .date(date)
+                .build());
+    }
+
+    private static String settledMessage(final FakeResourceType type, final String transitionalStatus) {
+        switch (transitionalStatus) {
+            case STATUS_CREATING:
+                return type + " created";
+            case STATUS_REBOOTING:
+                return type + " restarted";
+            default:
+                return "Finished applying modification to " + type;
+        }
+    }
+
+    private static String settledCategory(final String transitionalStatus) {
+        switch (transitionalStatus) {
+            case STATUS_CREATING:
+                return CATEGORY_CREATION;
+            case STATUS_REBOOTING:
+                return CATEGORY_AVAILABILITY;
+            default:
+                return CATEGORY_CONFIGURATION_CHANGE;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package software.amazon.rds.test.common.fake;
+
+import java.time.Instant;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The state of a single fake resource: the SDK model as of the last mutation, the current status and the pending
+ * transition, if any. A removing resource is gone once its transition is due.
+ */
+@Getter
+@Setter
+final class FakeResource<T> {
+
+    private final FakeResourceType type;
+    private final String identifier;
+    private final String arn;
+    private final Instant createTime;
+    private T model;
+    private String status;
+    private Instant transitionAt;
+    private String targetStatus;
+    private boolean removing;
+
+    FakeResource(
+            final FakeResourceType type,
+            final String identifier,
+            final String arn,
+            final Instant createTime,
+            final T model
+    ) {
+        this.type = type;
+        this.identifier = identifier;
+        this.arn = arn;
+        this.createTime = createTime;
+        this.model = model;
+    }
+
+    boolean hasPendingTransition() {
+        return transitionAt != null;
+    }
+
+    void clearTransition() {
+        transitionAt = null;
+        targetStatus = null;
+    }
+}
@@ -0,0 +1,25 @@
+package software.amazon.rds.test.common.fake;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import software.amazon.awssdk.services.rds.model.SourceType;
+
+@Getter
+@AllArgsConstructor
+public enum FakeResourceType {
+    DB_INSTANCE("db", SourceType.DB_INSTANCE),
+    DB_CLUSTER("cluster", SourceType.DB_CLUSTER),
+    DB_PARAMETER_GROUP("pg", SourceType.DB_PARAMETER_GROUP),
+    OPTION_GROUP("og", null),
+    DB_SUBNET_GROUP("subgrp", null),
+    DB_SHARD_GROUP("shard-group", null);
+
+    /**
+     * The resource type segment of the resource ARN.
+     */
+    private final String arnResourceType;
+    /**
+     * The event source type, {@code null} if RDS does not emit events for the resource type.
+     */
+    private final SourceType sourceType;
+}
@@ -0,0 +1,53 @@
+package software.amazon.rds.test.common.fake;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * How a handler flow replayed by a {@link VirtualTimeDriver} went: the virtual time it took, the number of handler
+ * invocations it needed and the size of the callback context it carried between them.
+ */
+@Getter
+@Builder
+public class FlowReport<ModelT, ContextT> {
+
+    private final ProgressEvent<ModelT, ContextT> lastEvent;
+
+    private final Duration elapsed;
+
+    /**
+     * The number of handler invocations, the first one included.
+     */
+    private final int invocations;
+
+    /**
+     * The largest serialized callback context of the flow, in bytes.
+     */
+    private final int maxContextSize;
+
+    /**
+     * The serialized callback context of the last invocation, in bytes.
+     */
+    private final int lastContextSize;
+
+    public OperationStatus getStatus() {
+        return lastEvent.getStatus();
+    }
+
+    /**
+     * @return The number of re-invocations, i.e. the stabilization polls that went through a callback.
+     */
+    public int getCallbacks() {
+        return invocations - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s after %d invocation(s) in %s of virtual time, callback context up to %d bytes",
+                getStatus(), invocations, elapsed, maxContextSize);
+    }
+}
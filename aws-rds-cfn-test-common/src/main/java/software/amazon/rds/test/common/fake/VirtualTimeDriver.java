@@ -0,0 +1,105 @@
+package software.amazon.rds.test.common.fake;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BiFunction;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.Builder;
+import lombok.NonNull;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.resource.Serializer;
+
+/**
+ * Replays a handler flow the way CloudFormation drives it: the handler is re-invoked with the returned model and
+ * callback context for as long as it is in progress. Instead of waiting out the callback delay, the driver advances
+ * a {@link FakeClock}, so a flow of hours completes in milliseconds and reports how long it would have taken.
+ * <p>
+ * For the virtual time to be consistent, the handler should read the time from the same clock (e.g. via
+ * {@code HandlerConfig.clock}) and its proxy should turn every stabilization wait into a callback
+ * ({@code WaitStrategy.scheduleForCallbackStrategy()}), otherwise the proxy waits in-process on the wall clock.
+ * Like CloudFormation, the driver hands the callback context over to the next invocation through its JSON form:
+ * it is serialized and deserialized as its runtime class, so a state the context fails to serialize is lost.
+ */
+@Builder
+public class VirtualTimeDriver {
+
+    public static final int DEFAULT_MAX_INVOCATIONS = 10_000;
+
+    private static final Serializer SERIALIZER = new Serializer();
+
+    @NonNull
+    private final FakeClock clock;
+
+    @Builder.Default
+    private final int maxInvocations = DEFAULT_MAX_INVOCATIONS;
+
+    /**
+     * Runs the flow until the handler returns a non-in-progress event.
+     *
+     * @throws IllegalStateException if the flow is still in progress after {@code maxInvocations} invocations.
+     */
+    public <ModelT, ContextT> FlowReport<ModelT, ContextT> run(
+            final ModelT model,
+            final ContextT context,
+            @NonNull final BiFunction<ModelT, ContextT, ProgressEvent<ModelT, ContextT>> handler
+    ) {
+        final Instant startedAt = clock.instant();
+        ModelT currentModel = model;
+        ContextT currentContext = context;
+        int maxContextSize = 0;
+        for (int invocations = 1; invocations <= maxInvocations; invocations++) {
+            final ProgressEvent<ModelT, ContextT> event = handler.apply(currentModel, currentContext);
+            final String serializedContext = serialize(event.getCallbackContext());
+            final int contextSize = serializedContext != null ? serializedContext.getBytes(StandardCharsets.UTF_8).length : 0;
+            maxContextSize = Math.max(maxContextSize, contextSize);
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                return FlowReport.<ModelT, ContextT>builder()
+                        .lastEvent(event)
+                        .elapsed(Duration.between(startedAt, clock.instant()))
+                        .invocations(invocations)
+                        .maxContextSize(maxContextSize)
+                        .lastContextSize(contextSize)
+                        .build();
+            }
+            clock.advance(Duration.ofSeconds(event.getCallbackDelaySeconds()));
+            if (event.getResourceModel() != null) {
+                currentModel = event.getResourceModel();
+            }
+            currentContext = deserialize(serializedContext, event.getCallbackContext());
+        }
+        throw new IllegalStateException(String.format("The flow is still in progress after %d invocations and %s of virtual time",
+                maxInvocations, Duration.between(startedAt, clock.instant())));
+    }
+
+    private static String serialize(final Object context) {
+        if (context == null) {
+            return null;
+        }
+        try {
+            return SERIALIZER.serialize(context);
+        } catch (final Exception e) {
+            throw new IllegalStateException("Failed to serialize the callback context", e);
+        }
+    }
+
+    private static <ContextT> ContextT deserialize(final String serializedContext, final ContextT context) {
+        if (serializedContext == null) {
+            return null;
+        }
+        final Type contextType = context.getClass();
+        try {
+            return SERIALIZER.deserialize(serializedContext, new TypeReference<ContextT>() {
+                @Override
+                public Type getType() {
+                    return contextType;
+                }
+            });
+        } catch (final Exception e) {
+            throw new IllegalStateException("Failed to deserialize the callback context", e);
+        }
+    }
+}
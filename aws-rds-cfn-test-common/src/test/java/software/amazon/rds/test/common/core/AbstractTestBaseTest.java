@@ -13,8 +13,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +52,19 @@ class AbstractTestBaseTest {
         assertThat(testBase.newStackId()).isNotNull();
     }
 
+    @Test
+    void expectApiCallBudget() {
+        final TestAbstractTestBase testBase = new TestAbstractTestBase();
+        final ProxyClient<RdsClient> recording = testBase.recordApiCalls(rdsProxy);
+        recording.injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), request -> null);
+        recording.injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), request -> null);
+
+        assertThat(testBase.getApiCallRecorder().getCallCount("DescribeDbInstances")).isEqualTo(2);
+        testBase.expectApiCallBudget(ApiCallBudget.builder().max(DescribeDbInstancesRequest.class, 2).build());
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> testBase.expectApiCallBudget(ApiCallBudget.builder().max(DescribeDbInstancesRequest.class, 1).build()));
+    }
+
     @Test
     void expectInProgress_Success() {
         final TestAbstractTestBase testBase = new TestAbstractTestBase();
@@ -102,6 +118,9 @@ class AbstractTestBaseTest {
     @Mock
     private ResourceHandlerRequest.ResourceHandlerRequestBuilder<Void> builder;
 
+    @Mock
+    private ProxyClient<RdsClient> rdsProxy;
+
     @Test
     void test_handleRequest_base_ExpectResourceStateInvocation() {
         final TestAbstractTestBase testBase = new TestAbstractTestBase();
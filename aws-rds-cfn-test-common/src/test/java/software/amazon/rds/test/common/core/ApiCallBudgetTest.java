@@ -0,0 +1,75 @@
+package software.amazon.rds.test.common.core;
+
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+
+class ApiCallBudgetTest {
+
+    private static final ApiCallBudget BUDGET = ApiCallBudget.builder()
+            .max("DescribeDBInstances", 3)
+            .max(ModifyDbInstanceRequest.class, 1)
+            .build();
+
+    @Test
+    void verify_withinBudget() {
+        BUDGET.verify(ImmutableMap.of(
+                "DescribeDbInstances", 3,
+                "ModifyDbInstance", 1,
+                "AddTagsToResource", 5
+        ));
+        BUDGET.verify(ImmutableMap.of());
+    }
+
+    @Test
+    void verify_exceeded() {
+        final Map<String, Integer> callCounts = ImmutableMap.of(
+                "DescribeDbInstances", 5,
+                "AddTagsToResource", 1
+        );
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> BUDGET.verify(callCounts))
+                .withMessage(String.join(System.lineSeparator(),
+                        "API call budget exceeded:",
+                        "  Operation           Budget Actual",
+                        "  AddTagsToResource        -      1",
+                        "! DescribeDbInstances      3      5  (+2)",
+                        "  ModifyDbInstance         1      0"
+                ));
+    }
+
+    @Test
+    void verify_strict() {
+        final ApiCallBudget budget = ApiCallBudget.builder()
+                .max(DescribeDbInstancesRequest.class, 2)
+                .strict()
+                .build();
+
+        budget.verify(ImmutableMap.of("DescribeDbInstances", 2));
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> budget.verify(ImmutableMap.of("DescribeDbInstances", 1, "RebootDbInstance", 1)))
+                .withMessageContaining("! RebootDbInstance         0      1  (+1)");
+    }
+
+    @Test
+    void verify_recorder() {
+        final ApiCallRecorder recorder = new ApiCallRecorder();
+        recorder.recordCall(ModifyDbInstanceRequest.builder().build());
+        BUDGET.verify(recorder);
+
+        recorder.recordCall(ModifyDbInstanceRequest.builder().build());
+        Assertions.assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> BUDGET.verify(recorder));
+    }
+
+    @Test
+    void max_negative() {
+        Assertions.assertThatThrownBy(() -> ApiCallBudget.builder().max("DescribeDbInstances", -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package software.amazon.rds.test.common.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+class ApiCallRecorderTest {
+
+    @Mock
+    private ProxyClient<RdsClient> proxyClient;
+
+    @Mock
+    private RdsClient rdsClient;
+
+    @Test
+    void operationName() {
+        Assertions.assertThat(ApiCallRecorder.operationName(DescribeDbInstancesRequest.builder().build())).isEqualTo("DescribeDbInstances");
+        Assertions.assertThat(ApiCallRecorder.operationName(ModifyDbInstanceRequest.class)).isEqualTo("ModifyDbInstance");
+        Assertions.assertThat(ApiCallRecorder.operationName(String.class)).isEqualTo("String");
+    }
+
+    @Test
+    void wrap_recordsCalls() {
+        final ApiCallRecorder recorder = new ApiCallRecorder();
+        final ProxyClient<RdsClient> recording = recorder.wrap(proxyClient);
+        final DescribeDbInstancesResponse describeResponse = DescribeDbInstancesResponse.builder().build();
+        Mockito.when(proxyClient.injectCredentialsAndInvokeV2(ArgumentMatchers.any(DescribeDbInstancesRequest.class), ArgumentMatchers.any()))
+                .thenReturn(describeResponse);
+        Mockito.when(proxyClient.client()).thenReturn(rdsClient);
+
+        final DescribeDbInstancesResponse response = recording.injectCredentialsAndInvokeV2(
+                DescribeDbInstancesRequest.builder().build(),
+                rdsClient::describeDBInstances
+        );
+        recording.injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().build(), rdsClient::describeDBInstances);
+        recording.injectCredentialsAndInvokeIterableV2(DescribeDbInstancesRequest.builder().build(), request -> null);
+        recording.injectCredentialsAndInvokeV2Async(ModifyDbInstanceRequest.builder().build(), request -> null);
+        recording.injectCredentialsAndInvokeV2InputStream(ModifyDbInstanceRequest.builder().build(), request -> null);
+        recording.injectCredentialsAndInvokeV2Bytes(ModifyDbInstanceRequest.builder().build(), request -> null);
+
+        Assertions.assertThat(response).isSameAs(describeResponse);
+        Assertions.assertThat(recording.client()).isSameAs(rdsClient);
+        Assertions.assertThat(recorder.getCallCount("DescribeDbInstances")).isEqualTo(3);
+        Assertions.assertThat(recorder.getCallCount("ModifyDbInstance")).isEqualTo(3);
+        Assertions.assertThat(recorder.getCallCount("DeleteDbInstance")).isEqualTo(0);
+        Assertions.assertThat(recorder.getCallCounts()).containsOnlyKeys("DescribeDbInstances", "ModifyDbInstance");
+    }
+
+    @Test
+    void reset() {
+        final ApiCallRecorder recorder = new ApiCallRecorder();
+        recorder.recordCall(DescribeDbInstancesRequest.builder().build());
+
+        recorder.reset();
+
+        Assertions.assertThat(recorder.getCallCounts()).isEmpty();
+    }
+}
@@ -0,0 +1,48 @@
+package software.amazon.rds.test.common.fake;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FakeClockTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    public void test_advance() {
+        final FakeClock clock = new FakeClock(START);
+        Assertions.assertThat(clock.instant()).isEqualTo(START);
+        Assertions.assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+
+        clock.advance(Duration.ofMinutes(5));
+        clock.advance(Duration.ZERO);
+
+        Assertions.assertThat(clock.instant()).isEqualTo(START.plus(Duration.ofMinutes(5)));
+        Assertions.assertThat(clock.millis()).isEqualTo(START.plus(Duration.ofMinutes(5)).toEpochMilli());
+    }
+
+    @Test
+    public void test_advance_negative() {
+        final FakeClock clock = new FakeClock(START);
+
+        Assertions.assertThatThrownBy(() -> clock.advance(Duration.ofSeconds(-1))).isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThat(clock.instant()).isEqualTo(START);
+    }
+
+    @Test
+    public void test_withZone() {
+        final FakeClock clock = new FakeClock(START);
+        final ZoneId zone = ZoneId.of("Europe/Berlin");
+
+        final Clock zoned = clock.withZone(zone);
+        clock.advance(Duration.ofHours(1));
+
+        Assertions.assertThat(zoned.getZone()).isEqualTo(zone);
+        Assertions.assertThat(zoned.instant()).isEqualTo(START);
+    }
+}
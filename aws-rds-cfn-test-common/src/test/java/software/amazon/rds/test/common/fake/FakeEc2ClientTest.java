@@ -0,0 +1,79 @@
+package software.amazon.rds.test.common.fake;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeVpcsRequest;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.SecurityGroup;
+
+public class FakeEc2ClientTest {
+
+    private FakeRdsService service;
+    private Ec2Client ec2Client;
+
+    @BeforeEach
+    public void setUp() {
+        service = FakeRdsService.builder().build();
+        service.addSecurityGroup(SecurityGroup.builder().groupId("sg-1").groupName("default").vpcId("vpc-1").build());
+        service.addSecurityGroup(SecurityGroup.builder().groupId("sg-2").groupName("default").vpcId("vpc-2").build());
+        service.addSecurityGroup(SecurityGroup.builder().groupId("sg-3").groupName("app").vpcId("vpc-1").build());
+        ec2Client = service.ec2Client();
+    }
+
+    private List<String> describeSecurityGroupIds(final DescribeSecurityGroupsRequest request) {
+        return ec2Client.describeSecurityGroups(request).securityGroups().stream()
+                .map(SecurityGroup::groupId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void test_describeSecurityGroups_all() {
+        Assertions.assertThat(describeSecurityGroupIds(DescribeSecurityGroupsRequest.builder().build()))
+                .containsExactly("sg-1", "sg-2", "sg-3");
+        Assertions.assertThat(service.getCallCount("DescribeSecurityGroups")).isEqualTo(1);
+    }
+
+    @Test
+    public void test_describeSecurityGroups_groupIdsAndNames() {
+        Assertions.assertThat(describeSecurityGroupIds(DescribeSecurityGroupsRequest.builder().groupIds("sg-2", "sg-3").build()))
+                .containsExactly("sg-2", "sg-3");
+        Assertions.assertThat(describeSecurityGroupIds(DescribeSecurityGroupsRequest.builder().groupNames("app").build()))
+                .containsExactly("sg-3");
+    }
+
+    @Test
+    public void test_describeSecurityGroups_filters() {
+        Assertions.assertThat(describeSecurityGroupIds(DescribeSecurityGroupsRequest.builder()
+                        .filters(
+                                Filter.builder().name("vpc-id").values("vpc-1").build(),
+                                Filter.builder().name("group-name").values("default").build()
+                        )
+                        .build()))
+                .containsExactly("sg-1");
+        Assertions.assertThat(describeSecurityGroupIds(DescribeSecurityGroupsRequest.builder()
+                        .filters(Filter.builder().name("group-id").values("sg-2").build())
+                        .build()))
+                .containsExactly("sg-2");
+        Assertions.assertThat(describeSecurityGroupIds(DescribeSecurityGroupsRequest.builder()
+                        .filters(Filter.builder().name("owner-id").values("123456789012").build())
+                        .build()))
+                .isEmpty();
+    }
+
+    @Test
+    public void test_unsupportedOperation() {
+        Assertions.assertThat(ec2Client.serviceName()).isEqualTo(Ec2Client.SERVICE_NAME);
+        Assertions.assertThatThrownBy(() -> ec2Client.describeVpcs(DescribeVpcsRequest.builder().build()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(ec2Client::serviceClientConfiguration)
+                .isInstanceOf(UnsupportedOperationException.class);
+        ec2Client.close();
+    }
+}
@@ -0,0 +1,317 @@
+package software.amazon.rds.test.common.fake;
+
+import java.time.Instant;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbShardGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterMember;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBShardGroup;
+import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbShardGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbShardGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbShardGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsRequest;
+import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbShardGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.Option;
+import software.amazon.awssdk.services.rds.model.OptionConfiguration;
+import software.amazon.awssdk.services.rds.model.OptionGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.awssdk.services.rds.model.Subnet;
+
+public class FakeRdsClientTest {
+
+    private static final String DB_CLUSTER_IDENTIFIER = "db-cluster";
+    private static final String DB_SUBNET_GROUP_NAME = "db-subnet-group";
+
+    private FakeClock clock;
+    private FakeRdsService service;
+    private RdsClient rdsClient;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new FakeClock(Instant.parse("2024-01-01T00:00:00Z"));
+        service = FakeRdsService.builder()
+                .clock(clock)
+                .lifecycle(FakeResourceType.DB_INSTANCE, FakeLifecycle.IMMEDIATE)
+                .lifecycle(FakeResourceType.DB_CLUSTER, FakeLifecycle.IMMEDIATE)
+                .build();
+        rdsClient = service.rdsClient();
+    }
+
+    private void createDbSubnetGroup() {
+        rdsClient.createDBSubnetGroup(CreateDbSubnetGroupRequest.builder()
+                .dbSubnetGroupName(DB_SUBNET_GROUP_NAME)
+                .dbSubnetGroupDescription("description")
+                .subnetIds("subnet-1", "subnet-2")
+                .build());
+    }
+
+    private DBCluster createDbCluster() {
+        return rdsClient.createDBCluster(CreateDbClusterRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .engine("aurora-postgresql")
+                .dbSubnetGroupName(DB_SUBNET_GROUP_NAME)
+                .vpcSecurityGroupIds("sg-1")
+                .build()).dbCluster();
+    }
+
+    private DBCluster describeDbCluster() {
+        return rdsClient.describeDBClusters(DescribeDbClustersRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .build()).dbClusters().get(0);
+    }
+
+    @Test
+    public void test_dbCluster_members() {
+        createDbSubnetGroup();
+        Assertions.assertThat(createDbCluster().status()).isEqualTo(FakeRdsService.STATUS_CREATING);
+        for (final String identifier : new String[]{"writer", "reader"}) {
+            rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                    .dbInstanceIdentifier(identifier)
+                    .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                    .engine("aurora-postgresql")
+                    .build());
+        }
+
+        final DBCluster cluster = describeDbCluster();
+        Assertions.assertThat(cluster.status()).isEqualTo(FakeRdsService.STATUS_AVAILABLE);
+        Assertions.assertThat(cluster.dbClusterMembers()).extracting(DBClusterMember::dbInstanceIdentifier, DBClusterMember::isClusterWriter)
+                .containsExactly(Assertions.tuple("writer", true), Assertions.tuple("reader", false));
+        Assertions.assertThat(cluster.vpcSecurityGroups()).hasSize(1);
+        Assertions.assertThat(rdsClient.describeDBClusters(DescribeDbClustersRequest.builder().build()).dbClusters()).hasSize(1);
+
+        final DeleteDbClusterRequest delete = DeleteDbClusterRequest.builder().dbClusterIdentifier(DB_CLUSTER_IDENTIFIER).build();
+        Assertions.assertThatThrownBy(() -> rdsClient.deleteDBCluster(delete)).isInstanceOf(InvalidDbClusterStateException.class);
+
+        rdsClient.deleteDBInstance(DeleteDbInstanceRequest.builder().dbInstanceIdentifier("writer").build());
+        rdsClient.deleteDBInstance(DeleteDbInstanceRequest.builder().dbInstanceIdentifier("reader").build());
+        Assertions.assertThat(rdsClient.deleteDBCluster(delete).dbCluster().status()).isEqualTo(FakeRdsService.STATUS_DELETING);
+        Assertions.assertThatThrownBy(this::describeDbCluster).isInstanceOf(DbClusterNotFoundException.class);
+    }
+
+    @Test
+    public void test_dbCluster_missingDependencies() {
+        Assertions.assertThatThrownBy(this::createDbCluster).isInstanceOf(DbSubnetGroupNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                        .dbInstanceIdentifier("db-instance")
+                        .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                        .build()))
+                .isInstanceOf(DbClusterNotFoundException.class);
+    }
+
+    @Test
+    public void test_modifyDbCluster() {
+        createDbSubnetGroup();
+        createDbCluster();
+        describeDbCluster();
+
+        final DBCluster modifying = rdsClient.modifyDBCluster(ModifyDbClusterRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .engineVersion("15.4")
+                .deletionProtection(true)
+                .vpcSecurityGroupIds("sg-2", "sg-3")
+                .build()).dbCluster();
+
+        Assertions.assertThat(modifying.status()).isEqualTo(FakeRdsService.STATUS_MODIFYING);
+        final DBCluster modified = describeDbCluster();
+        Assertions.assertThat(modified.status()).isEqualTo(FakeRdsService.STATUS_AVAILABLE);
+        Assertions.assertThat(modified.engineVersion()).isEqualTo("15.4");
+        Assertions.assertThat(modified.vpcSecurityGroups()).hasSize(2);
+        Assertions.assertThatThrownBy(() -> rdsClient.deleteDBCluster(DeleteDbClusterRequest.builder()
+                        .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                        .build()))
+                .isInstanceOf(RdsException.class);
+    }
+
+    @Test
+    public void test_dbInstance_groups() {
+        createDbSubnetGroup();
+        rdsClient.createDBParameterGroup(CreateDbParameterGroupRequest.builder()
+                .dbParameterGroupName("DB-Parameter-Group")
+                .dbParameterGroupFamily("mysql8.0")
+                .description("description")
+                .build());
+        rdsClient.createOptionGroup(CreateOptionGroupRequest.builder()
+                .optionGroupName("option-group")
+                .engineName("mysql")
+                .majorEngineVersion("8.0")
+                .optionGroupDescription("description")
+                .build());
+
+        final DBInstance dbInstance = rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier("db-instance")
+                .dbParameterGroupName("db-parameter-group")
+                .dbSubnetGroupName(DB_SUBNET_GROUP_NAME)
+                .optionGroupName("option-group")
+                .vpcSecurityGroupIds("sg-1")
+                .port(5432)
+                .build()).dbInstance();
+
+        Assertions.assertThat(dbInstance.dbParameterGroups().get(0).dbParameterGroupName()).isEqualTo("db-parameter-group");
+        Assertions.assertThat(dbInstance.dbSubnetGroup().dbSubnetGroupName()).isEqualTo(DB_SUBNET_GROUP_NAME);
+        Assertions.assertThat(dbInstance.optionGroupMemberships().get(0).optionGroupName()).isEqualTo("option-group");
+        Assertions.assertThat(dbInstance.vpcSecurityGroups().get(0).vpcSecurityGroupId()).isEqualTo("sg-1");
+        Assertions.assertThat(dbInstance.endpoint().port()).isEqualTo(5432);
+
+        Assertions.assertThatThrownBy(() -> rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                        .dbInstanceIdentifier("other-instance")
+                        .dbParameterGroupName("missing")
+                        .build()))
+                .isInstanceOf(DbParameterGroupNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                        .dbInstanceIdentifier("other-instance")
+                        .optionGroupName("missing")
+                        .build()))
+                .isInstanceOf(OptionGroupNotFoundException.class);
+    }
+
+    @Test
+    public void test_dbParameterGroup() {
+        rdsClient.createDBParameterGroup(CreateDbParameterGroupRequest.builder()
+                .dbParameterGroupName("db-parameter-group")
+                .dbParameterGroupFamily("mysql8.0")
+                .build());
+        rdsClient.modifyDBParameterGroup(ModifyDbParameterGroupRequest.builder()
+                .dbParameterGroupName("db-parameter-group")
+                .parameters(Parameter.builder().parameterName("max_connections").parameterValue("100").build())
+                .build());
+
+        Assertions.assertThat(rdsClient.describeDBParameters(DescribeDbParametersRequest.builder()
+                        .dbParameterGroupName("db-parameter-group")
+                        .build()).parameters())
+                .extracting(Parameter::parameterName, Parameter::parameterValue, Parameter::source)
+                .containsExactly(Assertions.tuple("max_connections", "100", "user"));
+        Assertions.assertThat(rdsClient.describeDBParameterGroups(DescribeDbParameterGroupsRequest.builder().build()).dbParameterGroups())
+                .hasSize(1);
+
+        rdsClient.deleteDBParameterGroup(DeleteDbParameterGroupRequest.builder().dbParameterGroupName("db-parameter-group").build());
+
+        Assertions.assertThatThrownBy(() -> rdsClient.describeDBParameterGroups(DescribeDbParameterGroupsRequest.builder()
+                        .dbParameterGroupName("db-parameter-group")
+                        .build()))
+                .isInstanceOf(DbParameterGroupNotFoundException.class);
+    }
+
+    @Test
+    public void test_optionGroup() {
+        rdsClient.createOptionGroup(CreateOptionGroupRequest.builder()
+                .optionGroupName("option-group")
+                .engineName("mysql")
+                .majorEngineVersion("8.0")
+                .build());
+        rdsClient.modifyOptionGroup(ModifyOptionGroupRequest.builder()
+                .optionGroupName("option-group")
+                .optionsToInclude(
+                        OptionConfiguration.builder().optionName("MEMCACHED").port(11211).build(),
+                        OptionConfiguration.builder().optionName("MARIADB_AUDIT_PLUGIN").build()
+                )
+                .build());
+        rdsClient.modifyOptionGroup(ModifyOptionGroupRequest.builder()
+                .optionGroupName("option-group")
+                .optionsToRemove("MARIADB_AUDIT_PLUGIN")
+                .build());
+
+        Assertions.assertThat(rdsClient.describeOptionGroups(DescribeOptionGroupsRequest.builder()
+                        .optionGroupName("option-group")
+                        .build()).optionGroupsList().get(0).options())
+                .extracting(Option::optionName, Option::port)
+                .containsExactly(Assertions.tuple("MEMCACHED", 11211));
+
+        rdsClient.deleteOptionGroup(DeleteOptionGroupRequest.builder().optionGroupName("option-group").build());
+
+        Assertions.assertThat(rdsClient.describeOptionGroups(DescribeOptionGroupsRequest.builder().build()).optionGroupsList()).isEmpty();
+    }
+
+    @Test
+    public void test_dbSubnetGroup() {
+        createDbSubnetGroup();
+        Assertions.assertThatThrownBy(this::createDbSubnetGroup).isInstanceOf(DbSubnetGroupAlreadyExistsException.class);
+
+        rdsClient.modifyDBSubnetGroup(ModifyDbSubnetGroupRequest.builder()
+                .dbSubnetGroupName(DB_SUBNET_GROUP_NAME)
+                .subnetIds("subnet-3")
+                .build());
+
+        Assertions.assertThat(rdsClient.describeDBSubnetGroups(DescribeDbSubnetGroupsRequest.builder()
+                        .dbSubnetGroupName(DB_SUBNET_GROUP_NAME)
+                        .build()).dbSubnetGroups().get(0).subnets())
+                .extracting(Subnet::subnetIdentifier)
+                .containsExactly("subnet-3");
+
+        rdsClient.deleteDBSubnetGroup(DeleteDbSubnetGroupRequest.builder().dbSubnetGroupName(DB_SUBNET_GROUP_NAME).build());
+
+        Assertions.assertThat(rdsClient.describeDBSubnetGroups(DescribeDbSubnetGroupsRequest.builder().build()).dbSubnetGroups()).isEmpty();
+        Assertions.assertThatThrownBy(() -> rdsClient.deleteDBSubnetGroup(DeleteDbSubnetGroupRequest.builder()
+                        .dbSubnetGroupName(DB_SUBNET_GROUP_NAME)
+                        .build()))
+                .isInstanceOf(DbSubnetGroupNotFoundException.class);
+    }
+
+    @Test
+    public void test_dbShardGroup_lifecycle() {
+        final CreateDbShardGroupRequest create = CreateDbShardGroupRequest.builder()
+                .dbShardGroupIdentifier("shard-group")
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .maxACU(768.0)
+                .build();
+        Assertions.assertThatThrownBy(() -> rdsClient.createDBShardGroup(create)).isInstanceOf(DbClusterNotFoundException.class);
+
+        createDbSubnetGroup();
+        createDbCluster();
+        Assertions.assertThat(rdsClient.createDBShardGroup(create).status()).isEqualTo(FakeRdsService.STATUS_CREATING);
+
+        final ModifyDbShardGroupRequest modify = ModifyDbShardGroupRequest.builder()
+                .dbShardGroupIdentifier("shard-group")
+                .maxACU(1024.0)
+                .build();
+        Assertions.assertThatThrownBy(() -> rdsClient.modifyDBShardGroup(modify))
+                .isInstanceOfSatisfying(RdsException.class, e -> Assertions.assertThat(e.awsErrorDetails().errorCode()).isEqualTo("InvalidDBShardGroupState"));
+
+        clock.advance(FakeLifecycle.DEFAULT.getCreating());
+        Assertions.assertThat(rdsClient.modifyDBShardGroup(modify).status()).isEqualTo(FakeRdsService.STATUS_MODIFYING);
+        clock.advance(FakeLifecycle.DEFAULT.getModifying());
+
+        final DBShardGroup shardGroup = rdsClient.describeDBShardGroups(DescribeDbShardGroupsRequest.builder().build()).dbShardGroups().get(0);
+        Assertions.assertThat(shardGroup.status()).isEqualTo(FakeRdsService.STATUS_AVAILABLE);
+        Assertions.assertThat(shardGroup.maxACU()).isEqualTo(1024.0);
+
+        final DeleteDbShardGroupRequest delete = DeleteDbShardGroupRequest.builder().dbShardGroupIdentifier("shard-group").build();
+        Assertions.assertThat(rdsClient.deleteDBShardGroup(delete).status()).isEqualTo(FakeRdsService.STATUS_DELETING);
+        Assertions.assertThatThrownBy(() -> rdsClient.deleteDBShardGroup(delete)).isInstanceOf(RdsException.class);
+
+        clock.advance(FakeLifecycle.DEFAULT.getDeleting());
+        Assertions.assertThatThrownBy(() -> rdsClient.describeDBShardGroups(DescribeDbShardGroupsRequest.builder()
+                        .dbShardGroupIdentifier("shard-group")
+                        .build()))
+                .isInstanceOf(DbShardGroupNotFoundException.class);
+    }
+}
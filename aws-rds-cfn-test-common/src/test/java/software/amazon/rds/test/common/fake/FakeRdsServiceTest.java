@@ -0,0 +1,319 @@
+package software.amazon.rds.test.common.fake;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DbInstanceAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterEndpointsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
+import software.amazon.awssdk.services.rds.model.Event;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.SourceType;
+import software.amazon.awssdk.services.rds.model.Tag;
+
+public class FakeRdsServiceTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String DB_INSTANCE_IDENTIFIER = "db-instance";
+
+    private FakeClock clock;
+    private FakeRdsService service;
+    private RdsClient rdsClient;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new FakeClock(START);
+        service = FakeRdsService.builder().clock(clock).build();
+        rdsClient = service.rdsClient();
+    }
+
+    private DBInstance createDbInstance(final String identifier) {
+        return rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(identifier)
+                .dbInstanceClass("db.t3.micro")
+                .engine("mysql")
+                .allocatedStorage(20)
+                .tags(Tag.builder().key("key").value("value").build())
+                .build()).dbInstance();
+    }
+
+    private DBInstance describeDbInstance(final String identifier) {
+        return rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .dbInstanceIdentifier(identifier)
+                .build()).dbInstances().get(0);
+    }
+
+    private int pollUntilAvailable(final String identifier) {
+        int polls = 0;
+        String status;
+        do {
+            status = describeDbInstance(identifier).dbInstanceStatus();
+            polls++;
+        } while (!FakeRdsService.STATUS_AVAILABLE.equals(status));
+        return polls;
+    }
+
+    private List<Event> describeEvents(final String identifier) {
+        return rdsClient.describeEvents(DescribeEventsRequest.builder()
+                .sourceType(SourceType.DB_INSTANCE)
+                .sourceIdentifier(identifier)
+                .build()).events();
+    }
+
+    @Test
+    public void test_createDbInstance_settlesAfterCreatingDuration() {
+        final DBInstance created = createDbInstance("DB-Instance");
+
+        Assertions.assertThat(created.dbInstanceIdentifier()).isEqualTo(DB_INSTANCE_IDENTIFIER);
+        Assertions.assertThat(created.dbInstanceStatus()).isEqualTo(FakeRdsService.STATUS_CREATING);
+        Assertions.assertThat(created.dbInstanceArn()).isEqualTo("arn:aws:rds:us-east-1:123456789012:db:db-instance");
+        Assertions.assertThat(created.tagList()).containsExactly(Tag.builder().key("key").value("value").build());
+
+        // 5 minutes of creation polled every 30 seconds.
+        Assertions.assertThat(pollUntilAvailable(DB_INSTANCE_IDENTIFIER)).isEqualTo(10);
+        Assertions.assertThat(service.getCallCount("CreateDbInstance")).isEqualTo(1);
+        Assertions.assertThat(service.getCallCount("DescribeDbInstances")).isEqualTo(10);
+        Assertions.assertThat(service.getTotalCallCount()).isEqualTo(11);
+        Assertions.assertThat(service.getCallCounts()).containsOnlyKeys("CreateDbInstance", "DescribeDbInstances");
+    }
+
+    @Test
+    public void test_createDbInstance_emitsCreationEvent() {
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+        pollUntilAvailable(DB_INSTANCE_IDENTIFIER);
+
+        final List<Event> events = describeEvents(DB_INSTANCE_IDENTIFIER);
+        Assertions.assertThat(events).hasSize(1);
+        Assertions.assertThat(events.get(0).eventCategories()).containsExactly(FakeRdsService.CATEGORY_CREATION);
+        Assertions.assertThat(events.get(0).date()).isEqualTo(START.plus(FakeLifecycle.DEFAULT.getCreating()));
+    }
+
+    @Test
+    public void test_createDbInstance_alreadyExists() {
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+
+        Assertions.assertThatThrownBy(() -> createDbInstance(DB_INSTANCE_IDENTIFIER.toUpperCase()))
+                .isInstanceOf(DbInstanceAlreadyExistsException.class);
+    }
+
+    @Test
+    public void test_immediateLifecycle() {
+        service = FakeRdsService.builder()
+                .clock(clock)
+                .pollInterval(Duration.ZERO)
+                .lifecycle(FakeResourceType.DB_INSTANCE, FakeLifecycle.IMMEDIATE)
+                .build();
+        rdsClient = service.rdsClient();
+
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+
+        Assertions.assertThat(pollUntilAvailable(DB_INSTANCE_IDENTIFIER)).isEqualTo(1);
+        Assertions.assertThat(clock.instant()).isEqualTo(START);
+    }
+
+    @Test
+    public void test_modifyDbInstance_requiresAvailable() {
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+        final ModifyDbInstanceRequest modify = ModifyDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dbInstanceClass("db.r5.large")
+                .build();
+
+        Assertions.assertThatThrownBy(() -> rdsClient.modifyDBInstance(modify))
+                .isInstanceOf(InvalidDbInstanceStateException.class);
+
+        pollUntilAvailable(DB_INSTANCE_IDENTIFIER);
+        Assertions.assertThat(rdsClient.modifyDBInstance(modify).dbInstance().dbInstanceStatus()).isEqualTo(FakeRdsService.STATUS_MODIFYING);
+        Assertions.assertThat(pollUntilAvailable(DB_INSTANCE_IDENTIFIER)).isEqualTo(4);
+        Assertions.assertThat(describeDbInstance(DB_INSTANCE_IDENTIFIER).dbInstanceClass()).isEqualTo("db.r5.large");
+        Assertions.assertThat(describeEvents(DB_INSTANCE_IDENTIFIER)).extracting(event -> event.eventCategories().get(0))
+                .containsExactly(FakeRdsService.CATEGORY_CREATION, FakeRdsService.CATEGORY_CONFIGURATION_CHANGE);
+    }
+
+    @Test
+    public void test_rebootDbInstance() {
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+        pollUntilAvailable(DB_INSTANCE_IDENTIFIER);
+
+        final DBInstance rebooting = rdsClient.rebootDBInstance(RebootDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .build()).dbInstance();
+
+        Assertions.assertThat(rebooting.dbInstanceStatus()).isEqualTo(FakeRdsService.STATUS_REBOOTING);
+        Assertions.assertThat(pollUntilAvailable(DB_INSTANCE_IDENTIFIER)).isEqualTo(2);
+        Assertions.assertThat(describeEvents(DB_INSTANCE_IDENTIFIER)).extracting(Event::message)
+                .contains("DB_INSTANCE restarted");
+    }
+
+    @Test
+    public void test_deleteDbInstance() {
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+        pollUntilAvailable(DB_INSTANCE_IDENTIFIER);
+        final DeleteDbInstanceRequest delete = DeleteDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .skipFinalSnapshot(true)
+                .build();
+
+        Assertions.assertThat(rdsClient.deleteDBInstance(delete).dbInstance().dbInstanceStatus()).isEqualTo(FakeRdsService.STATUS_DELETING);
+        Assertions.assertThatThrownBy(() -> rdsClient.deleteDBInstance(delete)).isInstanceOf(InvalidDbInstanceStateException.class);
+        Assertions.assertThat(service.getStatus(FakeResourceType.DB_INSTANCE, DB_INSTANCE_IDENTIFIER)).isEqualTo(FakeRdsService.STATUS_DELETING);
+
+        clock.advance(FakeLifecycle.DEFAULT.getDeleting());
+
+        Assertions.assertThat(service.getStatus(FakeResourceType.DB_INSTANCE, DB_INSTANCE_IDENTIFIER)).isNull();
+        Assertions.assertThatThrownBy(() -> describeDbInstance(DB_INSTANCE_IDENTIFIER)).isInstanceOf(DbInstanceNotFoundException.class);
+        Assertions.assertThat(describeEvents(DB_INSTANCE_IDENTIFIER)).extracting(event -> event.eventCategories().get(0))
+                .contains(FakeRdsService.CATEGORY_DELETION);
+    }
+
+    @Test
+    public void test_deleteDbInstance_deletionProtection() {
+        service = FakeRdsService.builder().clock(clock).lifecycle(FakeResourceType.DB_INSTANCE, FakeLifecycle.IMMEDIATE).build();
+        rdsClient = service.rdsClient();
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+        pollUntilAvailable(DB_INSTANCE_IDENTIFIER);
+        rdsClient.modifyDBInstance(ModifyDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .deletionProtection(true)
+                .build());
+
+        Assertions.assertThatThrownBy(() -> rdsClient.deleteDBInstance(DeleteDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .build()))
+                .isInstanceOfSatisfying(RdsException.class, e -> Assertions.assertThat(e.awsErrorDetails().errorCode()).isEqualTo("InvalidParameterCombination"));
+    }
+
+    @Test
+    public void test_describeDbInstances_all() {
+        createDbInstance("db-instance-1");
+        createDbInstance("db-instance-2");
+
+        Assertions.assertThat(rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder().build()).dbInstances())
+                .extracting(DBInstance::dbInstanceIdentifier)
+                .containsExactly("db-instance-1", "db-instance-2");
+        Assertions.assertThatThrownBy(() -> describeDbInstance("db-instance-3")).isInstanceOf(DbInstanceNotFoundException.class);
+    }
+
+    @Test
+    public void test_injectThrottling() {
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+        service.injectThrottling("DescribeDbInstances", 2);
+
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThatThrownBy(() -> describeDbInstance(DB_INSTANCE_IDENTIFIER))
+                    .isInstanceOfSatisfying(AwsServiceException.class, e -> Assertions.assertThat(e.awsErrorDetails().errorCode()).isEqualTo("Throttling"));
+        }
+        Assertions.assertThat(describeDbInstance(DB_INSTANCE_IDENTIFIER)).isNotNull();
+        Assertions.assertThat(service.getCallCount("DescribeDbInstances")).isEqualTo(3);
+        // A failed call does not model a poll cycle.
+        Assertions.assertThat(clock.instant()).isEqualTo(START.plus(FakeRdsService.DEFAULT_POLL_INTERVAL));
+    }
+
+    @Test
+    public void test_injectFault() {
+        service.injectFault("CreateDbInstance", 1, () -> new IllegalStateException("fault"));
+
+        Assertions.assertThatThrownBy(() -> createDbInstance(DB_INSTANCE_IDENTIFIER)).hasMessage("fault");
+        Assertions.assertThat(createDbInstance(DB_INSTANCE_IDENTIFIER)).isNotNull();
+    }
+
+    @Test
+    public void test_resetCallCounts() {
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+        service.resetCallCounts();
+
+        Assertions.assertThat(service.getCallCounts()).isEmpty();
+        Assertions.assertThat(service.getCallCount("CreateDbInstance")).isZero();
+    }
+
+    @Test
+    public void test_emitEvent_filters() {
+        createDbInstance(DB_INSTANCE_IDENTIFIER);
+        clock.advance(Duration.ofMinutes(1));
+        service.emitEvent(FakeResourceType.DB_INSTANCE, DB_INSTANCE_IDENTIFIER, "Storage full", "failure");
+        service.emitEvent(FakeResourceType.DB_INSTANCE, "other-instance", "Storage full", "failure");
+
+        final List<Event> failures = rdsClient.describeEvents(DescribeEventsRequest.builder()
+                .sourceType(SourceType.DB_INSTANCE)
+                .sourceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .eventCategories("failure")
+                .startTime(START)
+                .build()).events();
+        Assertions.assertThat(failures).extracting(Event::message).containsExactly("Storage full");
+
+        final List<Event> later = rdsClient.describeEvents(DescribeEventsRequest.builder()
+                .startTime(START.plus(Duration.ofMinutes(2)))
+                .build()).events();
+        Assertions.assertThat(later).isEmpty();
+
+        final List<Event> earlier = rdsClient.describeEvents(DescribeEventsRequest.builder()
+                .startTime(START)
+                .endTime(START.plus(Duration.ofSeconds(30)))
+                .eventCategories("failure")
+                .build()).events();
+        Assertions.assertThat(earlier).isEmpty();
+    }
+
+    @Test
+    public void test_tags() {
+        final String arn = createDbInstance(DB_INSTANCE_IDENTIFIER).dbInstanceArn();
+
+        rdsClient.addTagsToResource(AddTagsToResourceRequest.builder()
+                .resourceName(arn)
+                .tags(Tag.builder().key("key").value("new-value").build(), Tag.builder().key("other").value("value").build())
+                .build());
+        rdsClient.removeTagsFromResource(RemoveTagsFromResourceRequest.builder()
+                .resourceName(arn)
+                .tagKeys("other", "missing")
+                .build());
+
+        Assertions.assertThat(rdsClient.listTagsForResource(ListTagsForResourceRequest.builder().resourceName(arn).build()).tagList())
+                .containsExactly(Tag.builder().key("key").value("new-value").build());
+        Assertions.assertThatThrownBy(() -> rdsClient.listTagsForResource(ListTagsForResourceRequest.builder()
+                        .resourceName("arn:aws:rds:us-east-1:123456789012:db:missing")
+                        .build()))
+                .isInstanceOf(DbInstanceNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> rdsClient.listTagsForResource(ListTagsForResourceRequest.builder()
+                        .resourceName("arn:aws:ec2:us-east-1:123456789012:instance/i-1")
+                        .build()))
+                .isInstanceOf(DbInstanceNotFoundException.class);
+    }
+
+    @Test
+    public void test_unsupportedOperation() {
+        Assertions.assertThat(rdsClient.serviceName()).isEqualTo(RdsClient.SERVICE_NAME);
+        Assertions.assertThatThrownBy(() -> rdsClient.describeDBClusterEndpoints(DescribeDbClusterEndpointsRequest.builder().build()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> rdsClient.serviceClientConfiguration())
+                .isInstanceOf(UnsupportedOperationException.class);
+        rdsClient.close();
+    }
+
+    @Test
+    public void test_defaults() {
+        final FakeRdsService defaultService = FakeRdsService.builder().build();
+
+        Assertions.assertThat(defaultService.getRegion()).isEqualTo(FakeRdsService.DEFAULT_REGION);
+        Assertions.assertThat(defaultService.getAccountId()).isEqualTo(FakeRdsService.DEFAULT_ACCOUNT_ID);
+        Assertions.assertThat(defaultService.getClock()).isNotNull();
+        Assertions.assertThat(defaultService.getStatus(FakeResourceType.DB_CLUSTER, "missing")).isNull();
+    }
+}
@@ -0,0 +1,156 @@
+package software.amazon.rds.test.common.fake;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+public class VirtualTimeDriverTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final int CALLBACK_DELAY_SECONDS = 30;
+
+    @Data
+    public static class TestContext {
+        private int polls;
+        private String marker;
+        @JsonIgnore
+        private String unserializedMarker;
+    }
+
+    @Test
+    public void test_run_untilDeadline() {
+        final FakeClock clock = new FakeClock(START);
+        final Instant deadline = START.plus(Duration.ofMinutes(5));
+        final VirtualTimeDriver driver = VirtualTimeDriver.builder().clock(clock).build();
+
+        final FlowReport<String, TestContext> report = driver.run("model", new TestContext(), (model, context) -> {
+            Assertions.assertThat(model).isEqualTo("model");
+            if (clock.instant().isBefore(deadline)) {
+                context.setPolls(context.getPolls() + 1);
+                return ProgressEvent.defaultInProgressHandler(context, CALLBACK_DELAY_SECONDS, null);
+            }
+            return ProgressEvent.defaultSuccessHandler(model);
+        });
+
+        Assertions.assertThat(report.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(report.getElapsed()).isEqualTo(Duration.ofMinutes(5));
+        Assertions.assertThat(report.getInvocations()).isEqualTo(11);
+        Assertions.assertThat(report.getCallbacks()).isEqualTo(10);
+        Assertions.assertThat(report.getMaxContextSize()).isPositive();
+        Assertions.assertThat(report.getLastContextSize()).isZero();
+        Assertions.assertThat(report.getLastEvent().getResourceModel()).isEqualTo("model");
+        Assertions.assertThat(report.toString()).isEqualTo(String.format(
+                "SUCCESS after 11 invocation(s) in PT5M of virtual time, callback context up to %d bytes",
+                report.getMaxContextSize()
+        ));
+        Assertions.assertThat(clock.instant()).isEqualTo(deadline);
+    }
+
+    @Test
+    public void test_run_contextSize() {
+        final VirtualTimeDriver driver = VirtualTimeDriver.builder().clock(new FakeClock(START)).build();
+
+        final FlowReport<String, TestContext> report = driver.run("model", new TestContext(), (model, context) -> {
+            if (context.getMarker() == null) {
+                context.setMarker("a fairly long marker, which grows the context");
+                return ProgressEvent.defaultInProgressHandler(context, 0, model);
+            }
+            return ProgressEvent.<String, TestContext>builder()
+                    .status(OperationStatus.FAILED)
+                    .errorCode(HandlerErrorCode.NotStabilized)
+                    .callbackContext(new TestContext())
+                    .build();
+        });
+
+        Assertions.assertThat(report.getStatus()).isEqualTo(OperationStatus.FAILED);
+        Assertions.assertThat(report.getElapsed()).isEqualTo(Duration.ZERO);
+        Assertions.assertThat(report.getInvocations()).isEqualTo(2);
+        Assertions.assertThat(report.getLastContextSize()).isPositive();
+        Assertions.assertThat(report.getMaxContextSize()).isGreaterThan(report.getLastContextSize());
+    }
+
+    @Test
+    public void test_run_roundTripsContext() {
+        final List<TestContext> returned = new ArrayList<>();
+        final List<TestContext> received = new ArrayList<>();
+        final VirtualTimeDriver driver = VirtualTimeDriver.builder().clock(new FakeClock(START)).build();
+
+        final FlowReport<String, TestContext> report = driver.run("model", new TestContext(), (model, context) -> {
+            received.add(context);
+            if (context.getPolls() < 2) {
+                final TestContext next = new TestContext();
+                next.setPolls(context.getPolls() + 1);
+                next.setMarker("marker");
+                next.setUnserializedMarker("unserialized marker");
+                returned.add(next);
+                return ProgressEvent.defaultInProgressHandler(next, CALLBACK_DELAY_SECONDS, model);
+            }
+            return ProgressEvent.defaultSuccessHandler(model);
+        });
+
+        Assertions.assertThat(report.getInvocations()).isEqualTo(3);
+        Assertions.assertThat(received.get(1)).isNotSameAs(returned.get(0));
+        Assertions.assertThat(received.get(1).getPolls()).isEqualTo(1);
+        Assertions.assertThat(received.get(1).getMarker()).isEqualTo("marker");
+        Assertions.assertThat(received.get(1).getUnserializedMarker()).isNull();
+        Assertions.assertThat(received.get(2).getPolls()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_run_withFakeRdsService() {
+        final FakeClock clock = new FakeClock(START);
+        final FakeRdsService service = FakeRdsService.builder().clock(clock).build();
+        final RdsClient rdsClient = service.rdsClient();
+        rdsClient.createDBInstance(CreateDbInstanceRequest.builder().dbInstanceIdentifier("db-instance").build());
+
+        final FlowReport<String, TestContext> report = VirtualTimeDriver.builder().clock(clock).build()
+                .run("db-instance", new TestContext(), (identifier, context) -> {
+                    final DBInstance dbInstance = rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                            .dbInstanceIdentifier(identifier)
+                            .build()).dbInstances().get(0);
+                    if ("available".equals(dbInstance.dbInstanceStatus())) {
+                        return ProgressEvent.defaultSuccessHandler(identifier);
+                    }
+                    return ProgressEvent.defaultInProgressHandler(context, CALLBACK_DELAY_SECONDS, identifier);
+                });
+
+        // Every invocation takes a describe poll interval plus a callback delay, the instance is created in 5 minutes.
+        Assertions.assertThat(report.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(report.getInvocations()).isEqualTo(6);
+        Assertions.assertThat(report.getElapsed()).isEqualTo(Duration.ofSeconds(330));
+        Assertions.assertThat(service.getCallCount("DescribeDbInstances")).isEqualTo(6);
+    }
+
+    @Test
+    public void test_run_maxInvocations() {
+        final FakeClock clock = new FakeClock(START);
+        final VirtualTimeDriver driver = VirtualTimeDriver.builder()
+                .clock(clock)
+                .maxInvocations(3)
+                .build();
+
+        Assertions.assertThatThrownBy(() -> driver.<String, TestContext>run(
+                        "model",
+                        null,
+                        (model, context) -> ProgressEvent.defaultInProgressHandler(context, CALLBACK_DELAY_SECONDS, model)
+                ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("3 invocations")
+                .hasMessageContaining("PT1M30S");
+        Assertions.assertThat(clock.instant()).isEqualTo(START.plus(Duration.ofSeconds(90)));
+    }
+}
@@ -75,7 +75,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     CustomDbEngineVersionQuotaExceededException.class)
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ResourceConflict),
                     InvalidCustomDbEngineVersionStateException.class)
-            .build();
+            .build()
+            .compile();
 
     protected static final ErrorRuleSet ACCESS_DENIED_TO_NOT_FOUND_ERROR_RULE_SET = ErrorRuleSet
             .extend(DEFAULT_CUSTOM_DB_ENGINE_VERSION_ERROR_RULE_SET)
@@ -105,6 +106,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 EMPTY_FILTER,
+                RequestLogger.Options.DEFAULT,
                 requestLogger -> handleRequest(
                         proxy,
                         request,
@@ -182,10 +184,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags) {
-        final Tagging.TagSet tagsToAdd = Tagging.exclude(desiredTags, previousTags);
-        final Tagging.TagSet tagsToRemove = Tagging.exclude(previousTags, desiredTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+        if (tagDelta.isEmpty()) {
             return progress;
         }
 
@@ -197,27 +197,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final String arn = model.getDBEngineVersionArn();
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDelta(rdsProxyClient, arn, tagDelta);
         } catch (Exception exception) {
-            return getTaggingErrorRuleSet(progress, tagsToAdd, tagsToRemove, exception);
+            return getTaggingErrorRuleSet(progress, tagDelta, exception);
         }
 
         return progress;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> getTaggingErrorRuleSet(final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                                 final Tagging.TagSet tagsToAdd,
-                                                                                 final Tagging.TagSet tagsToRemove,
+                                                                                 final Tagging.TagDelta tagDelta,
                                                                                  final Exception exception) {
         return Commons.handleException(
                 progress,
                 exception,
                 DEFAULT_CUSTOM_DB_ENGINE_VERSION_ERROR_RULE_SET.extendWith(
-                        Tagging.getUpdateTagsAccessDeniedRuleSet(
-                                tagsToAdd,
-                                tagsToRemove
-                        )
+                        Tagging.getUpdateTagsAccessDeniedRuleSet(tagDelta)
                 ),
                 requestLogger
         );
@@ -4,7 +4,6 @@ import static software.amazon.rds.dbcluster.Translator.addRoleToDbClusterRequest
 import static software.amazon.rds.dbcluster.Translator.removeRoleFromDbClusterRequest;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -12,15 +11,15 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsResponse;
@@ -64,7 +63,6 @@ import software.amazon.awssdk.services.rds.model.SnapshotQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.StorageQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.StorageTypeNotAvailableException;
 import software.amazon.awssdk.services.rds.model.StorageTypeNotSupportedException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.awssdk.services.rds.model.WriteForwardingStatus;
 import software.amazon.awssdk.services.rds.paginators.DescribeDBClustersIterable;
 import software.amazon.awssdk.utils.StringUtils;
@@ -79,10 +77,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
-import software.amazon.cloudformation.resource.ResourceTypeSchema;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
+import software.amazon.rds.common.handler.AdaptiveBackoffStrategy;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.Events;
 import software.amazon.rds.common.handler.HandlerConfig;
@@ -95,6 +93,7 @@ import software.amazon.rds.common.request.RequestValidationException;
 import software.amazon.rds.common.request.ValidatedRequest;
 import software.amazon.rds.common.request.Validations;
 import software.amazon.rds.common.util.ArnHelper;
+import software.amazon.rds.common.util.CompiledSchema;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     public static final String RESOURCE_IDENTIFIER = "dbcluster";
@@ -109,19 +108,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected static final String RESOURCE_UPDATED_AT = "resource-updated-at";
 
-    private static final List<Predicate<Event>> EVENT_FAIL_CHECKERS = ImmutableList.of(
-            (e) -> Events.isEventMessageContains(e, "Database cluster is in a state that cannot be upgraded:"),
-            (e) -> Events.isEventMessageContains(e, "Cluster failover failed"),
-            (e) -> Events.isEventMessageContains(e, "Cluster reboot failed"),
-            (e) -> Events.isEventMessageContains(e, "Amazon RDS can't access the KMS encryption key"),
-            (e) -> Events.isEventMessageContains(e, "Failed to join a host to a domain"),
-            (e) -> Events.isEventMessageContains(e, "Failed to join cluster instance"),
-            (e) -> Events.isEventMessageContains(e, "Amazon RDS isn't able to associate the IAM role"),
-            (e) -> Events.isEventMessageContains(e, "could not be removed from global cluster"),
-            (e) -> Events.isEventMessageContains(e, "Unable to upgrade DB cluster"),
-            (e) -> Events.isEventMessageContains(e, "Unable to perform a major version upgrade"),
-            (e) -> Events.isEventMessageContains(e, "Unable to patch the primary DB cluster"),
-            (e) -> Events.isEventMessageContains(e, "We were unable to create your Aurora Serverless DB cluster")
+    private static final Events.FailureEventMatcher EVENT_FAILURE_MATCHER = Events.failureEventMatcher(
+            "Database cluster is in a state that cannot be upgraded:",
+            "Cluster failover failed",
+            "Cluster reboot failed",
+            "Amazon RDS can't access the KMS encryption key",
+            "Failed to join a host to a domain",
+            "Failed to join cluster instance",
+            "Amazon RDS isn't able to associate the IAM role",
+            "could not be removed from global cluster",
+            "Unable to upgrade DB cluster",
+            "Unable to perform a major version upgrade",
+            "Unable to patch the primary DB cluster",
+            "We were unable to create your Aurora Serverless DB cluster"
     );
 
     protected static final ErrorRuleSet DEFAULT_DB_CLUSTER_ERROR_RULE_SET = ErrorRuleSet
@@ -168,7 +167,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     StorageTypeNotSupportedException.class,
                     NetworkTypeNotSupportedException.class,
                     CfnInvalidRequestException.class)
-            .build();
+            .build()
+            .compile();
 
     protected static final ErrorRuleSet ADD_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET = ErrorRuleSet
             .extend(DEFAULT_DB_CLUSTER_ERROR_RULE_SET)
@@ -191,12 +191,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected final static HandlerConfig DB_CLUSTER_HANDLER_CONFIG_36H = HandlerConfig.builder()
             .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofHours(36)).build())
+            .backoffStrategy(AdaptiveBackoffStrategy.builder().timeout(Duration.ofHours(36)).build())
+            .asyncLoggingEnabled(true)
             .probingEnabled(true)
             .build();
 
     private final JsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter("MasterUsername", "MasterUserPassword");
 
-    protected static final ResourceTypeSchema resourceTypeSchema = ResourceTypeSchema.load(new Configuration().resourceSchemaJsonObject());
+    // Loaded on the first drift report rather than on the class initialization to keep it off the cold start path.
+    protected static final Supplier<CompiledSchema> resourceSchema = Suppliers.memoize(() -> new Configuration().compiledResourceSchema());
 
     protected HandlerConfig config;
     protected RequestLogger requestLogger;
@@ -244,6 +247,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                RequestLogger.Options.builder().asyncLogging(config.isAsyncLoggingEnabled()).build(),
                 requestLogger -> handleRequest(
                         proxy,
                         request,
@@ -259,7 +263,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     protected boolean isFailureEvent(final Event event) {
-        return EVENT_FAIL_CHECKERS.stream().anyMatch(p -> p.test(event));
+        return EVENT_FAILURE_MATCHER.test(event);
     }
 
     protected DBCluster fetchDBCluster(
@@ -426,8 +430,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     private void resourceStabilizationTime(final CallbackContext context) {
-        context.timestampOnce(DB_CLUSTER_REQUEST_STARTED_AT, Instant.now());
-        context.timestamp(DB_CLUSTER_REQUEST_IN_PROGRESS_AT, Instant.now());
+        context.timestampOnce(DB_CLUSTER_REQUEST_STARTED_AT, config.getClock().instant());
+        context.timestamp(DB_CLUSTER_REQUEST_IN_PROGRESS_AT, config.getClock().instant());
         context.calculateTimeDeltaInMinutes(DB_CLUSTER_STABILIZATION_TIME,
                 context.getTimestamp(DB_CLUSTER_REQUEST_IN_PROGRESS_AT),
                 context.getTimestamp(DB_CLUSTER_REQUEST_STARTED_AT));
@@ -515,13 +519,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                             dbClusterRole.getRoleArn(),
                             dbClusterRole.getFeatureName()
                     ))
-                    .backoffDelay(config.getBackoff())
+                    .backoffDelay(config.getBackoff(callbackContext))
                     .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                             modelRequest,
                             proxyInvocation.client()::addRoleToDBCluster
                     ))
                     .stabilize((addRoleRequest, addRoleResponse, client, resourceModel, context) ->
-                            isAssociatedRoleAttached(client, resourceModel, dbClusterRole)
+                            config.trackStabilization("rds::add-roles-to-dbcluster", context, isAssociatedRoleAttached(client, resourceModel, dbClusterRole))
                     )
                     .handleError((addRoleRequest, exception, client, resourceModel, context) -> Commons.handleException(
                             ProgressEvent.progress(resourceModel, context),
@@ -554,13 +558,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                             dbClusterRole.getRoleArn(),
                             dbClusterRole.getFeatureName()
                     ))
-                    .backoffDelay(config.getBackoff())
+                    .backoffDelay(config.getBackoff(callbackContext))
                     .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                             modelRequest,
                             proxyInvocation.client()::removeRoleFromDBCluster
                     ))
                     .stabilize((removeRoleRequest, removeRoleResponse, client, resourceModel, context) ->
-                            isAssociatedRoleDetached(client, resourceModel, dbClusterRole)
+                            config.trackStabilization("rds::remove-roles-to-dbcluster", context, isAssociatedRoleDetached(client, resourceModel, dbClusterRole))
                     )
                     .handleError((removeRoleRequest, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
                             ProgressEvent.progress(resourceModel, context),
@@ -592,13 +596,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         return proxy.initiate("rds::enable-http-endpoint-v2", proxyClient, model, callbackContext)
                 .translateToServiceRequest(modelRequest -> Translator.enableHttpEndpointRequest(dbClusterArn))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(callbackContext))
                 .makeServiceCall((enableRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         enableRequest,
                         proxyInvocation.client()::enableHttpEndpoint
                 ))
                 .stabilize((enableHttpRequest, enableHttpResponse, client, resourceModel, context) ->
-                        isHttpEndpointV2Set(client, resourceModel, true)
+                        config.trackStabilization("rds::enable-http-endpoint-v2", context, isHttpEndpointV2Set(client, resourceModel, true))
                 )
                 .handleError((enableHttpRequest, exception, client, resourceModel, callbackCtxt) -> Commons.handleException(
                         ProgressEvent.progress(resourceModel, callbackCtxt),
@@ -620,13 +624,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         return proxy.initiate("rds::disable-http-endpoint-v2", proxyClient, model, callbackContext)
                 .translateToServiceRequest(modelRequest -> Translator.disableHttpEndpointRequest(dbClusterArn))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(callbackContext))
                 .makeServiceCall((enableRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         enableRequest,
                         proxyInvocation.client()::disableHttpEndpoint
                 ))
                 .stabilize((disableHttpRequest, disableHttpResponse, client, resourceModel, context) ->
-                        isHttpEndpointV2Set(client, resourceModel, false)
+                        config.trackStabilization("rds::disable-http-endpoint-v2", context, isHttpEndpointV2Set(client, resourceModel, false))
                 )
                 .handleError((disableHttpRequest, exception, client, resourceModel, callbackCtxt) -> Commons.handleException(
                         ProgressEvent.progress(resourceModel, callbackCtxt),
@@ -679,19 +683,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags
     ) {
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+        if (tagDelta.isEmpty()) {
             return progress;
         }
 
-        final Tagging.TagSet rulesetTagsToAdd = Tagging.exclude(desiredTags, previousTags);
-        final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
-
         DBCluster dbCluster;
         try {
             dbCluster = fetchDBCluster(rdsProxyClient, progress.getResourceModel());
@@ -702,13 +698,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final String arn = dbCluster.dbClusterArn();
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDelta(rdsProxyClient, arn, tagDelta);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
                     exception,
-                    DEFAULT_DB_CLUSTER_ERROR_RULE_SET.extendWith(Tagging.getUpdateTagsAccessDeniedRuleSet(rulesetTagsToAdd, rulesetTagsToRemove)),
+                    DEFAULT_DB_CLUSTER_ERROR_RULE_SET.extendWith(Tagging.getUpdateTagsAccessDeniedRuleSet(tagDelta)),
                     requestLogger
             );
         }
@@ -736,14 +731,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final String clusterArn = cluster.dbClusterArn();
         return proxy.initiate("rds::remove-from-global-cluster", proxyClient, resourceModel, progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.removeFromGlobalClusterRequest(globalClusterIdentifier, clusterArn))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall((removeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         removeRequest,
                         proxyInvocation.client()::removeFromGlobalCluster
                 ))
                 .stabilize((removeRequest, removeResponse, proxyInvocation, model, context) ->
-                        isDBClusterStabilized(proxyClient, resourceModel) &&
-                                isClusterRemovedFromGlobalCluster(proxyClient, globalClusterIdentifier, resourceModel))
+                        config.trackStabilization("rds::remove-from-global-cluster", context, isDBClusterStabilized(proxyClient, resourceModel) &&
+                                isClusterRemovedFromGlobalCluster(proxyClient, globalClusterIdentifier, resourceModel)))
                 .handleError((removeRequest, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -7,6 +7,7 @@ import java.util.Map;
 
 import software.amazon.awssdk.services.rds.model.ClusterScalabilityType;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.rds.common.handler.EventsContext;
 import software.amazon.rds.common.handler.ProbingContext;
 import software.amazon.rds.common.handler.TaggingContext;
 import software.amazon.rds.common.handler.TimestampContext;
@@ -15,21 +16,24 @@ import software.amazon.rds.common.handler.TimestampContext;
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext implements TaggingContext.Provider, ProbingContext.Provider, TimestampContext.Provider {
+public class CallbackContext extends StdCallbackContext implements TaggingContext.Provider, EventsContext.Provider, ProbingContext.Provider, TimestampContext.Provider {
     private boolean modified;
     private boolean rebooted;
     private boolean deleting;
+    private boolean failedEventsChecked;
     private ClusterScalabilityType clusterScalabilityType;
 
     private Map<String, Long> timestamps;
     private Map<String, Double> timeDelta;
 
     private TaggingContext taggingContext;
+    private EventsContext eventsContext;
     private ProbingContext probingContext;
 
     public CallbackContext() {
         super();
         this.taggingContext = new TaggingContext();
+        this.eventsContext = new EventsContext();
         this.probingContext = new ProbingContext();
         this.timestamps = new HashMap<>();
         this.timeDelta = new HashMap<>();
@@ -40,6 +44,11 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return taggingContext;
     }
 
+    @Override
+    public EventsContext getEventsContext() {
+        return eventsContext;
+    }
+
     public boolean isAddTagsComplete() {
         return taggingContext.isAddTagsComplete();
     }
@@ -71,6 +80,11 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return null;
     }
 
+    @Override
+    public void clearTimestamp(final String label) {
+        timestamps.remove(label);
+    }
+
     @Override
     public void calculateTimeDeltaInMinutes(final String label, final Instant currentTime, final Instant startTime){
         double delta = Duration.between(startTime, currentTime).toMinutes();
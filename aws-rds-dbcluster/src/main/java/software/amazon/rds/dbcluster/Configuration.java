@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.json.JSONObject;
 import org.json.JSONTokener;
+import software.amazon.rds.common.util.CompiledSchema;
 
 import com.amazonaws.util.CollectionUtils;
 
@@ -18,6 +19,13 @@ public class Configuration extends BaseConfiguration {
                 new JSONTokener(this.getClass().getClassLoader().getResourceAsStream(schemaFilename)));
     }
 
+    /**
+     * Loads the schema digest generated at build time, see {@link software.amazon.rds.common.util.CompiledSchemaGenerator}.
+     */
+    public CompiledSchema compiledResourceSchema() {
+        return CompiledSchema.load(this.getClass().getClassLoader(), schemaFilename, this::resourceSchemaJsonObject);
+    }
+
     public Map<String, String> resourceDefinedTags(final ResourceModel model) {
         if (CollectionUtils.isNullOrEmpty(model.getTags())) {
             return null;
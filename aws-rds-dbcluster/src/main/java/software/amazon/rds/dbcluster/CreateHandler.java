@@ -1,6 +1,5 @@
 package software.amazon.rds.dbcluster;
 
-import java.time.Instant;
 import java.util.HashSet;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -117,27 +116,34 @@ public class CreateHandler extends BaseHandlerStd {
                         return Commons.execOnce(
                                 progress,
                                 () -> {
-                                    progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, Instant.now());
+                                    progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, config.getClock().instant());
                                     return modifyDBCluster(proxy, rdsProxyClient, progress)
                                             .then(p -> {
                                                 if (ResourceModelHelper.shouldEnableHttpEndpointV2AfterCreate(progress.getResourceModel())) {
                                                     return enableHttpEndpointV2(proxy, rdsProxyClient, progress);
                                                 }
                                                 return p;
-                                            })
-                                            .then(p -> Events.checkFailedEvents(
-                                                    rdsProxyClient,
-                                                    p.getResourceModel().getDBClusterIdentifier(),
-                                                    SourceType.DB_CLUSTER,
-                                                    p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
-                                                    p,
-                                                    this::isFailureEvent,
-                                                    requestLogger
-                                            ));
+                                            });
                                 },
                                 CallbackContext::isModified,
                                 CallbackContext::setModified
-                        );
+                        ).then(p -> Commons.execOnce(
+                                p,
+                                // A step of its own: a check suspended by the page limit is resumed by the next invocation.
+                                () -> Events.checkFailedEvents(
+                                        rdsProxyClient,
+                                        p.getResourceModel().getDBClusterIdentifier(),
+                                        SourceType.DB_CLUSTER,
+                                        p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
+                                        p,
+                                        this::isFailureEvent,
+                                        requestLogger,
+                                        p.getCallbackContext().getEventsContext(),
+                                        config.getClock()
+                                ),
+                                CallbackContext::isFailedEventsChecked,
+                                CallbackContext::setFailedEventsChecked
+                        ));
                     }
                     return progress;
                 })
@@ -147,7 +153,7 @@ public class CreateHandler extends BaseHandlerStd {
                     return Commons.reportResourceDrift(
                             model,
                             new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
-                            resourceTypeSchema,
+                            resourceSchema,
                             requestLogger,
                             handlerOperation
                     );
@@ -162,14 +168,13 @@ public class CreateHandler extends BaseHandlerStd {
     ) {
         return proxy.initiate("rds::create-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.createDbClusterRequest(model, tagSet))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall((dbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         dbClusterRequest,
                         proxyInvocation.client()::createDBCluster
                 ))
-                .stabilize((modifyRequest, modifyResponse, proxyInvocation, model, context) -> {
-                    return isDBClusterStabilized(proxyInvocation, model);
-                })
+                .stabilize((modifyRequest, modifyResponse, proxyInvocation, model, context) ->
+                        config.trackStabilization("rds::create-dbcluster", context, isDBClusterStabilized(proxyInvocation, model)))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -192,14 +197,13 @@ public class CreateHandler extends BaseHandlerStd {
         } else {
             caller = requestMaker.translateToServiceRequest(model -> Translator.restoreDbClusterToPointInTimeRequest(model, tagSet));
         }
-        return caller.backoffDelay(config.getBackoff())
+        return caller.backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall((dbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         dbClusterRequest,
                         proxyInvocation.client()::restoreDBClusterToPointInTime
                 ))
-                .stabilize((modifyRequest, modifyResponse, proxyInvocation, model, context) -> {
-                    return isDBClusterStabilized(proxyInvocation, model);
-                })
+                .stabilize((modifyRequest, modifyResponse, proxyInvocation, model, context) ->
+                        config.trackStabilization("rds::restore-dbcluster-to-point-in-time", context, isDBClusterStabilized(proxyInvocation, model)))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -223,14 +227,13 @@ public class CreateHandler extends BaseHandlerStd {
             caller = requestMaker.translateToServiceRequest(model -> Translator.restoreDbClusterFromSnapshotRequest(model, tagSet));
         }
 
-        return caller.backoffDelay(config.getBackoff())
+        return caller.backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall((dbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         dbClusterRequest,
                         proxyInvocation.client()::restoreDBClusterFromSnapshot
                 ))
-                .stabilize((modifyRequest, modifyResponse, proxyInvocation, model, context) -> {
-                    return isDBClusterStabilized(proxyInvocation, model);
-                })
+                .stabilize((modifyRequest, modifyResponse, proxyInvocation, model, context) ->
+                        config.trackStabilization("rds::restore-dbcluster-from-snapshot", context, isDBClusterStabilized(proxyInvocation, model)))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -256,14 +259,13 @@ public class CreateHandler extends BaseHandlerStd {
             caller = callContext.translateToServiceRequest(Translator::modifyDbClusterAfterCreateRequest);
         }
 
-        return caller.backoffDelay(config.getBackoff())
+        return caller.backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall((dbClusterModifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         dbClusterModifyRequest,
                         proxyInvocation.client()::modifyDBCluster
                 ))
-                .stabilize((modifyRequest, modifyResponse, proxyInvocation, model, context) -> {
-                    return isDBClusterStabilized(proxyInvocation, model);
-                })
+                .stabilize((modifyRequest, modifyResponse, proxyInvocation, model, context) ->
+                        config.trackStabilization("rds::modify-dbcluster", context, isDBClusterStabilized(proxyInvocation, model)))
                 .handleError((createRequest, exception, client, resourceModel, callbackCtxt) -> Commons.handleException(
                         ProgressEvent.progress(resourceModel, callbackCtxt),
                         exception,
@@ -96,12 +96,12 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return proxy.initiate("rds::delete-db-cluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.deleteDbClusterRequest(model, finalSnapshotIdentifier))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall((deleteRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         deleteRequest,
                         proxyInvocation.client()::deleteDBCluster
                 ))
-                .stabilize((deleteRequest, deleteResponse, proxyInvocation, model, context) -> isDBClusterDeleted(proxyInvocation, model))
+                .stabilize((deleteRequest, deleteResponse, proxyInvocation, model, context) -> config.trackStabilization("rds::delete-db-cluster", context, isDBClusterDeleted(proxyInvocation, model)))
                 .handleError((deleteRequest, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -30,7 +30,7 @@ public class ReadHandler extends BaseHandlerStd {
     ) {
         return proxy.initiate("rds::describe-db-cluster", rdsProxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::describeDbClustersRequest)
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(callbackContext))
                 .makeServiceCall((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         describeRequest,
                         proxyInvocation.client()::describeDBClusters
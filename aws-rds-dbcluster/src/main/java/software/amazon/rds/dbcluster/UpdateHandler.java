@@ -2,7 +2,6 @@ package software.amazon.rds.dbcluster;
 
 import static software.amazon.rds.dbcluster.ModelAdapter.setDefaults;
 
-import java.time.Instant;
 import java.util.HashSet;
 import java.util.Objects;
 
@@ -78,7 +77,7 @@ public class UpdateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(desiredResourceState, callbackContext)
                 .then(progress -> {
                     if (shouldRemoveFromGlobalCluster(request.getPreviousResourceState(), request.getDesiredResourceState())) {
-                        progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, Instant.now());
+                        progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, config.getClock().instant());
                         return removeFromGlobalCluster(proxy, rdsProxyClient, progress, request.getPreviousResourceState().getGlobalClusterIdentifier());
                     }
                     return progress;
@@ -92,7 +91,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress -> Commons.execOnce(
                         progress,
                         () -> {
-                            progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, Instant.now());
+                            progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, config.getClock().instant());
                             return modifyDBCluster(proxy, rdsProxyClient, progress, previousResourceState, desiredResourceState, isRollback)
                                     .then(p -> {
                                         if (shouldUpdateHttpEndpointV2(previousResourceState, desiredResourceState)) {
@@ -121,7 +120,9 @@ public class UpdateHandler extends BaseHandlerStd {
                         p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
                         p,
                         this::isFailureEvent,
-                        requestLogger
+                        requestLogger,
+                        p.getCallbackContext().getEventsContext(),
+                        config.getClock()
                 ))
                 .then(progress -> updateTags(proxy, rdsProxyClient, progress, previousTags, desiredTags))
                 .then(progress -> {
@@ -129,7 +130,7 @@ public class UpdateHandler extends BaseHandlerStd {
                     return Commons.reportResourceDrift(
                             desiredResourceState,
                             new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
-                            resourceTypeSchema,
+                            resourceSchema,
                             requestLogger,
                             handlerOperation
                     );
@@ -146,17 +147,18 @@ public class UpdateHandler extends BaseHandlerStd {
     ) {
         return proxy.initiate("rds::modify-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.modifyDbClusterRequest(previousResourceState, model, isRollback))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall((dbClusterModifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         dbClusterModifyRequest,
                         proxyInvocation.client()::modifyDBCluster
                 ))
                 .stabilize((modifyRequest, modifyResponse, proxyInvocation, model, context) ->
-                        Probing.withProbing(
+                        config.trackStabilization("rds::modify-dbcluster", context, Probing.withProbing(
                                 context.getProbingContext(),
                                 "db-cluster-stabilized",
                                 3,
-                                () -> isDBClusterStabilized(proxyClient, desiredResourceState))
+                                () -> isDBClusterStabilized(proxyClient, desiredResourceState)
+                        ))
                 )
                 .handleError((createRequest, exception, client, resourceModel, callbackCtx) -> Commons.handleException(
                         ProgressEvent.progress(resourceModel, callbackCtx),
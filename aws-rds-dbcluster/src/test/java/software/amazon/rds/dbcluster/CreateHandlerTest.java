@@ -151,6 +151,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setModified(true);
+        context.setFailedEventsChecked(true);
 
         test_handleRequest_base(
                 context,
@@ -391,6 +392,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setModified(true);
+        context.setFailedEventsChecked(true);
 
         test_handleRequest_base(
                 context,
@@ -415,6 +417,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setModified(true);
+        context.setFailedEventsChecked(true);
 
         test_handleRequest_base(
                 context,
@@ -518,6 +521,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
                                 .build()).build());
         final CallbackContext context = new CallbackContext();
         context.setModified(true);
+        context.setFailedEventsChecked(true);
 
         final String kmsKeyId = TestUtils.randomString(32, TestUtils.ALPHA);
 
@@ -1,7 +1,6 @@
 package software.amazon.rds.dbclusterendpoint;
 
 import java.time.Duration;
-import java.util.Collection;
 import java.util.Optional;
 import java.time.Instant;
 
@@ -16,7 +15,6 @@ import software.amazon.awssdk.services.rds.model.DescribeDbClusterEndpointsRespo
 import software.amazon.awssdk.services.rds.model.InvalidDbClusterEndpointStateException;
 import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
 import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.*;
 import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.rds.common.error.ErrorRuleSet;
@@ -57,7 +55,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     InvalidDbInstanceStateException.class,
                     InvalidDbClusterStateException.class,
                     InvalidDbClusterEndpointStateException.class)
-            .build();
+            .build()
+            .compile();
 
     private final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter();
     protected final HandlerConfig config;
@@ -79,6 +78,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                RequestLogger.Options.DEFAULT,
                 requestLogger -> handleRequest(
                         proxy,
                         new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientProvider()::getClient)), request,
@@ -125,27 +125,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags
     ) {
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+        if (tagDelta.isEmpty()) {
             return progress;
         }
 
-        final Tagging.TagSet rulesetTagsToAdd = Tagging.exclude(desiredTags, previousTags);
-        final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
-
         try {
-            Tagging.removeTags(proxyClient, dbClusterEndpointArn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(proxyClient, dbClusterEndpointArn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDelta(proxyClient, dbClusterEndpointArn, tagDelta);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
                     exception,
-                    DEFAULT_DB_CLUSTER_ENDPOINT_ERROR_RULE_SET.extendWith(Tagging.getUpdateTagsAccessDeniedRuleSet(rulesetTagsToAdd, rulesetTagsToRemove)),
+                    DEFAULT_DB_CLUSTER_ENDPOINT_ERROR_RULE_SET.extendWith(Tagging.getUpdateTagsAccessDeniedRuleSet(tagDelta)),
                     requestLogger
             );
         }
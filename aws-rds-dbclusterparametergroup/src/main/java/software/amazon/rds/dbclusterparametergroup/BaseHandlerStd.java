@@ -2,7 +2,6 @@ package software.amazon.rds.dbclusterparametergroup;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -35,7 +34,6 @@ import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.Filter;
 import software.amazon.awssdk.services.rds.model.InvalidDbParameterGroupStateException;
 import software.amazon.awssdk.services.rds.model.Parameter;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.CallChain.Completed;
@@ -46,6 +44,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.client.Paginator;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
@@ -55,6 +54,7 @@ import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.common.util.EngineDefaultsCache;
 import software.amazon.rds.common.util.ParameterGrouper;
 
 
@@ -91,7 +91,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.NotFound),
                     DbClusterParameterGroupNotFoundException.class,
                     DbParameterGroupNotFoundException.class)
-            .build();
+            .build()
+            .compile();
 
     protected static final ErrorRuleSet SOFT_FAIL_IN_PROGRESS_ERROR_RULE_SET = ErrorRuleSet
             .extend(DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET)
@@ -105,6 +106,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected final static HandlerConfig DEFAULT_HANDLER_CONFIG = HandlerConfig.builder()
             .probingEnabled(true)
             .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofMinutes(180)).build())
+            .engineDefaultsCache(EngineDefaultsCache.SHARED)
             .build();
 
     protected HandlerConfig config;
@@ -128,6 +130,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                RequestLogger.Options.DEFAULT,
                 requestLogger -> handleRequest(proxy,
                         new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientProvider()::getClient)), request,
                         context, requestLogger
@@ -160,32 +163,20 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags
     ) {
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+        if (tagDelta.isEmpty()) {
             return progress;
         }
 
-        final Tagging.TagSet rulesetTagsToAdd = Tagging.exclude(desiredTags, previousTags);
-        final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
-
         try {
             final String arn = progress.getCallbackContext().getDbClusterParameterGroupArn();
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDelta(rdsProxyClient, arn, tagDelta);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
                     exception,
                     DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET.extendWith(
-                            Tagging.getUpdateTagsAccessDeniedRuleSet(
-                                    rulesetTagsToAdd,
-                                    rulesetTagsToRemove
-                            )
+                            Tagging.getUpdateTagsAccessDeniedRuleSet(tagDelta)
                     ),
                     requestLogger
             );
@@ -283,29 +274,23 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     private Iterable<Parameter> fetchDBClusterParametersIterable(
             final ProxyClient<RdsClient> proxyClient,
-            final DescribeDbClusterParametersRequest request
+            final DescribeDbClusterParametersRequest request,
+            final List<String> filterParameterNames
     ) {
-        Iterable<Parameter> result = Collections.emptyList();
-
-        String marker = null;
-        int page = 0;
-        do {
-            if (page >= MAX_DESCRIBE_PAGE_DEPTH) {
-                throw new CfnInvalidRequestException("Max DescribeDBParameters page reached.");
-            }
-            final DescribeDbClusterParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request.toBuilder().marker(marker).build(),
-                    proxyClient.client()::describeDBClusterParameters
-            );
-
-            if (response.parameters() != null) {
-                result = Iterables.concat(result, response.parameters());
-            }
-            marker = response.marker();
-            page++;
-        } while (marker != null);
-
-        return result;
+        final Paginator<DescribeDbClusterParametersResponse, Parameter> paginator = Paginator.of(
+                proxyClient,
+                marker -> request.toBuilder().marker(marker).build(),
+                proxyClient.client()::describeDBClusterParameters,
+                DescribeDbClusterParametersResponse::parameters,
+                DescribeDbClusterParametersResponse::marker
+        ).withMaxPages(
+                MAX_DESCRIBE_PAGE_DEPTH,
+                () -> new CfnInvalidRequestException("Max DescribeDBClusterParameters page reached.")
+        );
+        if (filterParameterNames != null) {
+            paginator.stopWhenFound(filterParameterNames, Parameter::parameterName);
+        }
+        return paginator;
     }
 
     private Iterable<Parameter> fetchDBClusterParametersIterableWithFilters(
@@ -320,7 +305,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     .dbClusterParameterGroupName(dbClusterParameterGroupName)
                     .build();
 
-            iterable = fetchDBClusterParametersIterable(proxyClient, request);
+            iterable = fetchDBClusterParametersIterable(proxyClient, request, null);
         } else {
             for (final List<String> partition : Lists.partition(filterParameterNames, MAX_PARAMETER_FILTER_SIZE)) {
                 final Filter[] filters = new Filter[]{Translator.filterByParameterNames(partition)};
@@ -328,7 +313,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         .dbClusterParameterGroupName(dbClusterParameterGroupName)
                         .filters(filters)
                         .build();
-                iterable = Iterables.concat(iterable, fetchDBClusterParametersIterable(proxyClient, request));
+                iterable = Iterables.concat(iterable, fetchDBClusterParametersIterable(proxyClient, request, partition));
             }
         }
 
@@ -359,32 +344,30 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     private Iterable<Parameter> fetchEngineDefaultClusterParametersIterable(
             final ProxyClient<RdsClient> proxyClient,
-            final DescribeEngineDefaultClusterParametersRequest request
+            final DescribeEngineDefaultClusterParametersRequest request,
+            final List<String> filterParameterNames
     ) {
-        Iterable<Parameter> result = Collections.emptyList();
+        final Paginator<DescribeEngineDefaultClusterParametersResponse, Parameter> paginator = Paginator.of(
+                proxyClient,
+                marker -> request.toBuilder().marker(marker).build(),
+                proxyClient.client()::describeEngineDefaultClusterParameters,
+                BaseHandlerStd::getEngineDefaultParameters,
+                BaseHandlerStd::getEngineDefaultsMarker
+        ).withMaxPages(MAX_DESCRIBE_PAGE_DEPTH, "DescribeEngineDefaultClusterParameters");
+        if (filterParameterNames != null) {
+            paginator.stopWhenFound(filterParameterNames, Parameter::parameterName);
+        }
+        return paginator;
+    }
 
-        String marker = null;
-        int page = 0;
-        do {
-            if (page >= MAX_DESCRIBE_PAGE_DEPTH) {
-                throw new RuntimeException("Max DescribeEngineDefaultClusterParameters page reached.");
-            }
-            final DescribeEngineDefaultClusterParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request.toBuilder().marker(marker).build(),
-                    proxyClient.client()::describeEngineDefaultClusterParameters
-            );
-            final EngineDefaults engineDefaults = response.engineDefaults();
-            if (engineDefaults == null) {
-                break;
-            }
-            if (engineDefaults.parameters() != null) {
-                result = Iterables.concat(result, engineDefaults.parameters());
-            }
-            marker = response.engineDefaults().marker();
-            page++;
-        } while (marker != null);
+    private static List<Parameter> getEngineDefaultParameters(final DescribeEngineDefaultClusterParametersResponse response) {
+        final EngineDefaults engineDefaults = response.engineDefaults();
+        return engineDefaults != null ? engineDefaults.parameters() : null;
+    }
 
-        return result;
+    private static String getEngineDefaultsMarker(final DescribeEngineDefaultClusterParametersResponse response) {
+        final EngineDefaults engineDefaults = response.engineDefaults();
+        return engineDefaults != null ? engineDefaults.marker() : null;
     }
 
     private Iterable<Parameter> fetchEngineDefaultClusterParametersIterableWithFilters(
@@ -398,7 +381,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final DescribeEngineDefaultClusterParametersRequest request = DescribeEngineDefaultClusterParametersRequest.builder()
                     .dbParameterGroupFamily(dbParameterGroupFamily)
                     .build();
-            iterable = fetchEngineDefaultClusterParametersIterable(proxyClient, request);
+            iterable = fetchEngineDefaultClusterParametersIterable(proxyClient, request, null);
         } else {
             for (final List<String> partition : Lists.partition(filterParameterNames, MAX_PARAMETER_FILTER_SIZE)) {
                 final Filter[] filters = new Filter[]{Translator.filterByParameterNames(partition)};
@@ -406,13 +389,30 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         .dbParameterGroupFamily(dbParameterGroupFamily)
                         .filters(filters)
                         .build();
-                iterable = Iterables.concat(iterable, fetchEngineDefaultClusterParametersIterable(proxyClient, request));
+                iterable = Iterables.concat(iterable, fetchEngineDefaultClusterParametersIterable(proxyClient, request, partition));
             }
         }
 
         return iterable;
     }
 
+    private Iterable<Parameter> fetchEngineDefaultClusterParameters(
+            final ProxyClient<RdsClient> proxyClient,
+            final String dbParameterGroupFamily,
+            final List<String> filterParameterNames
+    ) {
+        final EngineDefaultsCache engineDefaultsCache = config.getEngineDefaultsCache();
+        if (engineDefaultsCache == null) {
+            return fetchEngineDefaultClusterParametersIterableWithFilters(proxyClient, dbParameterGroupFamily, filterParameterNames);
+        }
+        return engineDefaultsCache.get(
+                "DescribeEngineDefaultClusterParameters",
+                dbParameterGroupFamily,
+                filterParameterNames,
+                () -> fetchEngineDefaultClusterParametersIterableWithFilters(proxyClient, dbParameterGroupFamily, filterParameterNames)
+        );
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> describeEngineDefaultClusterParameters(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
@@ -421,7 +421,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Map<String, Parameter> accumulator
     ) {
         try {
-            final Iterable<Parameter> parameters = fetchEngineDefaultClusterParametersIterableWithFilters(
+            final Iterable<Parameter> parameters = fetchEngineDefaultClusterParameters(
                     proxyClient,
                     progress.getResourceModel().getFamily(),
                     filterParameterNames
@@ -535,7 +535,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final Map<String, Parameter> parametersToModify = getParametersToModify(model.getParameters(), currentDBParameters, desiredDBParameters);
 
         try {
-            for (final List<Parameter> partition : ParameterGrouper.partition(parametersToModify, PARAMETER_DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST)) {
+            for (final List<Parameter> partition : ParameterGrouper.partition(parametersToModify, PARAMETER_DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST, ParameterGrouper.Strategy.FIRST_FIT_DECREASING)) {
                 proxyClient.injectCredentialsAndInvokeV2(
                         Translator.modifyDbClusterParameterGroupRequest(model, partition),
                         proxyClient.client()::modifyDBClusterParameterGroup
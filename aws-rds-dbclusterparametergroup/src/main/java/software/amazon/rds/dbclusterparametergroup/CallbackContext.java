@@ -71,6 +71,11 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return null;
     }
 
+    @Override
+    public void clearTimestamp(final String label) {
+        timestamps.remove(label);
+    }
+
     @Override
     public void calculateTimeDeltaInMinutes(final String label, final Instant currentTime, final Instant startTime){
         double delta = Duration.between(startTime, currentTime).toMinutes();
@@ -64,7 +64,7 @@ public class CreateHandler extends BaseHandlerStd {
                                         .then(p -> applyParameters(proxyClient, progress, Collections.emptyMap(), desiredClusterParameters)
                         ),
                         CallbackContext::isParametersApplied, CallbackContext::setParametersApplied))
-                .then(progress -> new ReadHandler().handleRequest(proxy, proxyClient, request, callbackContext));
+                .then(progress -> new ReadHandler(config).handleRequest(proxy, proxyClient, request, callbackContext));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createDbClusterParameterGroup(
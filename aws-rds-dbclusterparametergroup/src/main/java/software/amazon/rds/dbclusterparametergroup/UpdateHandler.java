@@ -91,6 +91,6 @@ public class UpdateHandler extends BaseHandlerStd {
                 }
                 return progress;
             }, CallbackContext::isParametersApplied, CallbackContext::setParametersApplied))
-            .then(progress -> new ReadHandler().handleRequest(proxy, proxyClient, request, callbackContext));
+            .then(progress -> new ReadHandler(config).handleRequest(proxy, proxyClient, request, callbackContext));
     }
 }
@@ -1,37 +1,41 @@
 package software.amazon.rds.dbinstance;
 
-import com.google.common.collect.ImmutableList;
+import com.google.common.base.Suppliers;
 import org.apache.commons.lang3.BooleanUtils;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsResponse;
 import software.amazon.awssdk.services.ec2.model.SecurityGroup;
 import software.amazon.awssdk.services.rds.RdsClient;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.awssdk.services.rds.model.*;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.*;
 import software.amazon.cloudformation.proxy.delay.Constant;
-import software.amazon.cloudformation.resource.ResourceTypeSchema;
+import software.amazon.rds.common.client.MemoizingProxyClient;
+import software.amazon.rds.common.client.RateLimitingProxyClient;
+import software.amazon.rds.common.client.SingleFlightProxyClient;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.*;
+import software.amazon.rds.common.logging.EmfMetricsSink;
 import software.amazon.rds.common.logging.LoggingProxyClient;
+import software.amazon.rds.common.logging.MetricsSink;
 import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.priming.CracPrimingResource;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
 import software.amazon.rds.common.request.RequestValidationException;
 import software.amazon.rds.common.request.ValidatedRequest;
 import software.amazon.rds.common.request.Validations;
+import software.amazon.rds.common.util.CompiledSchema;
 import software.amazon.rds.dbinstance.client.*;
 import software.amazon.rds.dbinstance.util.ResourceModelHelper;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -45,10 +49,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected final static HandlerConfig DEFAULT_DB_INSTANCE_HANDLER_CONFIG = HandlerConfig.builder()
             .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofMinutes(180)).build())
+            .backoffStrategy(AdaptiveBackoffStrategy.builder().timeout(Duration.ofMinutes(180)).build())
             .build();
 
     protected final static HandlerConfig DB_INSTANCE_HANDLER_CONFIG_36H = HandlerConfig.builder()
             .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofHours(36)).build())
+            .backoffStrategy(AdaptiveBackoffStrategy.builder().timeout(Duration.ofHours(36)).build())
+            .asyncLoggingEnabled(true)
             .build();
 
     protected static final RuntimeException MISSING_METHOD_VERSION_EXCEPTION = new RuntimeException("Missing method version");
@@ -82,6 +89,10 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter("MasterUsername", "MasterUserPassword", "TdeCredentialPassword");
 
+    // CloudWatch reserves the "AWS/" namespaces for the AWS services.
+    protected static final String METRICS_NAMESPACE = "RDS/CloudFormation";
+    protected static final Map<String, String> METRICS_DIMENSIONS = Collections.singletonMap("ResourceType", ResourceModel.TYPE_NAME);
+
     protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> NOOP_CALL = (model, proxyClient) -> model;
 
     protected static final Function<Exception, ErrorStatus> ignoreDBInstanceBeingDeletedConditionalErrorStatus = exception -> {
@@ -92,19 +103,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     };
 
     //TODO: This list should be gone eventually. Event ID should be checked instead.
-    private static final List<Predicate<Event>> EVENT_FAIL_CHECKERS = ImmutableList.of(
-            (e) -> Events.isEventMessageContains(e, "failed to join a host to a domain"),
-            (e) -> Events.isEventMessageContains(e, "failed to join cluster instance"),
-            (e) -> Events.isEventMessageContains(e, "insufficient instance capacity"),
-            (e) -> Events.isEventMessageContains(e, "rds custom couldn't modify the db instance"),
-            (e) -> Events.isEventMessageContains(e, "the db engine version upgrade failed"),
-            (e) -> Events.isEventMessageContains(e, "the instance could not be upgraded"),
-            (e) -> Events.isEventMessageContains(e, "the storage volume limitation was exceeded"),
-            (e) -> Events.isEventMessageContains(e, "the update of the replica mode failed"),
-            (e) -> Events.isEventMessageContains(e, "unable to modify database instance class"),
-            (e) -> Events.isEventMessageContains(e, "unable to modify the db instance class"),
-            (e) -> Events.isEventMessageContains(e, "you can't create the db instance"),
-            (e) -> Events.isEventMessageContains(e, "instance is in a state that cannot be upgraded")
+    private static final Events.FailureEventMatcher EVENT_FAILURE_MATCHER = Events.failureEventMatcher(
+            "failed to join a host to a domain",
+            "failed to join cluster instance",
+            "insufficient instance capacity",
+            "rds custom couldn't modify the db instance",
+            "the db engine version upgrade failed",
+            "the instance could not be upgraded",
+            "the storage volume limitation was exceeded",
+            "the update of the replica mode failed",
+            "unable to modify database instance class",
+            "unable to modify the db instance class",
+            "you can't create the db instance",
+            "instance is in a state that cannot be upgraded"
     );
 
     protected static final ErrorRuleSet DEFAULT_DB_INSTANCE_ERROR_RULE_SET = ErrorRuleSet
@@ -163,7 +174,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     DbInstanceAlreadyExistsException.class)
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.GeneralServiceException),
                     InvalidSubnetException.class)
-            .build();
+            .build()
+            .compile();
 
     protected static final ErrorRuleSet DESCRIBE_AUTOMATED_BACKUPS_SOFTFAIL_ERROR_RULE_SET = ErrorRuleSet
         .extend(DEFAULT_DB_INSTANCE_ERROR_RULE_SET)
@@ -279,7 +291,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     DbSnapshotAlreadyExistsException.class)
             .build();
 
-    protected static final ResourceTypeSchema resourceTypeSchema = ResourceTypeSchema.load(new Configuration().resourceSchemaJsonObject());
+    // Loaded on the first drift report rather than on the class initialization to keep it off the cold start path.
+    protected static final Supplier<CompiledSchema> resourceSchema = Suppliers.memoize(() -> new Configuration().compiledResourceSchema());
+
+    static {
+        // Primes the handler before a SnapStart/CRaC checkpoint, a no-op on a JVM without CRaC support.
+        CracPrimingResource.register(HandlerPriming.primer());
+    }
 
     public BaseHandlerStd(final HandlerConfig config) {
         super();
@@ -334,7 +352,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InvalidRequest);
         }
 
-        return handleRequest(proxy, new ValidatedRequest<ResourceModel>(request), context, rdsProxyClient, ec2ProxyClient);
+        final int throttlingRetries = context.getRetryContext().getThrottlingRetries();
+        final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(proxy, new ValidatedRequest<ResourceModel>(request), context, rdsProxyClient, ec2ProxyClient);
+        // Nothing was throttled in this invocation, so the throttled call went through: a later throttle gets a fresh budget.
+        if (throttlingRetries > 0 && context.getRetryContext().getThrottlingRetries() == throttlingRetries) {
+            context.getRetryContext().reset();
+        }
+        return progress;
     }
 
     @Override
@@ -348,17 +372,58 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
-                requestLogger -> handleRequest(
-                        proxy,
-                        request,
-                        context != null ? context : new CallbackContext(),
-                        new VersionedProxyClient<RdsClient>()
-                                .register(ApiVersion.V12, new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForApiVersion(API_VERSION_V12))))
-                                .register(ApiVersion.DEFAULT, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new RdsClientProvider()::getClient))),
-                        new VersionedProxyClient<Ec2Client>()
-                                .register(ApiVersion.DEFAULT, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new Ec2ClientProvider()::getClient))),
-                        requestLogger
-                ));
+                RequestLogger.Options.builder()
+                        .asyncLogging(config.isAsyncLoggingEnabled())
+                        .metricsSink(metricsSink(logger))
+                        .rateLimiterRegistry(config.getRateLimiterRegistry())
+                        .build(),
+                requestLogger -> {
+                    // A mutating call through either RDS API version drops the describes memoized through both.
+                    final MemoizingProxyClient.Scope rdsScope = new MemoizingProxyClient.Scope(config.getMemoizationMaxAge(), config.getClock());
+                    final MemoizingProxyClient.Scope ec2Scope = new MemoizingProxyClient.Scope(config.getMemoizationMaxAge(), config.getClock());
+                    return handleRequest(
+                            proxy,
+                            request,
+                            context != null ? context : new CallbackContext(),
+                            new VersionedProxyClient<RdsClient>()
+                                    .register(ApiVersion.V12, new MemoizingProxyClient<>(rateLimit(request, new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForApiVersion(API_VERSION_V12)))), rdsScope))
+                                    .register(ApiVersion.DEFAULT, new MemoizingProxyClient<>(coalesce(request, rateLimit(request, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new RdsClientProvider()::getClient)))), rdsScope)),
+                            new VersionedProxyClient<Ec2Client>()
+                                    .register(ApiVersion.DEFAULT, new MemoizingProxyClient<>(coalesce(request, rateLimit(request, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new Ec2ClientProvider()::getClient)))), ec2Scope)),
+                            requestLogger
+                    );
+                });
+    }
+
+    // The EMF records go to the handler log, where CloudWatch extracts the API call latency histograms from.
+    private static MetricsSink metricsSink(final Logger logger) {
+        if (logger == null) {
+            return MetricsSink.NONE;
+        }
+        return new EmfMetricsSink(METRICS_NAMESPACE, METRICS_DIMENSIONS, logger::log);
+    }
+
+    // Only the default API version clients are coalesced: requests are matched by value, so a V12 call could be served
+    // a response of the default API version otherwise.
+    private <ClientT> ProxyClient<ClientT> coalesce(
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ProxyClient<ClientT> proxyClient
+    ) {
+        if (config.getSingleFlightGroup() == null) {
+            return proxyClient;
+        }
+        return new SingleFlightProxyClient<>(proxyClient, config.getSingleFlightGroup(), request.getAwsAccountId(), request.getRegion());
+    }
+
+    // The calls are coalesced once the proxy has injected the caller credentials, hence every caller takes a token.
+    private <ClientT> ProxyClient<ClientT> rateLimit(
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ProxyClient<ClientT> proxyClient
+    ) {
+        if (config.getRateLimiterRegistry() == null) {
+            return proxyClient;
+        }
+        return new RateLimitingProxyClient<>(proxyClient, config.getRateLimiterRegistry(), request.getAwsAccountId(), request.getRegion());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateDbInstanceV12(
@@ -377,12 +442,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         request.getDesiredResourceState(),
                         BooleanUtils.isTrue(request.getRollback()))
                 )
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance
-                ))
-                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                )))
+                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> config.trackStabilization("rds::modify-db-instance-v12", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((modifyRequest, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -406,12 +471,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         dbInstance,
                         BooleanUtils.isTrue(request.getRollback()))
                 )
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance
-                ))
-                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                )))
+                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> config.trackStabilization("rds::modify-db-instance", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((modifyRequest, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -422,7 +487,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     protected boolean isFailureEvent(final Event event) {
-        return EVENT_FAIL_CHECKERS.stream().anyMatch(p -> p.test(event));
+        return EVENT_FAILURE_MATCHER.test(event);
     }
 
     protected DBInstance fetchDBInstance(
@@ -555,8 +620,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     private void resourceStabilizationTime(final CallbackContext context) {
-        context.timestampOnce(DB_INSTANCE_REQUEST_STARTED_AT, Instant.now());
-        context.timestamp(DB_INSTANCE_REQUEST_IN_PROGRESS_AT, Instant.now());
+        context.timestampOnce(DB_INSTANCE_REQUEST_STARTED_AT, config.getClock().instant());
+        context.timestamp(DB_INSTANCE_REQUEST_IN_PROGRESS_AT, config.getClock().instant());
         context.calculateTimeDeltaInMinutes(DB_INSTANCE_STABILIZATION_TIME,
             context.getTimestamp(DB_INSTANCE_REQUEST_IN_PROGRESS_AT),
             context.getTimestamp(DB_INSTANCE_REQUEST_STARTED_AT));
@@ -687,13 +752,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         for (final DBInstanceRole role : rolesToAdd) {
             final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::add-roles-to-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(addRequest -> Translator.addRoleToDbInstanceRequest(progress.getResourceModel(), role))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall((request, proxyInvocation) -> {
-                    return proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::addRoleToDBInstance);
+                    return CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::addRoleToDBInstance));
                 })
-                .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> isDBInstanceRoleAdditionStabilized(
+                .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> config.trackStabilization("rds::add-roles-to-db-instance", callbackContext, isDBInstanceRoleAdditionStabilized(
                     proxyInvocation, modelRequest, role
-                ))
+                )))
                 .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
                     ProgressEvent.progress(resourceModel, context),
                     exception,
@@ -719,13 +784,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .translateToServiceRequest(removeRequest -> Translator.removeRoleFromDbInstanceRequest(
                     progress.getResourceModel(), role
                 ))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((request, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                     request, proxyInvocation.client()::removeRoleFromDBInstance
-                ))
-                .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> isDBInstanceRoleRemovalStabilized(
+                )))
+                .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> config.trackStabilization("rds::remove-roles-from-db-instance", callbackContext, isDBInstanceRoleRemovalStabilized(
                     proxyInvocation, modelRequest, role
-                ))
+                )))
                 .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
                     ProgressEvent.progress(resourceModel, context),
                     exception,
@@ -751,11 +816,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 progress.getResourceModel(),
                 progress.getCallbackContext()
             ).translateToServiceRequest(Translator::rebootDbInstanceRequest)
-            .backoffDelay(config.getBackoff())
-            .makeServiceCall((rebootRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+            .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+            .makeServiceCall((rebootRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                 rebootRequest,
                 proxyInvocation.client()::rebootDBInstance
-            ))
+            )))
             .handleError((request, exception, client, model, context) -> Commons.handleException(
                 ProgressEvent.progress(model, context),
                 exception,
@@ -785,9 +850,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 progress.getCallbackContext()
             )
             .translateToServiceRequest(Function.identity())
-            .backoffDelay(config.getBackoff())
+            .backoffDelay(config.getBackoff(progress.getCallbackContext()))
             .makeServiceCall(NOOP_CALL)
-            .stabilize((request, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterReboot(proxyInvocation, model))
+            .stabilize((request, response, proxyInvocation, model, context) -> config.trackStabilization("rds::stabilize-db-instance-after-reboot-" + getClass().getSimpleName(), context, isDBInstanceStabilizedAfterReboot(proxyInvocation, model)))
             .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
                 ProgressEvent.progress(resourceModel, context),
                 exception,
@@ -821,19 +886,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final Tagging.TagSet desiredTags
     ) {
 
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+        if (tagDelta.isEmpty()) {
             return progress;
         }
 
-        final Tagging.TagSet rulesetTagsToAdd = Tagging.exclude(desiredTags, previousTags);
-        final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
-
         DBInstance dbInstance;
         try {
             dbInstance = fetchDBInstance(rdsProxyClient, progress.getResourceModel());
@@ -844,13 +901,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final String arn = dbInstance.dbInstanceArn();
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDelta(rdsProxyClient, arn, tagDelta);
         } catch (Exception exception) {
             return Commons.handleException(
                 progress,
                 exception,
-                DEFAULT_DB_INSTANCE_ERROR_RULE_SET.extendWith(Tagging.getUpdateTagsAccessDeniedRuleSet(rulesetTagsToAdd, rulesetTagsToRemove)),
+                DEFAULT_DB_INSTANCE_ERROR_RULE_SET.extendWith(Tagging.getUpdateTagsAccessDeniedRuleSet(tagDelta)),
                 requestLogger
             );
         }
@@ -885,13 +941,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         return proxy.initiate("rds::stop-db-instance-automatic-backup-replication", rdsClient, progress.getResourceModel(), progress.getCallbackContext())
             .translateToServiceRequest(resourceModel -> Translator.stopDbInstanceAutomatedBackupsReplicationRequest(dbInstanceArn))
-            .backoffDelay(config.getBackoff())
-            .makeServiceCall((request, client) -> rdsClient.injectCredentialsAndInvokeV2(
+            .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+            .makeServiceCall((request, client) -> CompactContextCodec.slim(rdsClient.injectCredentialsAndInvokeV2(
                 request,
                 rdsClient.client()::stopDBInstanceAutomatedBackupsReplication
-            ))
+            )))
             .stabilize((request, response, client, model, context) ->
-                isInstanceStabilizedAfterReplicationStop(sourceRegionClient, model))
+                config.trackStabilization("rds::stop-db-instance-automatic-backup-replication", context, isInstanceStabilizedAfterReplicationStop(sourceRegionClient, model)))
             .handleError((request, exception, client, model, context) -> Commons.handleException(
                 ProgressEvent.progress(model, context),
                 exception,
@@ -916,13 +972,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         return proxy.initiate("rds::start-db-instance-automatic-backup-replication", rdsClient, progress.getResourceModel(), progress.getCallbackContext())
             .translateToServiceRequest(resourceModel -> Translator.startDbInstanceAutomatedBackupsReplicationRequest(dbInstanceArn, backupRetentionPeriod, kmsKeyId))
-            .backoffDelay(config.getBackoff())
-            .makeServiceCall((request, client) -> rdsClient.injectCredentialsAndInvokeV2(
+            .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+            .makeServiceCall((request, client) -> CompactContextCodec.slim(rdsClient.injectCredentialsAndInvokeV2(
                 request,
                 rdsClient.client()::startDBInstanceAutomatedBackupsReplication
-            ))
+            )))
             .stabilize((request, response, proxyInvocation, model, context) ->
-                isInstanceStabilizedAfterReplicationStart(sourceRegionClient, model))
+                config.trackStabilization("rds::start-db-instance-automatic-backup-replication", context, isInstanceStabilizedAfterReplicationStart(sourceRegionClient, model)))
             .handleError((request, exception, client, model, context) -> {
                 ProgressEvent<ResourceModel, CallbackContext> progressEvent = Commons.handleException(
                     ProgressEvent.progress(model, context),
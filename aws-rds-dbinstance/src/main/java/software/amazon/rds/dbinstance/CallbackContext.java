@@ -5,7 +5,13 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.rds.common.handler.CompactContextCodec;
+import software.amazon.rds.common.handler.EventsContext;
+import software.amazon.rds.common.handler.RetryContext;
 import software.amazon.rds.common.handler.TaggingContext;
 import software.amazon.rds.common.handler.TimestampContext;
 
@@ -13,7 +19,39 @@ import software.amazon.rds.common.handler.TimestampContext;
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext implements TaggingContext.Provider, TimestampContext.Provider {
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+// The flags used to be serialized one property each: keep reading them, so in-flight contexts survive a deployment.
+@JsonIgnoreProperties(value = {
+        "described",
+        "created",
+        "deleted",
+        "updatedRoles",
+        "updated",
+        "rebooted",
+        "storageAllocated",
+        "allocatingStorage",
+        "readReplicaPromoted",
+        "automaticBackupReplicationStopped",
+        "automaticBackupReplicationStarted",
+        "addTagsComplete"
+}, allowSetters = true)
+public class CallbackContext extends StdCallbackContext implements TaggingContext.Provider, EventsContext.Provider, TimestampContext.Provider, RetryContext.Provider {
+    // The flags are serialized as a bitset in the registration order: append new flags only.
+    private static final CompactContextCodec<CallbackContext> CODEC = CompactContextCodec.<CallbackContext>builder()
+            .flag("described", CallbackContext::isDescribed, CallbackContext::setDescribed)
+            .flag("created", CallbackContext::isCreated, CallbackContext::setCreated)
+            .flag("deleted", CallbackContext::isDeleted, CallbackContext::setDeleted)
+            .flag("updatedRoles", CallbackContext::isUpdatedRoles, CallbackContext::setUpdatedRoles)
+            .flag("updated", CallbackContext::isUpdated, CallbackContext::setUpdated)
+            .flag("rebooted", CallbackContext::isRebooted, CallbackContext::setRebooted)
+            .flag("storageAllocated", CallbackContext::isStorageAllocated, CallbackContext::setStorageAllocated)
+            .flag("allocatingStorage", CallbackContext::isAllocatingStorage, CallbackContext::setAllocatingStorage)
+            .flag("readReplicaPromoted", CallbackContext::isReadReplicaPromoted, CallbackContext::setReadReplicaPromoted)
+            .flag("automaticBackupReplicationStopped", CallbackContext::isAutomaticBackupReplicationStopped, CallbackContext::setAutomaticBackupReplicationStopped)
+            .flag("automaticBackupReplicationStarted", CallbackContext::isAutomaticBackupReplicationStarted, CallbackContext::setAutomaticBackupReplicationStarted)
+            .flag("failedEventsChecked", CallbackContext::isFailedEventsChecked, CallbackContext::setFailedEventsChecked)
+            .build();
+
     private boolean described;
     private boolean created;
     private boolean deleted;
@@ -25,6 +63,7 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
     private boolean readReplicaPromoted;
     private boolean automaticBackupReplicationStopped;
     private boolean automaticBackupReplicationStarted;
+    private boolean failedEventsChecked;
     private String dbInstanceArn;
     private String automaticBackupReplicationArn;
     private String currentRegion;
@@ -32,12 +71,16 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
     private String snapshotIdentifier;
 
     private TaggingContext taggingContext;
+    private EventsContext eventsContext;
+    private RetryContext retryContext;
     private Map<String, Long> timestamps;
     private Map<String, Double> timeDelta;
 
     public CallbackContext() {
         super();
         this.taggingContext = new TaggingContext();
+        this.eventsContext = new EventsContext();
+        this.retryContext = new RetryContext();
         this.timestamps = new HashMap<>();
         this.timeDelta = new HashMap<>();
     }
@@ -47,6 +90,26 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return taggingContext;
     }
 
+    @Override
+    public EventsContext getEventsContext() {
+        return eventsContext;
+    }
+
+    @Override
+    public RetryContext getRetryContext() {
+        return retryContext;
+    }
+
+    @JsonProperty("flags")
+    public long getFlags() {
+        return CODEC.encodeFlags(this);
+    }
+
+    @JsonProperty("flags")
+    public void setFlags(final long flags) {
+        CODEC.decodeFlags(this, flags);
+    }
+
     public boolean isAddTagsComplete() {
         return taggingContext.isAddTagsComplete();
     }
@@ -73,6 +136,11 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return null;
     }
 
+    @Override
+    public void clearTimestamp(final String label) {
+        timestamps.remove(label);
+    }
+
     @Override
     public void calculateTimeDeltaInMinutes(final String label, final Instant currentTime, final Instant startTime){
         double delta = Duration.between(startTime, currentTime).toMinutes();
@@ -2,6 +2,7 @@ package software.amazon.rds.dbinstance;
 
 import org.json.JSONObject;
 import org.json.JSONTokener;
+import software.amazon.rds.common.util.CompiledSchema;
 
 class Configuration extends BaseConfiguration {
 
@@ -12,4 +13,11 @@ class Configuration extends BaseConfiguration {
     public JSONObject resourceSchemaJsonObject() {
         return new JSONObject(new JSONTokener(this.getClass().getClassLoader().getResourceAsStream(schemaFilename)));
     }
+
+    /**
+     * Loads the schema digest generated at build time, see {@link software.amazon.rds.common.util.CompiledSchemaGenerator}.
+     */
+    public CompiledSchema compiledResourceSchema() {
+        return CompiledSchema.load(this.getClass().getClassLoader(), schemaFilename, this::resourceSchemaJsonObject);
+    }
 }
@@ -1,6 +1,5 @@
 package software.amazon.rds.dbinstance;
 
-import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -19,6 +18,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.CompactContextCodec;
 import software.amazon.rds.common.handler.Events;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.HandlerMethod;
@@ -154,22 +154,26 @@ public class CreateHandler extends BaseHandlerStd {
                     final DBInstance dbInstance = fetchDBInstance(rdsProxyClient.defaultClient(), model);
                     if (ResourceModelHelper.shouldUpdateAfterCreate(progress.getResourceModel(), dbInstance.engine())) {
                         return Commons.execOnce(progress, () -> {
-                                            progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, Instant.now());
+                                            progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, config.getClock().instant());
                                             return versioned(proxy, rdsProxyClient, progress, null, ImmutableMap.of(
                                                     ApiVersion.V12, (pxy, pcl, prg, tgs) -> updateDbInstanceAfterCreateV12(pxy, request, pcl, prg),
                                                     ApiVersion.DEFAULT, (pxy, pcl, prg, tgs) -> updateDbInstanceAfterCreate(pxy, request, pcl, prg)
-                                            )).then(p ->
-                                                    Events.checkFailedEvents(
-                                                            rdsProxyClient.defaultClient(),
-                                                            p.getResourceModel().getDBInstanceIdentifier(),
-                                                            SourceType.DB_INSTANCE,
-                                                            p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
-                                                            p,
-                                                            this::isFailureEvent,
-                                                            requestLogger
-                                                    ));
+                                            ));
                                         },
                                         CallbackContext::isUpdated, CallbackContext::setUpdated)
+                                // A step of its own: a check suspended by the page limit is resumed by the next invocation.
+                                .then(p -> Commons.execOnce(p, () -> Events.checkFailedEvents(
+                                                rdsProxyClient.defaultClient(),
+                                                p.getResourceModel().getDBInstanceIdentifier(),
+                                                SourceType.DB_INSTANCE,
+                                                p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
+                                                p,
+                                                this::isFailureEvent,
+                                                requestLogger,
+                                                p.getCallbackContext().getEventsContext(),
+                                                config.getClock()
+                                        ),
+                                        CallbackContext::isFailedEventsChecked, CallbackContext::setFailedEventsChecked))
                                 .then(p -> Commons.execOnce(p, () -> {
                                     if (ResourceModelHelper.shouldReboot(p.getResourceModel())) {
                                         return rebootAwait(proxy, rdsProxyClient.defaultClient(), p);
@@ -216,7 +220,7 @@ public class CreateHandler extends BaseHandlerStd {
                     return Commons.reportResourceDrift(
                             model,
                             new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient, requestLogger),
-                            resourceTypeSchema,
+                            resourceSchema,
                             requestLogger,
                             handlerOperation
                     );
@@ -297,13 +301,13 @@ public class CreateHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext()
                 ).translateToServiceRequest(Translator::createDbInstanceRequestV12)
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((createRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstance
-                ))
+                )))
                 .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                        config.trackStabilization("rds::create-db-instance-v12", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -325,13 +329,13 @@ public class CreateHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext()
                 ).translateToServiceRequest(model -> Translator.createDbInstanceRequest(model, tagSet))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((createRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstance
-                ))
+                )))
                 .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                        config.trackStabilization("rds::create-db-instance", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -357,13 +361,13 @@ public class CreateHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext()
                 ).translateToServiceRequest(Translator::restoreDbInstanceFromSnapshotRequestV12)
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((restoreRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((restoreRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         restoreRequest,
                         proxyInvocation.client()::restoreDBInstanceFromDBSnapshot
-                ))
+                )))
                 .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                        config.trackStabilization("rds::restore-db-instance-from-snapshot-v12", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -385,13 +389,13 @@ public class CreateHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext()
                 ).translateToServiceRequest(model -> Translator.restoreDbInstanceFromSnapshotRequest(model, tagSet))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((restoreRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((restoreRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         restoreRequest,
                         proxyInvocation.client()::restoreDBInstanceFromDBSnapshot
-                ))
+                )))
                 .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                        config.trackStabilization("rds::restore-db-instance-from-snapshot", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -413,13 +417,13 @@ public class CreateHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext()
                 ).translateToServiceRequest(model -> Translator.restoreDbInstanceToPointInTimeRequest(model, tagSet))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((restoreRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((restoreRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         restoreRequest,
                         proxyInvocation.client()::restoreDBInstanceToPointInTime
-                ))
+                )))
                 .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                        config.trackStabilization("rds::restore-db-instance-to-point-in-time", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -442,13 +446,13 @@ public class CreateHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext()
                 ).translateToServiceRequest(model -> Translator.createDbInstanceReadReplicaRequest(model, tagSet, currentRegion))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((createRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstanceReadReplica
-                ))
+                )))
                 .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                        config.trackStabilization("rds::create-db-instance-read-replica", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((request, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -470,12 +474,12 @@ public class CreateHandler extends BaseHandlerStd {
                         " functioning properly. Please refer to the API model for supported parameters");
         return proxy.initiate("rds::modify-db-instance-v12", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceAfterCreateRequestV12(request.getDesiredResourceState()))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance
-                ))
-                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                )))
+                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> config.trackStabilization("rds::modify-db-instance-v12", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((modifyRequest, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -493,12 +497,12 @@ public class CreateHandler extends BaseHandlerStd {
     ) {
         return proxy.initiate("rds::modify-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceAfterCreateRequest(request.getDesiredResourceState()))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance
-                ))
-                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                )))
+                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> config.trackStabilization("rds::modify-db-instance", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((modifyRequest, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
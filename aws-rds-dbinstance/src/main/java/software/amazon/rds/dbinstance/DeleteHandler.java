@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.CompactContextCodec;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.request.ValidatedRequest;
 import software.amazon.rds.common.util.IdentifierFactory;
@@ -60,11 +61,11 @@ public class DeleteHandler extends BaseHandlerStd {
                 }, CallbackContext::isDescribed, CallbackContext::setDescribed))
                 .then(progress -> proxy.initiate("rds::delete-db-instance", rdsProxyClient.defaultClient(), resourceModel, callbackContext)
                         .translateToServiceRequest(model -> Translator.deleteDbInstanceRequest(model, callbackContext.getSnapshotIdentifier()))
-                        .backoffDelay(config.getBackoff())
-                        .makeServiceCall((deleteRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                        .backoffDelay(config.getBackoff(callbackContext))
+                        .makeServiceCall((deleteRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                                 deleteRequest,
                                 proxyInvocation.client()::deleteDBInstance
-                        ))
+                        )))
                         .handleError((deleteRequest, exception, client, model, context) -> Commons.handleException(
                                 ProgressEvent.progress(model, context),
                                 exception,
@@ -77,9 +78,9 @@ public class DeleteHandler extends BaseHandlerStd {
                 // happens when these errors occur, stabilization needs to be in a separate chain.
                 .then(progress -> proxy.initiate("rds::delete-db-instance-stabilize", rdsProxyClient.defaultClient(), progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Function.identity())
-                        .backoffDelay(config.getBackoff())
+                        .backoffDelay(config.getBackoff(progress.getCallbackContext()))
                         .makeServiceCall(NOOP_CALL)
-                        .stabilize((noopRequest, noopResponse, proxyInvocation, model, context) -> isDbInstanceDeleted(proxyInvocation, model))
+                        .stabilize((noopRequest, noopResponse, proxyInvocation, model, context) -> config.trackStabilization("rds::delete-db-instance-stabilize", context, isDbInstanceDeleted(proxyInvocation, model)))
                         .handleError((noopRequest, exception, client, model, context) -> Commons.handleException(
                                 ProgressEvent.progress(model, context),
                                 exception,
@@ -0,0 +1,36 @@
+package software.amazon.rds.dbinstance;
+
+import software.amazon.rds.common.handler.Tagging;
+import software.amazon.rds.common.priming.Primer;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+
+/**
+ * Exercises the DBInstance handler cold start paths offline, see {@link software.amazon.rds.common.priming.CracPrimingResource}.
+ */
+final class HandlerPriming {
+
+    private HandlerPriming() {
+    }
+
+    static Primer primer() {
+        return Primer.builder()
+                .describeDBInstances(dbInstance -> {
+                    final ResourceModel model = Translator.translateDbInstanceFromSdk(dbInstance);
+                    Translator.describeDbInstancesRequest(model);
+                    Translator.createDbInstanceRequest(model, Tagging.TagSet.emptySet());
+                    Translator.modifyDbInstanceAfterCreateRequest(model);
+                })
+                .jsonPrinter(
+                        new FilteredJsonPrinter("MasterUsername", "MasterUserPassword", "TdeCredentialPassword"),
+                        ResourceModel.builder()
+                                .dBInstanceIdentifier("priming")
+                                .masterUsername("priming")
+                                .masterUserPassword("priming")
+                                .build()
+                )
+                .errorRuleSet("DefaultErrorRuleSet", BaseHandlerStd.DEFAULT_DB_INSTANCE_ERROR_RULE_SET)
+                .errorRuleSet("CreateErrorRuleSet", BaseHandlerStd.CREATE_DB_INSTANCE_ERROR_RULE_SET)
+                .step("ResourceSchema", BaseHandlerStd.resourceSchema::get)
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.error.HandlerErrorStatus;
 import software.amazon.rds.common.handler.Commons;
@@ -24,6 +25,14 @@ import java.util.List;
 
 public class ReadHandler extends BaseHandlerStd {
 
+    private static final ErrorRuleSet READ_DB_INSTANCE_ERROR_RULE_SET = DEFAULT_DB_INSTANCE_ERROR_RULE_SET
+            .extendWith(Commons.FAIL_ON_THROTTLING_RULE_SET)
+            .compile();
+
+    private static final ErrorRuleSet READ_AUTOMATED_BACKUPS_ERROR_RULE_SET = DESCRIBE_AUTOMATED_BACKUPS_SOFTFAIL_ERROR_RULE_SET
+            .extendWith(Commons.FAIL_ON_THROTTLING_RULE_SET)
+            .compile();
+
     public ReadHandler() {
         this(DEFAULT_DB_INSTANCE_HANDLER_CONFIG);
     }
@@ -72,7 +81,7 @@ public class ReadHandler extends BaseHandlerStd {
             .handleError((describeRequest, exception, client, model, context) -> Commons.handleException(
                 ProgressEvent.progress(model, context),
                 exception,
-                DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
+                READ_DB_INSTANCE_ERROR_RULE_SET,
                 requestLogger
             ))
             .done((describeRequest, describeResponse, automatedBackupProxyInvocation, model, context) -> {
@@ -106,7 +115,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return proxy.initiate("rds::describe-db-instance-automated-backups", replicationRegionProxyClient, resourceModel, callbackContext)
             .translateToServiceRequest(model -> Translator.describeDBInstanceAutomaticBackupRequest(callbackContext.getAutomaticBackupReplicationArn()))
-            .backoffDelay(config.getBackoff())
+            .backoffDelay(config.getBackoff(callbackContext))
             .makeServiceCall((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                 describeRequest,
                 proxyInvocation.client()::describeDBInstanceAutomatedBackups
@@ -114,7 +123,7 @@ public class ReadHandler extends BaseHandlerStd {
             .handleError((describeRequest, exception, client, model, context) ->Commons.handleException(
                 ProgressEvent.progress(model, context),
                 exception,
-                DESCRIBE_AUTOMATED_BACKUPS_SOFTFAIL_ERROR_RULE_SET,
+                READ_AUTOMATED_BACKUPS_ERROR_RULE_SET,
                 requestLogger
             ))
             .done((describeRequest, describeResponse, proxyInvocation, model, context) -> {
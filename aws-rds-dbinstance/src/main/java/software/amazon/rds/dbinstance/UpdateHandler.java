@@ -12,6 +12,7 @@ import software.amazon.awssdk.utils.ImmutableMap;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.*;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.CompactContextCodec;
 import software.amazon.rds.common.handler.Events;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
@@ -27,7 +28,6 @@ import software.amazon.rds.dbinstance.util.ResourceModelHelper;
 import software.amazon.rds.dbinstance.validators.AutomaticBackupReplicationValidator;
 import software.amazon.rds.dbinstance.validators.OracleCustomSystemId;
 
-import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
@@ -153,23 +153,27 @@ public class UpdateHandler extends BaseHandlerStd {
                     return progress;
                 }, CallbackContext::isReadReplicaPromoted, CallbackContext::setReadReplicaPromoted))
                 .then(progress -> Commons.execOnce(progress, () -> {
-                    progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, Instant.now());
+                    progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, config.getClock().instant());
                     return versioned(proxy, rdsProxyClient, progress, null, ImmutableMap.of(
                             ApiVersion.V12, (pxy, pcl, prg, tgs) -> updateDbInstanceV12(pxy, request, pcl, prg),
                             ApiVersion.DEFAULT, (pxy, pcl, prg, tgs) -> {
                             final DBInstance dbInstance = fetchDBInstance(rdsProxyClient.defaultClient(), progress.getResourceModel());
                             return updateDbInstance(pxy, request, pcl, prg, dbInstance);
                         }
-                    )).then(p -> Events.checkFailedEvents(
-                            rdsProxyClient.defaultClient(),
-                            p.getResourceModel().getDBInstanceIdentifier(),
-                            SourceType.DB_INSTANCE,
-                            p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
-                            p,
-                            this::isFailureEvent,
-                            requestLogger
                     ));
                 }, CallbackContext::isUpdated, CallbackContext::setUpdated))
+                // A step of its own: a check suspended by the page limit is resumed by the next invocation.
+                .then(progress -> Commons.execOnce(progress, () -> Events.checkFailedEvents(
+                        rdsProxyClient.defaultClient(),
+                        progress.getResourceModel().getDBInstanceIdentifier(),
+                        SourceType.DB_INSTANCE,
+                        progress.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
+                        progress,
+                        this::isFailureEvent,
+                        requestLogger,
+                        progress.getCallbackContext().getEventsContext(),
+                        config.getClock()
+                ), CallbackContext::isFailedEventsChecked, CallbackContext::setFailedEventsChecked))
                 .then(progress -> Commons.execOnce(progress, () -> {
                             if (shouldReboot(rdsClient, progress)) {
                                 return rebootAwait(proxy, rdsClient, progress);
@@ -228,7 +232,7 @@ public class UpdateHandler extends BaseHandlerStd {
                     return Commons.reportResourceDrift(
                             model,
                             new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
-                            resourceTypeSchema,
+                            resourceSchema,
                             requestLogger,
                             handlerOperation
                     );
@@ -328,17 +332,17 @@ public class UpdateHandler extends BaseHandlerStd {
         progress.getCallbackContext().setAllocatingStorage(true);
         return proxy.initiate("rds::increase-allocated-storage", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::updateAllocatedStorageRequest)
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance))
-                .stabilize((request, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                .stabilize((request, response, proxyInvocation, model, context) -> config.trackStabilization("rds::increase-allocated-storage", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
                         DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
-                ))
+                )))
                 .progress();
     }
 
@@ -447,9 +451,9 @@ public class UpdateHandler extends BaseHandlerStd {
     ) {
         return proxy.initiate("rds::stabilize-db-parameter-group-drift", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall(NOOP_CALL)
-                .stabilize((request, response, proxyInvocation, model, context) -> isDBParameterGroupStabilized(proxyInvocation, model))
+                .stabilize((request, response, proxyInvocation, model, context) -> config.trackStabilization("rds::stabilize-db-parameter-group-drift", context, isDBParameterGroupStabilized(proxyInvocation, model)))
                 .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -466,9 +470,9 @@ public class UpdateHandler extends BaseHandlerStd {
     ) {
         return proxy.initiate("rds::stabilize-option-group-drift", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall(NOOP_CALL)
-                .stabilize((request, response, proxyInvocation, model, context) -> isOptionGroupStabilized(proxyInvocation, model))
+                .stabilize((request, response, proxyInvocation, model, context) -> config.trackStabilization("rds::stabilize-option-group-drift", context, isOptionGroupStabilized(proxyInvocation, model)))
                 .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -485,9 +489,9 @@ public class UpdateHandler extends BaseHandlerStd {
     ) {
         return proxy.initiate("rds::stabilize-db-cluster-parameter-group-drift", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
                 .makeServiceCall(NOOP_CALL)
-                .stabilize((request, response, proxyInvocation, model, context) -> isDBClusterParameterGroupStabilized(proxyInvocation, model))
+                .stabilize((request, response, proxyInvocation, model, context) -> config.trackStabilization("rds::stabilize-db-cluster-parameter-group-drift", context, isDBClusterParameterGroupStabilized(proxyInvocation, model)))
                 .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
@@ -504,17 +508,17 @@ public class UpdateHandler extends BaseHandlerStd {
     ) {
         return proxy.initiate("rds::promote-read-replica", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::promoteReadReplicaRequest)
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
+                .backoffDelay(config.getBackoff(progress.getCallbackContext()))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::promoteReadReplica))
-                .stabilize((request, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                .stabilize((request, response, proxyInvocation, model, context) -> config.trackStabilization("rds::promote-read-replica", context, isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context)))
                 .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
                         DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
-                ))
+                )))
                 .progress();
     }
 }
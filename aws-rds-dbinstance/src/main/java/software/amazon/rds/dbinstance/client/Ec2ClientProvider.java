@@ -8,6 +8,6 @@ public class Ec2ClientProvider extends BaseSdkClientProvider<Ec2ClientBuilder, E
 
     @Override
     public Ec2Client getClient() {
-        return setHttpClient(setUserAgent(Ec2Client.builder())).build();
+        return getPooledClient(() -> setHttpClient(setUserAgent(Ec2Client.builder())).build());
     }
 }
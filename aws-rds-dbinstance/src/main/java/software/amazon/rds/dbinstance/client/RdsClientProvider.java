@@ -50,15 +50,15 @@ public class RdsClientProvider extends BaseSdkClientProvider<RdsClientBuilder, R
 
     @Override
     public RdsClient getClient() {
-        return setUserAgent(setHttpClient(RdsClient.builder())).build();
+        return getPooledClient(() -> setUserAgent(setHttpClient(RdsClient.builder())).build());
     }
 
     public RdsClient getClientForApiVersion(@NonNull final String apiVersion) {
-        return setUserAgentAndApiVersion(setHttpClient(RdsClient.builder()), apiVersion).build();
+        return getPooledClient(null, apiVersion, () -> setUserAgentAndApiVersion(setHttpClient(RdsClient.builder()), apiVersion).build());
     }
 
     public RdsClient getClientForRegion(@NonNull final String region) {
         final Region sdkRegion = Region.of(region);
-        return setUserAgent(setHttpClient(RdsClient.builder().region(sdkRegion))).build();
+        return getPooledClient(sdkRegion.id(), null, () -> setUserAgent(setHttpClient(RdsClient.builder().region(sdkRegion))).build());
     }
 }
@@ -726,9 +726,9 @@ public abstract class AbstractHandlerTest extends AbstractTestBase<DBInstance, R
                 request,
                 context,
                 new VersionedProxyClient<RdsClient>()
-                        .register(ApiVersion.V12, getRdsProxy(API_VERSION_V12))
-                        .register(ApiVersion.DEFAULT, getRdsProxy()),
-                new VersionedProxyClient<Ec2Client>().register(ApiVersion.DEFAULT, getEc2Proxy()),
+                        .register(ApiVersion.V12, recordApiCalls(getRdsProxy(API_VERSION_V12)))
+                        .register(ApiVersion.DEFAULT, recordApiCalls(getRdsProxy())),
+                new VersionedProxyClient<Ec2Client>().register(ApiVersion.DEFAULT, recordApiCalls(getEc2Proxy())),
                 new RequestLogger(logger, request, new FilteredJsonPrinter())
         );
     }
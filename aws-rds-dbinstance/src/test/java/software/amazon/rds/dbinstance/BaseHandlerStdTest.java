@@ -37,6 +37,7 @@ import software.amazon.rds.dbinstance.client.VersionedProxyClient;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
@@ -85,6 +86,37 @@ class BaseHandlerStdTest {
         rdsProxyV12 = mockProxy(proxy, rdsClientV12);
     }
 
+    @Test
+    void handleRequest_publishesApiCallMetricsAsEmf() {
+        final List<String> messages = new ArrayList<>();
+        final TestBaseHandlerStd metricsHandler = new TestBaseHandlerStd(HandlerConfig.builder().build()) {
+            @Override
+            protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+                    AmazonWebServicesClientProxy proxy,
+                    ValidatedRequest<ResourceModel> request,
+                    CallbackContext context,
+                    VersionedProxyClient<RdsClient> rdsProxyClient,
+                    VersionedProxyClient<Ec2Client> ec2ProxyClient
+            ) {
+                requestLogger.getApiCallMetrics().record("DescribeDBInstances", Duration.ofMillis(10).toNanos(), null);
+                return ProgressEvent.success(request.getDesiredResourceState(), context);
+            }
+        };
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+
+        metricsHandler.handleRequest(
+                proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build()).build(),
+                new CallbackContext(),
+                messages::add
+        );
+
+        Assertions.assertThat(messages).anySatisfy(message -> Assertions.assertThat(message)
+                .contains("\"Namespace\":\"" + BaseHandlerStd.METRICS_NAMESPACE + "\"")
+                .contains("\"ResourceType\":\"AWS::RDS::DBInstance\"")
+                .contains("\"Operation\":\"DescribeDBInstances\""));
+    }
+
     @Test
     void isDomainMembershipsJoined_NullDomainMembershipReturnsTrue() {
         Assertions.assertThat(DBInstancePredicates.isDomainMembershipsJoined(
@@ -0,0 +1,125 @@
+package software.amazon.rds.dbinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.resource.Serializer;
+
+class CallbackContextTest {
+
+    // Every callback round trip carries the serialized context: a change growing it past these budgets
+    // should be a deliberate one.
+    private static final int FLAGS_ONLY_BUDGET_BYTES = 256;
+    private static final int POPULATED_BUDGET_BYTES = 768;
+
+    private final Serializer serializer = new Serializer();
+
+    private static CallbackContext allFlagsContext() {
+        final CallbackContext context = new CallbackContext();
+        context.setDescribed(true);
+        context.setCreated(true);
+        context.setDeleted(true);
+        context.setUpdatedRoles(true);
+        context.setUpdated(true);
+        context.setRebooted(true);
+        context.setStorageAllocated(true);
+        context.setAllocatingStorage(true);
+        context.setReadReplicaPromoted(true);
+        context.setAutomaticBackupReplicationStopped(true);
+        context.setAutomaticBackupReplicationStarted(true);
+        context.setFailedEventsChecked(true);
+        context.setAddTagsComplete(true);
+        return context;
+    }
+
+    private static CallbackContext populatedContext() {
+        final CallbackContext context = allFlagsContext();
+        context.setDbInstanceArn("arn:aws:rds:us-east-1:123456789012:db:db-instance-identifier");
+        context.setAutomaticBackupReplicationArn("arn:aws:rds:us-west-2:123456789012:auto-backup:ab-0123456789abcdef0123456789");
+        context.setCurrentRegion("us-east-1");
+        context.setKmsKeyId("arn:aws:kms:us-west-2:123456789012:key/01234567-89ab-cdef-0123-456789abcdef");
+        context.setSnapshotIdentifier("db-instance-identifier-final-snapshot");
+        context.getEventsContext().setLastEventTime(1_700_000_000_000L);
+        context.getRetryContext().setThrottlingRetries(2);
+        context.timestamp("START_TIME", Instant.ofEpochSecond(1_700_000_000L));
+        return context;
+    }
+
+    private CallbackContext roundTrip(final String json) throws Exception {
+        return serializer.deserialize(json, new TypeReference<CallbackContext>() {
+        });
+    }
+
+    @Test
+    void serialize_flagsAsBitset() throws Exception {
+        final String json = serializer.serialize(allFlagsContext());
+
+        assertThat(json).contains("\"flags\":4095");
+        assertThat(json).doesNotContain("described", "automaticBackupReplicationStarted", "failedEventsChecked");
+        // The tagging flag is only serialized within the tagging context.
+        assertThat(json.indexOf("addTagsComplete")).isEqualTo(json.lastIndexOf("addTagsComplete"));
+        assertThat(json.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(FLAGS_ONLY_BUDGET_BYTES);
+    }
+
+    @Test
+    void serialize_emptyFieldsOmitted() throws Exception {
+        final String json = serializer.serialize(new CallbackContext());
+
+        assertThat(json).doesNotContain("timestamps", "timeDelta", "dbInstanceArn");
+        assertThat(roundTrip(json)).isEqualTo(new CallbackContext());
+    }
+
+    @Test
+    void serialize_sizeRegression() throws Exception {
+        final String json = serializer.serialize(populatedContext());
+
+        assertThat(json.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(POPULATED_BUDGET_BYTES);
+    }
+
+    @Test
+    void deserialize_roundTrip() throws Exception {
+        final CallbackContext context = populatedContext();
+        context.setRebooted(false);
+
+        final CallbackContext decoded = roundTrip(serializer.serialize(context));
+
+        assertThat(decoded).isEqualTo(context);
+        assertThat(decoded.isRebooted()).isFalse();
+        assertThat(decoded.isAutomaticBackupReplicationStarted()).isTrue();
+        assertThat(decoded.getTimestamp("START_TIME")).isEqualTo(Instant.ofEpochSecond(1_700_000_000L));
+    }
+
+    @Test
+    void deserialize_legacyFlags() throws Exception {
+        // The layout of a context serialized before the flags were packed into a bitset.
+        final String json = "{\"described\":true,\"created\":true,\"deleted\":true,\"updatedRoles\":true,"
+                + "\"updated\":true,\"rebooted\":true,\"storageAllocated\":true,\"allocatingStorage\":true,"
+                + "\"readReplicaPromoted\":true,\"automaticBackupReplicationStopped\":true,"
+                + "\"automaticBackupReplicationStarted\":true,\"addTagsComplete\":true,"
+                + "\"dbInstanceArn\":\"arn:aws:rds:us-east-1:123456789012:db:db-instance-identifier\"}";
+
+        final CallbackContext decoded = roundTrip(json);
+
+        assertThat(decoded.isDescribed()).isTrue();
+        assertThat(decoded.isCreated()).isTrue();
+        assertThat(decoded.isDeleted()).isTrue();
+        assertThat(decoded.isUpdatedRoles()).isTrue();
+        assertThat(decoded.isUpdated()).isTrue();
+        assertThat(decoded.isRebooted()).isTrue();
+        assertThat(decoded.isStorageAllocated()).isTrue();
+        assertThat(decoded.isAllocatingStorage()).isTrue();
+        assertThat(decoded.isReadReplicaPromoted()).isTrue();
+        assertThat(decoded.isAutomaticBackupReplicationStopped()).isTrue();
+        assertThat(decoded.isAutomaticBackupReplicationStarted()).isTrue();
+        assertThat(decoded.isAddTagsComplete()).isTrue();
+        assertThat(decoded.isFailedEventsChecked()).isFalse();
+        assertThat(decoded.getDbInstanceArn()).isEqualTo("arn:aws:rds:us-east-1:123456789012:db:db-instance-identifier");
+        // Once read, the context is written back in the compact layout.
+        assertThat(serializer.serialize(decoded)).contains("\"flags\":2047").doesNotContain("\"described\"");
+    }
+}
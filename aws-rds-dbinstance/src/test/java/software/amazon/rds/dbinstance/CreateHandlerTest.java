@@ -92,6 +92,8 @@ import software.amazon.awssdk.services.rds.model.StorageTypeNotSupportedExceptio
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.error.ErrorCode;
@@ -193,6 +195,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -228,6 +231,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -271,6 +275,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -315,6 +320,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -341,6 +347,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -375,6 +382,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -402,6 +410,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -429,6 +438,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -488,6 +498,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(false);
         context.setUpdatedRoles(true);
 
@@ -511,6 +522,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -555,6 +567,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -582,6 +595,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -642,6 +656,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -687,6 +702,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(false);
 
@@ -728,6 +744,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(false);
 
@@ -833,6 +850,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(false);
         context.setUpdatedRoles(true);
 
@@ -1268,6 +1286,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1297,6 +1316,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1324,6 +1344,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1392,6 +1413,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1422,6 +1444,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1483,6 +1506,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1625,7 +1649,6 @@ public class CreateHandlerTest extends AbstractHandlerTest {
                     Arguments.of(ErrorCode.DBSubnetGroupNotAllowedFault, HandlerErrorCode.InvalidRequest),
                     Arguments.of(ErrorCode.InvalidParameterCombination, HandlerErrorCode.InvalidRequest),
                     Arguments.of(ErrorCode.StorageTypeNotSupportedFault, HandlerErrorCode.InvalidRequest),
-                    Arguments.of(ErrorCode.ThrottlingException, HandlerErrorCode.Throttling),
                     // Put exception classes below
                     Arguments.of(AuthorizationNotFoundException.builder().message(MSG_GENERIC_ERR).build(), HandlerErrorCode.InvalidRequest),
                     Arguments.of(CertificateNotFoundException.builder().message(MSG_GENERIC_ERR).build(), HandlerErrorCode.NotFound),
@@ -1655,6 +1678,26 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         );
     }
 
+    @Test
+    public void handleRequest_CreateDBInstance_ThrottlingRetry() {
+        expectCreateDBInstanceCall().setup()
+                .thenThrow(newAwsServiceException(ErrorCode.ThrottlingException));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = test_handleRequest_base(
+                new CallbackContext(),
+                null,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                progress -> {
+                    Assertions.assertThat(progress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+                    Assertions.assertThat(progress.getCallbackDelaySeconds()).isBetween(5, 15);
+                    Assertions.assertThat(progress.getErrorCode()).isNull();
+                }
+        );
+
+        Assertions.assertThat(response.getCallbackContext().getRetryContext().getThrottlingRetries()).isEqualTo(1);
+        expectCreateDBInstanceCall().verify();
+    }
+
     static class CreateDBInstanceReadReplicaExceptionArgumentsProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext extensionContext) throws Exception {
@@ -1728,6 +1771,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1753,6 +1797,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1778,6 +1823,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1809,6 +1855,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1840,6 +1887,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1869,6 +1917,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1904,6 +1953,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1971,6 +2021,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(false);
         context.setUpdatedRoles(true);
 
@@ -1993,6 +2044,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2035,6 +2087,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2073,6 +2126,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2102,6 +2156,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2131,6 +2186,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2154,6 +2210,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2182,6 +2239,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2206,6 +2264,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2233,6 +2292,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2266,6 +2326,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -2286,6 +2347,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2304,6 +2366,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2322,6 +2385,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(false);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2342,6 +2406,7 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
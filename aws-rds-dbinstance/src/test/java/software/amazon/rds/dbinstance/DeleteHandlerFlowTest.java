@@ -0,0 +1,103 @@
+package software.amazon.rds.dbinstance;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.dbinstance.client.ApiVersion;
+import software.amazon.rds.dbinstance.client.VersionedProxyClient;
+import software.amazon.rds.test.common.fake.FakeClock;
+import software.amazon.rds.test.common.fake.FakeLifecycle;
+import software.amazon.rds.test.common.fake.FakeRdsService;
+import software.amazon.rds.test.common.fake.FakeResourceType;
+import software.amazon.rds.test.common.fake.FlowReport;
+import software.amazon.rds.test.common.fake.VirtualTimeDriver;
+
+/**
+ * Replays a whole DB instance deletion against {@link FakeRdsService}: every stabilization wait becomes a callback,
+ * and the callback context goes through its JSON form between the invocations, as it does in CloudFormation.
+ */
+public class DeleteHandlerFlowTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String DB_INSTANCE_IDENTIFIER = "db-instance";
+    private static final Duration DELETING = Duration.ofMinutes(3);
+
+    private FakeClock clock;
+    private FakeRdsService service;
+    private AmazonWebServicesClientProxy proxy;
+    private LoggerProxy logger;
+
+    @BeforeEach
+    public void setup() {
+        clock = new FakeClock(START);
+        service = FakeRdsService.builder()
+                .clock(clock)
+                .lifecycle(FakeResourceType.DB_INSTANCE, FakeLifecycle.IMMEDIATE.toBuilder().deleting(DELETING).build())
+                .build();
+        logger = new LoggerProxy();
+        proxy = new AmazonWebServicesClientProxy(
+                logger,
+                new Credentials("accessKey", "secretKey", "token"),
+                DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+                WaitStrategy.scheduleForCallbackStrategy()
+        );
+    }
+
+    @Test
+    public void handleRequest_deleteFlow() {
+        service.rdsClient().createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .engine("mysql")
+                .build());
+        final DeleteHandler handler = new DeleteHandler(HandlerConfig.builder()
+                .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofHours(1)).build())
+                .clock(clock)
+                .build());
+        final VersionedProxyClient<RdsClient> rdsProxyClient = new VersionedProxyClient<RdsClient>()
+                .register(ApiVersion.DEFAULT, new BaseProxyClient<>(proxy, service.rdsClient()));
+        final VersionedProxyClient<Ec2Client> ec2ProxyClient = new VersionedProxyClient<Ec2Client>()
+                .register(ApiVersion.DEFAULT, new BaseProxyClient<>(proxy, service.ec2Client()));
+
+        final FlowReport<ResourceModel, CallbackContext> report = VirtualTimeDriver.builder().clock(clock).build().run(
+                ResourceModel.builder().dBInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build(),
+                new CallbackContext(),
+                (model, context) -> {
+                    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                            .desiredResourceState(model)
+                            .logicalResourceIdentifier("DBInstance")
+                            .clientRequestToken("token")
+                            .snapshotRequested(false)
+                            .build();
+                    return handler.handleRequest(proxy, request, context, rdsProxyClient, ec2ProxyClient,
+                            new RequestLogger(logger, request, new FilteredJsonPrinter()));
+                }
+        );
+
+        Assertions.assertThat(report.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(report.getCallbacks()).isPositive();
+        Assertions.assertThat(report.getElapsed()).isGreaterThanOrEqualTo(DELETING);
+        Assertions.assertThat(service.getStatus(FakeResourceType.DB_INSTANCE, DB_INSTANCE_IDENTIFIER)).isNull();
+        // The progress recorded in the callback context survives the round trips: the instance is described and
+        // deleted once, then only the stabilization polls it.
+        Assertions.assertThat(service.getCallCount("DeleteDbInstance")).isEqualTo(1);
+        Assertions.assertThat(service.getCallCount("DescribeDbInstances")).isEqualTo(report.getInvocations() + 1);
+    }
+}
@@ -0,0 +1,24 @@
+package software.amazon.rds.dbinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.rds.common.priming.PrimingReport;
+
+class HandlerPrimingTest {
+
+    @Test
+    void primer_allStepsSucceedOffline() {
+        final PrimingReport report = HandlerPriming.primer().prime();
+
+        assertThat(report.getSteps()).allSatisfy(step -> assertThat(step.getError()).as(step.getName()).isNull());
+        assertThat(report.getSteps()).extracting(PrimingReport.Step::getName).containsExactly(
+                "DescribeDBInstances",
+                "JsonPrinter",
+                "DefaultErrorRuleSet",
+                "CreateErrorRuleSet",
+                "ResourceSchema"
+        );
+    }
+}
@@ -27,6 +27,7 @@ import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.client.RateLimiterRegistry;
 import software.amazon.rds.test.common.core.HandlerName;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,7 +58,10 @@ public class ListHandlerTest extends AbstractHandlerTest {
 
     @BeforeEach
     public void setup() {
-        handler = new ListHandler();
+        // The rate limiters are opt-in: a fresh registry exercises them without sharing limiter state between tests.
+        handler = new ListHandler(DEFAULT_DB_INSTANCE_HANDLER_CONFIG.toBuilder()
+                .rateLimiterRegistry(RateLimiterRegistry.withDefaults())
+                .build());
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         rdsClient = mock(RdsClient.class);
         ec2Client = mock(Ec2Client.class);
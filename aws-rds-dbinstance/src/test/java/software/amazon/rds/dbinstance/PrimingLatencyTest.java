@@ -0,0 +1,108 @@
+package software.amazon.rds.dbinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.priming.Primer;
+import software.amazon.rds.common.priming.StubSdkHttpClient;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.dbinstance.client.ApiVersion;
+import software.amazon.rds.dbinstance.client.VersionedProxyClient;
+
+/**
+ * Measures the latency of the first Read handler request of a JVM, with and without {@link HandlerPriming}.
+ * Class loading and JIT state can not be reset in-process, so every measurement runs in a fresh JVM. It is a benchmark
+ * rather than a unit test, run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class PrimingLatencyTest {
+
+    private static final long PROCESS_TIMEOUT_SECONDS = 120;
+
+    /**
+     * Writes the latency of the first Read handler request in nanoseconds to the file {@code args[1]}, priming
+     * the JVM beforehand if {@code args[0]} is true.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (Boolean.parseBoolean(args[0])) {
+            HandlerPriming.primer().prime();
+        }
+        final long start = System.nanoTime();
+        final ProgressEvent<ResourceModel, CallbackContext> event = readStubDBInstance();
+        final long latencyNanos = System.nanoTime() - start;
+        if (event.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException("The Read handler request failed: " + event.getMessage());
+        }
+        Files.write(Paths.get(args[1]), Long.toString(latencyNanos).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void firstReadLatency(@TempDir final Path tempDir) throws Exception {
+        final long unprimedNanos = measureFirstRead(false, tempDir);
+        final long primedNanos = measureFirstRead(true, tempDir);
+
+        assertThat(primedNanos)
+                .as("first Read handler request latency: %d ms unprimed, %d ms primed",
+                        TimeUnit.NANOSECONDS.toMillis(unprimedNanos),
+                        TimeUnit.NANOSECONDS.toMillis(primedNanos))
+                .isLessThan(unprimedNanos);
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> readStubDBInstance() {
+        final LoggerProxy logger = new LoggerProxy();
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+                logger,
+                new Credentials("accessKey", "secretKey", "token"),
+                () -> Duration.ofMinutes(15).toMillis()
+        );
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().dBInstanceIdentifier(Primer.STUB_IDENTIFIER).build())
+                .build();
+        try (RdsClient rdsClient = Primer.stubRdsClient(new StubSdkHttpClient(Primer.DESCRIBE_DB_INSTANCES_RESPONSE))) {
+            return new ReadHandler().handleRequest(
+                    proxy,
+                    request,
+                    new CallbackContext(),
+                    new VersionedProxyClient<RdsClient>().register(ApiVersion.DEFAULT, new BaseProxyClient<>(proxy, rdsClient)),
+                    new VersionedProxyClient<Ec2Client>(),
+                    new RequestLogger(logger, request, new FilteredJsonPrinter())
+            );
+        }
+    }
+
+    private static long measureFirstRead(final boolean primed, final Path tempDir) throws IOException, InterruptedException {
+        final Path latency = tempDir.resolve("latency-" + primed);
+        final Path output = tempDir.resolve("output-" + primed);
+        final Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                PrimingLatencyTest.class.getName(),
+                Boolean.toString(primed),
+                latency.toString()
+        ).redirectErrorStream(true).redirectOutput(output.toFile()).start();
+
+        assertThat(process.waitFor(PROCESS_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(process.exitValue()).as("probe output: %s", output).isZero();
+        return Long.parseLong(new String(Files.readAllBytes(latency), StandardCharsets.UTF_8).trim());
+    }
+}
@@ -36,7 +36,11 @@ import software.amazon.awssdk.services.rds.model.DescribeDbInstanceAutomatedBack
 import software.amazon.awssdk.services.rds.model.DescribeDbInstanceAutomatedBackupsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.client.RateLimiterRegistry;
+import software.amazon.rds.common.error.ErrorCode;
+import software.amazon.rds.common.handler.RetryContext;
 import software.amazon.rds.test.common.core.HandlerName;
 
 @ExtendWith(MockitoExtension.class)
@@ -70,7 +74,10 @@ public class ReadHandlerTest extends AbstractHandlerTest {
 
     @BeforeEach
     public void setup() {
-        handler = new ReadHandler();
+        // The rate limiters are opt-in: a fresh registry exercises them without sharing limiter state between tests.
+        handler = new ReadHandler(DEFAULT_DB_INSTANCE_HANDLER_CONFIG.toBuilder()
+                .rateLimiterRegistry(RateLimiterRegistry.withDefaults())
+                .build());
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         rdsClient = mock(RdsClient.class);
         ec2Client = mock(Ec2Client.class);
@@ -99,6 +106,40 @@ public class ReadHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
+    @Test
+    public void handleRequest_ReadThrottled() {
+        when(rdsProxy.client().describeDBInstances(any(DescribeDbInstancesRequest.class)))
+                .thenThrow(newAwsServiceException(ErrorCode.Throttling));
+        final CallbackContext context = new CallbackContext();
+
+        test_handleRequest_base(
+                context,
+                null,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectFailed(HandlerErrorCode.Throttling)
+        );
+
+        Assertions.assertThat(context.getRetryContext().getThrottlingRetries()).isZero();
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ResetsThrottlingRetries() {
+        final CallbackContext context = new CallbackContext();
+        context.getRetryContext().setThrottlingRetries(2);
+        context.getRetryContext().setLastThrottlingDelaySeconds(17);
+
+        test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectSuccess()
+        );
+
+        Assertions.assertThat(context.getRetryContext()).isEqualTo(new RetryContext());
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
     @Test
     public void handleRequest_ValidAutomaticBackupReplicationArn() {
         proxy = Mockito.spy(proxy);
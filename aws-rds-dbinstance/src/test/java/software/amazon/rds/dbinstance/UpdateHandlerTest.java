@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -97,6 +98,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.test.common.core.ApiCallBudget;
 import software.amazon.rds.test.common.core.HandlerName;
 
 @ExtendWith(MockitoExtension.class)
@@ -208,6 +210,49 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
     }
 
+    @Test
+    public void handleRequest_modifyDbInstanceClass_ApiCallBudget() {
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
+                .thenReturn(ModifyDbInstanceResponse.builder().build());
+        when(rdsProxy.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
+                .thenReturn(AddTagsToResourceResponse.builder().build());
+        when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class)))
+                .thenReturn(RemoveTagsFromResourceResponse.builder().build());
+        when(rdsProxy.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(false);
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+        context.setStorageAllocated(true);
+
+        test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_ALTER.toBuilder()
+                        .dBInstanceClass("db.m5.xlarge")
+                        .build(),
+                expectSuccess()
+        );
+
+        expectApiCallBudget(ApiCallBudget.builder()
+                .max(DescribeDbInstancesRequest.class, 4)
+                .max(ModifyDbInstanceRequest.class, 1)
+                .max(AddTagsToResourceRequest.class, 1)
+                .max(RemoveTagsFromResourceRequest.class, 1)
+                .max(DescribeEventsRequest.class, 1)
+                .strict()
+                .build());
+
+        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(rdsProxy.client()).describeEvents(any(DescribeEventsRequest.class));
+    }
+
     @Test
     public void handleRequest_modifyDbInstanceV12_Success() {
         when(rdsProxyV12.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
@@ -296,6 +341,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setStorageAllocated(true);
@@ -322,6 +368,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setStorageAllocated(true);
@@ -357,6 +404,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setStorageAllocated(true);
@@ -377,6 +425,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
     public void handleRequest_StackLevelTagsRemovalDoesNotRemoveTagsIfTheyExistOnResourceLevel() {
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setStorageAllocated(true);
@@ -402,6 +451,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setStorageAllocated(true);
@@ -424,7 +474,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         Assertions.assertThat(captor.getValue().tags())
                 .containsExactlyInAnyOrder(
                         software.amazon.awssdk.services.rds.model.Tag .builder().key("tag-key").value("stack-level").build());
-        verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(rdsProxy.client(), never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
 
         verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
@@ -454,6 +504,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setStorageAllocated(true);
 
@@ -494,6 +545,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
 
         test_handleRequest_base(
                 context,
@@ -518,6 +570,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setStorageAllocated(true);
 
@@ -541,6 +594,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setStorageAllocated(true);
 
@@ -568,6 +622,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(false);
         context.setStorageAllocated(true);
@@ -614,6 +669,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setStorageAllocated(true);
 
@@ -660,6 +716,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(false);
         context.setUpdatedRoles(true);
         context.setStorageAllocated(true);
@@ -737,6 +794,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true); // this is an emulation of a re-entrance
+        context.setFailedEventsChecked(true);
         context.setStorageAllocated(true);
 
         test_handleRequest_base(
@@ -767,6 +825,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true); // this is an emulation of a re-entrance
+        context.setFailedEventsChecked(true);
         context.setStorageAllocated(true);
 
         test_handleRequest_base(
@@ -854,6 +913,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true); // this is an emulation of a re-entrance
+        context.setFailedEventsChecked(true);
         context.setStorageAllocated(true);
 
         test_handleRequest_base(
@@ -883,6 +943,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true); // this is an emulation of a re-entrance
+        context.setFailedEventsChecked(true);
         context.setStorageAllocated(true);
 
 
@@ -919,6 +980,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true); // this is an emulation of a re-entrance
+        context.setFailedEventsChecked(true);
         context.setStorageAllocated(true);
 
         test_handleRequest_base(
@@ -941,6 +1003,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
     public void handleRequest_NoDefaultVpcIdForClusterInstance() {
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setStorageAllocated(true);
 
         test_handleRequest_base(
@@ -965,6 +1028,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
     public void handleRequest_NoDefaultVpcIdForOracleCustom() {
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setStorageAllocated(true);
 
         test_handleRequest_base(
@@ -1270,6 +1334,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
     public void handleRequest_StorageFull() {
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1306,6 +1371,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
     public void handleRequest_StorageIsNotFull() {
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1326,6 +1392,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         expectServiceInvocation = false;
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
 
@@ -1413,6 +1480,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
 
         test_handleRequest_base(
                 context,
@@ -1751,6 +1819,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -1798,6 +1867,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
+        context.setFailedEventsChecked(true);
         context.setRebooted(true);
         context.setUpdatedRoles(true);
         context.setAddTagsComplete(true);
@@ -2,7 +2,6 @@ package software.amazon.rds.dbparametergroup;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -32,7 +31,6 @@ import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.Filter;
 import software.amazon.awssdk.services.rds.model.InvalidDbParameterGroupStateException;
 import software.amazon.awssdk.services.rds.model.Parameter;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -40,6 +38,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.client.Paginator;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
@@ -49,6 +48,7 @@ import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.common.util.EngineDefaultsCache;
 import software.amazon.rds.common.util.ParameterGrouper;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -69,7 +69,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     DbParameterGroupNotFoundException.class)
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ServiceLimitExceeded),
                     DbParameterGroupQuotaExceededException.class)
-            .build();
+            .build()
+            .compile();
 
     protected static final ErrorRuleSet SOFT_FAIL_IN_PROGRESS_TAGGING_ERROR_RULE_SET = ErrorRuleSet
             .extend(DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET)
@@ -92,6 +93,10 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String DB_PARAMETER_GROUP_REQUEST_IN_PROGRESS_AT = "dbparametergroup-request-in-progress-at";
     protected static final String DB_PARAMETER_GROUP_STABILIZATION_TIME = "dbparametergroup-stabilization-time";
 
+    protected final static HandlerConfig DEFAULT_HANDLER_CONFIG = HandlerConfig.builder()
+            .engineDefaultsCache(EngineDefaultsCache.SHARED)
+            .build();
+
     protected HandlerConfig config;
     protected RequestLogger requestLogger;
 
@@ -115,6 +120,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                RequestLogger.Options.DEFAULT,
                 requestLogger -> handleRequest(
                         proxy,
                         new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientProvider()::getClient)),
@@ -151,32 +157,20 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags
     ) {
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+        if (tagDelta.isEmpty()) {
             return progress;
         }
 
-        final Tagging.TagSet rulesetTagsToAdd = Tagging.exclude(desiredTags, previousTags);
-        final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
-
         try {
             final String arn = progress.getCallbackContext().getDbParameterGroupArn();
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDelta(rdsProxyClient, arn, tagDelta);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
                     exception,
                     DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET.extendWith(
-                            Tagging.getUpdateTagsAccessDeniedRuleSet(
-                                    rulesetTagsToAdd,
-                                    rulesetTagsToRemove
-                            )
+                            Tagging.getUpdateTagsAccessDeniedRuleSet(tagDelta)
                     ), requestLogger
             );
         }
@@ -257,7 +251,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final Map<String, Parameter> paramsToReset = getParametersToReset(model, defaultParams, currentParams);
 
         requestLogger.log("ResetParameters", paramsToReset);
-        for (final List<Parameter> paramsPartition : ParameterGrouper.partition(paramsToReset, DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
+        for (final List<Parameter> paramsPartition : ParameterGrouper.partition(paramsToReset, DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST, ParameterGrouper.Strategy.FIRST_FIT_DECREASING)) {  //modify api call is limited to 20 parameter per request
             final ProgressEvent<ResourceModel, CallbackContext> progressEvent = resetParameters(proxy, model, context, paramsPartition, proxyClient, requestLogger);
             if (progressEvent.isFailed()) {
                 return progressEvent;
@@ -278,7 +272,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         final Map<String, Parameter> paramsToModify = getModifiableParameters(model, currentParams);
 
-        for (final List<Parameter> paramsPartition : ParameterGrouper.partition(paramsToModify, DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
+        for (final List<Parameter> paramsPartition : ParameterGrouper.partition(paramsToModify, DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST, ParameterGrouper.Strategy.FIRST_FIT_DECREASING)) {  //modify api call is limited to 20 parameter per request
             final ProgressEvent<ResourceModel, CallbackContext> progressEvent = modifyParameterGroup(proxy, proxyClient, model, context, paramsPartition);
             if (progressEvent.isFailed()) {
                 return progressEvent;
@@ -413,28 +407,20 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     private Iterable<Parameter> fetchDBParametersIterable(
             final ProxyClient<RdsClient> proxyClient,
-            final DescribeDbParametersRequest request
+            final DescribeDbParametersRequest request,
+            final List<String> filterParameterNames
     ) {
-        Iterable<Parameter> result = Collections.emptyList();
-
-        String marker = null;
-        int page = 0;
-        do {
-            if (page >= MAX_DESCRIBE_PAGE_DEPTH) {
-                throw new RuntimeException("Max DescribeDBParameters page reached.");
-            }
-            final DescribeDbParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request.toBuilder().marker(marker).build(),
-                    proxyClient.client()::describeDBParameters
-            );
-            if (response.parameters() != null) {
-                result = Iterables.concat(result, response.parameters());
-            }
-            marker = response.marker();
-            page++;
-        } while (marker != null);
-
-        return result;
+        final Paginator<DescribeDbParametersResponse, Parameter> paginator = Paginator.of(
+                proxyClient,
+                marker -> request.toBuilder().marker(marker).build(),
+                proxyClient.client()::describeDBParameters,
+                DescribeDbParametersResponse::parameters,
+                DescribeDbParametersResponse::marker
+        ).withMaxPages(MAX_DESCRIBE_PAGE_DEPTH, "DescribeDBParameters");
+        if (filterParameterNames != null) {
+            paginator.stopWhenFound(filterParameterNames, Parameter::parameterName);
+        }
+        return paginator;
     }
 
     private void resourceStabilizationTime(final CallbackContext callbackContext) {
@@ -455,7 +441,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final DescribeDbParametersRequest request = DescribeDbParametersRequest.builder()
                     .dbParameterGroupName(dbParameterGroupName)
                     .build();
-            iterable = fetchDBParametersIterable(proxyClient, request);
+            iterable = fetchDBParametersIterable(proxyClient, request, null);
         } else {
             for (final List<String> partition : Lists.partition(filterParameterNames, MAX_PARAMETER_FILTER_SIZE)) {
                 final Filter[] filters = new Filter[]{Translator.filterByParameterNames(partition)};
@@ -463,7 +449,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         .dbParameterGroupName(dbParameterGroupName)
                         .filters(filters)
                         .build();
-                iterable = Iterables.concat(iterable, fetchDBParametersIterable(proxyClient, request));
+                iterable = Iterables.concat(iterable, fetchDBParametersIterable(proxyClient, request, partition));
             }
         }
 
@@ -495,32 +481,30 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     private Iterable<Parameter> fetchEngineDefaultParametersIterable(
             final ProxyClient<RdsClient> proxyClient,
-            final DescribeEngineDefaultParametersRequest request
+            final DescribeEngineDefaultParametersRequest request,
+            final List<String> filterParameterNames
     ) {
-        Iterable<Parameter> result = Collections.emptyList();
+        final Paginator<DescribeEngineDefaultParametersResponse, Parameter> paginator = Paginator.of(
+                proxyClient,
+                marker -> request.toBuilder().marker(marker).build(),
+                proxyClient.client()::describeEngineDefaultParameters,
+                BaseHandlerStd::getEngineDefaultParameters,
+                BaseHandlerStd::getEngineDefaultsMarker
+        ).withMaxPages(MAX_DESCRIBE_PAGE_DEPTH, "DescribeEngineDefaultParameters");
+        if (filterParameterNames != null) {
+            paginator.stopWhenFound(filterParameterNames, Parameter::parameterName);
+        }
+        return paginator;
+    }
 
-        String marker = null;
-        int page = 0;
-        do {
-            if (page >= MAX_DESCRIBE_PAGE_DEPTH) {
-                throw new RuntimeException("Max DescribeEngineDefaultParameters page reached.");
-            }
-            final DescribeEngineDefaultParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request.toBuilder().marker(marker).build(),
-                    proxyClient.client()::describeEngineDefaultParameters
-            );
-            final EngineDefaults engineDefaults = response.engineDefaults();
-            if (engineDefaults == null) {
-                break;
-            }
-            if (engineDefaults.parameters() != null) {
-                result = Iterables.concat(result, engineDefaults.parameters());
-            }
-            marker = response.engineDefaults().marker();
-            page++;
-        } while (marker != null);
+    private static List<Parameter> getEngineDefaultParameters(final DescribeEngineDefaultParametersResponse response) {
+        final EngineDefaults engineDefaults = response.engineDefaults();
+        return engineDefaults != null ? engineDefaults.parameters() : null;
+    }
 
-        return result;
+    private static String getEngineDefaultsMarker(final DescribeEngineDefaultParametersResponse response) {
+        final EngineDefaults engineDefaults = response.engineDefaults();
+        return engineDefaults != null ? engineDefaults.marker() : null;
     }
 
     private Iterable<Parameter> fetchEngineDefaultParametersIterableWithFilters(
@@ -534,7 +518,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final DescribeEngineDefaultParametersRequest request = DescribeEngineDefaultParametersRequest.builder()
                     .dbParameterGroupFamily(dbParameterGroupFamily)
                     .build();
-            iterable = fetchEngineDefaultParametersIterable(proxyClient, request);
+            iterable = fetchEngineDefaultParametersIterable(proxyClient, request, null);
         } else {
             for (final List<String> partition : Lists.partition(filterParameterNames, MAX_PARAMETER_FILTER_SIZE)) {
                 final Filter[] filters = new Filter[]{Translator.filterByParameterNames(partition)};
@@ -542,13 +526,30 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         .dbParameterGroupFamily(dbParameterGroupFamily)
                         .filters(filters)
                         .build();
-                iterable = Iterables.concat(iterable, fetchEngineDefaultParametersIterable(proxyClient, request));
+                iterable = Iterables.concat(iterable, fetchEngineDefaultParametersIterable(proxyClient, request, partition));
             }
         }
 
         return iterable;
     }
 
+    private Iterable<Parameter> fetchEngineDefaultParameters(
+            final ProxyClient<RdsClient> proxyClient,
+            final String dbParameterGroupFamily,
+            final List<String> filterParameterNames
+    ) {
+        final EngineDefaultsCache engineDefaultsCache = config.getEngineDefaultsCache();
+        if (engineDefaultsCache == null) {
+            return fetchEngineDefaultParametersIterableWithFilters(proxyClient, dbParameterGroupFamily, filterParameterNames);
+        }
+        return engineDefaultsCache.get(
+                "DescribeEngineDefaultParameters",
+                dbParameterGroupFamily,
+                filterParameterNames,
+                () -> fetchEngineDefaultParametersIterableWithFilters(proxyClient, dbParameterGroupFamily, filterParameterNames)
+        );
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> describeEngineDefaultParameters(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
@@ -558,7 +559,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final RequestLogger logger
     ) {
         try {
-            final Iterable<Parameter> parameters = fetchEngineDefaultParametersIterableWithFilters(
+            final Iterable<Parameter> parameters = fetchEngineDefaultParameters(
                     proxyClient,
                     progress.getResourceModel().getFamily(),
                     filterParameterNames
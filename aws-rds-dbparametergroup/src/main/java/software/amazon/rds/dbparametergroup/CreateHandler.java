@@ -25,7 +25,7 @@ public class CreateHandler extends BaseHandlerStd {
     );
 
     public CreateHandler() {
-        this(HandlerConfig.builder().build());
+        this(DEFAULT_HANDLER_CONFIG);
     }
 
     public CreateHandler(final HandlerConfig config) {
@@ -52,7 +52,7 @@ public class CreateHandler extends BaseHandlerStd {
                 .then(progress -> setDBParameterGroupNameIfEmpty(request, progress))
                 .then(progress -> safeCreateDBParameterGroup(proxy, proxyClient, progress, allTags, requestLogger))
                 .then(progress -> applyParameters(proxy, proxyClient, progress, desiredParams))
-                .then(progress -> new ReadHandler().handleRequest(proxy, proxyClient, request, callbackContext, requestLogger));
+                .then(progress -> new ReadHandler(config).handleRequest(proxy, proxyClient, request, callbackContext, requestLogger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> safeCreateDBParameterGroup(
@@ -19,7 +19,7 @@ import software.amazon.rds.common.logging.RequestLogger;
 public class ReadHandler extends BaseHandlerStd {
 
     public ReadHandler() {
-        this(HandlerConfig.builder().build());
+        this(DEFAULT_HANDLER_CONFIG);
     }
 
     public ReadHandler(final HandlerConfig config) {
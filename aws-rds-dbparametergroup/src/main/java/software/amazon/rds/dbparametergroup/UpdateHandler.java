@@ -14,7 +14,7 @@ import software.amazon.rds.common.handler.Tagging;
 public class UpdateHandler extends BaseHandlerStd {
 
     public UpdateHandler() {
-        this(HandlerConfig.builder().build());
+        this(DEFAULT_HANDLER_CONFIG);
     }
 
     public UpdateHandler(final HandlerConfig config) {
@@ -45,6 +45,6 @@ public class UpdateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> updateTags(proxy, proxyClient, progress, previousTags, desiredTags))
                 .then(progress -> applyParametersWithReset(proxy, proxyClient, progress, previousParams, desiredParams))
-                .then(progress -> new ReadHandler().handleRequest(proxy, proxyClient, request, callbackContext, requestLogger));
+                .then(progress -> new ReadHandler(config).handleRequest(proxy, proxyClient, request, callbackContext, requestLogger));
     }
 }
@@ -41,6 +41,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.test.common.core.HandlerName;
 import software.amazon.rds.test.common.verification.AccessPermissionAlias;
 import software.amazon.rds.test.common.verification.AccessPermissionFactory;
@@ -66,7 +67,7 @@ public class ReadHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
-        handler = new ReadHandler();
+        handler = new ReadHandler(HandlerConfig.builder().build());
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         rdsClient = mock(RdsClient.class);
         proxyClient = MOCK_PROXY(proxy, rdsClient);
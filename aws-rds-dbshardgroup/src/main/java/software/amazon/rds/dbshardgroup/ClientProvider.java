@@ -10,6 +10,6 @@ public class ClientProvider extends BaseSdkClientProvider<RdsClientBuilder, RdsC
     @ExcludeFromJacocoGeneratedReport
     @Override
     public RdsClient getClient() {
-        return setHttpClient(setUserAgent(RdsClient.builder())).build();
+        return getPooledClient(() -> setHttpClient(setUserAgent(RdsClient.builder())).build());
     }
 }
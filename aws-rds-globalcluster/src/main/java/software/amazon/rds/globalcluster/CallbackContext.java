@@ -1,13 +1,35 @@
 package software.amazon.rds.globalcluster;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.rds.common.handler.CompactContextCodec;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
+// The flags used to be serialized one property each: keep reading them, so in-flight contexts survive a deployment.
+@JsonIgnoreProperties(value = {"globalClusterCreated", "removed", "deleting"}, allowSetters = true)
 public class CallbackContext extends StdCallbackContext {
+    // The flags are serialized as a bitset in the registration order: append new flags only.
+    private static final CompactContextCodec<CallbackContext> CODEC = CompactContextCodec.<CallbackContext>builder()
+            .flag("globalClusterCreated", CallbackContext::isGlobalClusterCreated, CallbackContext::setGlobalClusterCreated)
+            .flag("removed", CallbackContext::isRemoved, CallbackContext::setRemoved)
+            .flag("isDeleting", CallbackContext::isDeleting, CallbackContext::setDeleting)
+            .build();
+
     private boolean globalClusterCreated;
     private boolean removed;
     private boolean isDeleting;
+
+    @JsonProperty("flags")
+    public long getFlags() {
+        return CODEC.encodeFlags(this);
+    }
+
+    @JsonProperty("flags")
+    public void setFlags(final long flags) {
+        CODEC.decodeFlags(this, flags);
+    }
 }
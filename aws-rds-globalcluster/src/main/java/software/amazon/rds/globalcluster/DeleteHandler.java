@@ -8,6 +8,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.CompactContextCodec;
 
 public class DeleteHandler extends BaseHandlerStd {
 
@@ -46,7 +47,8 @@ public class DeleteHandler extends BaseHandlerStd {
         if (callbackContext.isDeleting()) {
             deleteResponse = callbackContext.response("rds::delete-global-cluster");
         } else {
-            deleteResponse = proxyInvocation.injectCredentialsAndInvokeV2(deleteGlobalClusterRequest, proxyInvocation.client()::deleteGlobalCluster);
+            // The stored response is only replayed to the stabilizer, which does not read it.
+            deleteResponse = CompactContextCodec.slim(proxyInvocation.injectCredentialsAndInvokeV2(deleteGlobalClusterRequest, proxyInvocation.client()::deleteGlobalCluster));
 
             callbackContext.setDeleting(true);
         }
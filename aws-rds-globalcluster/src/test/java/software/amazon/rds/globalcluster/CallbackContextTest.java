@@ -0,0 +1,40 @@
+package software.amazon.rds.globalcluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.resource.Serializer;
+
+class CallbackContextTest {
+
+    private final Serializer serializer = new Serializer();
+
+    private CallbackContext roundTrip(final String json) throws Exception {
+        return serializer.deserialize(json, new TypeReference<CallbackContext>() {
+        });
+    }
+
+    @Test
+    void deserialize_roundTrip() throws Exception {
+        final CallbackContext context = new CallbackContext();
+        context.setGlobalClusterCreated(true);
+        context.setDeleting(true);
+
+        final String json = serializer.serialize(context);
+
+        assertThat(json).contains("\"flags\":5").doesNotContain("globalClusterCreated");
+        assertThat(roundTrip(json)).isEqualTo(context);
+    }
+
+    @Test
+    void deserialize_legacyFlags() throws Exception {
+        // The layout of a context serialized before the flags were packed into a bitset.
+        final CallbackContext decoded = roundTrip("{\"globalClusterCreated\":true,\"removed\":true,\"deleting\":true}");
+
+        assertThat(decoded.isGlobalClusterCreated()).isTrue();
+        assertThat(decoded.isRemoved()).isTrue();
+        assertThat(decoded.isDeleting()).isTrue();
+    }
+}
@@ -8,7 +8,6 @@ import software.amazon.awssdk.services.rds.model.IntegrationQuotaExceededExcepti
 import software.amazon.awssdk.services.rds.model.IntegrationStatus;
 import software.amazon.awssdk.services.rds.model.InvalidIntegrationStateException;
 import software.amazon.awssdk.services.rds.model.KmsKeyNotAccessibleException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -27,7 +26,6 @@ import software.amazon.rds.common.logging.RequestLogger;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
 
 import java.time.Duration;
-import java.util.Collection;
 import java.util.Optional;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -89,7 +87,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     IntegrationQuotaExceededException.class)
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.AccessDenied),
                     KmsKeyNotAccessibleException.class)
-            .build();
+            .build()
+            .compile();
 
     private final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter();
     private final IntegrationStatusUtil integrationStatusUtil;
@@ -117,6 +116,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                RequestLogger.Options.DEFAULT,
                 requestLogger -> handleRequest(
                         proxy,
                         new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientProvider()::getClient)), request,
@@ -179,20 +179,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags) {
-        final Collection<software.amazon.awssdk.services.rds.model.Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<software.amazon.awssdk.services.rds.model.Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<software.amazon.awssdk.services.rds.model.Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+        if (tagDelta.isEmpty()) {
             return progress;
         }
 
-        // TODO - we should call "add" on updated tags, not "remove and then add".
-        final Tagging.TagSet rulesetTagsToAdd = Tagging.exclude(desiredTags, previousTags);
-        final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
-
         String arn = progress.getCallbackContext().getIntegrationArn();
         if (arn == null) {
             ProgressEvent<ResourceModel, CallbackContext> progressEvent = fetchIntegrationArn(proxy, rdsProxyClient, progress);
@@ -203,8 +194,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDelta(rdsProxyClient, arn, tagDelta);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
@@ -19,7 +19,6 @@ import software.amazon.awssdk.services.rds.model.InvalidIntegrationStateExceptio
 import software.amazon.awssdk.services.rds.model.ModifyIntegrationRequest;
 import software.amazon.awssdk.services.rds.model.ModifyIntegrationResponse;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
-import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -35,6 +34,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -95,8 +95,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
     @Test
     void handleRequest_Success() {
-        when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class)))
-                .thenReturn(RemoveTagsFromResourceResponse.builder().build());
         when(rdsProxy.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
                 .thenReturn(AddTagsToResourceResponse.builder().build());
         when(rdsProxy.client().modifyIntegration(any(ModifyIntegrationRequest.class)))
@@ -135,7 +133,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client(), times(3)).describeIntegrations(any(DescribeIntegrationsRequest.class));
-        verify(rdsProxy.client(), times(1)).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(rdsProxy.client(), never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(rdsProxy.client(), times(1)).addTagsToResource(any(AddTagsToResourceRequest.class));
         verify(rdsProxy.client(), times(1)).modifyIntegration(any(ModifyIntegrationRequest.class));
     }
@@ -2,13 +2,11 @@ package software.amazon.rds.optiongroup;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collection;
 
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.OptionGroupAlreadyExistsException;
 import software.amazon.awssdk.services.rds.model.OptionGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.OptionGroupQuotaExceededException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -50,7 +48,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     OptionGroupNotFoundException.class)
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ServiceLimitExceeded),
                     OptionGroupQuotaExceededException.class)
-            .build();
+            .build()
+            .compile();
 
 
     private static final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter();
@@ -72,6 +71,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                RequestLogger.Options.DEFAULT,
                 requestLogger -> handleRequest(
                         proxy,
                         new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientBuilder()::getClient)), request,
@@ -143,33 +143,21 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         requestLogger
                 ))
                 .done((describeRequest, describeResponse, invocation, resourceModel, ctx) -> {
-                    final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-                    final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-                    final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-                    final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-                    if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+                    final Tagging.TagDelta tagDelta = Tagging.planTagDelta(previousTags, desiredTags);
+                    if (tagDelta.isEmpty()) {
                         return progress;
                     }
 
-                    final Tagging.TagSet rulesetTagsToAdd = Tagging.exclude(desiredTags, previousTags);
-                    final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
-
 
                     final String arn = describeResponse.optionGroupsList().stream().findFirst().get().optionGroupArn();
                     try {
-                        Tagging.removeTags(proxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-                        Tagging.addTags(proxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+                        Tagging.applyTagDelta(proxyClient, arn, tagDelta);
                     } catch (Exception exception) {
                         return Commons.handleException(
                                 progress,
                                 exception,
                                 DEFAULT_OPTION_GROUP_ERROR_RULE_SET.extendWith(
-                                        Tagging.getUpdateTagsAccessDeniedRuleSet(
-                                                rulesetTagsToAdd,
-                                                rulesetTagsToRemove
-                                        )
+                                        Tagging.getUpdateTagsAccessDeniedRuleSet(tagDelta)
                                 ),
                                 requestLogger
                         );